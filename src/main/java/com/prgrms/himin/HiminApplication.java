@@ -5,7 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
-@ConfigurationPropertiesScan("com.prgrms.himin.global.config.security")
+@ConfigurationPropertiesScan
 public class HiminApplication {
 
 	public static void main(String[] args) {
@@ -5,11 +5,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.prgrms.himin.delivery.application.DeliveryService;
 import com.prgrms.himin.delivery.dto.response.DeliveryHistoryResponse;
 import com.prgrms.himin.delivery.dto.response.DeliveryResponse;
+import com.prgrms.himin.delivery.dto.response.DeliveryStatusResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -57,6 +59,20 @@ public class DeliveryController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping("/{deliveryId}/status")
+	public ResponseEntity<DeliveryStatusResponse> getDeliveryStatus(@PathVariable Long deliveryId) {
+		DeliveryStatusResponse response = deliveryService.getDeliveryStatus(deliveryId);
+
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping
+	public ResponseEntity<DeliveryStatusResponse.Multiple> getRiderDeliveries(@RequestParam Long riderId) {
+		DeliveryStatusResponse.Multiple responses = deliveryService.getRiderDeliveries(riderId);
+
+		return ResponseEntity.ok(responses);
+	}
+
 	@GetMapping("/{deliveryId}")
 	public ResponseEntity<DeliveryHistoryResponse.Multiple> getDeliveryHistories(@PathVariable Long deliveryId) {
 		DeliveryHistoryResponse.Multiple responses = deliveryService.getDeliveryHistories(deliveryId);
@@ -3,13 +3,17 @@ package com.prgrms.himin.delivery.api;
 import javax.validation.Valid;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.prgrms.himin.delivery.application.RiderService;
 import com.prgrms.himin.delivery.dto.request.RiderCreateRequest;
+import com.prgrms.himin.delivery.dto.request.RiderLocationRequest;
 import com.prgrms.himin.delivery.dto.response.RiderResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -27,4 +31,31 @@ public class RiderController {
 
 		return ResponseEntity.ok(response);
 	}
+
+	@PutMapping("/{riderId}/waiting")
+	public ResponseEntity<Void> startWaiting(
+		@PathVariable Long riderId,
+		@Valid @RequestBody RiderLocationRequest request
+	) {
+		riderService.startWaiting(riderId, request);
+
+		return ResponseEntity.noContent().build();
+	}
+
+	@DeleteMapping("/{riderId}/waiting")
+	public ResponseEntity<Void> stopWaiting(@PathVariable Long riderId) {
+		riderService.stopWaiting(riderId);
+
+		return ResponseEntity.noContent().build();
+	}
+
+	@PostMapping("/{riderId}/locations")
+	public ResponseEntity<Void> recordLocation(
+		@PathVariable Long riderId,
+		@Valid @RequestBody RiderLocationRequest request
+	) {
+		riderService.recordLocation(riderId, request);
+
+		return ResponseEntity.accepted().build();
+	}
 }
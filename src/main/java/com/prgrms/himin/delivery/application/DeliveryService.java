@@ -1,6 +1,12 @@
 package com.prgrms.himin.delivery.application;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -10,10 +16,13 @@ import com.prgrms.himin.delivery.domain.Delivery;
 import com.prgrms.himin.delivery.domain.DeliveryHistory;
 import com.prgrms.himin.delivery.domain.DeliveryHistoryRepository;
 import com.prgrms.himin.delivery.domain.DeliveryRepository;
+import com.prgrms.himin.delivery.domain.DeliveryStatus;
 import com.prgrms.himin.delivery.domain.Rider;
 import com.prgrms.himin.delivery.domain.RiderRepository;
 import com.prgrms.himin.delivery.dto.response.DeliveryHistoryResponse;
 import com.prgrms.himin.delivery.dto.response.DeliveryResponse;
+import com.prgrms.himin.delivery.dto.response.DeliveryStatusResponse;
+import com.prgrms.himin.delivery.event.DeliveryStatusChangedEvent;
 import com.prgrms.himin.global.error.exception.BusinessException;
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
@@ -37,11 +46,13 @@ public class DeliveryService {
 
 	private final OrderValidator orderValidator;
 
+	private final RiderPool riderPool;
+
 	@Transactional
 	public DeliveryResponse createDelivery(Long orderId) {
-		orderValidator.validateOrderId(orderId);
+		Long shopId = orderValidator.getShopId(orderId);
 
-		Delivery delivery = new Delivery(orderId);
+		Delivery delivery = new Delivery(orderId, shopId);
 		Delivery savedDelivery = deliveryRepository.save(delivery);
 
 		DeliveryHistory deliveryHistory = DeliveryHistory.createBeforeDeliveryHistory(savedDelivery);
@@ -62,21 +73,68 @@ public class DeliveryService {
 				() -> new EntityNotFoundException(ErrorCode.DELIVERY_NOT_FOUND)
 			);
 
-		Rider rider = riderRepository.findById(riderId)
+		// 자동 배차와 같이 기사 행을 잡은 뒤에 진행 중인 배달이 있는지 본다.
+		Rider rider = riderRepository.findAllByIdForUpdate(List.of(riderId)).stream()
+			.findFirst()
 			.orElseThrow(
-				() -> new EntityNotFoundException(ErrorCode.DELIVERY_NOT_FOUND)
+				() -> new EntityNotFoundException(ErrorCode.DELIVERY_RIDER_NOT_FOUND)
 			);
+		List<Long> busyRiderIds = deliveryRepository.findRiderIdsByRiderIdsAndStatuses(
+			List.of(riderId),
+			EnumSet.of(DeliveryStatus.ALLOCATED, DeliveryStatus.DELIVERING)
+		);
+		if (!busyRiderIds.isEmpty()) {
+			throw new BusinessException(ErrorCode.DELIVERY_RIDER_BUSY);
+		}
 
-		delivery.attach(rider);
-
+		LocalDateTime previousStatusChangedAt = delivery.getStatusChangedAt();
 		DeliveryHistory deliveryHistory = DeliveryHistory.createAllocatedDeliveryHistory(delivery);
+		delivery.attach(rider);
 		DeliveryHistory savedDeliveryHistory = deliveryHistoryRepository.save(deliveryHistory);
+		riderPool.remove(riderId);
+		publisher.publishEvent(DeliveryStatusChangedEvent.of(delivery, previousStatusChangedAt));
 
 		DeliveryHistoryResponse response = DeliveryHistoryResponse.of(rider, savedDeliveryHistory);
 
 		return response;
 	}
 
+	// 배차 결과를 한 트랜잭션으로 반영한다. 그 사이 다른 기사가 배정된 배달은 건너뛰고, 배정한 배달 id 만 돌려준다.
+	// 기사 행을 잡은 뒤에 진행 중인 배달이 있는지 다시 보고, 이미 배달 중인 기사는 건너뛰며 대기 목록에서도 뺀다.
+	@Transactional
+	public List<Long> allocateRiders(Map<Long, Long> riderIdsByDeliveryId) {
+		if (riderIdsByDeliveryId.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Rider> riders = riderRepository.findAllByIdForUpdate(riderIdsByDeliveryId.values()).stream()
+			.collect(Collectors.toMap(Rider::getRiderId, Function.identity()));
+		List<Long> busyRiderIds = deliveryRepository.findRiderIdsByRiderIdsAndStatuses(
+			riders.keySet(),
+			EnumSet.of(DeliveryStatus.ALLOCATED, DeliveryStatus.DELIVERING)
+		);
+		busyRiderIds.forEach(riders::remove);
+		riderPool.removeAll(busyRiderIds);
+
+		List<Long> allocatedDeliveryIds = new ArrayList<>();
+		List<DeliveryHistory> deliveryHistories = new ArrayList<>();
+		for (Delivery delivery : deliveryRepository.findAllById(riderIdsByDeliveryId.keySet())) {
+			Rider rider = riders.get(riderIdsByDeliveryId.get(delivery.getDeliveryId()));
+			if (delivery.getStatus() != DeliveryStatus.BEFORE_DELIVERY || rider == null) {
+				continue;
+			}
+
+			LocalDateTime previousStatusChangedAt = delivery.getStatusChangedAt();
+			deliveryHistories.add(DeliveryHistory.createAllocatedDeliveryHistory(delivery));
+			delivery.attach(rider);
+			allocatedDeliveryIds.add(delivery.getDeliveryId());
+			publisher.publishEvent(DeliveryStatusChangedEvent.of(delivery, previousStatusChangedAt));
+		}
+		deliveryHistoryRepository.saveAll(deliveryHistories);
+
+		return allocatedDeliveryIds;
+	}
+
 	@Transactional
 	public DeliveryHistoryResponse startDelivery(
 		Long deliveryId,
@@ -94,8 +152,10 @@ public class DeliveryService {
 
 		validateRider(riderId, delivery);
 
+		LocalDateTime previousStatusChangedAt = delivery.getStatusChangedAt();
 		DeliveryHistory deliveryHistory = DeliveryHistory.createStartDeliveryHistory(delivery);
 		DeliveryHistory savedDeliveryHistory = deliveryHistoryRepository.save(deliveryHistory);
+		publisher.publishEvent(DeliveryStatusChangedEvent.of(delivery, previousStatusChangedAt));
 
 		DeliveryHistoryResponse response = DeliveryHistoryResponse.of(rider, savedDeliveryHistory);
 
@@ -119,8 +179,10 @@ public class DeliveryService {
 
 		validateRider(riderId, delivery);
 
+		LocalDateTime previousStatusChangedAt = delivery.getStatusChangedAt();
 		DeliveryHistory deliveryHistory = DeliveryHistory.createArrivedDeliveryHistory(delivery);
 		DeliveryHistory savedDeliveryHistory = deliveryHistoryRepository.save(deliveryHistory);
+		publisher.publishEvent(DeliveryStatusChangedEvent.of(delivery, previousStatusChangedAt));
 
 		DeliveryHistoryResponse response = DeliveryHistoryResponse.of(rider, savedDeliveryHistory);
 
@@ -129,6 +191,25 @@ public class DeliveryService {
 		return response;
 	}
 
+	public DeliveryStatusResponse getDeliveryStatus(Long deliveryId) {
+		Delivery delivery = deliveryRepository.findById(deliveryId)
+			.orElseThrow(
+				() -> new EntityNotFoundException(ErrorCode.DELIVERY_NOT_FOUND)
+			);
+
+		return DeliveryStatusResponse.from(delivery);
+	}
+
+	// 기사에게 배정되어 아직 끝나지 않은 배달이다.
+	public DeliveryStatusResponse.Multiple getRiderDeliveries(Long riderId) {
+		List<Delivery> deliveries = deliveryRepository.findDeliveriesByRiderIdAndStatuses(
+			riderId,
+			EnumSet.of(DeliveryStatus.ALLOCATED, DeliveryStatus.DELIVERING)
+		);
+
+		return DeliveryStatusResponse.Multiple.from(deliveries);
+	}
+
 	public DeliveryHistoryResponse.Multiple getDeliveryHistories(Long deliveryId) {
 		Delivery delivery = deliveryRepository.findById(deliveryId)
 			.orElseThrow(
@@ -149,8 +230,7 @@ public class DeliveryService {
 		Long riderId,
 		Delivery delivery
 	) {
-		Rider rider = delivery.getRider();
-		if (!riderId.equals(rider.getRiderId())) {
+		if (!delivery.isDeliveredBy(riderId)) {
 			throw new BusinessException(ErrorCode.DELIVERY_RIDER_BAD_REQUEST);
 		}
 	}
@@ -0,0 +1,65 @@
+package com.prgrms.himin.delivery.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.prgrms.himin.global.util.ChunkedBackfill;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 상태, 버전, 가게 컬럼이 생기기 전의 배달에 현재 상태는 배달 이력에서, 가게는 주문에서, 버전은 0 으로 한 번만 채워 넣는다.
+// 상태가 비어 있는 배달은 배차와 상태 변경에서 빠지므로 준비 이벤트에서 트래픽을 받기 전에 기본으로 돌린다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "delivery.status-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class DeliveryStatusBackfillJob {
+
+	private static final String ID_RANGE_SQL = """
+		SELECT MIN(id) AS min_id, MAX(id) AS max_id
+		FROM deliveries
+		WHERE status IS NULL OR status_changed_at IS NULL OR version IS NULL OR shop_id IS NULL
+		""";
+
+	private static final String BACKFILL_SQL = """
+		UPDATE deliveries
+		SET status = COALESCE(
+				status,
+				(SELECT h.delivery_status FROM delivery_histories h
+				WHERE h.delivery_id = deliveries.id
+				ORDER BY h.id DESC LIMIT 1),
+				'BEFORE_DELIVERY'),
+			status_changed_at = COALESCE(
+				status_changed_at,
+				(SELECT h.created_at FROM delivery_histories h
+				WHERE h.delivery_id = deliveries.id
+				ORDER BY h.id DESC LIMIT 1),
+				CURRENT_TIMESTAMP),
+			version = COALESCE(version, 0),
+			shop_id = COALESCE(shop_id, (SELECT o.shop_id FROM orders o WHERE o.id = deliveries.order_id))
+		WHERE id BETWEEN ? AND ?
+		AND (status IS NULL OR status_changed_at IS NULL OR version IS NULL OR shop_id IS NULL)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final int chunkSize;
+
+	public DeliveryStatusBackfillJob(
+		JdbcTemplate jdbcTemplate,
+		@Value("${delivery.status-backfill.chunk-size:1000}") int chunkSize
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.chunkSize = chunkSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void run() {
+		int updated = ChunkedBackfill.run(jdbcTemplate, ID_RANGE_SQL, BACKFILL_SQL, chunkSize);
+
+		log.info("Delivery status backfill finished. updated={}", updated);
+	}
+}
@@ -0,0 +1,231 @@
+package com.prgrms.himin.delivery.application;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.prgrms.himin.delivery.domain.MinCostAssignment;
+import com.prgrms.himin.global.geo.GeoPoint;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 기사가 배정되지 않은 배달과 대기 중인 기사를 주기적으로 모아서 한 번에 배정한다.
+// 비용은 가게까지의 거리에서 배달이 기다린 시간만큼 깎은 값이라, 기사가 모자라면 오래 기다린 배달이 먼저 배정된다.
+@Slf4j
+@Component
+public class RiderDispatcher {
+
+	// 좌표가 아직 없는 가게의 배달은 지오코딩이 끝난 뒤에 배정한다.
+	private static final String PENDING_SQL = """
+		SELECT d.id AS delivery_id, s.latitude, s.longitude, d.status_changed_at AS created_at
+		FROM deliveries d
+		JOIN orders o ON o.id = d.order_id
+		JOIN shops s ON s.id = o.shop_id
+		WHERE d.status = 'BEFORE_DELIVERY'
+		AND s.latitude IS NOT NULL
+		AND d.id > ?
+		ORDER BY d.id
+		LIMIT ?
+		""";
+
+	private static final double UNREACHABLE_COST = 1e12;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final RiderPool riderPool;
+
+	private final RiderLocations riderLocations;
+
+	private final DeliveryService deliveryService;
+
+	private final int batchSize;
+
+	private final int candidatesPerDelivery;
+
+	private final double maxPickupMeters;
+
+	private final double waitWeightMetersPerSecond;
+
+	private final Timer matchingTimer;
+
+	private final DistributionSummary pickupDistanceSummary;
+
+	private final DistributionSummary waitSummary;
+
+	private final Counter assignedCounter;
+
+	private final Counter unmatchedCounter;
+
+	// 배차마다 이전 묶음 다음의 배달부터 읽는다. 끝까지 읽으면 처음으로 돌아가서,
+	// 어떤 기사도 닿지 않는 오래된 배달이 묶음을 채워도 뒤의 배달이 계속 밀리지 않는다.
+	private long afterDeliveryId;
+
+	public RiderDispatcher(
+		JdbcTemplate jdbcTemplate,
+		RiderPool riderPool,
+		RiderLocations riderLocations,
+		DeliveryService deliveryService,
+		MeterRegistry meterRegistry,
+		@Value("${delivery.dispatch.batch-size:200}") int batchSize,
+		@Value("${delivery.dispatch.candidates-per-delivery:10}") int candidatesPerDelivery,
+		@Value("${delivery.dispatch.max-pickup-meters:5000}") double maxPickupMeters,
+		@Value("${delivery.dispatch.wait-weight-meters-per-second:1}") double waitWeightMetersPerSecond
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.riderPool = riderPool;
+		this.riderLocations = riderLocations;
+		this.deliveryService = deliveryService;
+		this.batchSize = batchSize;
+		this.candidatesPerDelivery = candidatesPerDelivery;
+		this.maxPickupMeters = maxPickupMeters;
+		this.waitWeightMetersPerSecond = waitWeightMetersPerSecond;
+		this.matchingTimer = meterRegistry.timer("delivery.dispatch.matching");
+		this.pickupDistanceSummary = DistributionSummary.builder("delivery.dispatch.pickup.distance")
+			.baseUnit("meters")
+			.register(meterRegistry);
+		this.waitSummary = DistributionSummary.builder("delivery.dispatch.wait")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		this.assignedCounter = meterRegistry.counter("delivery.dispatch.assigned");
+		this.unmatchedCounter = meterRegistry.counter("delivery.dispatch.unmatched");
+	}
+
+	@Scheduled(
+		initialDelayString = "${delivery.dispatch.interval-millis:3000}",
+		fixedDelayString = "${delivery.dispatch.interval-millis:3000}"
+	)
+	public synchronized void dispatch() {
+		Map<Long, RiderPool.AvailableRider> availableRiders = riderPool.findAll().stream()
+			.collect(Collectors.toMap(RiderPool.AvailableRider::riderId, Function.identity()));
+		if (availableRiders.isEmpty()) {
+			return;
+		}
+		List<PendingDelivery> deliveries = jdbcTemplate.query(
+			PENDING_SQL,
+			(resultSet, rowNum) -> new PendingDelivery(
+				resultSet.getLong("delivery_id"),
+				new GeoPoint(resultSet.getDouble("latitude"), resultSet.getDouble("longitude")),
+				resultSet.getTimestamp("created_at")
+			),
+			afterDeliveryId,
+			batchSize
+		);
+		afterDeliveryId = deliveries.size() < batchSize ? 0L : deliveries.get(deliveries.size() - 1).deliveryId();
+		if (deliveries.isEmpty()) {
+			return;
+		}
+		List<RiderPool.AvailableRider> riders = candidateRiders(deliveries, availableRiders);
+		if (riders.isEmpty()) {
+			unmatchedCounter.increment(deliveries.size());
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		double[][] distances = new double[deliveries.size()][riders.size()];
+		int[] assignment = matchingTimer.record(() -> match(deliveries, riders, distances, now));
+
+		Map<Long, Long> riderIdsByDeliveryId = new LinkedHashMap<>();
+		for (int row = 0; row < assignment.length; row++) {
+			int column = assignment[row];
+			if (column < 0 || distances[row][column] > maxPickupMeters) {
+				continue;
+			}
+			riderIdsByDeliveryId.put(deliveries.get(row).deliveryId(), riders.get(column).riderId());
+		}
+
+		// 그 사이 직접 배정된 배달과 버전이 겹치면 이번 배차는 버리고 다음 주기에 다시 맞춘다.
+		List<Long> allocatedDeliveryIds;
+		try {
+			allocatedDeliveryIds = deliveryService.allocateRiders(riderIdsByDeliveryId);
+		} catch (ObjectOptimisticLockingFailureException e) {
+			log.info("Rider dispatch conflicted with another allocation. deliveries={}", deliveries.size());
+			return;
+		}
+		for (int row = 0; row < deliveries.size(); row++) {
+			PendingDelivery delivery = deliveries.get(row);
+			if (!allocatedDeliveryIds.contains(delivery.deliveryId())) {
+				continue;
+			}
+			pickupDistanceSummary.record(distances[row][assignment[row]]);
+			waitSummary.record(delivery.waitSeconds(now));
+		}
+		riderPool.removeAll(allocatedDeliveryIds.stream().map(riderIdsByDeliveryId::get).toList());
+		assignedCounter.increment(allocatedDeliveryIds.size());
+		unmatchedCounter.increment(deliveries.size() - allocatedDeliveryIds.size());
+
+		log.info("Riders dispatched. deliveries={}, riders={}, assigned={}",
+			deliveries.size(), riders.size(), allocatedDeliveryIds.size());
+	}
+
+	// 배달마다 위치 색인에서 반경 안의 가까운 대기 기사를 몇 명씩만 골라 열로 쓴다.
+	// 대기 기사가 많아도 행렬은 배달 수에 비례해서만 커지고, 닿지 않는 기사는 처음부터 빠진다.
+	private List<RiderPool.AvailableRider> candidateRiders(
+		List<PendingDelivery> deliveries,
+		Map<Long, RiderPool.AvailableRider> availableRiders
+	) {
+		Set<Long> riderIds = new LinkedHashSet<>();
+		for (PendingDelivery delivery : deliveries) {
+			riderLocations.findNearby(
+				delivery.pickup(),
+				maxPickupMeters,
+				candidatesPerDelivery,
+				availableRiders::containsKey
+			).forEach(hit -> riderIds.add(hit.riderId()));
+		}
+
+		return riderIds.stream()
+			.map(availableRiders::get)
+			.toList();
+	}
+
+	private int[] match(
+		List<PendingDelivery> deliveries,
+		List<RiderPool.AvailableRider> riders,
+		double[][] distances,
+		long nowMillis
+	) {
+		double[][] costs = new double[deliveries.size()][riders.size()];
+		for (int row = 0; row < deliveries.size(); row++) {
+			PendingDelivery delivery = deliveries.get(row);
+			double waitCredit = delivery.waitSeconds(nowMillis) * waitWeightMetersPerSecond;
+			for (int column = 0; column < riders.size(); column++) {
+				distances[row][column] = delivery.pickup().distanceTo(riders.get(column).position());
+				costs[row][column] = distances[row][column] > maxPickupMeters
+					? UNREACHABLE_COST
+					: distances[row][column] - waitCredit;
+			}
+		}
+
+		return MinCostAssignment.solve(costs);
+	}
+
+	private record PendingDelivery(
+		Long deliveryId,
+		GeoPoint pickup,
+		Timestamp createdAt
+	) {
+
+		double waitSeconds(long nowMillis) {
+			if (createdAt == null) {
+				return 0;
+			}
+
+			return Math.max(0, nowMillis - createdAt.getTime()) / 1000.0;
+		}
+	}
+}
@@ -0,0 +1,245 @@
+package com.prgrms.himin.delivery.application;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prgrms.himin.delivery.domain.LocationRingBuffer;
+import com.prgrms.himin.delivery.domain.RiderLocation;
+import com.prgrms.himin.delivery.domain.RiderLocationIndex;
+import com.prgrms.himin.global.geo.GeoPoint;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 기사 위치 핑은 링 버퍼에 넣기만 하고 바로 돌려준다.
+// 주기적으로 꺼내서 기사마다 마지막 위치로 합친 뒤 위치 색인과 배차 대기열에 반영하고, DB 에는 더 긴 주기로 한 번에 쓴다.
+@Slf4j
+@Component
+public class RiderLocations {
+
+	private static final int LOAD_CHUNK_SIZE = 1000;
+
+	private static final String LOAD_SQL = """
+		SELECT id, latitude, longitude, location_updated_at
+		FROM riders
+		WHERE id > ? AND latitude IS NOT NULL
+		ORDER BY id
+		LIMIT ?
+		""";
+
+	private static final String PERSIST_SQL = """
+		UPDATE riders
+		SET latitude = ?, longitude = ?, location_updated_at = ?
+		WHERE id = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final RiderPool riderPool;
+
+	private final LocationRingBuffer buffer;
+
+	private final RiderLocationIndex index = new RiderLocationIndex();
+
+	private final Map<Long, RiderLocation> unsaved = new ConcurrentHashMap<>();
+
+	// 한 번 확인한 기사 id 다. 가득 차면 덜 쓰인 기사부터 밀려나고, 밀려난 기사는 다음 핑에서 DB 로 다시 확인한다.
+	private final Cache<Long, Boolean> knownRiderIds;
+
+	private final int persistBatchSize;
+
+	private final Counter acceptedCounter;
+
+	private final Counter droppedCounter;
+
+	private final Counter persistedCounter;
+
+	private volatile long indexedAtMillis = System.currentTimeMillis();
+
+	public RiderLocations(
+		JdbcTemplate jdbcTemplate,
+		RiderPool riderPool,
+		MeterRegistry meterRegistry,
+		@Value("${rider.location.buffer-size:65536}") int bufferSize,
+		@Value("${rider.location.persist-batch-size:500}") int persistBatchSize,
+		@Value("${rider.location.maximum-known-riders:100000}") long maximumKnownRiders
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.riderPool = riderPool;
+		this.buffer = new LocationRingBuffer(bufferSize);
+		this.persistBatchSize = persistBatchSize;
+		this.knownRiderIds = Caffeine.newBuilder()
+			.maximumSize(maximumKnownRiders)
+			.build();
+		this.acceptedCounter = meterRegistry.counter("rider.location.pings", "result", "accepted");
+		this.droppedCounter = meterRegistry.counter("rider.location.pings", "result", "dropped");
+		this.persistedCounter = meterRegistry.counter("rider.location.persisted");
+		Gauge.builder("rider.location.buffer.size", buffer, LocationRingBuffer::size)
+			.register(meterRegistry);
+		Gauge.builder("rider.location.index.size", index, RiderLocationIndex::size)
+			.register(meterRegistry);
+		Gauge.builder("rider.location.index.staleness", this, locations -> locations.staleness())
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void rebuild() {
+		index.clear();
+		unsaved.clear();
+
+		long afterRiderId = 0L;
+		List<RiderLocation> locations;
+		do {
+			locations = jdbcTemplate.query(
+				LOAD_SQL,
+				(resultSet, rowNum) -> new RiderLocation(
+					resultSet.getLong("id"),
+					resultSet.getDouble("latitude"),
+					resultSet.getDouble("longitude"),
+					toMillis(resultSet.getTimestamp("location_updated_at"))
+				),
+				afterRiderId,
+				LOAD_CHUNK_SIZE
+			);
+			locations.forEach(index::put);
+			if (!locations.isEmpty()) {
+				afterRiderId = locations.get(locations.size() - 1).riderId();
+			}
+		} while (locations.size() == LOAD_CHUNK_SIZE);
+		indexedAtMillis = System.currentTimeMillis();
+
+		log.info("Rider location index built. riders={}", index.size());
+	}
+
+	public boolean isKnownRider(Long riderId) {
+		return knownRiderIds.getIfPresent(riderId) != null;
+	}
+
+	public void offer(
+		Long riderId,
+		GeoPoint position,
+		long nowMillis
+	) {
+		knownRiderIds.put(riderId, Boolean.TRUE);
+		if (buffer.offer(riderId, position.latitude(), position.longitude(), nowMillis)) {
+			acceptedCounter.increment();
+		} else {
+			droppedCounter.increment();
+		}
+	}
+
+	// 이 주기가 색인이 핑보다 늦을 수 있는 최대 시간이다.
+	@Scheduled(fixedDelayString = "${rider.location.index-interval-millis:200}")
+	public synchronized void index() {
+		Map<Long, RiderLocation> latest = new HashMap<>();
+		int drained;
+		do {
+			drained = buffer.drain(
+				(riderId, latitude, longitude, recordedAtMillis) -> latest.merge(
+					riderId,
+					new RiderLocation(riderId, latitude, longitude, recordedAtMillis),
+					RiderLocation::newer
+				),
+				buffer.capacity()
+			);
+		} while (drained == buffer.capacity());
+
+		for (RiderLocation location : latest.values()) {
+			index.put(location);
+			unsaved.merge(location.riderId(), location, RiderLocation::newer);
+			riderPool.moveTo(location.riderId(), location.toGeoPoint());
+		}
+		indexedAtMillis = System.currentTimeMillis();
+	}
+
+	@Scheduled(
+		initialDelayString = "${rider.location.persist-interval-millis:10000}",
+		fixedDelayString = "${rider.location.persist-interval-millis:10000}"
+	)
+	public synchronized void persist() {
+		List<RiderLocation> locations = new ArrayList<>();
+		for (Long riderId : unsaved.keySet()) {
+			RiderLocation location = unsaved.remove(riderId);
+			if (location != null) {
+				locations.add(location);
+			}
+		}
+		if (locations.isEmpty()) {
+			return;
+		}
+
+		int persisted = 0;
+		try {
+			for (; persisted < locations.size(); persisted += persistBatchSize) {
+				jdbcTemplate.batchUpdate(
+					PERSIST_SQL,
+					locations.subList(persisted, Math.min(persisted + persistBatchSize, locations.size())).stream()
+						.map(location -> new Object[] {
+							location.latitude(),
+							location.longitude(),
+							new Timestamp(location.recordedAtMillis()),
+							location.riderId()
+						})
+						.toList()
+				);
+			}
+		} catch (DataAccessException e) {
+			// 그 사이 들어온 더 새 위치가 있으면 그쪽을 남긴다.
+			locations.subList(persisted, locations.size())
+				.forEach(location -> unsaved.putIfAbsent(location.riderId(), location));
+			log.warn("Rider location persist failed. pending={}", locations.size() - persisted, e);
+		}
+		persistedCounter.increment(Math.min(persisted, locations.size()));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		index();
+		persist();
+	}
+
+	public List<RiderLocationIndex.Hit> findNearby(
+		GeoPoint origin,
+		double radiusMeters,
+		int limit,
+		Predicate<Long> filter
+	) {
+		return index.findNearby(origin, radiusMeters, limit, filter);
+	}
+
+	public void clear() {
+		buffer.drain((riderId, latitude, longitude, recordedAtMillis) -> {
+		}, Integer.MAX_VALUE);
+		index.clear();
+		unsaved.clear();
+		knownRiderIds.invalidateAll();
+	}
+
+	private long staleness() {
+		return buffer.size() == 0 ? 0 : System.currentTimeMillis() - indexedAtMillis;
+	}
+
+	private static long toMillis(Timestamp timestamp) {
+		return timestamp == null ? 0L : timestamp.getTime();
+	}
+}
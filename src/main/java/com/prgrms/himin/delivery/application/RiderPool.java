@@ -0,0 +1,76 @@
+package com.prgrms.himin.delivery.application;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.prgrms.himin.global.geo.GeoPoint;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 배차를 기다리는 배달기사와 마지막 위치를 들고 있는다. 배정되면 빠지고, 기사가 다시 대기를 알리면 들어온다.
+@Component
+public class RiderPool {
+
+	private final Map<Long, AvailableRider> riders = new ConcurrentHashMap<>();
+
+	public RiderPool(MeterRegistry meterRegistry) {
+		Gauge.builder("delivery.dispatch.available.riders", riders, Map::size)
+			.register(meterRegistry);
+	}
+
+	// 이미 대기 중이면 위치만 바꾸고 대기 시작 시각은 그대로 둔다.
+	public void put(
+		Long riderId,
+		GeoPoint position,
+		long nowMillis
+	) {
+		riders.merge(
+			riderId,
+			new AvailableRider(riderId, position, nowMillis),
+			(previous, current) -> new AvailableRider(riderId, position, previous.availableSinceMillis())
+		);
+	}
+
+	// 대기 중인 기사만 위치를 바꾼다.
+	public void moveTo(
+		Long riderId,
+		GeoPoint position
+	) {
+		riders.computeIfPresent(
+			riderId,
+			(id, previous) -> new AvailableRider(id, position, previous.availableSinceMillis())
+		);
+	}
+
+	public void remove(Long riderId) {
+		riders.remove(riderId);
+	}
+
+	public void removeAll(Collection<Long> riderIds) {
+		riderIds.forEach(riders::remove);
+	}
+
+	public List<AvailableRider> findAll() {
+		return List.copyOf(riders.values());
+	}
+
+	public boolean contains(Long riderId) {
+		return riders.containsKey(riderId);
+	}
+
+	public void clear() {
+		riders.clear();
+	}
+
+	public record AvailableRider(
+		Long riderId,
+		GeoPoint position,
+		long availableSinceMillis
+	) {
+	}
+}
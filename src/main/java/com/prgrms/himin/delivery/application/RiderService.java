@@ -5,7 +5,10 @@ import org.springframework.stereotype.Service;
 import com.prgrms.himin.delivery.domain.Rider;
 import com.prgrms.himin.delivery.domain.RiderRepository;
 import com.prgrms.himin.delivery.dto.request.RiderCreateRequest;
+import com.prgrms.himin.delivery.dto.request.RiderLocationRequest;
 import com.prgrms.himin.delivery.dto.response.RiderResponse;
+import com.prgrms.himin.global.error.exception.EntityNotFoundException;
+import com.prgrms.himin.global.error.exception.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,6 +18,10 @@ public class RiderService {
 
 	private final RiderRepository riderRepository;
 
+	private final RiderPool riderPool;
+
+	private final RiderLocations riderLocations;
+
 	public RiderResponse createRider(RiderCreateRequest request) {
 		Rider rider = request.toEntity();
 		Rider savedRider = riderRepository.save(rider);
@@ -22,4 +29,34 @@ public class RiderService {
 
 		return response;
 	}
+
+	public void startWaiting(
+		Long riderId,
+		RiderLocationRequest request
+	) {
+		if (!riderRepository.existsById(riderId)) {
+			throw new EntityNotFoundException(ErrorCode.DELIVERY_RIDER_NOT_FOUND);
+		}
+
+		// 배차는 위치 색인에서 기사를 찾으므로, 대기를 알린 위치도 핑으로 넣는다.
+		long now = System.currentTimeMillis();
+		riderPool.put(riderId, request.toGeoPoint(), now);
+		riderLocations.offer(riderId, request.toGeoPoint(), now);
+	}
+
+	public void stopWaiting(Long riderId) {
+		riderPool.remove(riderId);
+	}
+
+	// 핑마다 DB 를 읽지 않도록 한 번 확인한 기사는 다시 확인하지 않는다.
+	public void recordLocation(
+		Long riderId,
+		RiderLocationRequest request
+	) {
+		if (!riderLocations.isKnownRider(riderId) && !riderRepository.existsById(riderId)) {
+			throw new EntityNotFoundException(ErrorCode.DELIVERY_RIDER_NOT_FOUND);
+		}
+
+		riderLocations.offer(riderId, request.toGeoPoint(), System.currentTimeMillis());
+	}
 }
@@ -1,14 +1,20 @@
 package com.prgrms.himin.delivery.domain;
 
+import java.time.LocalDateTime;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 import com.prgrms.himin.global.error.exception.BusinessException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
@@ -20,7 +26,11 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "deliveries")
+@Table(name = "deliveries", indexes = {
+	@Index(name = "idx_deliveries_status_id", columnList = "status, id"),
+	@Index(name = "idx_deliveries_rider_id_status", columnList = "rider_id, status"),
+	@Index(name = "idx_deliveries_order_id", columnList = "order_id")
+})
 public class Delivery {
 
 	@Id
@@ -31,12 +41,35 @@ public class Delivery {
 	@Column(name = "order_id")
 	private Long orderId;
 
+	// 배달 상태 이벤트가 주문을 다시 읽지 않고 가게별 주행 시간을 쌓을 수 있게 만들 때 함께 둔다.
+	@Column(name = "shop_id")
+	private Long shopId;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "rider_id")
 	private Rider rider;
 
-	public Delivery(Long orderId) {
+	// 배달 내역을 쌓을 때 같은 트랜잭션에서 함께 바꾼다. 현재 상태는 내역을 읽지 않고 여기서 본다.
+	// 컬럼이 생기기 전의 배달은 DeliveryStatusBackfillJob 이 채우기 전까지 비어 있다.
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status")
+	private DeliveryStatus status;
+
+	@Column(name = "status_changed_at")
+	private LocalDateTime statusChangedAt;
+
+	@Version
+	@Column(name = "version")
+	private Long version;
+
+	public Delivery(
+		Long orderId,
+		Long shopId
+	) {
 		this.orderId = orderId;
+		this.shopId = shopId;
+		this.status = DeliveryStatus.BEFORE_DELIVERY;
+		this.statusChangedAt = LocalDateTime.now();
 	}
 
 	public void attach(Rider rider) {
@@ -44,6 +77,18 @@ public class Delivery {
 		this.rider = rider;
 	}
 
+	public void changeStatus(DeliveryStatus status) {
+		if (!this.status.canChangeTo(status)) {
+			throw new BusinessException(ErrorCode.DELIVERY_STATUS_BAD_REQUEST);
+		}
+		this.status = status;
+		this.statusChangedAt = LocalDateTime.now();
+	}
+
+	public boolean isDeliveredBy(Long riderId) {
+		return rider != null && rider.getRiderId().equals(riderId);
+	}
+
 	private void validateRider(Rider rider) {
 		if (rider == null) {
 			throw new BusinessException(ErrorCode.DELIVERY_RIDER_BAD_REQUEST);
@@ -6,13 +6,15 @@ import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.GenericGenerator;
+
 import com.prgrms.himin.global.common.BaseEntity;
+import com.prgrms.himin.global.common.TimeOrderedIdGenerator;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -25,7 +27,8 @@ import lombok.NoArgsConstructor;
 public class DeliveryHistory extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(generator = TimeOrderedIdGenerator.NAME)
+	@GenericGenerator(name = TimeOrderedIdGenerator.NAME, strategy = TimeOrderedIdGenerator.STRATEGY)
 	@Column(name = "id")
 	private Long deliveryHistoryId;
 
@@ -49,14 +52,24 @@ public class DeliveryHistory extends BaseEntity {
 	}
 
 	public static DeliveryHistory createStartDeliveryHistory(Delivery delivery) {
-		return new DeliveryHistory(delivery, DeliveryStatus.DELIVERING);
+		return changeStatus(delivery, DeliveryStatus.DELIVERING);
 	}
 
 	public static DeliveryHistory createAllocatedDeliveryHistory(Delivery delivery) {
-		return new DeliveryHistory(delivery, DeliveryStatus.ALLOCATED);
+		return changeStatus(delivery, DeliveryStatus.ALLOCATED);
 	}
 
 	public static DeliveryHistory createArrivedDeliveryHistory(Delivery delivery) {
-		return new DeliveryHistory(delivery, DeliveryStatus.ARRIVED);
+		return changeStatus(delivery, DeliveryStatus.ARRIVED);
+	}
+
+	// 배달의 현재 상태를 먼저 바꾸고 내역을 남긴다. 바꿀 수 없는 상태면 내역도 남기지 않는다.
+	private static DeliveryHistory changeStatus(
+		Delivery delivery,
+		DeliveryStatus deliveryStatus
+	) {
+		delivery.changeStatus(deliveryStatus);
+
+		return new DeliveryHistory(delivery, deliveryStatus);
 	}
 }
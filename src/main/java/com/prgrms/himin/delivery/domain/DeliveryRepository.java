@@ -1,6 +1,28 @@
 package com.prgrms.himin.delivery.domain;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
+
+	Optional<Delivery> findFirstByOrderIdOrderByDeliveryIdDesc(Long orderId);
+
+	@Query(value = "SELECT d FROM Delivery as d WHERE d.rider.riderId = :riderId AND d.status IN :statuses "
+		+ "ORDER BY d.deliveryId")
+	List<Delivery> findDeliveriesByRiderIdAndStatuses(
+		@Param("riderId") Long riderId,
+		@Param("statuses") Collection<DeliveryStatus> statuses
+	);
+
+	@Query(value = "SELECT DISTINCT d.rider.riderId FROM Delivery as d "
+		+ "WHERE d.rider.riderId IN :riderIds AND d.status IN :statuses")
+	List<Long> findRiderIdsByRiderIdsAndStatuses(
+		@Param("riderIds") Collection<Long> riderIds,
+		@Param("statuses") Collection<DeliveryStatus> statuses
+	);
 }
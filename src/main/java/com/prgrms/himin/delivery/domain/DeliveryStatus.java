@@ -1,5 +1,10 @@
 package com.prgrms.himin.delivery.domain;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum DeliveryStatus {
 
 	BEFORE_DELIVERY,
@@ -8,5 +13,19 @@ public enum DeliveryStatus {
 
 	DELIVERING,
 
-	ARRIVED
+	ARRIVED;
+
+	// 상태마다 바로 다음에 올 수 있는 상태다. 건너뛰거나 되돌아갈 수 없다.
+	private static final Map<DeliveryStatus, Set<DeliveryStatus>> NEXT_STATUSES = new EnumMap<>(DeliveryStatus.class);
+
+	static {
+		NEXT_STATUSES.put(BEFORE_DELIVERY, EnumSet.of(ALLOCATED));
+		NEXT_STATUSES.put(ALLOCATED, EnumSet.of(DELIVERING));
+		NEXT_STATUSES.put(DELIVERING, EnumSet.of(ARRIVED));
+		NEXT_STATUSES.put(ARRIVED, EnumSet.noneOf(DeliveryStatus.class));
+	}
+
+	public boolean canChangeTo(DeliveryStatus next) {
+		return NEXT_STATUSES.get(this).contains(next);
+	}
 }
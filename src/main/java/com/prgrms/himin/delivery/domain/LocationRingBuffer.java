@@ -0,0 +1,100 @@
+package com.prgrms.himin.delivery.domain;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 여러 요청 스레드가 락 없이 넣고 한 스레드가 꺼내는 고정 크기 링 버퍼다. 객체를 만들지 않도록 칸마다 원시 배열에 담는다.
+// 가득 차면 기다리지 않고 버린다. 같은 기사의 다음 위치가 곧 다시 들어오기 때문이다.
+public class LocationRingBuffer {
+
+	private final int capacity;
+
+	private final int mask;
+
+	private final long[] riderIds;
+
+	private final double[] latitudes;
+
+	private final double[] longitudes;
+
+	private final long[] recordedAts;
+
+	// 칸에 마지막으로 다 쓴 위치 + 1. 꺼내는 쪽은 이 값으로 쓰기가 끝났는지 본다.
+	private final AtomicLongArray published;
+
+	private final AtomicLong tail = new AtomicLong();
+
+	private volatile long head;
+
+	public LocationRingBuffer(int capacity) {
+		if (Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+		}
+		this.capacity = capacity;
+		this.mask = capacity - 1;
+		this.riderIds = new long[capacity];
+		this.latitudes = new double[capacity];
+		this.longitudes = new double[capacity];
+		this.recordedAts = new long[capacity];
+		this.published = new AtomicLongArray(capacity);
+	}
+
+	public boolean offer(
+		long riderId,
+		double latitude,
+		double longitude,
+		long recordedAtMillis
+	) {
+		long position;
+		do {
+			position = tail.get();
+			if (position - head >= capacity) {
+				return false;
+			}
+		} while (!tail.compareAndSet(position, position + 1));
+
+		int slot = (int)(position & mask);
+		riderIds[slot] = riderId;
+		latitudes[slot] = latitude;
+		longitudes[slot] = longitude;
+		recordedAts[slot] = recordedAtMillis;
+		published.lazySet(slot, position + 1);
+
+		return true;
+	}
+
+	// 한 스레드에서만 부른다. 아직 쓰는 중인 칸을 만나면 거기서 멈추고 다음 호출에 이어서 꺼낸다.
+	public int drain(
+		LocationConsumer consumer,
+		int maxCount
+	) {
+		long position = head;
+		int drained = 0;
+		while (drained < maxCount) {
+			int slot = (int)(position & mask);
+			if (published.get(slot) != position + 1) {
+				break;
+			}
+			consumer.accept(riderIds[slot], latitudes[slot], longitudes[slot], recordedAts[slot]);
+			position++;
+			drained++;
+		}
+		head = position;
+
+		return drained;
+	}
+
+	public int size() {
+		return (int)Math.max(0, tail.get() - head);
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	@FunctionalInterface
+	public interface LocationConsumer {
+
+		void accept(long riderId, double latitude, double longitude, long recordedAtMillis);
+	}
+}
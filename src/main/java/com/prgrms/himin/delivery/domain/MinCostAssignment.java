@@ -0,0 +1,118 @@
+package com.prgrms.himin.delivery.domain;
+
+import java.util.Arrays;
+
+// 헝가리안 알고리즘으로 비용 합이 가장 작은 일대일 배정을 찾는다. O(n^2 m), n = min(행, 열).
+public final class MinCostAssignment {
+
+	private static final int UNASSIGNED = -1;
+
+	private MinCostAssignment() {
+	}
+
+	// 행마다 배정된 열을 돌려준다. 열보다 행이 많으면 남는 행은 -1 이다.
+	public static int[] solve(double[][] costs) {
+		int rows = costs.length;
+		if (rows == 0) {
+			return new int[0];
+		}
+		int columns = costs[0].length;
+		if (columns == 0) {
+			return unassigned(rows);
+		}
+		if (rows > columns) {
+			return invert(solve(transpose(costs)), rows);
+		}
+
+		// 1 부터 센다. 열 0 은 새로 넣는 행을 잠시 걸어 두는 자리다.
+		double[] rowPotentials = new double[rows + 1];
+		double[] columnPotentials = new double[columns + 1];
+		int[] rowOfColumn = new int[columns + 1];
+		int[] previousColumn = new int[columns + 1];
+		for (int row = 1; row <= rows; row++) {
+			rowOfColumn[0] = row;
+			int column = 0;
+			double[] minSlack = new double[columns + 1];
+			Arrays.fill(minSlack, Double.POSITIVE_INFINITY);
+			boolean[] visited = new boolean[columns + 1];
+			do {
+				visited[column] = true;
+				int currentRow = rowOfColumn[column];
+				double delta = Double.POSITIVE_INFINITY;
+				int nextColumn = 0;
+				for (int candidate = 1; candidate <= columns; candidate++) {
+					if (visited[candidate]) {
+						continue;
+					}
+					double slack = costs[currentRow - 1][candidate - 1]
+						- rowPotentials[currentRow] - columnPotentials[candidate];
+					if (slack < minSlack[candidate]) {
+						minSlack[candidate] = slack;
+						previousColumn[candidate] = column;
+					}
+					if (minSlack[candidate] < delta) {
+						delta = minSlack[candidate];
+						nextColumn = candidate;
+					}
+				}
+				for (int candidate = 0; candidate <= columns; candidate++) {
+					if (visited[candidate]) {
+						rowPotentials[rowOfColumn[candidate]] += delta;
+						columnPotentials[candidate] -= delta;
+					} else {
+						minSlack[candidate] -= delta;
+					}
+				}
+				column = nextColumn;
+			} while (rowOfColumn[column] != 0);
+
+			// 찾은 증가 경로를 따라 배정을 뒤집는다.
+			do {
+				int previous = previousColumn[column];
+				rowOfColumn[column] = rowOfColumn[previous];
+				column = previous;
+			} while (column != 0);
+		}
+
+		int[] assignment = unassigned(rows);
+		for (int column = 1; column <= columns; column++) {
+			if (rowOfColumn[column] != 0) {
+				assignment[rowOfColumn[column] - 1] = column - 1;
+			}
+		}
+
+		return assignment;
+	}
+
+	private static double[][] transpose(double[][] costs) {
+		double[][] transposed = new double[costs[0].length][costs.length];
+		for (int row = 0; row < costs.length; row++) {
+			for (int column = 0; column < costs[row].length; column++) {
+				transposed[column][row] = costs[row][column];
+			}
+		}
+
+		return transposed;
+	}
+
+	private static int[] invert(
+		int[] assignment,
+		int size
+	) {
+		int[] inverted = unassigned(size);
+		for (int index = 0; index < assignment.length; index++) {
+			if (assignment[index] != UNASSIGNED) {
+				inverted[assignment[index]] = index;
+			}
+		}
+
+		return inverted;
+	}
+
+	private static int[] unassigned(int size) {
+		int[] assignment = new int[size];
+		Arrays.fill(assignment, UNASSIGNED);
+
+		return assignment;
+	}
+}
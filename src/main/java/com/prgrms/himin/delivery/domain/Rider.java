@@ -1,5 +1,7 @@
 package com.prgrms.himin.delivery.domain;
 
+import java.time.LocalDateTime;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -36,6 +38,16 @@ public class Rider {
 	@Column(name = "phone", nullable = false)
 	String phone;
 
+	// RiderLocations 가 모아 둔 마지막 위치를 주기적으로 쓴다.
+	@Column(name = "latitude")
+	Double latitude;
+
+	@Column(name = "longitude")
+	Double longitude;
+
+	@Column(name = "location_updated_at")
+	LocalDateTime locationUpdatedAt;
+
 	public Rider(
 		String name,
 		String phone
@@ -0,0 +1,20 @@
+package com.prgrms.himin.delivery.domain;
+
+import com.prgrms.himin.global.geo.GeoPoint;
+
+public record RiderLocation(
+	Long riderId,
+	double latitude,
+	double longitude,
+	long recordedAtMillis
+) {
+
+	public GeoPoint toGeoPoint() {
+		return new GeoPoint(latitude, longitude);
+	}
+
+	// 같은 시각이면 나중에 들어온 other 를 고른다.
+	public RiderLocation newer(RiderLocation other) {
+		return other.recordedAtMillis >= recordedAtMillis ? other : this;
+	}
+}
@@ -0,0 +1,136 @@
+package com.prgrms.himin.delivery.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import com.prgrms.himin.global.geo.GeoGrid;
+import com.prgrms.himin.global.geo.GeoPoint;
+
+// 기사 위치를 0.01도 격자에 담는다. 쓰기는 한 스레드에서만 하고, 읽기는 락 없이 한다.
+// 칸을 옮기는 도중에는 두 칸에 모두 보일 수 있어서, 읽을 때 지금 위치의 칸과 같은 칸에서만 센다.
+public class RiderLocationIndex {
+
+	private static final Comparator<Hit> NEAREST = Comparator.comparingLong(Hit::distanceMeters)
+		.thenComparing(Hit::riderId);
+
+	private final Map<Long, RiderLocation> locations = new ConcurrentHashMap<>();
+
+	private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+	// 더 오래된 위치는 무시한다.
+	public void put(RiderLocation location) {
+		RiderLocation previous = locations.get(location.riderId());
+		if (previous != null && previous.recordedAtMillis() > location.recordedAtMillis()) {
+			return;
+		}
+
+		long cell = GeoGrid.keyOf(location.latitude(), location.longitude());
+		cells.computeIfAbsent(cell, key -> ConcurrentHashMap.newKeySet()).add(location.riderId());
+		locations.put(location.riderId(), location);
+		if (previous != null) {
+			long previousCell = GeoGrid.keyOf(previous.latitude(), previous.longitude());
+			if (previousCell != cell) {
+				removeFromCell(previousCell, location.riderId());
+			}
+		}
+	}
+
+	public void remove(Long riderId) {
+		RiderLocation removed = locations.remove(riderId);
+		if (removed != null) {
+			removeFromCell(GeoGrid.keyOf(removed.latitude(), removed.longitude()), riderId);
+		}
+	}
+
+	// 반경을 덮는 칸만 훑는다. 덮는 칸이 채워진 칸보다 많으면 채워진 칸을 훑는다. filter 를 통과한 기사만 센다.
+	public List<Hit> findNearby(
+		GeoPoint origin,
+		double radiusMeters,
+		int limit,
+		Predicate<Long> filter
+	) {
+		int latitudeCells = (int)Math.ceil(radiusMeters / GeoPoint.METERS_PER_DEGREE / GeoGrid.CELL_DEGREES);
+		double longitudeMeters = GeoPoint.METERS_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(origin.latitude())));
+		int longitudeCells = (int)Math.ceil(radiusMeters / longitudeMeters / GeoGrid.CELL_DEGREES);
+		int originLatitudeCell = GeoGrid.cellOf(origin.latitude());
+		int originLongitudeCell = GeoGrid.cellOf(origin.longitude());
+
+		List<Hit> hits = new ArrayList<>();
+		if ((2L * latitudeCells + 1) * (2L * longitudeCells + 1) > cells.size()) {
+			cells.forEach((cell, riderIds) -> {
+				int latitudeCell = GeoGrid.latitudeCellOf(cell);
+				int longitudeCell = GeoGrid.longitudeCellOf(cell);
+				if (Math.abs(latitudeCell - originLatitudeCell) <= latitudeCells
+					&& Math.abs(longitudeCell - originLongitudeCell) <= longitudeCells) {
+					collect(cell, riderIds, origin, radiusMeters, filter, hits);
+				}
+			});
+		} else {
+			for (int latitudeOffset = -latitudeCells; latitudeOffset <= latitudeCells; latitudeOffset++) {
+				for (int longitudeOffset = -longitudeCells; longitudeOffset <= longitudeCells; longitudeOffset++) {
+					long cell = GeoGrid.key(originLatitudeCell + latitudeOffset, originLongitudeCell + longitudeOffset);
+					Set<Long> riderIds = cells.get(cell);
+					if (riderIds != null) {
+						collect(cell, riderIds, origin, radiusMeters, filter, hits);
+					}
+				}
+			}
+		}
+
+		return hits.stream()
+			.sorted(NEAREST)
+			.limit(limit)
+			.toList();
+	}
+
+	public int size() {
+		return locations.size();
+	}
+
+	public void clear() {
+		locations.clear();
+		cells.clear();
+	}
+
+	private void collect(
+		long cell,
+		Set<Long> riderIds,
+		GeoPoint origin,
+		double radiusMeters,
+		Predicate<Long> filter,
+		List<Hit> hits
+	) {
+		for (Long riderId : riderIds) {
+			RiderLocation location = locations.get(riderId);
+			if (location == null || GeoGrid.keyOf(location.latitude(), location.longitude()) != cell
+				|| !filter.test(riderId)) {
+				continue;
+			}
+			double distance = origin.distanceTo(location.toGeoPoint());
+			if (distance <= radiusMeters) {
+				hits.add(new Hit(riderId, Math.round(distance)));
+			}
+		}
+	}
+
+	private void removeFromCell(
+		long cell,
+		Long riderId
+	) {
+		cells.computeIfPresent(cell, (key, riderIds) -> {
+			riderIds.remove(riderId);
+			return riderIds.isEmpty() ? null : riderIds;
+		});
+	}
+
+	public record Hit(
+		Long riderId,
+		long distanceMeters
+	) {
+	}
+}
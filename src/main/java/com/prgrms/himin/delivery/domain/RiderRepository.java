@@ -1,6 +1,19 @@
 package com.prgrms.himin.delivery.domain;
 
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RiderRepository extends JpaRepository<Rider, Long> {
+
+	// 배정하는 트랜잭션끼리 같은 기사를 동시에 배정하지 않게 기사 행을 잡는다. id 순으로 잡아서 교착을 피한다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT r FROM Rider r WHERE r.riderId IN :riderIds ORDER BY r.riderId")
+	List<Rider> findAllByIdForUpdate(@Param("riderIds") Collection<Long> riderIds);
 }
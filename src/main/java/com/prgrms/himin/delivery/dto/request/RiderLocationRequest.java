@@ -0,0 +1,24 @@
+package com.prgrms.himin.delivery.dto.request;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.NotNull;
+
+import com.prgrms.himin.global.geo.GeoPoint;
+
+public record RiderLocationRequest(
+	@NotNull(message = "위도가 비어있으면 안됩니다.")
+	@DecimalMin(value = "-90", message = "위도는 -90 이상입니다.")
+	@DecimalMax(value = "90", message = "위도는 90 이하입니다.")
+	Double latitude,
+
+	@NotNull(message = "경도가 비어있으면 안됩니다.")
+	@DecimalMin(value = "-180", message = "경도는 -180 이상입니다.")
+	@DecimalMax(value = "180", message = "경도는 180 이하입니다.")
+	Double longitude
+) {
+
+	public GeoPoint toGeoPoint() {
+		return new GeoPoint(latitude, longitude);
+	}
+}
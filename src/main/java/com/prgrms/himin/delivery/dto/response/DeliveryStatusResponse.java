@@ -0,0 +1,37 @@
+package com.prgrms.himin.delivery.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.prgrms.himin.delivery.domain.Delivery;
+import com.prgrms.himin.delivery.domain.DeliveryStatus;
+
+public record DeliveryStatusResponse(
+	Long deliveryId,
+	Long orderId,
+	Long riderId,
+	DeliveryStatus deliveryStatus,
+	LocalDateTime statusChangedAt
+) {
+
+	public static DeliveryStatusResponse from(Delivery delivery) {
+		return new DeliveryStatusResponse(
+			delivery.getDeliveryId(),
+			delivery.getOrderId(),
+			delivery.getRider() == null ? null : delivery.getRider().getRiderId(),
+			delivery.getStatus(),
+			delivery.getStatusChangedAt()
+		);
+	}
+
+	public record Multiple(
+		List<DeliveryStatusResponse> deliveries
+	) {
+
+		public static DeliveryStatusResponse.Multiple from(List<Delivery> deliveries) {
+			return new DeliveryStatusResponse.Multiple(deliveries.stream()
+				.map(DeliveryStatusResponse::from)
+				.toList());
+		}
+	}
+}
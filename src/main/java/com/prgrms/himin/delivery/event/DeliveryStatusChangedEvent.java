@@ -0,0 +1,43 @@
+package com.prgrms.himin.delivery.event;
+
+import java.time.LocalDateTime;
+
+import com.prgrms.himin.delivery.domain.Delivery;
+import com.prgrms.himin.delivery.domain.DeliveryStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class DeliveryStatusChangedEvent {
+
+	private final Long deliveryId;
+
+	private final Long orderId;
+
+	private final Long shopId;
+
+	private final Long riderId;
+
+	private final LocalDateTime previousStatusChangedAt;
+
+	private final DeliveryStatus status;
+
+	private final LocalDateTime statusChangedAt;
+
+	public static DeliveryStatusChangedEvent of(
+		Delivery delivery,
+		LocalDateTime previousStatusChangedAt
+	) {
+		return new DeliveryStatusChangedEvent(
+			delivery.getDeliveryId(),
+			delivery.getOrderId(),
+			delivery.getShopId(),
+			delivery.getRider() == null ? null : delivery.getRider().getRiderId(),
+			previousStatusChangedAt,
+			delivery.getStatus(),
+			delivery.getStatusChangedAt()
+		);
+	}
+}
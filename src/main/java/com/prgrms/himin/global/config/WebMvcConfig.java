@@ -0,0 +1,35 @@
+package com.prgrms.himin.global.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.prgrms.himin.global.idempotency.IdempotencyInterceptor;
+import com.prgrms.himin.global.idempotency.IdempotencyProperties;
+import com.prgrms.himin.global.idempotency.IdempotencyStore;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	private final ObjectProvider<IdempotencyStore> idempotencyStore;
+
+	private final ObjectProvider<IdempotencyProperties> idempotencyProperties;
+
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		// @WebMvcTest 처럼 저장소 빈이 없는 슬라이스에서는 등록하지 않는다.
+		idempotencyStore.ifAvailable(
+			store -> registry.addInterceptor(
+				new IdempotencyInterceptor(store, idempotencyProperties.getObject(), objectMapper)
+			)
+		);
+	}
+}
@@ -2,6 +2,7 @@ package com.prgrms.himin.global.error;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,6 +12,7 @@ import com.prgrms.himin.global.error.exception.BusinessException;
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
 import com.prgrms.himin.global.error.exception.InvalidValueException;
+import com.prgrms.himin.global.idempotency.IdempotencyKeyReusedException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -47,10 +49,26 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
 	}
 
+	@ExceptionHandler(IdempotencyKeyReusedException.class)
+	protected ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException e) {
+		log.warn("IdempotencyKeyReusedException", e);
+		ErrorResponse response = ErrorResponse.from(e.getErrorCode());
+		return new ResponseEntity<>(response, HttpStatus.UNPROCESSABLE_ENTITY);
+	}
+
 	@ExceptionHandler(BusinessException.class)
 	protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
 		log.error("BusinessException", e);
 		ErrorResponse response = ErrorResponse.from(e.getErrorCode());
 		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
 	}
+
+	@ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+	protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+		ObjectOptimisticLockingFailureException e
+	) {
+		log.warn("ObjectOptimisticLockingFailureException", e);
+		ErrorResponse response = ErrorResponse.from(ErrorCode.CONCURRENT_MODIFICATION);
+		return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+	}
 }
@@ -10,6 +10,10 @@ public enum ErrorCode {
 	// Common
 	INTERNAL_SERVER_ERROR("COMMON_001", "Internal Server Error"),
 	INVALID_REQUEST("COMMON_002", "유효하지 않은 요청입니다."),
+	IDEMPOTENCY_KEY_BAD_REQUEST("COMMON_003", "잘못된 멱등성 키 입니다."),
+	IDEMPOTENCY_REQUEST_IN_PROGRESS("COMMON_004", "같은 멱등성 키의 요청이 처리 중입니다."),
+	CONCURRENT_MODIFICATION("COMMON_005", "다른 요청이 먼저 변경했습니다. 다시 시도해 주세요."),
+	IDEMPOTENCY_KEY_REUSED("COMMON_006", "다른 요청에 사용한 멱등성 키 입니다."),
 
 	// Member
 	MEMBER_NOT_FOUND("MEMBER_001", "회원을 찾을 수 없습니다."),
@@ -46,6 +50,8 @@ public enum ErrorCode {
 	ORDER_ITEM_PRICE_BAD_REQUEST("ORDER_006", "잘못된 주문 아이템 가격 입니다."),
 	ORDER_ITEM_QUANTITY_BAD_REQUEST("ORDER_007", "잘못된 주문 아이템 수량 입니다."),
 	ORDER_SHOP_NOT_MATCH("ORDER_008", "해당 주문과 가게ID가 일치하지 않습니다."),
+	ORDER_CURSOR_BAD_REQUEST("ORDER_009", "잘못된 주문 커서 입니다."),
+	ORDER_STREAM_UNAVAILABLE("ORDER_010", "주문 상태 구독자가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
 
 	// Shop
 	SHOP_NOT_FOUND("SHOP_001", "가게를 찾을 수 없습니다."),
@@ -57,12 +63,19 @@ public enum ErrorCode {
 	SHOP_OPENING_TIME_BAD_REQUEST("SHOP_007", "잘못된 가게 오픈 시간 입니다."),
 	SHOP_CLOSING_TIME_BAD_REQUEST("SHOP_008", "잘못된 가게 마감 시간 입니다."),
 	SHOP_SORT_BAD_REQUEST("SHOP_009", "잘못된 가게 정렬 조건 입니다."),
+	SHOP_CURSOR_BAD_REQUEST("SHOP_010", "잘못된 가게 커서 입니다."),
+	SHOP_LOCATION_BAD_REQUEST("SHOP_011", "잘못된 위치 검색 조건 입니다."),
+	SHOP_DIB_DUPLICATED("SHOP_012", "이미 찜한 가게 입니다."),
+	SHOP_DIB_NOT_FOUND("SHOP_013", "찜한 가게를 찾을 수 없습니다."),
+	SHOP_POPULAR_SIZE_BAD_REQUEST("SHOP_014", "잘못된 인기 가게 조회 수 입니다."),
 
 	// Delivery
 	DELIVERY_NOT_FOUND("DELIVERY_001", "배달을 찾을 수 없습니다."),
 	DELIVERY_BAD_REQUEST("DELIVERY_002", "잘못된 배달입니다."),
 	DELIVERY_RIDER_NOT_FOUND("DELIVERY_003", "배달기사를 찾을 수 없습니다."),
-	DELIVERY_RIDER_BAD_REQUEST("DELIVERY_004", "잘못된 배달기사 입니다.");
+	DELIVERY_RIDER_BAD_REQUEST("DELIVERY_004", "잘못된 배달기사 입니다."),
+	DELIVERY_STATUS_BAD_REQUEST("DELIVERY_005", "현재 배달 상태에서 바꿀 수 없는 상태입니다."),
+	DELIVERY_RIDER_BUSY("DELIVERY_006", "이미 배달 중인 배달기사 입니다.");
 
 	private final String code;
 	private final String message;
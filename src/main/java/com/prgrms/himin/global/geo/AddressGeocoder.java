@@ -0,0 +1,88 @@
+package com.prgrms.himin.global.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+// 외부 API 없이 지역 좌표표(geo/regions.csv)에서 주소와 가장 길게 겹치는 지역의 좌표를 찾는다.
+@Component
+public class AddressGeocoder {
+
+	private static final String REGIONS_PATH = "geo/regions.csv";
+
+	private static final Map<String, String> PROVINCE_ALIASES = Map.of(
+		"서울시", "서울특별시",
+		"서울", "서울특별시",
+		"경기", "경기도",
+		"인천시", "인천광역시",
+		"대전시", "대전광역시",
+		"대구시", "대구광역시",
+		"광주시", "광주광역시",
+		"울산시", "울산광역시",
+		"부산시", "부산광역시"
+	);
+
+	// 긴 지역명부터 비교해서 가장 구체적인 지역을 고른다.
+	private final List<Region> regions;
+
+	public AddressGeocoder() {
+		this.regions = loadRegions().stream()
+			.sorted(Comparator.comparingInt((Region region) -> region.key().length()).reversed())
+			.toList();
+	}
+
+	public Optional<GeoPoint> geocode(String address) {
+		if (address == null || address.isBlank()) {
+			return Optional.empty();
+		}
+
+		String key = normalize(address);
+
+		return regions.stream()
+			.filter(region -> key.startsWith(region.key()))
+			.findFirst()
+			.map(Region::point);
+	}
+
+	private static String normalize(String address) {
+		String trimmed = address.trim();
+		int firstSpace = trimmed.indexOf(' ');
+		String province = firstSpace < 0 ? trimmed : trimmed.substring(0, firstSpace);
+		String canonical = PROVINCE_ALIASES.getOrDefault(province, province);
+
+		return (canonical + trimmed.substring(province.length())).replaceAll("\\s+", "");
+	}
+
+	private static List<Region> loadRegions() {
+		ClassPathResource resource = new ClassPathResource(REGIONS_PATH);
+		try (BufferedReader reader = new BufferedReader(
+			new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+			return reader.lines()
+				.skip(1)
+				.filter(line -> !line.isBlank())
+				.map(line -> line.split(","))
+				.map(columns -> new Region(
+					normalize(columns[0]),
+					new GeoPoint(Double.parseDouble(columns[1]), Double.parseDouble(columns[2]))
+				))
+				.toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private record Region(
+		String key,
+		GeoPoint point
+	) {
+	}
+}
@@ -0,0 +1,36 @@
+package com.prgrms.himin.global.geo;
+
+// 위경도를 0.01도(약 1km) 칸으로 나눈다. 위도 칸과 경도 칸 번호를 long 하나로 묶어 맵의 키로 쓴다.
+public final class GeoGrid {
+
+	public static final double CELL_DEGREES = 0.01;
+
+	private GeoGrid() {
+	}
+
+	public static int cellOf(double degrees) {
+		return (int)Math.floor(degrees / CELL_DEGREES);
+	}
+
+	public static long key(
+		int latitudeCell,
+		int longitudeCell
+	) {
+		return ((long)latitudeCell << 32) | (longitudeCell & 0xFFFFFFFFL);
+	}
+
+	public static long keyOf(
+		double latitude,
+		double longitude
+	) {
+		return key(cellOf(latitude), cellOf(longitude));
+	}
+
+	public static int latitudeCellOf(long key) {
+		return (int)(key >> 32);
+	}
+
+	public static int longitudeCellOf(long key) {
+		return (int)key;
+	}
+}
@@ -0,0 +1,31 @@
+package com.prgrms.himin.global.geo;
+
+public record GeoPoint(
+	double latitude,
+	double longitude
+) {
+
+	public static final double EARTH_RADIUS_METERS = 6_371_000;
+
+	public static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+	public double distanceTo(GeoPoint other) {
+		return distanceMeters(latitude, longitude, other.latitude, other.longitude);
+	}
+
+	// 하버사인 공식
+	public static double distanceMeters(
+		double latitude1,
+		double longitude1,
+		double latitude2,
+		double longitude2
+	) {
+		double latitudeDelta = Math.toRadians(latitude2 - latitude1);
+		double longitudeDelta = Math.toRadians(longitude2 - longitude1);
+		double a = Math.pow(Math.sin(latitudeDelta / 2), 2)
+			+ Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+			* Math.pow(Math.sin(longitudeDelta / 2), 2);
+
+		return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+}
@@ -0,0 +1,127 @@
+package com.prgrms.himin.global.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.prgrms.himin.shop.event.ShopChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 좌표가 비어 있는 가게와 회원 주소를 지역 좌표표로 채운다. 요청 경로가 아니라 배치로 돈다.
+@Slf4j
+@Component
+public class GeocodingJob {
+
+	private static final String SELECT_SQL = """
+		SELECT id, address FROM %s
+		WHERE latitude IS NULL
+		AND id > ?
+		ORDER BY id
+		LIMIT ?
+		""";
+
+	// 읽은 뒤에 주소가 바뀌었으면 덮어쓰지 않는다.
+	private static final String UPDATE_SQL = """
+		UPDATE %s
+		SET latitude = ?, longitude = ?
+		WHERE id = ?
+		AND address = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final AddressGeocoder addressGeocoder;
+
+	private final ApplicationEventPublisher publisher;
+
+	private final int chunkSize;
+
+	public GeocodingJob(
+		JdbcTemplate jdbcTemplate,
+		AddressGeocoder addressGeocoder,
+		ApplicationEventPublisher publisher,
+		@Value("${geocoding.chunk-size:500}") int chunkSize
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.addressGeocoder = addressGeocoder;
+		this.publisher = publisher;
+		this.chunkSize = chunkSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(
+		initialDelayString = "${geocoding.interval-millis:60000}",
+		fixedDelayString = "${geocoding.interval-millis:60000}"
+	)
+	public synchronized void run() {
+		// 좌표가 바뀐 가게는 위치 색인이 다시 읽도록 알린다.
+		int shops = geocode("shops", shopId -> publisher.publishEvent(new ShopChangedEvent(shopId)));
+		int addresses = geocode("addresses", addressId -> {
+		});
+
+		if (shops > 0 || addresses > 0) {
+			log.info("Geocoding finished. shops={}, addresses={}", shops, addresses);
+		}
+	}
+
+	// 좌표표에 없는 주소는 다음 실행에서 다시 시도한다.
+	private int geocode(
+		String table,
+		LongConsumer onUpdated
+	) {
+		int updated = 0;
+		long afterId = 0L;
+		List<Row> rows;
+		do {
+			rows = jdbcTemplate.query(
+				SELECT_SQL.formatted(table),
+				(resultSet, rowNum) -> new Row(resultSet.getLong("id"), resultSet.getString("address")),
+				afterId,
+				chunkSize
+			);
+			if (rows.isEmpty()) {
+				break;
+			}
+			afterId = rows.get(rows.size() - 1).id();
+
+			List<Row> located = new ArrayList<>();
+			List<Object[]> arguments = new ArrayList<>();
+			for (Row row : rows) {
+				Optional<GeoPoint> point = addressGeocoder.geocode(row.address());
+				if (point.isPresent()) {
+					located.add(row);
+					arguments.add(new Object[] {point.get().latitude(), point.get().longitude(), row.id(), row.address()});
+				}
+			}
+			if (arguments.isEmpty()) {
+				continue;
+			}
+
+			int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL.formatted(table), arguments);
+			for (int i = 0; i < counts.length; i++) {
+				if (counts[i] != 0) {
+					updated++;
+					onUpdated.accept(located.get(i).id());
+				}
+			}
+		} while (rows.size() == chunkSize);
+
+		return updated;
+	}
+
+	private record Row(
+		long id,
+		String address
+	) {
+	}
+}
@@ -0,0 +1,238 @@
+package com.prgrms.himin.global.idempotency;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.himin.global.error.exception.BusinessException;
+import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.global.error.exception.InvalidValueException;
+
+// 같은 키의 요청이 처리 중이면 기다렸다가 그 결과를 그대로 돌려준다.
+// 키는 주문하는 회원(본문의 memberId)마다 따로 두고, 같은 키로 본문이 다른 요청이 오면 앞선 응답을 돌려주지 않고 거절한다.
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+	public static final String HEADER = "Idempotency-Key";
+
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".key";
+
+	static final String BODY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".body";
+
+	static final String FINGERPRINT_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".fingerprint";
+
+	private static final String ANONYMOUS = "-";
+
+	private static final String MEMBER_ID_FIELD = "memberId";
+
+	private static final int MAX_KEY_LENGTH = 100;
+
+	private final IdempotencyStore idempotencyStore;
+
+	private final IdempotencyProperties properties;
+
+	private final ObjectMapper objectMapper;
+
+	private final Map<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+	public IdempotencyInterceptor(
+		IdempotencyStore idempotencyStore,
+		IdempotencyProperties properties,
+		ObjectMapper objectMapper
+	) {
+		this.idempotencyStore = idempotencyStore;
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public boolean preHandle(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		Object handler
+	) throws IOException {
+		String idempotencyKey = request.getHeader(HEADER);
+		if (idempotencyKey == null || !isIdempotent(handler)) {
+			return true;
+		}
+		validateKey(idempotencyKey);
+
+		byte[] body = body(request);
+		String key = request.getMethod() + ":" + request.getRequestURI() + ":" + owner(body) + ":" + idempotencyKey;
+		String fingerprint = fingerprint(body);
+		while (true) {
+			Optional<IdempotentResponse> stored = idempotencyStore.find(key);
+			if (stored.isPresent()) {
+				replay(response, stored.get(), fingerprint);
+				return false;
+			}
+
+			CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, new CompletableFuture<>());
+			if (running == null) {
+				return proceedOrReplay(request, response, key, fingerprint);
+			}
+
+			IdempotentResponse result = await(running);
+			if (result != null) {
+				replay(response, result, fingerprint);
+				return false;
+			}
+			// 앞선 요청이 실패했다면 이 요청이 다시 처리한다.
+		}
+	}
+
+	@Override
+	public void afterCompletion(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		Object handler,
+		Exception ex
+	) {
+		String key = (String)request.getAttribute(KEY_ATTRIBUTE);
+		if (key == null) {
+			return;
+		}
+
+		// 저장한 뒤에 제거해야 뒤늦게 들어온 요청이 저장소에서 결과를 찾는다.
+		// 저장하다 실패해도 제거해야 같은 키의 요청이 끝없이 기다리지 않고 다시 처리한다.
+		IdempotentResponse result = null;
+		try {
+			String body = (String)request.getAttribute(BODY_ATTRIBUTE);
+			if (ex == null && body != null && HttpStatus.valueOf(response.getStatus()).is2xxSuccessful()) {
+				IdempotentResponse idempotentResponse = new IdempotentResponse(
+					(String)request.getAttribute(FINGERPRINT_ATTRIBUTE),
+					response.getStatus(),
+					body
+				);
+				idempotencyStore.save(key, idempotentResponse);
+				result = idempotentResponse;
+			}
+		} finally {
+			inFlight.remove(key).complete(result);
+		}
+	}
+
+	private boolean proceedOrReplay(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		String key,
+		String fingerprint
+	) throws IOException {
+		// 핸들러로 넘기지 못하면 afterCompletion 이 불리지 않으므로 여기서 처리 중 표시를 지운다.
+		boolean proceed = false;
+		IdempotentResponse result = null;
+		try {
+			Optional<IdempotentResponse> stored = idempotencyStore.find(key);
+			if (stored.isPresent()) {
+				result = stored.get();
+				replay(response, result, fingerprint);
+				return false;
+			}
+
+			request.setAttribute(KEY_ATTRIBUTE, key);
+			request.setAttribute(FINGERPRINT_ATTRIBUTE, fingerprint);
+			proceed = true;
+			return true;
+		} finally {
+			if (!proceed) {
+				inFlight.remove(key).complete(result);
+			}
+		}
+	}
+
+	private IdempotentResponse await(CompletableFuture<IdempotentResponse> running) {
+		try {
+			return running.get(properties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException | ExecutionException e) {
+			throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+		}
+	}
+
+	private void replay(
+		HttpServletResponse response,
+		IdempotentResponse idempotentResponse,
+		String fingerprint
+	) throws IOException {
+		if (!idempotentResponse.fingerprint().equals(fingerprint)) {
+			throw new IdempotencyKeyReusedException();
+		}
+
+		response.setStatus(idempotentResponse.status());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setHeader(REPLAYED_HEADER, Boolean.TRUE.toString());
+		response.getWriter().write(idempotentResponse.body());
+	}
+
+	// 여러 건을 한 번에 주문하면 본문에 나온 회원 id 를 모두 키에 넣는다. 회원 id 가 없는 본문은 한 범위를 같이 쓴다.
+	private String owner(byte[] body) {
+		JsonNode root;
+		try {
+			root = objectMapper.readTree(body);
+		} catch (IOException e) {
+			return ANONYMOUS;
+		}
+		if (root == null) {
+			return ANONYMOUS;
+		}
+
+		String memberIds = root.findValues(MEMBER_ID_FIELD).stream()
+			.map(JsonNode::asText)
+			.distinct()
+			.sorted()
+			.collect(Collectors.joining(","));
+
+		return memberIds.isEmpty() ? ANONYMOUS : memberIds;
+	}
+
+	// 본문은 IdempotencyRequestFilter 가 읽어 둔다. 필터를 거치지 않은 요청은 빈 본문으로 본다.
+	private byte[] body(HttpServletRequest request) {
+		CachedBodyRequest cachedBodyRequest = WebUtils.getNativeRequest(request, CachedBodyRequest.class);
+
+		return cachedBodyRequest != null ? cachedBodyRequest.getBody() : new byte[0];
+	}
+
+	private String fingerprint(byte[] body) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private boolean isIdempotent(Object handler) {
+		return handler instanceof HandlerMethod handlerMethod
+			&& handlerMethod.hasMethodAnnotation(Idempotent.class);
+	}
+
+	private void validateKey(String idempotencyKey) {
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new InvalidValueException(ErrorCode.IDEMPOTENCY_KEY_BAD_REQUEST);
+		}
+	}
+}
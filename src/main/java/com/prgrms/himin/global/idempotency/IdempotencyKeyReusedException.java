@@ -0,0 +1,11 @@
+package com.prgrms.himin.global.idempotency;
+
+import com.prgrms.himin.global.error.exception.BusinessException;
+import com.prgrms.himin.global.error.exception.ErrorCode;
+
+public class IdempotencyKeyReusedException extends BusinessException {
+
+	public IdempotencyKeyReusedException() {
+		super(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+	}
+}
@@ -0,0 +1,15 @@
+package com.prgrms.himin.global.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+	@DefaultValue("memory") String store,
+	@DefaultValue("24h") Duration ttl,
+	@DefaultValue("100000") long maximumSize,
+	@DefaultValue("5s") Duration waitTimeout
+) {
+}
@@ -0,0 +1,30 @@
+package com.prgrms.himin.global.idempotency;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// IdempotencyInterceptor 가 핸들러보다 먼저 본문 지문을 만들 수 있도록 멱등성 키가 있는 요청의 본문을 읽어 둔다.
+@Component
+public class IdempotencyRequestFilter extends OncePerRequestFilter {
+
+	@Override
+	protected void doFilterInternal(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		FilterChain filterChain
+	) throws ServletException, IOException {
+		if (request.getHeader(IdempotencyInterceptor.HEADER) == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		filterChain.doFilter(new CachedBodyRequest(request), response);
+	}
+}
@@ -0,0 +1,62 @@
+package com.prgrms.himin.global.idempotency;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// 멱등성 키로 처리한 응답 본문을 IdempotencyInterceptor 가 저장할 수 있게 남겨 둔다.
+@ControllerAdvice
+@RequiredArgsConstructor
+public class IdempotencyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public boolean supports(
+		MethodParameter returnType,
+		Class<? extends HttpMessageConverter<?>> converterType
+	) {
+		return returnType.hasMethodAnnotation(Idempotent.class);
+	}
+
+	@Override
+	public Object beforeBodyWrite(
+		Object body,
+		MethodParameter returnType,
+		MediaType selectedContentType,
+		Class<? extends HttpMessageConverter<?>> selectedConverterType,
+		ServerHttpRequest request,
+		ServerHttpResponse response
+	) {
+		if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+			return body;
+		}
+
+		HttpServletRequest httpServletRequest = servletRequest.getServletRequest();
+		if (httpServletRequest.getAttribute(IdempotencyInterceptor.KEY_ATTRIBUTE) != null) {
+			httpServletRequest.setAttribute(IdempotencyInterceptor.BODY_ATTRIBUTE, writeBody(body));
+		}
+
+		return body;
+	}
+
+	private String writeBody(Object body) {
+		try {
+			return objectMapper.writeValueAsString(body);
+		} catch (JsonProcessingException e) {
+			return null;
+		}
+	}
+}
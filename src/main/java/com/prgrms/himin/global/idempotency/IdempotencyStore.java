@@ -0,0 +1,13 @@
+package com.prgrms.himin.global.idempotency;
+
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+	Optional<IdempotentResponse> find(String key);
+
+	void save(
+		String key,
+		IdempotentResponse response
+	);
+}
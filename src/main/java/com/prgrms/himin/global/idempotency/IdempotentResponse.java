@@ -0,0 +1,9 @@
+package com.prgrms.himin.global.idempotency;
+
+// fingerprint 는 처음 요청 본문의 SHA-256 이다. 같은 키로 다른 본문이 오면 응답을 돌려주지 않고 거절한다.
+public record IdempotentResponse(
+	String fingerprint,
+	int status,
+	String body
+) {
+}
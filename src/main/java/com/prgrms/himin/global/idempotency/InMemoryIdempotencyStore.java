@@ -0,0 +1,36 @@
+package com.prgrms.himin.global.idempotency;
+
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+	private final Cache<String, IdempotentResponse> responses;
+
+	public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+		this.responses = Caffeine.newBuilder()
+			.maximumSize(properties.maximumSize())
+			.expireAfterWrite(properties.ttl())
+			.build();
+	}
+
+	@Override
+	public Optional<IdempotentResponse> find(String key) {
+		return Optional.ofNullable(responses.getIfPresent(key));
+	}
+
+	@Override
+	public void save(
+		String key,
+		IdempotentResponse response
+	) {
+		responses.put(key, response);
+	}
+}
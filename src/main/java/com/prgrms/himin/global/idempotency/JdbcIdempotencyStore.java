@@ -0,0 +1,99 @@
+package com.prgrms.himin.global.idempotency;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 여러 인스턴스가 응답을 공유해야 할 때 사용한다. 테이블은 db/idempotency_keys.sql 로 생성한다.
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+	private static final String FIND_SQL = """
+		SELECT fingerprint, status, body FROM idempotency_keys
+		WHERE idempotency_key = ? AND created_at > ?
+		""";
+
+	private static final String INSERT_SQL = """
+		INSERT INTO idempotency_keys (idempotency_key, fingerprint, status, body, created_at)
+		VALUES (?, ?, ?, ?, ?)
+		""";
+
+	private static final String UPDATE_SQL = """
+		UPDATE idempotency_keys SET fingerprint = ?, status = ?, body = ?, created_at = ?
+		WHERE idempotency_key = ?
+		""";
+
+	private static final String DELETE_EXPIRED_SQL = "DELETE FROM idempotency_keys WHERE created_at <= ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final IdempotencyProperties properties;
+
+	public JdbcIdempotencyStore(
+		JdbcTemplate jdbcTemplate,
+		IdempotencyProperties properties
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.properties = properties;
+	}
+
+	@Override
+	public Optional<IdempotentResponse> find(String key) {
+		return jdbcTemplate.query(
+				FIND_SQL,
+				(rs, rowNum) -> new IdempotentResponse(
+					rs.getString("fingerprint"),
+					rs.getInt("status"),
+					rs.getString("body")
+				),
+				key,
+				expiredBefore()
+			)
+			.stream()
+			.findFirst();
+	}
+
+	@Override
+	public void save(
+		String key,
+		IdempotentResponse response
+	) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		try {
+			jdbcTemplate.update(
+				INSERT_SQL,
+				key,
+				response.fingerprint(),
+				response.status(),
+				response.body(),
+				now
+			);
+		} catch (DuplicateKeyException e) {
+			// 만료된 키가 남아 있던 경우이다.
+			jdbcTemplate.update(
+				UPDATE_SQL,
+				response.fingerprint(),
+				response.status(),
+				response.body(),
+				now,
+				key
+			);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${idempotency.cleanup-interval-millis:600000}")
+	public void deleteExpired() {
+		jdbcTemplate.update(DELETE_EXPIRED_SQL, expiredBefore());
+	}
+
+	private Timestamp expiredBefore() {
+		return Timestamp.valueOf(LocalDateTime.now().minus(properties.ttl()));
+	}
+}
@@ -0,0 +1,31 @@
+package com.prgrms.himin.global.util;
+
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ChunkedBackfill {
+
+	// idRangeSql 은 채울 행의 min_id, max_id 를, updateSql 은 id 구간 두 개를 받는다.
+	// 청크마다 별도 트랜잭션으로 커밋해서 락 범위를 작게 유지한다.
+	public static int run(
+		JdbcTemplate jdbcTemplate,
+		String idRangeSql,
+		String updateSql,
+		int chunkSize
+	) {
+		Map<String, Object> range = jdbcTemplate.queryForMap(idRangeSql);
+		Number minId = (Number)range.get("min_id");
+		Number maxId = (Number)range.get("max_id");
+		if (minId == null || maxId == null) {
+			return 0;
+		}
+
+		int updated = 0;
+		for (long from = minId.longValue(); from <= maxId.longValue(); from += chunkSize) {
+			updated += jdbcTemplate.update(updateSql, from, from + chunkSize - 1);
+		}
+
+		return updated;
+	}
+}
@@ -0,0 +1,48 @@
+package com.prgrms.himin.global.util;
+
+public class Hangul {
+
+	private static final char SYLLABLE_BEGIN = '가';
+
+	private static final char SYLLABLE_END = '힣';
+
+	private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+	private static final char[] CHOSUNGS = {
+		'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+
+	private static final char JAMO_BEGIN = 'ㄱ';
+
+	private static final char JAMO_END = 'ㅣ';
+
+	// 완성형 음절은 초성으로 바꾸고 나머지 글자는 그대로 둔다.
+	public static String toChosung(String text) {
+		StringBuilder chosung = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (isSyllable(c)) {
+				chosung.append(CHOSUNGS[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG]);
+				continue;
+			}
+			chosung.append(c);
+		}
+
+		return chosung.toString();
+	}
+
+	public static boolean containsJamo(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c >= JAMO_BEGIN && c <= JAMO_END) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+	}
+}
@@ -0,0 +1,141 @@
+package com.prgrms.himin.global.util;
+
+import java.util.Arrays;
+
+// long 키, double 값을 박싱 없이 담는 선형 탐사 해시맵이다. 없는 키의 값은 0 이다.
+public class LongDoubleHashMap {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private long[] keys;
+
+	private double[] values;
+
+	private boolean[] used;
+
+	private int size;
+
+	public LongDoubleHashMap() {
+		allocate(DEFAULT_CAPACITY);
+	}
+
+	public double get(long key) {
+		int slot = find(key);
+
+		return slot < 0 ? 0 : values[slot];
+	}
+
+	public boolean containsKey(long key) {
+		return find(key) >= 0;
+	}
+
+	// 더한 뒤의 값을 돌려준다.
+	public double addTo(
+		long key,
+		double delta
+	) {
+		if ((size + 1) * 2 > keys.length) {
+			resize(keys.length * 2);
+		}
+
+		int slot = slotOf(key, keys.length);
+		while (used[slot]) {
+			if (keys[slot] == key) {
+				values[slot] += delta;
+				return values[slot];
+			}
+			slot = (slot + 1) & (keys.length - 1);
+		}
+
+		used[slot] = true;
+		keys[slot] = key;
+		values[slot] = delta;
+		size++;
+
+		return delta;
+	}
+
+	public void scale(double factor) {
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (used[slot]) {
+				values[slot] *= factor;
+			}
+		}
+	}
+
+	// 값이 기준 미만인 키를 지운다. 선형 탐사라 남은 키를 다시 넣는다.
+	public void removeBelow(double threshold) {
+		long[] oldKeys = keys;
+		double[] oldValues = values;
+		boolean[] oldUsed = used;
+		allocate(keys.length);
+		for (int slot = 0; slot < oldKeys.length; slot++) {
+			if (oldUsed[slot] && oldValues[slot] >= threshold) {
+				addTo(oldKeys[slot], oldValues[slot]);
+			}
+		}
+	}
+
+	public void forEach(EntryConsumer consumer) {
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (used[slot]) {
+				consumer.accept(keys[slot], values[slot]);
+			}
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		Arrays.fill(used, false);
+		size = 0;
+	}
+
+	private int find(long key) {
+		int slot = slotOf(key, keys.length);
+		while (used[slot]) {
+			if (keys[slot] == key) {
+				return slot;
+			}
+			slot = (slot + 1) & (keys.length - 1);
+		}
+
+		return -1;
+	}
+
+	private void resize(int capacity) {
+		long[] oldKeys = keys;
+		double[] oldValues = values;
+		boolean[] oldUsed = used;
+		allocate(capacity);
+		for (int slot = 0; slot < oldKeys.length; slot++) {
+			if (oldUsed[slot]) {
+				addTo(oldKeys[slot], oldValues[slot]);
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new double[capacity];
+		used = new boolean[capacity];
+		size = 0;
+	}
+
+	private static int slotOf(
+		long key,
+		int capacity
+	) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+
+		return (int)(hash ^ (hash >>> 32)) & (capacity - 1);
+	}
+
+	@FunctionalInterface
+	public interface EntryConsumer {
+
+		void accept(long key, double value);
+	}
+}
@@ -0,0 +1,140 @@
+package com.prgrms.himin.global.util;
+
+import java.util.Arrays;
+
+// P² 알고리즘으로 값을 쌓아 두지 않고 분위수 하나를 추정한다. 표식 다섯 개의 높이와 위치만 들고 있는다.
+// 처음 다섯 개가 모이기 전에는 받은 값을 정렬해서 그대로 읽는다.
+public class StreamingQuantile {
+
+	private static final int MARKERS = 5;
+
+	private final double quantile;
+
+	private final double[] heights = new double[MARKERS];
+
+	private final double[] positions = new double[MARKERS];
+
+	private final double[] desiredPositions = new double[MARKERS];
+
+	private final double[] increments;
+
+	private long count;
+
+	public StreamingQuantile(double quantile) {
+		if (quantile <= 0 || quantile >= 1) {
+			throw new IllegalArgumentException("quantile must be between 0 and 1");
+		}
+		this.quantile = quantile;
+		this.increments = new double[] {0, quantile / 2, quantile, (1 + quantile) / 2, 1};
+	}
+
+	public void add(double value) {
+		if (count < MARKERS) {
+			heights[(int)count++] = value;
+			if (count == MARKERS) {
+				initializeMarkers();
+			}
+			return;
+		}
+
+		int cell = cellOf(value);
+		for (int i = cell + 1; i < MARKERS; i++) {
+			positions[i]++;
+		}
+		for (int i = 0; i < MARKERS; i++) {
+			desiredPositions[i] += increments[i];
+		}
+		count++;
+
+		for (int i = 1; i < MARKERS - 1; i++) {
+			adjust(i);
+		}
+	}
+
+	public double value() {
+		if (count == 0) {
+			return 0;
+		}
+		if (count < MARKERS) {
+			double[] samples = Arrays.copyOf(heights, (int)count);
+			Arrays.sort(samples);
+			return samples[(int)Math.round(quantile * (count - 1))];
+		}
+
+		return heights[2];
+	}
+
+	public long count() {
+		return count;
+	}
+
+	private void initializeMarkers() {
+		Arrays.sort(heights);
+		for (int i = 0; i < MARKERS; i++) {
+			positions[i] = i + 1;
+		}
+		desiredPositions[0] = 1;
+		desiredPositions[1] = 1 + 2 * quantile;
+		desiredPositions[2] = 1 + 4 * quantile;
+		desiredPositions[3] = 3 + 2 * quantile;
+		desiredPositions[4] = 5;
+	}
+
+	// 값이 들어갈 칸을 찾고, 양 끝을 벗어나면 끝 표식을 넓힌다.
+	private int cellOf(double value) {
+		if (value < heights[0]) {
+			heights[0] = value;
+			return 0;
+		}
+		if (value >= heights[MARKERS - 1]) {
+			heights[MARKERS - 1] = value;
+			return MARKERS - 2;
+		}
+
+		int cell = 0;
+		while (value >= heights[cell + 1]) {
+			cell++;
+		}
+
+		return cell;
+	}
+
+	// 가운데 표식이 바라는 위치에서 한 칸 넘게 벗어났으면 한 칸 옮기고 높이를 포물선 보간으로 고친다.
+	private void adjust(int i) {
+		double offset = desiredPositions[i] - positions[i];
+		boolean canMoveRight = offset >= 1 && positions[i + 1] - positions[i] > 1;
+		boolean canMoveLeft = offset <= -1 && positions[i - 1] - positions[i] < -1;
+		if (!canMoveRight && !canMoveLeft) {
+			return;
+		}
+
+		int direction = offset > 0 ? 1 : -1;
+		double height = parabolic(i, direction);
+		if (heights[i - 1] < height && height < heights[i + 1]) {
+			heights[i] = height;
+		} else {
+			heights[i] = linear(i, direction);
+		}
+		positions[i] += direction;
+	}
+
+	private double parabolic(
+		int i,
+		int direction
+	) {
+		double left = positions[i] - positions[i - 1];
+		double right = positions[i + 1] - positions[i];
+
+		return heights[i] + direction / (positions[i + 1] - positions[i - 1])
+			* ((left + direction) * (heights[i + 1] - heights[i]) / right
+			+ (right - direction) * (heights[i] - heights[i - 1]) / left);
+	}
+
+	private double linear(
+		int i,
+		int direction
+	) {
+		return heights[i] + direction * (heights[i + direction] - heights[i])
+			/ (positions[i + direction] - positions[i]);
+	}
+}
@@ -42,6 +42,13 @@ public class Address {
 	@Column(name = "address", nullable = false, length = MAX_ADDRESS_LENGTH)
 	private String address;
 
+	// GeocodingJob 이 주소로 채운다. 주소가 바뀌면 다시 채우도록 비운다.
+	@Column(name = "latitude")
+	private Double latitude;
+
+	@Column(name = "longitude")
+	private Double longitude;
+
 	public Address(
 		String addressAlias,
 		String address
@@ -66,6 +73,10 @@ public class Address {
 	) {
 		validateAddressAlias(addressAlias);
 		validateAddress(address);
+		if (!address.equals(this.address)) {
+			this.latitude = null;
+			this.longitude = null;
+		}
 		this.addressAlias = addressAlias;
 		this.address = address;
 	}
@@ -0,0 +1,100 @@
+package com.prgrms.himin.menu.application;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prgrms.himin.menu.domain.MenuCatalog;
+import com.prgrms.himin.menu.domain.MenuRepository;
+import com.prgrms.himin.menu.event.MenuChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class MenuCatalogCache {
+
+	private final MenuRepository menuRepository;
+
+	private final TransactionTemplate loadTransaction;
+
+	private final Map<Long, MenuCatalog> catalogs = new ConcurrentHashMap<>();
+
+	// 가게와 관계없이 무효화될 때마다 올린다. 메뉴 수정은 드물어서 다른 가게의 적재가 캐시되지 않는 일은 드물다.
+	private final AtomicLong generation = new AtomicLong();
+
+	private final Counter hitCounter;
+
+	private final Counter missCounter;
+
+	private final Timer rebuildTimer;
+
+	public MenuCatalogCache(
+		MenuRepository menuRepository,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry
+	) {
+		this.menuRepository = menuRepository;
+		this.loadTransaction = new TransactionTemplate(transactionManager);
+		this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.loadTransaction.setReadOnly(true);
+		this.hitCounter = meterRegistry.counter("menu.catalog.lookups", "result", "hit");
+		this.missCounter = meterRegistry.counter("menu.catalog.lookups", "result", "miss");
+		this.rebuildTimer = meterRegistry.timer("menu.catalog.rebuild");
+		Gauge.builder("menu.catalog.size", catalogs, Map::size)
+			.register(meterRegistry);
+	}
+
+	public MenuCatalog get(Long shopId) {
+		MenuCatalog catalog = catalogs.get(shopId);
+		if (catalog != null) {
+			hitCounter.increment();
+			return catalog;
+		}
+
+		missCounter.increment();
+		return rebuild(shopId);
+	}
+
+	@TransactionalEventListener(classes = MenuChangedEvent.class, fallbackExecution = true)
+	public void invalidate(MenuChangedEvent event) {
+		invalidate(event.getShopId());
+	}
+
+	public void invalidate(Long shopId) {
+		generation.incrementAndGet();
+		catalogs.remove(shopId);
+	}
+
+	// 주문 트랜잭션의 스냅샷은 무효화보다 오래됐을 수 있으므로 새 읽기 전용 트랜잭션에서 읽는다.
+	private MenuCatalog rebuild(Long shopId) {
+		long loadVersion = generation.get();
+		MenuCatalog catalog = rebuildTimer.record(() -> loadTransaction.execute(status -> load(shopId, loadVersion)));
+
+		// 적재 도중 무효화되었다면 캐시에 넣지 않고 이번 요청에만 사용한다.
+		catalogs.compute(shopId, (key, current) -> generation.get() == loadVersion ? catalog : current);
+
+		return catalog;
+	}
+
+	private MenuCatalog load(
+		Long shopId,
+		long version
+	) {
+		return new MenuCatalog(
+			shopId,
+			version,
+			menuRepository.findMenuNodes(shopId),
+			menuRepository.findMenuOptionGroupNodes(shopId),
+			menuRepository.findMenuOptionNodes(shopId)
+		);
+	}
+}
@@ -2,6 +2,7 @@ package com.prgrms.himin.menu.application;
 
 import static com.prgrms.himin.global.error.exception.ErrorCode.*;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +26,7 @@ import com.prgrms.himin.menu.dto.response.MenuCreateResponse;
 import com.prgrms.himin.menu.dto.response.MenuOptionCreateResponse;
 import com.prgrms.himin.menu.dto.response.MenuOptionGroupCreateResponse;
 import com.prgrms.himin.menu.dto.response.MenuResponse;
+import com.prgrms.himin.menu.event.MenuChangedEvent;
 import com.prgrms.himin.shop.domain.Shop;
 import com.prgrms.himin.shop.domain.ShopRepository;
 
@@ -45,6 +47,8 @@ public class MenuService {
 
 	private final MenuValidator menuValidator;
 
+	private final ApplicationEventPublisher publisher;
+
 	@Transactional
 	public MenuCreateResponse createMenu(
 		Long shopId,
@@ -58,6 +62,7 @@ public class MenuService {
 		Menu menu = request.toEntity();
 		menu.attachShop(shop);
 		Menu savedMenuEntity = menuRepository.save(menu);
+		publisher.publishEvent(new MenuChangedEvent(shopId));
 
 		return MenuCreateResponse.from(savedMenuEntity);
 	}
@@ -78,6 +83,7 @@ public class MenuService {
 		MenuOptionGroup menuOptionGroupEntity = request.toEntity();
 		MenuOptionGroup savedMenuOptionGroupEntity = menuOptionGroupRepository.save(menuOptionGroupEntity);
 		savedMenuOptionGroupEntity.attachMenu(menu);
+		publisher.publishEvent(new MenuChangedEvent(shopId));
 
 		return MenuOptionGroupCreateResponse.from(savedMenuOptionGroupEntity);
 	}
@@ -107,6 +113,7 @@ public class MenuService {
 
 		menuOptionEntity.attachMenuOptionGroup(menuOptionGroup);
 		MenuOption savedMenuOption = menuOptionRepository.save(menuOptionEntity);
+		publisher.publishEvent(new MenuChangedEvent(shopId));
 
 		return MenuOptionCreateResponse.from(savedMenuOption);
 	}
@@ -139,6 +146,7 @@ public class MenuService {
 		menuValidator.validateShopId(shopId, menu);
 
 		menu.updateMenuInfo(request.name(), request.price());
+		publisher.publishEvent(new MenuChangedEvent(shopId));
 	}
 
 	@Transactional
@@ -156,6 +164,7 @@ public class MenuService {
 
 		MenuStatus status = request.status();
 		menu.updateStatus(status);
+		publisher.publishEvent(new MenuChangedEvent(shopId));
 	}
 
 	@Transactional
@@ -181,6 +190,7 @@ public class MenuService {
 
 		String name = request.name();
 		menuOptionGroup.updateName(name);
+		publisher.publishEvent(new MenuChangedEvent(shopId));
 	}
 
 	@Transactional
@@ -213,6 +223,7 @@ public class MenuService {
 		menuValidator.validateMenuOptionGroupId(menuOptionGroupId, menuOption);
 
 		menuOption.updateOptionInfo(request.name(), request.price());
+		publisher.publishEvent(new MenuChangedEvent(shopId));
 	}
 
 	@Transactional
@@ -228,6 +239,7 @@ public class MenuService {
 		menuValidator.validateShopId(shopId, menu);
 
 		menuRepository.delete(menu);
+		publisher.publishEvent(new MenuChangedEvent(shopId));
 	}
 
 	@Transactional
@@ -251,6 +263,7 @@ public class MenuService {
 		menuValidator.validateMenuId(menuId, menuOptionGroup);
 
 		menuOptionGroupRepository.delete(menuOptionGroup);
+		publisher.publishEvent(new MenuChangedEvent(shopId));
 	}
 
 	@Transactional
@@ -282,6 +295,7 @@ public class MenuService {
 		menuValidator.validateMenuOptionGroupId(menuOptionGroupId, menuOption);
 
 		menuOptionRepository.delete(menuOption);
+		publisher.publishEvent(new MenuChangedEvent(shopId));
 	}
 
 }
@@ -50,6 +50,10 @@ public class Menu {
 	@Column(name = "popularity", nullable = false, columnDefinition = "BIT(1)")
 	private boolean popularity;
 
+	// 사장님이 정하는 popularity 와 달리 ShopPopularityJob 이 최근 주문으로 채운다. 메뉴 수정이 덮어쓰지 않게 UPDATE 에서 뺀다.
+	@Column(name = "best_seller", nullable = false, updatable = false, columnDefinition = "BIT(1)")
+	private boolean bestSeller;
+
 	@Enumerated(EnumType.STRING)
 	@Column(name = "status", nullable = false)
 	private MenuStatus status;
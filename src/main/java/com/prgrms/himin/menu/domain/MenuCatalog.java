@@ -0,0 +1,128 @@
+package com.prgrms.himin.menu.domain;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.prgrms.himin.global.error.exception.EntityNotFoundException;
+import com.prgrms.himin.global.error.exception.ErrorCode;
+
+import lombok.Getter;
+
+public class MenuCatalog {
+
+	@Getter
+	private final Long shopId;
+
+	@Getter
+	private final long version;
+
+	private final Level menus;
+
+	private final Level menuOptionGroups;
+
+	private final Level menuOptions;
+
+	public MenuCatalog(
+		Long shopId,
+		long version,
+		List<Node> menus,
+		List<Node> menuOptionGroups,
+		List<Node> menuOptions
+	) {
+		this.shopId = shopId;
+		this.version = version;
+		this.menus = new Level(menus);
+		this.menuOptionGroups = new Level(menuOptionGroups);
+		this.menuOptions = new Level(menuOptions);
+	}
+
+	public boolean containsMenu(Long menuId) {
+		return menus.indexOf(menuId) >= 0;
+	}
+
+	public boolean containsMenuOptionGroup(Long menuOptionGroupId) {
+		return menuOptionGroups.indexOf(menuOptionGroupId) >= 0;
+	}
+
+	public boolean containsMenuOption(Long menuOptionId) {
+		return menuOptions.indexOf(menuOptionId) >= 0;
+	}
+
+	public boolean isMenuOptionGroupOf(
+		Long menuId,
+		Long menuOptionGroupId
+	) {
+		int index = menuOptionGroups.indexOf(menuOptionGroupId);
+		return index >= 0 && menuOptionGroups.parentIds[index] == menuId;
+	}
+
+	public boolean isMenuOptionOf(
+		Long menuOptionGroupId,
+		Long menuOptionId
+	) {
+		int index = menuOptions.indexOf(menuOptionId);
+		return index >= 0 && menuOptions.parentIds[index] == menuOptionGroupId;
+	}
+
+	public int getMenuPrice(Long menuId) {
+		int index = menus.indexOf(menuId);
+		if (index < 0) {
+			throw new EntityNotFoundException(ErrorCode.MENU_NOT_FOUND);
+		}
+
+		return menus.prices[index];
+	}
+
+	public int getMenuOptionPrice(Long menuOptionId) {
+		int index = menuOptions.indexOf(menuOptionId);
+		if (index < 0) {
+			throw new EntityNotFoundException(ErrorCode.MENU_OPTION_NOT_FOUND);
+		}
+
+		return menuOptions.prices[index];
+	}
+
+	public int size() {
+		return menus.ids.length + menuOptionGroups.ids.length + menuOptions.ids.length;
+	}
+
+	public record Node(
+		long id,
+		long parentId,
+		int price
+	) {
+	}
+
+	// id 기준으로 정렬된 배열을 이진 탐색한다.
+	private static class Level {
+
+		private final long[] ids;
+
+		private final long[] parentIds;
+
+		private final int[] prices;
+
+		private Level(List<Node> nodes) {
+			Node[] sorted = nodes.toArray(Node[]::new);
+			Arrays.sort(sorted, Comparator.comparingLong(Node::id));
+
+			this.ids = new long[sorted.length];
+			this.parentIds = new long[sorted.length];
+			this.prices = new int[sorted.length];
+			for (int i = 0; i < sorted.length; i++) {
+				ids[i] = sorted[i].id();
+				parentIds[i] = sorted[i].parentId();
+				prices[i] = sorted[i].price();
+			}
+		}
+
+		private int indexOf(Long id) {
+			if (id == null) {
+				return -1;
+			}
+
+			return Arrays.binarySearch(ids, id);
+		}
+	}
+}
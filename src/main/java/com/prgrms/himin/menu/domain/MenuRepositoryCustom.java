@@ -0,0 +1,12 @@
+package com.prgrms.himin.menu.domain;
+
+import java.util.List;
+
+public interface MenuRepositoryCustom {
+
+	List<MenuCatalog.Node> findMenuNodes(Long shopId);
+
+	List<MenuCatalog.Node> findMenuOptionGroupNodes(Long shopId);
+
+	List<MenuCatalog.Node> findMenuOptionNodes(Long shopId);
+}
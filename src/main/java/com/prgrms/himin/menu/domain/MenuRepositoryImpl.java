@@ -0,0 +1,73 @@
+package com.prgrms.himin.menu.domain;
+
+import static com.prgrms.himin.menu.domain.QMenu.*;
+import static com.prgrms.himin.menu.domain.QMenuOption.*;
+import static com.prgrms.himin.menu.domain.QMenuOptionGroup.*;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class MenuRepositoryImpl implements MenuRepositoryCustom {
+
+	private static final int NO_PRICE = 0;
+
+	private final JPAQueryFactory jpaQueryFactory;
+
+	@Override
+	public List<MenuCatalog.Node> findMenuNodes(Long shopId) {
+		return jpaQueryFactory
+			.select(menu.id, menu.price)
+			.from(menu)
+			.where(menu.shop.shopId.eq(shopId))
+			.fetch()
+			.stream()
+			.map(tuple -> new MenuCatalog.Node(
+				tuple.get(menu.id),
+				shopId,
+				tuple.get(menu.price)
+			))
+			.toList();
+	}
+
+	@Override
+	public List<MenuCatalog.Node> findMenuOptionGroupNodes(Long shopId) {
+		return jpaQueryFactory
+			.select(menuOptionGroup.id, menu.id)
+			.from(menuOptionGroup)
+			.join(menuOptionGroup.menu, menu)
+			.where(menu.shop.shopId.eq(shopId))
+			.fetch()
+			.stream()
+			.map(tuple -> new MenuCatalog.Node(
+				tuple.get(menuOptionGroup.id),
+				tuple.get(menu.id),
+				NO_PRICE
+			))
+			.toList();
+	}
+
+	@Override
+	public List<MenuCatalog.Node> findMenuOptionNodes(Long shopId) {
+		return jpaQueryFactory
+			.select(menuOption.id, menuOptionGroup.id, menuOption.price)
+			.from(menuOption)
+			.join(menuOption.menuOptionGroup, menuOptionGroup)
+			.join(menuOptionGroup.menu, menu)
+			.where(menu.shop.shopId.eq(shopId))
+			.fetch()
+			.stream()
+			.map(tuple -> new MenuCatalog.Node(
+				tuple.get(menuOption.id),
+				tuple.get(menuOptionGroup.id),
+				tuple.get(menuOption.price)
+			))
+			.toList();
+	}
+}
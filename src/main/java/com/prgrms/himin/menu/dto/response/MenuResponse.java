@@ -14,6 +14,7 @@ public record MenuResponse(
 	String name,
 	int price,
 	boolean popularity,
+	boolean bestSeller,
 	MenuStatus status,
 	List<MenuOptionGroupResponse> menuOptionGroupResponses
 ) {
@@ -29,6 +30,7 @@ public record MenuResponse(
 			.name(menu.getName())
 			.price(menu.getPrice())
 			.popularity(menu.isPopularity())
+			.bestSeller(menu.isBestSeller())
 			.status(menu.getStatus())
 			.menuOptionGroupResponses(menuOptionGroupResponses)
 			.build();
@@ -0,0 +1,11 @@
+package com.prgrms.himin.menu.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MenuChangedEvent {
+
+	private final Long shopId;
+}
@@ -2,6 +2,7 @@ package com.prgrms.himin.order.api;
 
 import javax.validation.Valid;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -12,10 +13,15 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.prgrms.himin.global.idempotency.Idempotent;
 import com.prgrms.himin.order.application.OrderService;
+import com.prgrms.himin.order.application.OrderStatusStream;
+import com.prgrms.himin.order.dto.request.OrderBulkCreateRequest;
 import com.prgrms.himin.order.dto.request.OrderCreateRequest;
 import com.prgrms.himin.order.dto.request.OrderSearchCondition;
+import com.prgrms.himin.order.dto.response.OrderBulkCreateResponse;
 import com.prgrms.himin.order.dto.response.OrderResponse;
 import com.prgrms.himin.order.dto.response.OrderResponses;
 
@@ -28,6 +34,9 @@ public class OrderController {
 
 	private final OrderService orderService;
 
+	private final OrderStatusStream orderStatusStream;
+
+	@Idempotent
 	@PostMapping
 	public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest request) {
 		OrderResponse response = orderService.createOrder(request);
@@ -35,6 +44,14 @@ public class OrderController {
 		return ResponseEntity.ok(response);
 	}
 
+	@Idempotent
+	@PostMapping("/bulk")
+	public ResponseEntity<OrderBulkCreateResponse> createOrders(@Valid @RequestBody OrderBulkCreateRequest request) {
+		OrderBulkCreateResponse response = orderService.createOrders(request.orders());
+
+		return ResponseEntity.ok(response);
+	}
+
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderResponse> getOrder(@PathVariable Long orderId) {
 		OrderResponse response = orderService.getOrder(orderId);
@@ -42,12 +59,20 @@ public class OrderController {
 		return ResponseEntity.ok(response);
 	}
 
+	// 연결하면 현재 주문, 배달 상태를 보내고, 이후 주문, 배달 상태가 바뀔 때마다 보낸다.
+	@GetMapping(value = "/{orderId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> streamOrderStatus(@PathVariable Long orderId) {
+		SseEmitter emitter = orderStatusStream.subscribe(orderId, () -> orderService.getOrderStatus(orderId));
+
+		return ResponseEntity.ok(emitter);
+	}
+
 	@GetMapping("/list")
 	public ResponseEntity<OrderResponses> getOrders(
 		@RequestHeader Long memberId,
 		@ModelAttribute OrderSearchCondition orderSearchCondition,
 		@RequestParam(required = false, defaultValue = "10") int size,
-		@RequestParam(required = false) Long cursor
+		@RequestParam(required = false) String cursor
 	) {
 		OrderResponses responses = orderService.getOrders(
 			memberId,
@@ -0,0 +1,253 @@
+package com.prgrms.himin.order.application;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.prgrms.himin.delivery.domain.DeliveryStatus;
+import com.prgrms.himin.delivery.event.DeliveryStatusChangedEvent;
+import com.prgrms.himin.order.domain.DurationStatistics;
+import com.prgrms.himin.order.domain.Order;
+import com.prgrms.himin.order.domain.OrderRepository;
+import com.prgrms.himin.order.domain.OrderStatus;
+import com.prgrms.himin.order.event.OrderStatusChangedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 조리 시간(COOKING -> COOK_COMPLETE)과 주행 시간(DELIVERING -> ARRIVED)을 커밋된 상태 변경 이벤트로 쌓고,
+// 도착 예정 시각은 메모리의 통계만 읽어서 계산한다. 이력 테이블은 시작할 때 최근 며칠치를 한 번 읽을 뿐이다.
+@Slf4j
+@Component
+public class EtaEstimator {
+
+	private static final int LOAD_CHUNK_SIZE = 1000;
+
+	private static final String COOK_SQL = """
+		SELECT f.order_history_id AS id, o.shop_id, c.created_at AS started_at, f.created_at AS finished_at
+		FROM order_histories f
+		JOIN order_histories c ON c.order_id = f.order_id AND c.status = 'COOKING'
+		JOIN orders o ON o.id = f.order_id
+		WHERE f.status = 'COOK_COMPLETE' AND f.created_at >= ? AND f.order_history_id > ?
+		ORDER BY f.order_history_id
+		LIMIT ?
+		""";
+
+	private static final String RIDE_SQL = """
+		SELECT f.id, o.shop_id, s.created_at AS started_at, f.created_at AS finished_at
+		FROM delivery_histories f
+		JOIN delivery_histories s ON s.delivery_id = f.delivery_id AND s.delivery_status = 'DELIVERING'
+		JOIN deliveries d ON d.id = f.delivery_id
+		JOIN orders o ON o.id = d.order_id
+		WHERE f.delivery_status = 'ARRIVED' AND f.created_at >= ? AND f.id > ?
+		ORDER BY f.id
+		LIMIT ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final OrderRepository orderRepository;
+
+	private final DurationStatistics cook;
+
+	private final DurationStatistics ride;
+
+	private final double defaultCookSeconds;
+
+	private final double defaultRideSeconds;
+
+	private final long warmupDays;
+
+	public EtaEstimator(
+		JdbcTemplate jdbcTemplate,
+		OrderRepository orderRepository,
+		MeterRegistry meterRegistry,
+		@Value("${order.eta.ewma-alpha:0.2}") double alpha,
+		@Value("${order.eta.min-samples:5}") long minSamples,
+		@Value("${order.eta.default-cook-minutes:15}") long defaultCookMinutes,
+		@Value("${order.eta.default-ride-minutes:20}") long defaultRideMinutes,
+		@Value("${order.eta.warmup-days:7}") long warmupDays
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.orderRepository = orderRepository;
+		this.cook = new DurationStatistics(alpha, minSamples);
+		this.ride = new DurationStatistics(alpha, minSamples);
+		this.defaultCookSeconds = Duration.ofMinutes(defaultCookMinutes).toSeconds();
+		this.defaultRideSeconds = Duration.ofMinutes(defaultRideMinutes).toSeconds();
+		this.warmupDays = warmupDays;
+		registerGauges(meterRegistry, "cook", cook);
+		registerGauges(meterRegistry, "ride", ride);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		cook.clear();
+		ride.clear();
+
+		LocalDateTime since = LocalDateTime.now().minusDays(warmupDays);
+		load(COOK_SQL, cook, since);
+		load(RIDE_SQL, ride, since);
+
+		log.info("ETA statistics loaded. cookSamples={}, rideSamples={}", cook.total().count(), ride.total().count());
+	}
+
+	// 배달이 시작되지 않은 주문은 상태가 바뀐 시각에 조리, 주행 시간을 더한다.
+	// 주문 접수 후 조리를 시작하기까지 기다리는 시간은 따로 재지 않는다.
+	public LocalDateTime estimateArrival(Order order) {
+		Long shopId = order.getShop().getShopId();
+		LocalDateTime statusChangedAt = order.getStatusChangedAt();
+
+		LocalDateTime arrivalTime = switch (order.getStatus()) {
+			case ORDERED, COOKING -> afterRide(shopId, afterCooking(shopId, statusChangedAt));
+			case COOK_COMPLETE -> afterRide(shopId, statusChangedAt);
+			case DELIVERED -> statusChangedAt;
+		};
+
+		return arrivalTime.truncatedTo(ChronoUnit.SECONDS);
+	}
+
+	@TransactionalEventListener(classes = OrderStatusChangedEvent.class)
+	public void recordCooking(OrderStatusChangedEvent event) {
+		if (event.getPreviousStatus() != OrderStatus.COOKING || event.getStatus() != OrderStatus.COOK_COMPLETE) {
+			return;
+		}
+
+		cook.record(
+			event.getShopId(),
+			event.getPreviousStatusChangedAt(),
+			secondsBetween(event.getPreviousStatusChangedAt(), event.getStatusChangedAt())
+		);
+	}
+
+	@TransactionalEventListener(classes = DeliveryStatusChangedEvent.class)
+	public void recordRide(DeliveryStatusChangedEvent event) {
+		if (event.getStatus() != DeliveryStatus.ARRIVED || event.getShopId() == null) {
+			return;
+		}
+
+		ride.record(
+			event.getShopId(),
+			event.getPreviousStatusChangedAt(),
+			secondsBetween(event.getPreviousStatusChangedAt(), event.getStatusChangedAt())
+		);
+	}
+
+	// 배달을 시작하면 남은 시간은 주행 시간뿐이다. 배달 트랜잭션 안에서 주문 엔티티의 도착 예정 시각을 함께 고친다.
+	// SQL 로 따로 고치면 같은 주문을 읽어 둔 엔티티가 UPDATE 될 때 옛 값으로 덮어쓰므로 엔티티를 거친다.
+	@EventListener(classes = DeliveryStatusChangedEvent.class)
+	public void refreshArrivalTime(DeliveryStatusChangedEvent event) {
+		if (event.getStatus() != DeliveryStatus.DELIVERING) {
+			return;
+		}
+
+		orderRepository.findById(event.getOrderId())
+			.filter(order -> order.getStatus() != OrderStatus.DELIVERED)
+			.ifPresent(order -> order.updateArrivalTime(
+				afterRide(order.getShop().getShopId(), event.getStatusChangedAt()).truncatedTo(ChronoUnit.SECONDS)
+			));
+	}
+
+	private LocalDateTime afterCooking(
+		Long shopId,
+		LocalDateTime startedAt
+	) {
+		return plusSeconds(startedAt, cook.estimate(shopId, startedAt, defaultCookSeconds));
+	}
+
+	private LocalDateTime afterRide(
+		Long shopId,
+		LocalDateTime startedAt
+	) {
+		return plusSeconds(startedAt, ride.estimate(shopId, startedAt, defaultRideSeconds));
+	}
+
+	private void load(
+		String sql,
+		DurationStatistics statistics,
+		LocalDateTime since
+	) {
+		long afterId = 0L;
+		List<Sample> samples;
+		do {
+			samples = jdbcTemplate.query(
+				sql,
+				(resultSet, rowNum) -> new Sample(
+					resultSet.getLong("id"),
+					resultSet.getLong("shop_id"),
+					resultSet.getTimestamp("started_at").toLocalDateTime(),
+					resultSet.getTimestamp("finished_at").toLocalDateTime()
+				),
+				Timestamp.valueOf(since),
+				afterId,
+				LOAD_CHUNK_SIZE
+			);
+			for (Sample sample : samples) {
+				statistics.record(
+					sample.shopId(),
+					sample.startedAt(),
+					secondsBetween(sample.startedAt(), sample.finishedAt())
+				);
+			}
+			if (!samples.isEmpty()) {
+				afterId = samples.get(samples.size() - 1).id();
+			}
+		} while (samples.size() == LOAD_CHUNK_SIZE);
+	}
+
+	private static void registerGauges(
+		MeterRegistry meterRegistry,
+		String phase,
+		DurationStatistics statistics
+	) {
+		Gauge.builder("order.eta.duration", statistics, stats -> stats.total().ewma())
+			.tag("phase", phase)
+			.tag("statistic", "ewma")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		Gauge.builder("order.eta.duration", statistics, stats -> stats.total().p50())
+			.tag("phase", phase)
+			.tag("statistic", "p50")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		Gauge.builder("order.eta.duration", statistics, stats -> stats.total().p90())
+			.tag("phase", phase)
+			.tag("statistic", "p90")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		Gauge.builder("order.eta.shops", statistics, DurationStatistics::shopCount)
+			.tag("phase", phase)
+			.register(meterRegistry);
+	}
+
+	private static double secondsBetween(
+		LocalDateTime startedAt,
+		LocalDateTime finishedAt
+	) {
+		return Duration.between(startedAt, finishedAt).toMillis() / 1000.0;
+	}
+
+	private static LocalDateTime plusSeconds(
+		LocalDateTime time,
+		double seconds
+	) {
+		return time.plus(Math.round(seconds * 1000), ChronoUnit.MILLIS);
+	}
+
+	private record Sample(
+		long id,
+		long shopId,
+		LocalDateTime startedAt,
+		LocalDateTime finishedAt
+	) {
+	}
+}
@@ -0,0 +1,125 @@
+package com.prgrms.himin.order.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.prgrms.himin.global.error.exception.EntityNotFoundException;
+import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.global.error.exception.InvalidValueException;
+import com.prgrms.himin.menu.domain.MenuCatalog;
+import com.prgrms.himin.menu.domain.MenuOption;
+import com.prgrms.himin.menu.domain.MenuOptionGroupRepository;
+import com.prgrms.himin.menu.domain.MenuOptionRepository;
+import com.prgrms.himin.menu.domain.MenuRepository;
+import com.prgrms.himin.order.domain.OrderItem;
+import com.prgrms.himin.order.domain.SelectedOption;
+import com.prgrms.himin.order.dto.request.SelectedMenuOptionRequest;
+import com.prgrms.himin.order.dto.request.SelectedMenuRequest;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class OrderItemResolver {
+
+	private final MenuRepository menuRepository;
+
+	private final MenuOptionGroupRepository menuOptionGroupRepository;
+
+	private final MenuOptionRepository menuOptionRepository;
+
+	public List<OrderItem> resolve(
+		MenuCatalog menuCatalog,
+		List<SelectedMenuRequest> selectedMenus
+	) {
+		List<OrderItem> orderItems = new ArrayList<>();
+		for (SelectedMenuRequest selectedMenu : selectedMenus) {
+			validateMenu(menuCatalog, selectedMenu.menuId());
+
+			List<SelectedOption> selectedOptions = resolveSelectedOptions(
+				menuCatalog,
+				selectedMenu
+			);
+
+			OrderItem orderItem = new OrderItem(
+				menuRepository.getReferenceById(selectedMenu.menuId()),
+				selectedMenu.quantity()
+			);
+
+			selectedOptions.forEach(selectedOption -> selectedOption.attachTo(orderItem));
+			orderItems.add(orderItem);
+		}
+
+		return orderItems;
+	}
+
+	private List<SelectedOption> resolveSelectedOptions(
+		MenuCatalog menuCatalog,
+		SelectedMenuRequest selectedMenu
+	) {
+		List<SelectedOption> selectedOptions = new ArrayList<>();
+		for (SelectedMenuOptionRequest selectedMenuOption : selectedMenu.selectedMenuOptions()) {
+			Long menuOptionGroupId = selectedMenuOption.menuOptionGroupId();
+			validateMenuOptionGroup(menuCatalog, selectedMenu.menuId(), menuOptionGroupId);
+
+			List<MenuOption> selectedMenuOptions = new ArrayList<>();
+			for (Long menuOptionId : selectedMenuOption.selectedMenuOptions()) {
+				validateMenuOption(menuCatalog, menuOptionGroupId, menuOptionId);
+				selectedMenuOptions.add(menuOptionRepository.getReferenceById(menuOptionId));
+			}
+
+			selectedOptions.addAll(SelectedOption.from(selectedMenuOptions));
+		}
+
+		return selectedOptions;
+	}
+
+	// 카탈로그에 없는 id 는 존재 여부만 확인해서 예외를 구분한다.
+	private void validateMenu(
+		MenuCatalog menuCatalog,
+		Long menuId
+	) {
+		if (menuCatalog.containsMenu(menuId)) {
+			return;
+		}
+		if (menuId != null && menuRepository.existsById(menuId)) {
+			throw new InvalidValueException(ErrorCode.SHOP_BAD_REQUEST);
+		}
+
+		throw new EntityNotFoundException(ErrorCode.MENU_NOT_FOUND);
+	}
+
+	private void validateMenuOptionGroup(
+		MenuCatalog menuCatalog,
+		Long menuId,
+		Long menuOptionGroupId
+	) {
+		if (menuCatalog.isMenuOptionGroupOf(menuId, menuOptionGroupId)) {
+			return;
+		}
+		if (menuCatalog.containsMenuOptionGroup(menuOptionGroupId)
+			|| (menuOptionGroupId != null && menuOptionGroupRepository.existsById(menuOptionGroupId))) {
+			throw new InvalidValueException(ErrorCode.MENU_BAD_REQUEST);
+		}
+
+		throw new EntityNotFoundException(ErrorCode.MENU_OPTION_GROUP_NOT_FOUND);
+	}
+
+	private void validateMenuOption(
+		MenuCatalog menuCatalog,
+		Long menuOptionGroupId,
+		Long menuOptionId
+	) {
+		if (menuCatalog.isMenuOptionOf(menuOptionGroupId, menuOptionId)) {
+			return;
+		}
+		if (menuCatalog.containsMenuOption(menuOptionId)
+			|| (menuOptionId != null && menuOptionRepository.existsById(menuOptionId))) {
+			throw new InvalidValueException(ErrorCode.MENU_OPTION_GROUP_BAD_REQUEST);
+		}
+
+		throw new EntityNotFoundException(ErrorCode.MENU_OPTION_NOT_FOUND);
+	}
+}
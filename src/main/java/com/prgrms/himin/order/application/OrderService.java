@@ -1,35 +1,45 @@
 package com.prgrms.himin.order.application;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.prgrms.himin.delivery.domain.Delivery;
+import com.prgrms.himin.delivery.domain.DeliveryRepository;
 import com.prgrms.himin.global.error.exception.BusinessException;
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
 import com.prgrms.himin.member.domain.Member;
 import com.prgrms.himin.member.domain.MemberRepository;
-import com.prgrms.himin.menu.domain.Menu;
-import com.prgrms.himin.menu.domain.MenuOption;
-import com.prgrms.himin.menu.domain.MenuOptionGroup;
-import com.prgrms.himin.menu.domain.MenuOptionGroupRepository;
-import com.prgrms.himin.menu.domain.MenuOptionRepository;
-import com.prgrms.himin.menu.domain.MenuRepository;
-import com.prgrms.himin.menu.domain.MenuValidator;
+import com.prgrms.himin.menu.application.MenuCatalogCache;
+import com.prgrms.himin.menu.domain.MenuCatalog;
 import com.prgrms.himin.order.domain.Order;
 import com.prgrms.himin.order.domain.OrderHistory;
 import com.prgrms.himin.order.domain.OrderHistoryRepository;
 import com.prgrms.himin.order.domain.OrderItem;
 import com.prgrms.himin.order.domain.OrderRepository;
-import com.prgrms.himin.order.domain.SelectedOption;
+import com.prgrms.himin.order.domain.OrderStatus;
 import com.prgrms.himin.order.dto.request.OrderCreateRequest;
+import com.prgrms.himin.order.dto.request.OrderCursor;
 import com.prgrms.himin.order.dto.request.OrderSearchCondition;
-import com.prgrms.himin.order.dto.request.SelectedMenuOptionRequest;
-import com.prgrms.himin.order.dto.request.SelectedMenuRequest;
+import com.prgrms.himin.order.dto.response.OrderBulkCreateResponse;
+import com.prgrms.himin.order.dto.response.OrderBulkCreateResult;
 import com.prgrms.himin.order.dto.response.OrderResponse;
 import com.prgrms.himin.order.dto.response.OrderResponses;
+import com.prgrms.himin.order.dto.response.OrderStatusStreamResponse;
+import com.prgrms.himin.order.event.OrderCreatedEvent;
+import com.prgrms.himin.order.event.OrderStatusChangedEvent;
 import com.prgrms.himin.shop.domain.Shop;
 import com.prgrms.himin.shop.domain.ShopRepository;
 
@@ -42,19 +52,21 @@ public class OrderService {
 
 	private final OrderRepository orderRepository;
 
-	private final MenuRepository menuRepository;
-
 	private final MemberRepository memberRepository;
 
-	private final MenuOptionRepository menuOptionRepository;
-
-	private final MenuOptionGroupRepository menuOptionGroupRepository;
-
 	private final OrderHistoryRepository orderHistoryRepository;
 
 	private final ShopRepository shopRepository;
 
-	private final MenuValidator menuValidator;
+	private final OrderItemResolver orderItemResolver;
+
+	private final MenuCatalogCache menuCatalogCache;
+
+	private final EtaEstimator etaEstimator;
+
+	private final ApplicationEventPublisher publisher;
+
+	private final DeliveryRepository deliveryRepository;
 
 	@Transactional
 	public OrderResponse createOrder(OrderCreateRequest request) {
@@ -68,29 +80,74 @@ public class OrderService {
 				() -> new EntityNotFoundException(ErrorCode.SHOP_NOT_FOUND)
 			);
 
-		Order order = Order.builder()
-			.address(request.address())
-			.requirement(request.requirement())
-			.shop(shop)
-			.member(member)
-			.build();
-
-		List<SelectedMenuRequest> selectedMenus = request.selectedMenus();
-		List<OrderItem> orderItems = extractOrderItems(
-			selectedMenus,
-			request.shopId()
+		Order order = newOrder(
+			request,
+			member,
+			shop,
+			menuCatalogCache.get(request.shopId())
 		);
-		attachOrderItems(order, orderItems);
-		order.calculateOrderPrice();
-
 		OrderHistory orderHistory = OrderHistory.createOrderHistory(order);
 
 		Order savedOrder = orderRepository.save(order);
 		orderHistoryRepository.save(orderHistory);
+		publisher.publishEvent(OrderCreatedEvent.from(savedOrder));
 
 		return OrderResponse.from(savedOrder);
 	}
 
+	// 회원, 가게는 한 번에 조회하고 저장은 하이버네이트 JDBC 배치로 모아서 보낸다.
+	// 실패한 주문은 건너뛰고 주문마다 결과를 돌려준다.
+	@Transactional
+	public OrderBulkCreateResponse createOrders(List<OrderCreateRequest> requests) {
+		Map<Long, Member> members = findMembers(requests);
+		Map<Long, Shop> shops = findShops(requests);
+		Map<Long, MenuCatalog> menuCatalogs = new HashMap<>();
+
+		Map<Integer, Order> createdOrders = new LinkedHashMap<>();
+		Map<Integer, ErrorCode> failures = new HashMap<>();
+		List<OrderHistory> orderHistories = new ArrayList<>();
+		for (int index = 0; index < requests.size(); index++) {
+			OrderCreateRequest request = requests.get(index);
+			try {
+				Member member = Optional.ofNullable(members.get(request.memberId()))
+					.orElseThrow(
+						() -> new EntityNotFoundException(ErrorCode.MEMBER_NOT_FOUND)
+					);
+
+				Shop shop = Optional.ofNullable(shops.get(request.shopId()))
+					.orElseThrow(
+						() -> new EntityNotFoundException(ErrorCode.SHOP_NOT_FOUND)
+					);
+
+				Order order = newOrder(
+					request,
+					member,
+					shop,
+					menuCatalogs.computeIfAbsent(shop.getShopId(), menuCatalogCache::get)
+				);
+				orderHistories.add(OrderHistory.createOrderHistory(order));
+				createdOrders.put(index, order);
+			} catch (BusinessException e) {
+				failures.put(index, e.getErrorCode());
+			}
+		}
+
+		orderRepository.saveAll(createdOrders.values());
+		orderHistoryRepository.saveAll(orderHistories);
+		createdOrders.values()
+			.forEach(order -> publisher.publishEvent(OrderCreatedEvent.from(order)));
+
+		List<OrderBulkCreateResult> results = new ArrayList<>();
+		for (int index = 0; index < requests.size(); index++) {
+			Order order = createdOrders.get(index);
+			results.add(order != null
+				? OrderBulkCreateResult.success(index, order)
+				: OrderBulkCreateResult.failure(index, failures.get(index)));
+		}
+
+		return OrderBulkCreateResponse.from(results);
+	}
+
 	@Transactional
 	public void finishOrder(Long orderId) {
 		Order order = orderRepository.findById(orderId)
@@ -98,17 +155,28 @@ public class OrderService {
 				() -> new EntityNotFoundException(ErrorCode.ORDER_NOT_FOUND)
 			);
 
-		OrderHistory orderHistory = OrderHistory.createDeliveredOrderHistory(order);
-		orderHistoryRepository.save(orderHistory);
+		changeStatus(order, OrderStatus.DELIVERED, OrderHistory::createDeliveredOrderHistory);
 	}
 
 	public OrderResponse getOrder(Long orderId) {
+		return orderRepository.findOrderResponsesByIds(List.of(orderId))
+			.stream()
+			.findFirst()
+			.orElseThrow(
+				() -> new EntityNotFoundException(ErrorCode.ORDER_NOT_FOUND)
+			);
+	}
+
+	public OrderStatusStreamResponse getOrderStatus(Long orderId) {
 		Order order = orderRepository.findById(orderId)
 			.orElseThrow(
 				() -> new EntityNotFoundException(ErrorCode.ORDER_NOT_FOUND)
 			);
 
-		return OrderResponse.from(order);
+		Delivery delivery = deliveryRepository.findFirstByOrderIdOrderByDeliveryIdDesc(orderId)
+			.orElse(null);
+
+		return OrderStatusStreamResponse.of(order, delivery);
 	}
 
 	@Transactional
@@ -126,8 +194,7 @@ public class OrderService {
 			order
 		);
 
-		OrderHistory orderHistory = OrderHistory.createStartedCookingOrderHistory(order);
-		orderHistoryRepository.save(orderHistory);
+		changeStatus(order, OrderStatus.COOKING, OrderHistory::createStartedCookingOrderHistory);
 	}
 
 	@Transactional
@@ -145,149 +212,118 @@ public class OrderService {
 			order
 		);
 
-		OrderHistory orderHistory = OrderHistory.createCookingCompletedOrderHistory(order);
-		orderHistoryRepository.save(orderHistory);
+		changeStatus(order, OrderStatus.COOK_COMPLETE, OrderHistory::createCookingCompletedOrderHistory);
 	}
 
-	private void attachOrderItems(
-		Order order,
-		List<OrderItem> orderItems
-	) {
-		for (OrderItem orderItem : orderItems) {
-			orderItem.attachTo(order);
-		}
-	}
-
-	private List<OrderItem> extractOrderItems(
-		List<SelectedMenuRequest> selectedMenus,
-		Long shopId
+	private Order newOrder(
+		OrderCreateRequest request,
+		Member member,
+		Shop shop,
+		MenuCatalog menuCatalog
 	) {
-		List<OrderItem> orderItems = new ArrayList<>();
-		for (SelectedMenuRequest selectedMenu : selectedMenus) {
-			Menu menu = menuRepository.findById(selectedMenu.menuId())
-				.orElseThrow(
-					() -> new EntityNotFoundException(ErrorCode.MENU_NOT_FOUND)
-				);
-
-			menuValidator.validateShopId(
-				shopId,
-				menu
-			);
-
-			List<SelectedMenuOptionRequest> selectedMenuOptions = selectedMenu.selectedMenuOptions();
-
-			List<SelectedOption> selectedOptions = extractSelectedOptions(
-				selectedMenu.menuId(),
-				selectedMenuOptions
-			);
-
-			int quantity = selectedMenu.quantity();
-			OrderItem orderItem = new OrderItem(
-				menu,
-				quantity
-			);
+		Order order = Order.builder()
+			.address(request.address())
+			.requirement(request.requirement())
+			.shop(shop)
+			.member(member)
+			.build();
 
-			selectedOptions.forEach(selectedOption -> selectedOption.attachTo(orderItem));
-			orderItems.add(orderItem);
-		}
+		List<OrderItem> orderItems = orderItemResolver.resolve(
+			menuCatalog,
+			request.selectedMenus()
+		);
+		attachOrderItems(order, orderItems);
+		order.calculateOrderPrice(menuCatalog);
+		order.updateArrivalTime(etaEstimator.estimateArrival(order));
 
-		return orderItems;
+		return order;
 	}
 
-	private List<SelectedOption> extractSelectedOptions(
-		Long menuId,
-		List<SelectedMenuOptionRequest> selectedMenuOptions
+	// outbox 이벤트는 다시 보내질 수 있으므로 이미 지난 상태로 바꾸라는 이벤트는 이력을 남기지 않고 무시한다.
+	private void changeStatus(
+		Order order,
+		OrderStatus status,
+		Function<Order, OrderHistory> historyFactory
 	) {
-		List<SelectedOption> selectedOptions = new ArrayList<>();
-
-		for (SelectedMenuOptionRequest selectedMenuOption : selectedMenuOptions) {
-			Long menuOptionGroupId = selectedMenuOption.menuOptionGroupId();
-			MenuOptionGroup menuOptionGroup = menuOptionGroupRepository.findById(menuOptionGroupId)
-				.orElseThrow(
-					() -> new EntityNotFoundException(ErrorCode.MENU_OPTION_GROUP_NOT_FOUND)
-				);
-
-			menuValidator.validateMenuId(
-				menuId,
-				menuOptionGroup
-			);
+		if (order.getStatus().hasReached(status)) {
+			return;
+		}
 
-			List<Long> menuOptionIds = selectedMenuOption.selectedMenuOptions();
+		OrderStatus previousStatus = order.getStatus();
+		LocalDateTime previousStatusChangedAt = order.getStatusChangedAt();
 
-			List<MenuOption> menuOptions = extractMenuOptions(menuOptionGroupId, menuOptionIds);
-			List<SelectedOption> toAdd = SelectedOption.from(menuOptions);
-			selectedOptions.addAll(toAdd);
-		}
+		OrderHistory orderHistory = historyFactory.apply(order);
+		order.updateArrivalTime(etaEstimator.estimateArrival(order));
+		orderHistoryRepository.save(orderHistory);
 
-		return selectedOptions;
+		publisher.publishEvent(OrderStatusChangedEvent.of(order, previousStatus, previousStatusChangedAt));
 	}
 
-	private List<MenuOption> extractMenuOptions(
-		Long menuOptionGroupId,
-		List<Long> menuOptionIds
-	) {
-		List<MenuOption> menuOptions = new ArrayList<>();
-		for (Long menuOptionId : menuOptionIds) {
-			MenuOption menuOption = menuOptionRepository.findById(menuOptionId)
-				.orElseThrow(
-					() -> new EntityNotFoundException(ErrorCode.MENU_OPTION_NOT_FOUND)
-				);
+	private Map<Long, Member> findMembers(List<OrderCreateRequest> requests) {
+		Set<Long> memberIds = requests.stream()
+			.map(OrderCreateRequest::memberId)
+			.collect(Collectors.toSet());
 
-			menuValidator.validateMenuOptionGroupId(
-				menuOptionGroupId,
-				menuOption
-			);
+		return memberRepository.findAllById(memberIds)
+			.stream()
+			.collect(Collectors.toMap(Member::getId, Function.identity()));
+	}
 
-			menuOptions.add(menuOption);
-		}
+	private Map<Long, Shop> findShops(List<OrderCreateRequest> requests) {
+		Set<Long> shopIds = requests.stream()
+			.map(OrderCreateRequest::shopId)
+			.collect(Collectors.toSet());
 
-		return menuOptions;
+		return shopRepository.findAllById(shopIds)
+			.stream()
+			.collect(Collectors.toMap(Shop::getShopId, Function.identity()));
 	}
 
-	private boolean isLast(List<Order> orders, int size) {
-		return orders.size() <= size;
+	private void attachOrderItems(
+		Order order,
+		List<OrderItem> orderItems
+	) {
+		for (OrderItem orderItem : orderItems) {
+			orderItem.attachTo(order);
+		}
 	}
 
 	public OrderResponses getOrders(
 		Long memberId,
 		OrderSearchCondition orderSearchCondition,
 		int size,
-		Long cursor
+		String cursor
 	) {
-		List<Order> orders = orderRepository.searchOrders(
+		List<OrderCursor> orderCursors = orderRepository.searchOrderCursors(
 			memberId,
 			orderSearchCondition,
 			size + 1,
-			cursor
+			OrderCursor.decode(cursor)
 		);
 
+		boolean isLast = orderCursors.size() <= size;
+		List<OrderCursor> page = isLast ? orderCursors : orderCursors.subList(0, size);
+		List<Long> orderIds = page.stream()
+			.map(OrderCursor::orderId)
+			.toList();
+
 		return new OrderResponses(
-			getOrderResponses(orders),
+			orderRepository.findOrderResponsesByIds(orderIds),
 			size,
-			getNextCursor(orders),
-			isLast(orders, size)
+			getNextCursor(page, isLast),
+			isLast
 		);
 	}
 
-	private int getLastIndex(List<Order> orders) {
-		return orders.size() - 1;
-	}
-
-	private Long getNextCursor(
-		List<Order> orders
+	private String getNextCursor(
+		List<OrderCursor> page,
+		boolean isLast
 	) {
-		if (orders.isEmpty()) {
+		if (isLast || page.isEmpty()) {
 			return null;
 		}
 
-		int lastIndex = getLastIndex(orders);
-		return orders.get(lastIndex).getOrderId();
-	}
-
-	private List<OrderResponse> getOrderResponses(List<Order> orders) {
-		return orders.stream()
-			.map(OrderResponse::from)
-			.toList();
+		return page.get(page.size() - 1).encode();
 	}
 
 	private void validateShopId(
@@ -0,0 +1,61 @@
+package com.prgrms.himin.order.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.prgrms.himin.global.util.ChunkedBackfill;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 기존 주문의 현재 상태를 주문 이력에서 한 번만 채워 넣는다.
+// 상태가 비어 있으면 hasReached 가 틀리므로 기본으로 돌리고, 다 채운 뒤에는 enabled=false 로 끈다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.status-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderStatusBackfillJob {
+
+	private static final String ID_RANGE_SQL = """
+		SELECT MIN(id) AS min_id, MAX(id) AS max_id
+		FROM orders
+		WHERE status IS NULL
+		""";
+
+	private static final String BACKFILL_SQL = """
+		UPDATE orders
+		SET status = COALESCE(
+				(SELECT h.status FROM order_histories h
+				WHERE h.order_id = orders.id
+				ORDER BY h.order_history_id DESC LIMIT 1),
+				'ORDERED'),
+			status_changed_at = COALESCE(
+				(SELECT h.created_at FROM order_histories h
+				WHERE h.order_id = orders.id
+				ORDER BY h.order_history_id DESC LIMIT 1),
+				order_time)
+		WHERE id BETWEEN ? AND ?
+		AND status IS NULL
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final int chunkSize;
+
+	public OrderStatusBackfillJob(
+		JdbcTemplate jdbcTemplate,
+		@Value("${order.status-backfill.chunk-size:1000}") int chunkSize
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.chunkSize = chunkSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void run() {
+		int updated = ChunkedBackfill.run(jdbcTemplate, ID_RANGE_SQL, BACKFILL_SQL, chunkSize);
+
+		log.info("Order status backfill finished. updated={}", updated);
+	}
+}
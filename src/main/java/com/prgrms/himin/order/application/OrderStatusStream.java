@@ -0,0 +1,272 @@
+package com.prgrms.himin.order.application;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.prgrms.himin.delivery.event.DeliveryStatusChangedEvent;
+import com.prgrms.himin.global.error.exception.BusinessException;
+import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.order.dto.response.OrderStatusStreamResponse;
+import com.prgrms.himin.order.event.OrderStatusChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 커밋된 주문, 배달 상태 변경을 주문별 구독자에게 SSE 로 나눠 보낸다.
+// 구독자마다 크기가 정해진 버퍼를 두고 보내는 스레드를 따로 써서, 느린 구독자가 이벤트를 발행한 트랜잭션이나 다른 구독자를 붙잡지 않게 한다.
+// 버퍼가 차면 가장 오래된 이벤트를 버린다. 이벤트마다 changedAt 이 있으니 클라이언트는 더 오래된 상태를 무시하면 된다.
+@Slf4j
+@Component
+public class OrderStatusStream {
+
+	public static final String ORDER_STATUS_EVENT = "order-status";
+
+	public static final String DELIVERY_STATUS_EVENT = "delivery-status";
+
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+	private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+
+	private final ExecutorService senders;
+
+	private final int bufferSize;
+
+	private final long timeoutMillis;
+
+	private final int maxSubscribers;
+
+	private final Counter sentCounter;
+
+	private final Counter droppedCounter;
+
+	private final Counter disconnectedCounter;
+
+	public OrderStatusStream(
+		MeterRegistry meterRegistry,
+		@Value("${order.stream.buffer-size:16}") int bufferSize,
+		@Value("${order.stream.timeout-millis:1800000}") long timeoutMillis,
+		@Value("${order.stream.max-subscribers:10000}") int maxSubscribers,
+		@Value("${order.stream.sender-threads:4}") int senderThreads
+	) {
+		this.bufferSize = bufferSize;
+		this.timeoutMillis = timeoutMillis;
+		this.maxSubscribers = maxSubscribers;
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+			Thread thread = new Thread(runnable, "order-stream-" + threadIndex.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		});
+		Gauge.builder("order.stream.subscribers", subscriberCount, AtomicInteger::get)
+			.register(meterRegistry);
+		this.sentCounter = meterRegistry.counter("order.stream.sent");
+		this.droppedCounter = meterRegistry.counter("order.stream.dropped");
+		this.disconnectedCounter = meterRegistry.counter("order.stream.disconnected");
+	}
+
+	// 구독을 먼저 걸고 현재 상태를 읽어서, 그 사이 커밋된 변경도 놓치지 않는다.
+	// 현재 상태보다 먼저 버퍼에 들어간 이벤트는 현재 상태보다 오래됐으니 클라이언트가 changedAt 으로 거른다.
+	public SseEmitter subscribe(
+		Long orderId,
+		Supplier<OrderStatusStreamResponse> snapshotLoader
+	) {
+		if (subscriberCount.incrementAndGet() > maxSubscribers) {
+			subscriberCount.decrementAndGet();
+			throw new BusinessException(ErrorCode.ORDER_STREAM_UNAVAILABLE);
+		}
+
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		Subscriber subscriber = new Subscriber(orderId, emitter, bufferSize);
+		subscribers.computeIfAbsent(orderId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+		emitter.onCompletion(() -> unsubscribe(subscriber));
+		emitter.onTimeout(() -> unsubscribe(subscriber));
+		emitter.onError(e -> unsubscribe(subscriber));
+
+		OrderStatusStreamResponse snapshot;
+		try {
+			snapshot = snapshotLoader.get();
+		} catch (RuntimeException e) {
+			unsubscribe(subscriber);
+			throw e;
+		}
+		offer(subscriber, new StreamEvent(ORDER_STATUS_EVENT, snapshot));
+
+		return emitter;
+	}
+
+	@TransactionalEventListener(classes = OrderStatusChangedEvent.class)
+	public void publish(OrderStatusChangedEvent event) {
+		publish(event.getOrderId(), new StreamEvent(ORDER_STATUS_EVENT, OrderStatusStreamResponse.from(event)));
+	}
+
+	@TransactionalEventListener(classes = DeliveryStatusChangedEvent.class)
+	public void publish(DeliveryStatusChangedEvent event) {
+		publish(event.getOrderId(), new StreamEvent(DELIVERY_STATUS_EVENT, OrderStatusStreamResponse.from(event)));
+	}
+
+	// 끊긴 연결은 보내 봐야 알 수 있으므로 주기적으로 주석 한 줄을 보낸다. 밀린 이벤트가 있는 구독자는 건너뛴다.
+	@Scheduled(
+		initialDelayString = "${order.stream.heartbeat-millis:15000}",
+		fixedDelayString = "${order.stream.heartbeat-millis:15000}"
+	)
+	public void heartbeat() {
+		for (Set<Subscriber> orderSubscribers : subscribers.values()) {
+			for (Subscriber subscriber : orderSubscribers) {
+				if (subscriber.buffer.isEmpty()) {
+					offer(subscriber, StreamEvent.HEARTBEAT);
+				}
+			}
+		}
+	}
+
+	public int subscriberCount() {
+		return subscriberCount.get();
+	}
+
+	public int subscriberCount(Long orderId) {
+		Set<Subscriber> orderSubscribers = subscribers.get(orderId);
+
+		return orderSubscribers == null ? 0 : orderSubscribers.size();
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		subscribers.values().forEach(orderSubscribers -> orderSubscribers.forEach(
+			subscriber -> subscriber.emitter.complete()
+		));
+		senders.shutdown();
+		senders.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	private void publish(
+		Long orderId,
+		StreamEvent event
+	) {
+		Set<Subscriber> orderSubscribers = subscribers.get(orderId);
+		if (orderSubscribers == null) {
+			return;
+		}
+
+		orderSubscribers.forEach(subscriber -> offer(subscriber, event));
+	}
+
+	private void offer(
+		Subscriber subscriber,
+		StreamEvent event
+	) {
+		while (!subscriber.buffer.offer(event)) {
+			if (subscriber.buffer.poll() != null) {
+				droppedCounter.increment();
+			}
+		}
+
+		if (subscriber.sending.compareAndSet(false, true)) {
+			try {
+				senders.execute(() -> send(subscriber));
+			} catch (RejectedExecutionException e) {
+				subscriber.sending.set(false);
+			}
+		}
+	}
+
+	// 구독자마다 보내는 작업은 하나만 돈다. 다 비운 뒤 그 사이 들어온 이벤트가 있으면 이어서 보낸다.
+	private void send(Subscriber subscriber) {
+		do {
+			StreamEvent event;
+			while ((event = subscriber.buffer.poll()) != null) {
+				try {
+					subscriber.emitter.send(event.toSseEvent());
+					sentCounter.increment();
+				} catch (IOException | IllegalStateException e) {
+					disconnect(subscriber);
+					return;
+				}
+			}
+			subscriber.sending.set(false);
+		} while (!subscriber.buffer.isEmpty() && subscriber.sending.compareAndSet(false, true));
+	}
+
+	private void disconnect(Subscriber subscriber) {
+		if (unsubscribe(subscriber)) {
+			disconnectedCounter.increment();
+			log.debug("Order stream subscriber disconnected. orderId={}", subscriber.orderId);
+		}
+		subscriber.buffer.clear();
+		subscriber.emitter.complete();
+	}
+
+	private boolean unsubscribe(Subscriber subscriber) {
+		boolean[] removed = new boolean[1];
+		subscribers.computeIfPresent(subscriber.orderId, (orderId, orderSubscribers) -> {
+			removed[0] = orderSubscribers.remove(subscriber);
+			return orderSubscribers.isEmpty() ? null : orderSubscribers;
+		});
+		if (removed[0]) {
+			subscriberCount.decrementAndGet();
+		}
+
+		return removed[0];
+	}
+
+	// 같은 주문을 여러 번 구독할 수 있으니 값이 아니라 객체로 구분한다.
+	private static class Subscriber {
+
+		private final Long orderId;
+
+		private final SseEmitter emitter;
+
+		private final BlockingQueue<StreamEvent> buffer;
+
+		private final AtomicBoolean sending = new AtomicBoolean();
+
+		private Subscriber(
+			Long orderId,
+			SseEmitter emitter,
+			int bufferSize
+		) {
+			this.orderId = orderId;
+			this.emitter = emitter;
+			this.buffer = new ArrayBlockingQueue<>(bufferSize);
+		}
+	}
+
+	// SseEventBuilder 는 보낼 때 내용을 덧붙여 바꾸므로 구독자마다, 보낼 때마다 새로 만든다.
+	private record StreamEvent(
+		String name,
+		Object data
+	) {
+
+		private static final StreamEvent HEARTBEAT = new StreamEvent(null, null);
+
+		private SseEmitter.SseEventBuilder toSseEvent() {
+			if (name == null) {
+				return SseEmitter.event().comment("heartbeat");
+			}
+
+			return SseEmitter.event().name(name).data(data);
+		}
+	}
+}
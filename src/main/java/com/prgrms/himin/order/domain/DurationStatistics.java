@@ -0,0 +1,149 @@
+package com.prgrms.himin.order.domain;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.prgrms.himin.global.util.StreamingQuantile;
+
+// 걸린 시간(초)을 가게 x 시간대별로 쌓아서 바로 추정값을 꺼낼 수 있게 한다.
+// 칸마다 EWMA 와 P50, P90 스케치만 들고 있고, 표본이 모자란 칸은 가게 전체 -> 전체 가게의 같은 시간대 -> 전체 순으로 넘어간다.
+public class DurationStatistics {
+
+	public static final int BUCKET_HOURS = 3;
+
+	public static final int BUCKETS = 24 / BUCKET_HOURS;
+
+	// 시간대를 가리지 않는 칸이다.
+	private static final int ALL_DAY = BUCKETS;
+
+	private final double alpha;
+
+	private final long minSamples;
+
+	private final Map<Long, Summary[]> shops = new ConcurrentHashMap<>();
+
+	private final Summary[] total;
+
+	public DurationStatistics(
+		double alpha,
+		long minSamples
+	) {
+		this.alpha = alpha;
+		this.minSamples = minSamples;
+		this.total = newSummaries();
+	}
+
+	public static int bucketOf(LocalDateTime time) {
+		return time.getHour() / BUCKET_HOURS;
+	}
+
+	public void record(
+		Long shopId,
+		LocalDateTime startedAt,
+		double seconds
+	) {
+		if (seconds < 0) {
+			return;
+		}
+
+		int bucket = bucketOf(startedAt);
+		Summary[] shop = shops.computeIfAbsent(shopId, id -> newSummaries());
+		shop[bucket].record(seconds);
+		shop[ALL_DAY].record(seconds);
+		total[bucket].record(seconds);
+		total[ALL_DAY].record(seconds);
+	}
+
+	public double estimate(
+		Long shopId,
+		LocalDateTime startedAt,
+		double defaultSeconds
+	) {
+		int bucket = bucketOf(startedAt);
+		Summary[] shop = shops.get(shopId);
+		if (shop != null && shop[bucket].count() >= minSamples) {
+			return shop[bucket].estimate();
+		}
+		if (shop != null && shop[ALL_DAY].count() >= minSamples) {
+			return shop[ALL_DAY].estimate();
+		}
+		if (total[bucket].count() >= minSamples) {
+			return total[bucket].estimate();
+		}
+		if (total[ALL_DAY].count() >= minSamples) {
+			return total[ALL_DAY].estimate();
+		}
+
+		return defaultSeconds;
+	}
+
+	public Summary total() {
+		return total[ALL_DAY];
+	}
+
+	public int shopCount() {
+		return shops.size();
+	}
+
+	public void clear() {
+		shops.clear();
+		for (int i = 0; i < total.length; i++) {
+			total[i] = new Summary(alpha);
+		}
+	}
+
+	private Summary[] newSummaries() {
+		Summary[] summaries = new Summary[BUCKETS + 1];
+		for (int i = 0; i < summaries.length; i++) {
+			summaries[i] = new Summary(alpha);
+		}
+
+		return summaries;
+	}
+
+	public static class Summary {
+
+		private final double alpha;
+
+		private final StreamingQuantile p50 = new StreamingQuantile(0.5);
+
+		private final StreamingQuantile p90 = new StreamingQuantile(0.9);
+
+		private double ewma;
+
+		private long count;
+
+		private Summary(double alpha) {
+			this.alpha = alpha;
+		}
+
+		public synchronized void record(double seconds) {
+			ewma = count == 0 ? seconds : ewma + alpha * (seconds - ewma);
+			p50.add(seconds);
+			p90.add(seconds);
+			count++;
+		}
+
+		// EWMA 로 최근 흐름을 따라가되, 조리 완료를 늦게 누른 것 같은 튀는 값에 끌려가지 않도록 P90 을 넘지 않게 한다.
+		public synchronized double estimate() {
+			return Math.min(ewma, p90.value());
+		}
+
+		public synchronized double ewma() {
+			return ewma;
+		}
+
+		public synchronized double p50() {
+			return p50.value();
+		}
+
+		public synchronized double p90() {
+			return p90.value();
+		}
+
+		public synchronized long count() {
+			return count;
+		}
+	}
+}
@@ -7,18 +7,24 @@ import java.util.List;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.GenericGenerator;
+
+import com.prgrms.himin.global.common.TimeOrderedIdGenerator;
 import com.prgrms.himin.global.error.exception.BusinessException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
 import com.prgrms.himin.member.domain.Member;
+import com.prgrms.himin.menu.domain.MenuCatalog;
 import com.prgrms.himin.shop.domain.Shop;
 
 import lombok.AccessLevel;
@@ -29,7 +35,11 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+	@Index(name = "idx_orders_member_id_order_time", columnList = "member_id, order_time, id"),
+	@Index(name = "idx_orders_member_id_status_order_time", columnList = "member_id, status, order_time, id"),
+	@Index(name = "idx_orders_shop_id_order_time", columnList = "shop_id, order_time")
+})
 public class Order {
 
 	private static final int MIN_ORDER_PRICE = 0;
@@ -39,7 +49,8 @@ public class Order {
 	public static final int MAX_REQUIREMENT_LENGTH = 30;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(generator = TimeOrderedIdGenerator.NAME)
+	@GenericGenerator(name = TimeOrderedIdGenerator.NAME, strategy = TimeOrderedIdGenerator.STRATEGY)
 	@Column(name = "id")
 	private Long orderId;
 
@@ -55,9 +66,17 @@ public class Order {
 	@Column(name = "order_time", nullable = false)
 	private LocalDateTime orderTime;
 
+	// 주문이 생기거나 상태가 바뀔 때 EtaEstimator 가 다시 채운다. 배달이 끝나면 실제 도착 시각이다.
 	@Column(name = "arrival_time")
 	private LocalDateTime arrivalTime;
 
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status")
+	private OrderStatus status;
+
+	@Column(name = "status_changed_at")
+	private LocalDateTime statusChangedAt;
+
 	@OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
 	private List<OrderItem> orderItems = new ArrayList<>();
 
@@ -85,6 +104,8 @@ public class Order {
 		this.shop = shop;
 		this.member = member;
 		this.orderTime = LocalDateTime.now();
+		this.status = OrderStatus.ORDERED;
+		this.statusChangedAt = orderTime;
 	}
 
 	public void addOrderItem(OrderItem orderItem) {
@@ -98,9 +119,18 @@ public class Order {
 		orderItems.remove(orderItem);
 	}
 
-	public void calculateOrderPrice() {
+	public void updateStatus(OrderStatus status) {
+		this.status = status;
+		this.statusChangedAt = LocalDateTime.now();
+	}
+
+	public void updateArrivalTime(LocalDateTime arrivalTime) {
+		this.arrivalTime = arrivalTime;
+	}
+
+	public void calculateOrderPrice(MenuCatalog menuCatalog) {
 		for (OrderItem orderItem : orderItems) {
-			price += orderItem.calculateOrderItemPrice();
+			price += orderItem.calculateOrderItemPrice(menuCatalog);
 		}
 		price += shop.getDeliveryTip();
 	}
@@ -0,0 +1,66 @@
+package com.prgrms.himin.order.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 다시 보내도 처리할 수 없는 outbox 이벤트를 옮겨 둔다. id 는 원래 outbox 의 id 를 그대로 쓴다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "order_event_dead_letters")
+public class OrderEventDeadLetter {
+
+	public static final int MAX_REASON_LENGTH = 255;
+
+	@Id
+	@Column(name = "id")
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type", nullable = false)
+	private OrderEventType eventType;
+
+	@Column(name = "order_id", nullable = false)
+	private Long orderId;
+
+	@Column(name = "shop_id")
+	private Long shopId;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "reason", length = MAX_REASON_LENGTH)
+	private String reason;
+
+	@Column(name = "failed_at", nullable = false)
+	private LocalDateTime failedAt;
+
+	public OrderEventDeadLetter(
+		OrderEventOutbox outbox,
+		String reason
+	) {
+		this.id = outbox.getId();
+		this.eventType = outbox.getEventType();
+		this.orderId = outbox.getOrderId();
+		this.shopId = outbox.getShopId();
+		this.createdAt = outbox.getCreatedAt();
+		this.attempts = outbox.getAttempts();
+		this.reason = reason == null || reason.length() <= MAX_REASON_LENGTH
+			? reason
+			: reason.substring(0, MAX_REASON_LENGTH);
+		this.failedAt = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,6 @@
+package com.prgrms.himin.order.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderEventDeadLetterRepository extends JpaRepository<OrderEventDeadLetter, Long> {
+}
@@ -0,0 +1,71 @@
+package com.prgrms.himin.order.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.GenericGenerator;
+
+import com.prgrms.himin.global.common.TimeOrderedIdGenerator;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "order_event_outbox", indexes = {
+	@Index(name = "idx_order_event_outbox_order_id_id", columnList = "order_id, id")
+})
+public class OrderEventOutbox {
+
+	@Id
+	@GeneratedValue(generator = TimeOrderedIdGenerator.NAME)
+	@GenericGenerator(name = TimeOrderedIdGenerator.NAME, strategy = TimeOrderedIdGenerator.STRATEGY)
+	@Column(name = "id")
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type", nullable = false)
+	private OrderEventType eventType;
+
+	@Column(name = "order_id", nullable = false)
+	private Long orderId;
+
+	@Column(name = "shop_id")
+	private Long shopId;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	// 릴레이가 가져간 이벤트는 이 시각까지 다른 릴레이가 가져가지 않는다. 처리 결과를 남기지 못하고 죽으면 이 시각 뒤에 다시 보낸다.
+	@Column(name = "claimed_until")
+	private LocalDateTime claimedUntil;
+
+	public OrderEventOutbox(
+		OrderEventType eventType,
+		Long orderId,
+		Long shopId
+	) {
+		this.eventType = eventType;
+		this.orderId = orderId;
+		this.shopId = shopId;
+		this.createdAt = LocalDateTime.now();
+	}
+
+	public void claim(LocalDateTime claimedUntil) {
+		this.attempts++;
+		this.claimedUntil = claimedUntil;
+	}
+}
@@ -0,0 +1,40 @@
+package com.prgrms.himin.order.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrderEventOutboxRepository extends JpaRepository<OrderEventOutbox, Long> {
+
+	// 동시에 도는 릴레이는 FOR UPDATE 로 줄을 서고, 앞선 릴레이가 claimed_until 을 찍어 커밋한 행은 건너뛴다.
+	// 같은 주문에 먼저 쌓인 이벤트가 남아 있으면 재시도를 기다리거나 처리 중이어도 뒤 이벤트는 가져가지 않는다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		select o from OrderEventOutbox o
+		where (o.claimedUntil is null or o.claimedUntil < :now)
+		and not exists (
+			select 1 from OrderEventOutbox p
+			where p.orderId = o.orderId and p.id < o.id
+		)
+		order by o.id
+		""")
+	List<OrderEventOutbox> findClaimableForUpdate(
+		@Param("now") LocalDateTime now,
+		Pageable pageable
+	);
+
+	@Modifying
+	@Query("update OrderEventOutbox o set o.claimedUntil = :retryAt where o.id in :ids")
+	int retryAt(
+		@Param("ids") List<Long> ids,
+		@Param("retryAt") LocalDateTime retryAt
+	);
+}
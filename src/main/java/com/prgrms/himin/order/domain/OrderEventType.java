@@ -0,0 +1,10 @@
+package com.prgrms.himin.order.domain;
+
+public enum OrderEventType {
+
+	STARTED_COOKING,
+
+	COOKING_FINISHED,
+
+	DELIVERY_FINISHED
+}
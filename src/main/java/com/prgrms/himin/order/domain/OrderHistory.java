@@ -6,13 +6,15 @@ import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.GenericGenerator;
+
 import com.prgrms.himin.global.common.BaseEntity;
+import com.prgrms.himin.global.common.TimeOrderedIdGenerator;
 import com.prgrms.himin.global.error.exception.BusinessException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
 
@@ -27,7 +29,8 @@ import lombok.NoArgsConstructor;
 public class OrderHistory extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(generator = TimeOrderedIdGenerator.NAME)
+	@GenericGenerator(name = TimeOrderedIdGenerator.NAME, strategy = TimeOrderedIdGenerator.STRATEGY)
 	@Column(name = "order_history_id")
 	private Long id;
 
@@ -46,6 +49,7 @@ public class OrderHistory extends BaseEntity {
 		validateOrder(order);
 		this.order = order;
 		this.orderStatus = orderStatus;
+		order.updateStatus(orderStatus);
 	}
 
 	public static OrderHistory createOrderHistory(Order order) {
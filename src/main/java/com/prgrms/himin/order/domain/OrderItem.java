@@ -8,16 +8,19 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.GenericGenerator;
+
+import com.prgrms.himin.global.common.TimeOrderedIdGenerator;
 import com.prgrms.himin.global.error.exception.BusinessException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
 import com.prgrms.himin.menu.domain.Menu;
+import com.prgrms.himin.menu.domain.MenuCatalog;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -32,7 +35,8 @@ public class OrderItem {
 	public static final int MIN_ORDER_QUANTITY = 1;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(generator = TimeOrderedIdGenerator.NAME)
+	@GenericGenerator(name = TimeOrderedIdGenerator.NAME, strategy = TimeOrderedIdGenerator.STRATEGY)
 	@Column(name = "id")
 	private Long orderItemId;
 
@@ -78,12 +82,12 @@ public class OrderItem {
 		selectedOptions.remove(selectedOption);
 	}
 
-	public int calculateOrderItemPrice() {
+	public int calculateOrderItemPrice(MenuCatalog menuCatalog) {
 		int result = 0;
 		for (SelectedOption selectedOption : selectedOptions) {
-			result += selectedOption.getMenuOption().getPrice() * quantity;
+			result += menuCatalog.getMenuOptionPrice(selectedOption.getMenuOption().getId()) * quantity;
 		}
-		result += menu.getPrice() * quantity;
+		result += menuCatalog.getMenuPrice(menu.getId()) * quantity;
 
 		return result;
 	}
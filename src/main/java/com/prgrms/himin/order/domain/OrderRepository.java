@@ -1,6 +1,18 @@
 package com.prgrms.himin.order.domain;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
+
+	boolean existsByOrderIdAndShopShopId(
+		Long orderId,
+		Long shopId
+	);
+
+	@Query("SELECT o.shop.shopId FROM Order o WHERE o.orderId = :orderId")
+	Optional<Long> findShopIdByOrderId(@Param("orderId") Long orderId);
 }
@@ -1,15 +1,31 @@
 package com.prgrms.himin.order.domain;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
+import com.prgrms.himin.order.dto.request.OrderCursor;
 import com.prgrms.himin.order.dto.request.OrderSearchCondition;
+import com.prgrms.himin.order.dto.response.OrderResponse;
 
 public interface OrderRepositoryCustom {
 
-	List<Order> searchOrders(
+	List<OrderCursor> searchOrderCursors(
 		Long memberId,
 		OrderSearchCondition orderSearchCondition,
 		int size,
-		Long cursor
+		OrderCursor cursor
+	);
+
+	List<OrderResponse> findOrderResponsesByIds(List<Long> orderIds);
+
+	Map<Long, Long> countOrdersByShopIds(
+		List<Long> shopIds,
+		LocalDateTime since
+	);
+
+	Map<Long, Long> countOrderedMenusByShopIds(
+		List<Long> shopIds,
+		LocalDateTime since
 	);
 }
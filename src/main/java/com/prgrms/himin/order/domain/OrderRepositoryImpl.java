@@ -1,19 +1,28 @@
 package com.prgrms.himin.order.domain;
 
 import static com.prgrms.himin.order.domain.QOrder.*;
-import static com.prgrms.himin.order.domain.QOrderHistory.*;
 import static com.prgrms.himin.order.domain.QOrderItem.*;
+import static com.prgrms.himin.order.domain.QSelectedOption.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
 
+import com.prgrms.himin.order.dto.request.OrderCursor;
 import com.prgrms.himin.order.dto.request.OrderSearchCondition;
+import com.prgrms.himin.order.dto.response.OrderResponse;
+import com.prgrms.himin.order.dto.response.SelectedMenuResponse;
 import com.prgrms.himin.shop.domain.Category;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Predicate;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -25,30 +34,187 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
 	private final JPAQueryFactory jpaQueryFactory;
 
 	@Override
-	public List<Order> searchOrders(
+	public List<OrderCursor> searchOrderCursors(
 		Long memberId,
 		OrderSearchCondition orderSearchCondition,
 		int size,
-		Long cursor
+		OrderCursor cursor
 	) {
 		return jpaQueryFactory
-			.select(order)
+			.select(Projections.constructor(OrderCursor.class, order.orderTime, order.orderId))
 			.from(order)
 			.where(
+				order.member.id.eq(memberId),
 				equalCategory(orderSearchCondition.categories()),
 				equalOrderStatus(orderSearchCondition.orderStatuses()),
 				betweenTime(orderSearchCondition.startTime(), orderSearchCondition.endTime()),
-				greaterOrEqualThanCursor(cursor)
+				afterCursor(cursor)
 			)
-			.leftJoin(orderHistory).on(orderHistory.order.eq(order)) // fetch가 아니라 필터 하기 위한 join
-			.leftJoin(order.orderItems, orderItem)
-			.fetchJoin()
+			.orderBy(order.orderTime.asc(), order.orderId.asc())
 			.limit(size)
 			.fetch();
 	}
 
-	private Predicate greaterOrEqualThanCursor(Long cursor) {
-		return cursor != null ? order.orderId.goe(cursor) : null;
+	// 엔티티를 거치지 않고 주문, 주문 항목, 선택 옵션을 각각 한 번씩만 조회해서 응답을 조립한다.
+	@Override
+	public List<OrderResponse> findOrderResponsesByIds(List<Long> orderIds) {
+		if (orderIds.isEmpty()) {
+			return List.of();
+		}
+
+		List<Tuple> orderRows = jpaQueryFactory
+			.select(
+				order.orderId,
+				order.member.id,
+				order.shop.shopId,
+				order.address,
+				order.requirement,
+				order.price,
+				order.arrivalTime
+			)
+			.from(order)
+			.where(order.orderId.in(orderIds))
+			.orderBy(order.orderTime.asc(), order.orderId.asc())
+			.fetch();
+
+		List<Tuple> orderItemRows = jpaQueryFactory
+			.select(
+				orderItem.orderItemId,
+				orderItem.order.orderId,
+				orderItem.menu.id,
+				orderItem.quantity
+			)
+			.from(orderItem)
+			.where(orderItem.order.orderId.in(orderIds))
+			.orderBy(orderItem.orderItemId.asc())
+			.fetch();
+
+		long[] orderItemIds = orderItemRows.stream()
+			.mapToLong(row -> row.get(orderItem.orderItemId))
+			.toArray();
+		List<List<Long>> selectedOptionIds = findSelectedOptionIds(orderItemIds);
+
+		long[] sortedOrderIds = orderIds.stream()
+			.mapToLong(Long::longValue)
+			.sorted()
+			.toArray();
+		List<List<SelectedMenuResponse>> selectedMenus = new ArrayList<>(sortedOrderIds.length);
+		for (int i = 0; i < sortedOrderIds.length; i++) {
+			selectedMenus.add(new ArrayList<>());
+		}
+		for (int i = 0; i < orderItemRows.size(); i++) {
+			Tuple row = orderItemRows.get(i);
+			int orderIndex = Arrays.binarySearch(sortedOrderIds, row.get(orderItem.order.orderId));
+			selectedMenus.get(orderIndex).add(new SelectedMenuResponse(
+				row.get(orderItem.menu.id),
+				row.get(orderItem.quantity),
+				selectedOptionIds.get(i)
+			));
+		}
+
+		List<OrderResponse> responses = new ArrayList<>(orderRows.size());
+		for (Tuple row : orderRows) {
+			Long orderId = row.get(order.orderId);
+			responses.add(OrderResponse.builder()
+				.orderId(orderId)
+				.memberId(row.get(order.member.id))
+				.shopId(row.get(order.shop.shopId))
+				.address(row.get(order.address))
+				.requirement(row.get(order.requirement))
+				.selectedMenus(selectedMenus.get(Arrays.binarySearch(sortedOrderIds, orderId)))
+				.price(row.get(order.price))
+				.arrivalTime(row.get(order.arrivalTime))
+				.build());
+		}
+
+		return responses;
+	}
+
+	// orderItemIds 는 오름차순이어야 하고, 같은 위치에 해당 주문 항목의 선택 옵션 id 목록을 돌려준다.
+	private List<List<Long>> findSelectedOptionIds(long[] orderItemIds) {
+		List<List<Long>> selectedOptionIds = new ArrayList<>(orderItemIds.length);
+		for (int i = 0; i < orderItemIds.length; i++) {
+			selectedOptionIds.add(new ArrayList<>());
+		}
+		if (orderItemIds.length == 0) {
+			return selectedOptionIds;
+		}
+
+		List<Tuple> selectedOptionRows = jpaQueryFactory
+			.select(selectedOption.orderItem.orderItemId, selectedOption.menuOption.id)
+			.from(selectedOption)
+			.where(selectedOption.orderItem.orderItemId.in(Arrays.stream(orderItemIds).boxed().toList()))
+			.orderBy(selectedOption.selectedOptionId.asc())
+			.fetch();
+
+		for (Tuple row : selectedOptionRows) {
+			int orderItemIndex = Arrays.binarySearch(orderItemIds, row.get(selectedOption.orderItem.orderItemId));
+			selectedOptionIds.get(orderItemIndex).add(row.get(selectedOption.menuOption.id));
+		}
+
+		return selectedOptionIds;
+	}
+
+	@Override
+	public Map<Long, Long> countOrdersByShopIds(
+		List<Long> shopIds,
+		LocalDateTime since
+	) {
+		if (shopIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return jpaQueryFactory
+			.select(order.shop.shopId, order.count())
+			.from(order)
+			.where(
+				order.shop.shopId.in(shopIds),
+				order.orderTime.goe(since)
+			)
+			.groupBy(order.shop.shopId)
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(
+				row -> row.get(order.shop.shopId),
+				row -> row.get(order.count())
+			));
+	}
+
+	// 주문 항목 수가 아니라 수량을 더해서 메뉴별 주문량을 센다.
+	@Override
+	public Map<Long, Long> countOrderedMenusByShopIds(
+		List<Long> shopIds,
+		LocalDateTime since
+	) {
+		if (shopIds.isEmpty()) {
+			return Map.of();
+		}
+
+		NumberExpression<Long> quantity = orderItem.quantity.longValue().sum();
+		return jpaQueryFactory
+			.select(orderItem.menu.id, quantity)
+			.from(orderItem)
+			.join(orderItem.order, order)
+			.where(
+				order.shop.shopId.in(shopIds),
+				order.orderTime.goe(since)
+			)
+			.groupBy(orderItem.menu.id)
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(
+				row -> row.get(orderItem.menu.id),
+				row -> row.get(quantity)
+			));
+	}
+
+	private BooleanExpression afterCursor(OrderCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+
+		return order.orderTime.gt(cursor.orderTime())
+			.or(order.orderTime.eq(cursor.orderTime()).and(order.orderId.gt(cursor.orderId())));
 	}
 
 	private BooleanExpression betweenTime(LocalDateTime start, LocalDateTime end) {
@@ -73,17 +239,11 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
 		return booleanBuilder;
 	}
 
-	private BooleanBuilder equalOrderStatus(List<OrderStatus> orderStatuses) {
-		if (orderStatuses == null) {
+	private BooleanExpression equalOrderStatus(List<OrderStatus> orderStatuses) {
+		if (orderStatuses == null || orderStatuses.isEmpty()) {
 			return null;
 		}
 
-		BooleanBuilder booleanBuilder = new BooleanBuilder();
-
-		for (OrderStatus orderStatus : orderStatuses) {
-			booleanBuilder.or(orderHistory.orderStatus.eq(orderStatus));
-		}
-
-		return booleanBuilder;
+		return order.status.in(orderStatuses);
 	}
 }
@@ -8,5 +8,10 @@ public enum OrderStatus {
 
 	COOK_COMPLETE,
 
-	DELIVERED
+	DELIVERED;
+
+	// 주문 상태는 선언한 순서로만 나아간다.
+	public boolean hasReached(OrderStatus status) {
+		return compareTo(status) >= 0;
+	}
 }
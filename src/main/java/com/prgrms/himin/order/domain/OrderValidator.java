@@ -2,6 +2,7 @@ package com.prgrms.himin.order.domain;
 
 import org.springframework.stereotype.Component;
 
+import com.prgrms.himin.global.error.exception.BusinessException;
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
 
@@ -18,4 +19,21 @@ public class OrderValidator {
 			throw new EntityNotFoundException(ErrorCode.ORDER_NOT_FOUND);
 		}
 	}
+
+	public Long getShopId(Long orderId) {
+		return orderRepository.findShopIdByOrderId(orderId)
+			.orElseThrow(
+				() -> new EntityNotFoundException(ErrorCode.ORDER_NOT_FOUND)
+			);
+	}
+
+	public void validateShopOrder(
+		Long shopId,
+		Long orderId
+	) {
+		validateOrderId(orderId);
+		if (!orderRepository.existsByOrderIdAndShopShopId(orderId, shopId)) {
+			throw new BusinessException(ErrorCode.ORDER_SHOP_NOT_MATCH);
+		}
+	}
 }
@@ -0,0 +1,16 @@
+package com.prgrms.himin.order.dto.request;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+public record OrderBulkCreateRequest(
+	@Size(max = OrderBulkCreateRequest.MAX_ORDERS, message = "한 번에 최대 {max}개의 주문만 생성할 수 있습니다.")
+	@NotEmpty(message = "주문목록이 비어있으면 안됩니다.")
+	List<@Valid OrderCreateRequest> orders
+) {
+
+	public static final int MAX_ORDERS = 500;
+}
@@ -0,0 +1,43 @@
+package com.prgrms.himin.order.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.global.error.exception.InvalidValueException;
+
+public record OrderCursor(
+	LocalDateTime orderTime,
+	Long orderId
+) {
+
+	private static final String DELIMITER = "_";
+
+	public static OrderCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+
+			return new OrderCursor(
+				LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+				Long.parseLong(decoded.substring(delimiterIndex + 1))
+			);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new InvalidValueException(ErrorCode.ORDER_CURSOR_BAD_REQUEST);
+		}
+	}
+
+	public String encode() {
+		String raw = orderTime + DELIMITER + orderId;
+
+		return Base64.getUrlEncoder()
+			.withoutPadding()
+			.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
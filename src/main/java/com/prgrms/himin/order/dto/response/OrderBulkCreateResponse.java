@@ -0,0 +1,25 @@
+package com.prgrms.himin.order.dto.response;
+
+import java.util.List;
+
+public record OrderBulkCreateResponse(
+
+	List<OrderBulkCreateResult> results,
+
+	int successCount,
+
+	int failureCount
+) {
+
+	public static OrderBulkCreateResponse from(List<OrderBulkCreateResult> results) {
+		int successCount = (int)results.stream()
+			.filter(OrderBulkCreateResult::success)
+			.count();
+
+		return new OrderBulkCreateResponse(
+			results,
+			successCount,
+			results.size() - successCount
+		);
+	}
+}
@@ -0,0 +1,42 @@
+package com.prgrms.himin.order.dto.response;
+
+import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.order.domain.Order;
+
+public record OrderBulkCreateResult(
+	int index,
+	boolean success,
+	Long orderId,
+	Integer price,
+	String errorCode,
+	String message
+) {
+
+	public static OrderBulkCreateResult success(
+		int index,
+		Order order
+	) {
+		return new OrderBulkCreateResult(
+			index,
+			true,
+			order.getOrderId(),
+			order.getPrice(),
+			null,
+			null
+		);
+	}
+
+	public static OrderBulkCreateResult failure(
+		int index,
+		ErrorCode errorCode
+	) {
+		return new OrderBulkCreateResult(
+			index,
+			false,
+			null,
+			null,
+			errorCode.getCode(),
+			errorCode.getMessage()
+		);
+	}
+}
@@ -1,5 +1,6 @@
 package com.prgrms.himin.order.dto.response;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.prgrms.himin.order.domain.Order;
@@ -14,7 +15,8 @@ public record OrderResponse(
 	String address,
 	String requirement,
 	List<SelectedMenuResponse> selectedMenus,
-	int price
+	int price,
+	LocalDateTime arrivalTime
 ) {
 
 	public static OrderResponse from(Order order) {
@@ -28,6 +30,7 @@ public record OrderResponse(
 			.requirement(order.getRequirement())
 			.selectedMenus(selectedMenus)
 			.price(order.getPrice())
+			.arrivalTime(order.getArrivalTime())
 			.build();
 	}
 }
@@ -8,7 +8,7 @@ public record OrderResponses(
 
 	int size,
 
-	Long nextCursor,
+	String nextCursor,
 
 	boolean isLast
 ) {
@@ -0,0 +1,72 @@
+package com.prgrms.himin.order.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.prgrms.himin.delivery.domain.Delivery;
+import com.prgrms.himin.delivery.domain.DeliveryStatus;
+import com.prgrms.himin.delivery.event.DeliveryStatusChangedEvent;
+import com.prgrms.himin.order.domain.Order;
+import com.prgrms.himin.order.domain.OrderStatus;
+import com.prgrms.himin.order.event.OrderStatusChangedEvent;
+
+public record OrderStatusStreamResponse(
+	Long orderId,
+	OrderStatus orderStatus,
+	DeliveryStatus deliveryStatus,
+	Long riderId,
+	LocalDateTime changedAt,
+	LocalDateTime arrivalTime
+) {
+
+	// 배달이 아직 없으면 배달 상태는 비워 둔다. changedAt 은 주문, 배달 중 늦게 바뀐 시각이다.
+	public static OrderStatusStreamResponse of(
+		Order order,
+		Delivery delivery
+	) {
+		if (delivery == null) {
+			return new OrderStatusStreamResponse(
+				order.getOrderId(),
+				order.getStatus(),
+				null,
+				null,
+				order.getStatusChangedAt(),
+				order.getArrivalTime()
+			);
+		}
+
+		LocalDateTime changedAt = delivery.getStatusChangedAt().isAfter(order.getStatusChangedAt())
+			? delivery.getStatusChangedAt()
+			: order.getStatusChangedAt();
+
+		return new OrderStatusStreamResponse(
+			order.getOrderId(),
+			order.getStatus(),
+			delivery.getStatus(),
+			delivery.getRider() == null ? null : delivery.getRider().getRiderId(),
+			changedAt,
+			order.getArrivalTime()
+		);
+	}
+
+	public static OrderStatusStreamResponse from(OrderStatusChangedEvent event) {
+		return new OrderStatusStreamResponse(
+			event.getOrderId(),
+			event.getStatus(),
+			null,
+			null,
+			event.getStatusChangedAt(),
+			event.getArrivalTime()
+		);
+	}
+
+	public static OrderStatusStreamResponse from(DeliveryStatusChangedEvent event) {
+		return new OrderStatusStreamResponse(
+			event.getOrderId(),
+			null,
+			event.getStatus(),
+			event.getRiderId(),
+			event.getStatusChangedAt(),
+			null
+		);
+	}
+}
@@ -5,7 +5,7 @@ import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
-public class CookingFinishedEvent {
+public class CookingFinishedEvent implements OrderEvent {
 
 	private final Long shopId;
 
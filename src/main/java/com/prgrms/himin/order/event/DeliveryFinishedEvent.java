@@ -5,7 +5,7 @@ import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
-public class DeliveryFinishedEvent {
+public class DeliveryFinishedEvent implements OrderEvent {
 
 	private final Long orderId;
 }
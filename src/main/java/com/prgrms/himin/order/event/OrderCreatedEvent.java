@@ -0,0 +1,43 @@
+package com.prgrms.himin.order.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.prgrms.himin.order.domain.Order;
+import com.prgrms.himin.order.domain.OrderItem;
+import com.prgrms.himin.shop.domain.Category;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class OrderCreatedEvent implements OrderEvent {
+
+	private final Long orderId;
+
+	private final Long shopId;
+
+	private final Category category;
+
+	// 메뉴 id 별 주문 수량
+	private final Map<Long, Integer> menuQuantities;
+
+	private final LocalDateTime orderTime;
+
+	public static OrderCreatedEvent from(Order order) {
+		return new OrderCreatedEvent(
+			order.getOrderId(),
+			order.getShop().getShopId(),
+			order.getShop().getCategory(),
+			order.getOrderItems().stream()
+				.collect(Collectors.toMap(
+					orderItem -> orderItem.getMenu().getId(),
+					OrderItem::getQuantity,
+					Integer::sum
+				)),
+			order.getOrderTime()
+		);
+	}
+}
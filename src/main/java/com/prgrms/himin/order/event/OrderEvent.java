@@ -0,0 +1,6 @@
+package com.prgrms.himin.order.event;
+
+public interface OrderEvent {
+
+	Long getOrderId();
+}
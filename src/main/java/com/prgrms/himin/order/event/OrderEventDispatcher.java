@@ -0,0 +1,132 @@
+package com.prgrms.himin.order.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.prgrms.himin.global.error.exception.BusinessException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 같은 주문의 이벤트는 항상 같은 단일 스레드 레인으로 보내서 순서를 지킨다.
+@Slf4j
+@Component
+public class OrderEventDispatcher implements DisposableBean {
+
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+	private final OrderEventProperties properties;
+
+	private final ThreadPoolExecutor[] lanes;
+
+	private final Timer lagTimer;
+
+	private final Counter failureCounter;
+
+	public OrderEventDispatcher(
+		OrderEventProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.properties = properties;
+		this.lanes = new ThreadPoolExecutor[properties.lanes()];
+		for (int i = 0; i < lanes.length; i++) {
+			lanes[i] = createLane(i);
+			Gauge.builder("order.event.queue.depth", lanes[i], lane -> lane.getQueue().size())
+				.tag("lane", String.valueOf(i))
+				.register(meterRegistry);
+		}
+		this.lagTimer = meterRegistry.timer("order.event.lag");
+		this.failureCounter = meterRegistry.counter("order.event.failures");
+	}
+
+	// 실패하면 future 를 예외로 완료한다. 재시도는 outbox 릴레이가 한 곳에서 맡는다.
+	public CompletableFuture<Void> dispatch(
+		Long orderId,
+		Runnable handler
+	) {
+		CompletableFuture<Void> handled = new CompletableFuture<>();
+		long enqueuedAt = System.nanoTime();
+		try {
+			lanes[laneOf(orderId)].execute(() -> {
+				lagTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+				try {
+					handler.run();
+					handled.complete(null);
+				} catch (BusinessException e) {
+					failureCounter.increment();
+					log.warn("Order event rejected. orderId={}", orderId, e);
+					handled.completeExceptionally(e);
+				} catch (RuntimeException e) {
+					failureCounter.increment();
+					log.error("Order event failed. orderId={}", orderId, e);
+					handled.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			handled.completeExceptionally(e);
+		}
+
+		return handled;
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		for (ThreadPoolExecutor lane : lanes) {
+			lane.shutdown();
+		}
+		for (ThreadPoolExecutor lane : lanes) {
+			lane.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	private int laneOf(Long orderId) {
+		int hash = Long.hashCode(orderId);
+		return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+	}
+
+	private ThreadPoolExecutor createLane(int index) {
+		ThreadPoolExecutor lane = new ThreadPoolExecutor(
+			1,
+			1,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(properties.queueCapacity()),
+			runnable -> {
+				Thread thread = new Thread(runnable, "order-event-" + index);
+				thread.setDaemon(true);
+				return thread;
+			}
+		);
+		lane.setRejectedExecutionHandler(rejectedExecutionHandler());
+
+		return lane;
+	}
+
+	private RejectedExecutionHandler rejectedExecutionHandler() {
+		if (properties.overflowPolicy() == OrderEventProperties.OverflowPolicy.CALLER_RUNS) {
+			return new ThreadPoolExecutor.CallerRunsPolicy();
+		}
+
+		return (runnable, executor) -> {
+			if (executor.isShutdown()) {
+				throw new RejectedExecutionException("Order event lane is shut down");
+			}
+			try {
+				executor.getQueue().put(runnable);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RejectedExecutionException(e);
+			}
+		};
+	}
+}
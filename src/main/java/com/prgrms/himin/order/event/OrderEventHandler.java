@@ -1,9 +1,11 @@
 package com.prgrms.himin.order.event;
 
-import org.springframework.context.event.EventListener;
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.stereotype.Component;
 
 import com.prgrms.himin.order.application.OrderService;
+import com.prgrms.himin.order.domain.OrderEventOutbox;
 
 import lombok.RequiredArgsConstructor;
 
@@ -13,24 +15,40 @@ public class OrderEventHandler {
 
 	private final OrderService orderService;
 
-	@EventListener(classes = DeliveryFinishedEvent.class)
-	public void finishOrder(DeliveryFinishedEvent event) {
-		orderService.finishOrder(event.getOrderId());
+	private final OrderEventDispatcher orderEventDispatcher;
+
+	public CompletableFuture<Void> handle(OrderEventOutbox outbox) {
+		return switch (outbox.getEventType()) {
+			case STARTED_COOKING -> startCooking(new StartedCookingEvent(outbox.getShopId(), outbox.getOrderId()));
+			case COOKING_FINISHED -> finishCooking(new CookingFinishedEvent(outbox.getShopId(), outbox.getOrderId()));
+			case DELIVERY_FINISHED -> finishOrder(new DeliveryFinishedEvent(outbox.getOrderId()));
+		};
+	}
+
+	public CompletableFuture<Void> finishOrder(DeliveryFinishedEvent event) {
+		return orderEventDispatcher.dispatch(
+			event.getOrderId(),
+			() -> orderService.finishOrder(event.getOrderId())
+		);
 	}
 
-	@EventListener(classes = StartedCookingEvent.class)
-	public void startCooking(StartedCookingEvent event) {
-		orderService.startCooking(
-			event.getShopId(),
-			event.getOrderId()
+	public CompletableFuture<Void> startCooking(StartedCookingEvent event) {
+		return orderEventDispatcher.dispatch(
+			event.getOrderId(),
+			() -> orderService.startCooking(
+				event.getShopId(),
+				event.getOrderId()
+			)
 		);
 	}
 
-	@EventListener(classes = CookingFinishedEvent.class)
-	public void finishCooking(CookingFinishedEvent event) {
-		orderService.finishCooking(
-			event.getShopId(),
-			event.getOrderId()
+	public CompletableFuture<Void> finishCooking(CookingFinishedEvent event) {
+		return orderEventDispatcher.dispatch(
+			event.getOrderId(),
+			() -> orderService.finishCooking(
+				event.getShopId(),
+				event.getOrderId()
+			)
 		);
 	}
 }
@@ -0,0 +1,41 @@
+package com.prgrms.himin.order.event;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.prgrms.himin.order.domain.OrderEventOutbox;
+import com.prgrms.himin.order.domain.OrderEventOutboxRepository;
+import com.prgrms.himin.order.domain.OrderEventType;
+
+import lombok.RequiredArgsConstructor;
+
+// 이벤트를 발행한 서비스의 트랜잭션 안에서 outbox 에 기록한다.
+@Component
+@RequiredArgsConstructor
+public class OrderEventOutboxWriter {
+
+	private final OrderEventOutboxRepository orderEventOutboxRepository;
+
+	@EventListener(classes = StartedCookingEvent.class)
+	public void write(StartedCookingEvent event) {
+		save(OrderEventType.STARTED_COOKING, event.getOrderId(), event.getShopId());
+	}
+
+	@EventListener(classes = CookingFinishedEvent.class)
+	public void write(CookingFinishedEvent event) {
+		save(OrderEventType.COOKING_FINISHED, event.getOrderId(), event.getShopId());
+	}
+
+	@EventListener(classes = DeliveryFinishedEvent.class)
+	public void write(DeliveryFinishedEvent event) {
+		save(OrderEventType.DELIVERY_FINISHED, event.getOrderId(), null);
+	}
+
+	private void save(
+		OrderEventType eventType,
+		Long orderId,
+		Long shopId
+	) {
+		orderEventOutboxRepository.save(new OrderEventOutbox(eventType, orderId, shopId));
+	}
+}
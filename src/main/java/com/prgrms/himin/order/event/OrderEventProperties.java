@@ -0,0 +1,21 @@
+package com.prgrms.himin.order.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "order.event")
+public record OrderEventProperties(
+	@DefaultValue("4") int lanes,
+	@DefaultValue("1000") int queueCapacity,
+	@DefaultValue("BLOCK") OverflowPolicy overflowPolicy
+) {
+
+	public enum OverflowPolicy {
+
+		// 레인 큐에 자리가 날 때까지 발행 스레드가 기다린다.
+		BLOCK,
+
+		// 발행 스레드에서 바로 처리한다. 같은 주문의 이벤트 순서가 보장되지 않는다.
+		CALLER_RUNS
+	}
+}
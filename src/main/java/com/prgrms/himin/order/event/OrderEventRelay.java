@@ -0,0 +1,167 @@
+package com.prgrms.himin.order.event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prgrms.himin.global.error.exception.BusinessException;
+import com.prgrms.himin.order.domain.OrderEventDeadLetter;
+import com.prgrms.himin.order.domain.OrderEventDeadLetterRepository;
+import com.prgrms.himin.order.domain.OrderEventOutbox;
+import com.prgrms.himin.order.domain.OrderEventOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 가져갈 이벤트에 claimed_until 을 찍고 바로 커밋한 뒤 트랜잭션 밖에서 처리한다. 처리한 이벤트만 지우고,
+// 실패한 이벤트는 잠시 뒤 다시 보내며, 비즈니스 예외로 거절되었거나 횟수를 다 쓴 이벤트는 dead letter 로 옮긴다.
+// 결과를 남기기 전에 죽거나 시간 안에 끝나지 않은 이벤트는 claimed_until 이 지나면 다시 보내므로 핸들러는 멱등해야 한다.
+// 한 주문에서는 가장 먼저 쌓인 이벤트만 가져가므로, 재시도를 기다리는 이벤트가 있으면 그 주문의 뒤 이벤트도 함께 기다린다.
+@Slf4j
+@Component
+public class OrderEventRelay {
+
+	private final OrderEventOutboxRepository orderEventOutboxRepository;
+
+	private final OrderEventDeadLetterRepository orderEventDeadLetterRepository;
+
+	private final OrderEventHandler orderEventHandler;
+
+	private final OrderOutboxProperties properties;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final Timer lagTimer;
+
+	private final DistributionSummary batchSizeSummary;
+
+	private final Counter retryCounter;
+
+	private final Counter deadLetterCounter;
+
+	public OrderEventRelay(
+		OrderEventOutboxRepository orderEventOutboxRepository,
+		OrderEventDeadLetterRepository orderEventDeadLetterRepository,
+		OrderEventHandler orderEventHandler,
+		OrderOutboxProperties properties,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry
+	) {
+		this.orderEventOutboxRepository = orderEventOutboxRepository;
+		this.orderEventDeadLetterRepository = orderEventDeadLetterRepository;
+		this.orderEventHandler = orderEventHandler;
+		this.properties = properties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.lagTimer = meterRegistry.timer("order.outbox.relay.lag");
+		this.batchSizeSummary = meterRegistry.summary("order.outbox.relay.batch.size");
+		this.retryCounter = meterRegistry.counter("order.outbox.relay.retries");
+		this.deadLetterCounter = meterRegistry.counter("order.outbox.relay.dead.letters");
+	}
+
+	@Scheduled(fixedDelayString = "${order.outbox.relay-interval-millis:200}")
+	public void relay() {
+		List<OrderEventOutbox> outboxes = claim();
+		if (outboxes.isEmpty()) {
+			return;
+		}
+
+		batchSizeSummary.record(outboxes.size());
+		LocalDateTime now = LocalDateTime.now();
+		List<CompletableFuture<Void>> handled = outboxes.stream()
+			.map(outbox -> {
+				lagTimer.record(Duration.between(outbox.getCreatedAt(), now));
+				return orderEventHandler.handle(outbox);
+			})
+			.toList();
+
+		CompletableFuture.allOf(handled.toArray(CompletableFuture[]::new))
+			.orTimeout(properties.relayTimeoutMillis(), TimeUnit.MILLISECONDS)
+			.exceptionally(e -> null)
+			.join();
+
+		complete(outboxes, handled);
+	}
+
+	private List<OrderEventOutbox> claim() {
+		return transactionTemplate.execute(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			List<OrderEventOutbox> outboxes = orderEventOutboxRepository.findClaimableForUpdate(
+				now,
+				PageRequest.of(0, properties.batchSize())
+			);
+			LocalDateTime claimedUntil = now.plus(Duration.ofMillis(properties.claimTimeoutMillis()));
+			outboxes.forEach(outbox -> outbox.claim(claimedUntil));
+
+			return outboxes;
+		});
+	}
+
+	// 아직 끝나지 않은 이벤트는 그대로 두고 claimed_until 이 지나면 다시 보낸다.
+	private void complete(
+		List<OrderEventOutbox> outboxes,
+		List<CompletableFuture<Void>> handled
+	) {
+		List<Long> deletedIds = new ArrayList<>();
+		List<Long> retryIds = new ArrayList<>();
+		List<OrderEventDeadLetter> deadLetters = new ArrayList<>();
+		for (int i = 0; i < outboxes.size(); i++) {
+			OrderEventOutbox outbox = outboxes.get(i);
+			CompletableFuture<Void> future = handled.get(i);
+			if (!future.isDone()) {
+				continue;
+			}
+			if (!future.isCompletedExceptionally()) {
+				deletedIds.add(outbox.getId());
+				continue;
+			}
+
+			Throwable cause = causeOf(future);
+			if (cause instanceof BusinessException || outbox.getAttempts() >= properties.maxAttempts()) {
+				deadLetters.add(new OrderEventDeadLetter(outbox, cause.toString()));
+				deletedIds.add(outbox.getId());
+				log.error("Order event moved to dead letters. id={}, orderId={}", outbox.getId(), outbox.getOrderId());
+			} else {
+				retryIds.add(outbox.getId());
+			}
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			if (!retryIds.isEmpty()) {
+				orderEventOutboxRepository.retryAt(
+					retryIds,
+					LocalDateTime.now().plus(Duration.ofMillis(properties.retryDelayMillis()))
+				);
+			}
+			if (!deadLetters.isEmpty()) {
+				orderEventDeadLetterRepository.saveAll(deadLetters);
+			}
+			if (!deletedIds.isEmpty()) {
+				orderEventOutboxRepository.deleteAllByIdInBatch(deletedIds);
+			}
+		});
+		retryCounter.increment(retryIds.size());
+		deadLetterCounter.increment(deadLetters.size());
+	}
+
+	private static Throwable causeOf(CompletableFuture<Void> future) {
+		try {
+			future.join();
+			return null;
+		} catch (CompletionException e) {
+			return e.getCause() != null ? e.getCause() : e;
+		}
+	}
+}
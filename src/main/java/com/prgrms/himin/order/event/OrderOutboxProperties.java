@@ -0,0 +1,14 @@
+package com.prgrms.himin.order.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "order.outbox")
+public record OrderOutboxProperties(
+	@DefaultValue("100") int batchSize,
+	@DefaultValue("10000") long relayTimeoutMillis,
+	@DefaultValue("60000") long claimTimeoutMillis,
+	@DefaultValue("5000") long retryDelayMillis,
+	@DefaultValue("5") int maxAttempts
+) {
+}
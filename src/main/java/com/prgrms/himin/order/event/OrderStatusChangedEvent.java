@@ -0,0 +1,44 @@
+package com.prgrms.himin.order.event;
+
+import java.time.LocalDateTime;
+
+import com.prgrms.himin.order.domain.Order;
+import com.prgrms.himin.order.domain.OrderStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class OrderStatusChangedEvent implements OrderEvent {
+
+	private final Long orderId;
+
+	private final Long shopId;
+
+	private final OrderStatus previousStatus;
+
+	private final LocalDateTime previousStatusChangedAt;
+
+	private final OrderStatus status;
+
+	private final LocalDateTime statusChangedAt;
+
+	private final LocalDateTime arrivalTime;
+
+	public static OrderStatusChangedEvent of(
+		Order order,
+		OrderStatus previousStatus,
+		LocalDateTime previousStatusChangedAt
+	) {
+		return new OrderStatusChangedEvent(
+			order.getOrderId(),
+			order.getShop().getShopId(),
+			previousStatus,
+			previousStatusChangedAt,
+			order.getStatus(),
+			order.getStatusChangedAt(),
+			order.getArrivalTime()
+		);
+	}
+}
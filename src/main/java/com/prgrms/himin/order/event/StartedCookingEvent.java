@@ -5,7 +5,7 @@ import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
-public class StartedCookingEvent {
+public class StartedCookingEvent implements OrderEvent {
 
 	private final Long shopId;
 
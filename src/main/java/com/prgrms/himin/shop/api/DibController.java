@@ -0,0 +1,50 @@
+package com.prgrms.himin.shop.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prgrms.himin.shop.application.DibService;
+import com.prgrms.himin.shop.dto.response.DibsResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/members/{memberId}/dibs")
+public class DibController {
+
+	private final DibService dibService;
+
+	@PostMapping("/{shopId}")
+	public ResponseEntity<Void> dib(
+		@PathVariable Long memberId,
+		@PathVariable Long shopId
+	) {
+		dibService.dib(memberId, shopId);
+
+		return ResponseEntity.status(HttpStatus.CREATED).build();
+	}
+
+	@DeleteMapping("/{shopId}")
+	public ResponseEntity<Void> undib(
+		@PathVariable Long memberId,
+		@PathVariable Long shopId
+	) {
+		dibService.undib(memberId, shopId);
+
+		return ResponseEntity.noContent().build();
+	}
+
+	@GetMapping
+	public ResponseEntity<DibsResponse> getDibs(@PathVariable Long memberId) {
+		DibsResponse response = dibService.getDibs(memberId);
+
+		return ResponseEntity.ok(response);
+	}
+}
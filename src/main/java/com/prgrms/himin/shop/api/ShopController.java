@@ -16,10 +16,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.prgrms.himin.shop.application.ShopService;
+import com.prgrms.himin.shop.domain.Category;
 import com.prgrms.himin.shop.domain.ShopSort;
 import com.prgrms.himin.shop.dto.request.ShopCreateRequest;
 import com.prgrms.himin.shop.dto.request.ShopSearchCondition;
 import com.prgrms.himin.shop.dto.request.ShopUpdateRequest;
+import com.prgrms.himin.shop.dto.response.AutocompleteResponse;
 import com.prgrms.himin.shop.dto.response.ShopResponse;
 import com.prgrms.himin.shop.dto.response.ShopsResponse;
 
@@ -50,7 +52,7 @@ public class ShopController {
 	public ResponseEntity<ShopsResponse> getShops(
 		@ModelAttribute ShopSearchCondition shopSearchCondition,
 		@RequestParam(required = false, defaultValue = "10") int size,
-		@RequestParam(required = false) Long cursor,
+		@RequestParam(required = false) String cursor,
 		@RequestParam(required = false) String sort
 	) {
 		ShopsResponse responses = shopService.getShops(
@@ -63,6 +65,26 @@ public class ShopController {
 		return ResponseEntity.ok(responses);
 	}
 
+	@GetMapping("/autocomplete")
+	public ResponseEntity<AutocompleteResponse> autocomplete(
+		@RequestParam String keyword,
+		@RequestParam(required = false, defaultValue = "10") int size
+	) {
+		AutocompleteResponse response = shopService.autocomplete(keyword, size);
+
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping("/popular")
+	public ResponseEntity<ShopsResponse> getPopularShops(
+		@RequestParam(required = false) Category category,
+		@RequestParam(required = false, defaultValue = "10") int size
+	) {
+		ShopsResponse responses = shopService.getPopularShops(category, size);
+
+		return ResponseEntity.ok(responses);
+	}
+
 	@PutMapping("/{shopId}")
 	public ResponseEntity<Void> updateShop(
 		@PathVariable Long shopId,
@@ -0,0 +1,80 @@
+package com.prgrms.himin.shop.application;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.prgrms.himin.global.error.exception.EntityNotFoundException;
+import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.global.error.exception.InvalidValueException;
+import com.prgrms.himin.member.domain.MemberRepository;
+import com.prgrms.himin.shop.domain.Dib;
+import com.prgrms.himin.shop.domain.DibRepository;
+import com.prgrms.himin.shop.domain.ShopRepository;
+import com.prgrms.himin.shop.dto.response.DibsResponse;
+import com.prgrms.himin.shop.event.DibChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DibService {
+
+	private final DibRepository dibRepository;
+
+	private final MemberRepository memberRepository;
+
+	private final ShopRepository shopRepository;
+
+	private final ShopDibs shopDibs;
+
+	private final ApplicationEventPublisher publisher;
+
+	@Transactional
+	public void dib(
+		Long memberId,
+		Long shopId
+	) {
+		validateMember(memberId);
+		if (!shopRepository.existsById(shopId)) {
+			throw new EntityNotFoundException(ErrorCode.SHOP_NOT_FOUND);
+		}
+		if (shopDibs.contains(memberId, shopId)) {
+			throw new InvalidValueException(ErrorCode.SHOP_DIB_DUPLICATED);
+		}
+
+		// 같은 요청이 동시에 들어오면 유니크 제약으로 한 번만 저장한다.
+		try {
+			dibRepository.saveAndFlush(new Dib(memberId, shopId));
+		} catch (DataIntegrityViolationException e) {
+			throw new InvalidValueException(ErrorCode.SHOP_DIB_DUPLICATED);
+		}
+		publisher.publishEvent(new DibChangedEvent(memberId, shopId, true));
+	}
+
+	@Transactional
+	public void undib(
+		Long memberId,
+		Long shopId
+	) {
+		validateMember(memberId);
+		if (dibRepository.deleteByMemberIdAndShopId(memberId, shopId) == 0) {
+			throw new EntityNotFoundException(ErrorCode.SHOP_DIB_NOT_FOUND);
+		}
+		publisher.publishEvent(new DibChangedEvent(memberId, shopId, false));
+	}
+
+	public DibsResponse getDibs(Long memberId) {
+		validateMember(memberId);
+
+		return new DibsResponse(memberId, shopDibs.findShopIds(memberId));
+	}
+
+	private void validateMember(Long memberId) {
+		if (!memberRepository.existsById(memberId)) {
+			throw new EntityNotFoundException(ErrorCode.MEMBER_NOT_FOUND);
+		}
+	}
+}
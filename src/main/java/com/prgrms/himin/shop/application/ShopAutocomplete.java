@@ -0,0 +1,171 @@
+package com.prgrms.himin.shop.application;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.prgrms.himin.menu.event.MenuChangedEvent;
+import com.prgrms.himin.order.domain.OrderRepository;
+import com.prgrms.himin.shop.domain.AutocompleteIndex;
+import com.prgrms.himin.shop.domain.ShopDocument;
+import com.prgrms.himin.shop.domain.ShopRepository;
+import com.prgrms.himin.shop.event.ShopChangedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 점수는 찜 수와 최근 주문량을 더한 값이다. 메뉴는 가게 찜 수와 그 메뉴의 최근 주문 수량을 더한다.
+@Slf4j
+@Component
+public class ShopAutocomplete {
+
+	private static final int LOAD_CHUNK_SIZE = 1000;
+
+	private final ShopRepository shopRepository;
+
+	private final OrderRepository orderRepository;
+
+	private final ShopAutocompleteProperties properties;
+
+	private final Set<Long> changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+
+	private volatile AutocompleteIndex index;
+
+	private volatile boolean rebuilding;
+
+	public ShopAutocomplete(
+		ShopRepository shopRepository,
+		OrderRepository orderRepository,
+		ShopAutocompleteProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.shopRepository = shopRepository;
+		this.orderRepository = orderRepository;
+		this.properties = properties;
+		this.index = new AutocompleteIndex(properties.maxSuggestions());
+		Gauge.builder("shop.autocomplete.size", this, autocomplete -> autocomplete.index.size())
+			.register(meterRegistry);
+	}
+
+	// 최근 주문량이 계속 바뀌므로 주기적으로 새 색인을 만들어 통째로 바꾼다.
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(
+		initialDelayString = "${shop.autocomplete.refresh-interval-millis:600000}",
+		fixedDelayString = "${shop.autocomplete.refresh-interval-millis:600000}"
+	)
+	public synchronized void rebuild() {
+		changedWhileRebuilding.clear();
+		rebuilding = true;
+		AutocompleteIndex rebuilt = new AutocompleteIndex(properties.maxSuggestions());
+
+		long afterShopId = 0L;
+		List<ShopDocument> documents;
+		do {
+			documents = shopRepository.findShopDocuments(afterShopId, LOAD_CHUNK_SIZE);
+			putAll(rebuilt, documents);
+			if (!documents.isEmpty()) {
+				afterShopId = documents.get(documents.size() - 1).shopId();
+			}
+		} while (documents.size() == LOAD_CHUNK_SIZE);
+
+		index = rebuilt;
+		rebuilding = false;
+
+		// 새 색인을 만드는 동안 바뀐 가게는 바꾼 뒤에 다시 반영한다.
+		for (Long shopId : changedWhileRebuilding) {
+			changedWhileRebuilding.remove(shopId);
+			reindex(shopId);
+		}
+		log.info("Shop autocomplete index built. shops={}", rebuilt.size());
+	}
+
+	@TransactionalEventListener(classes = ShopChangedEvent.class, fallbackExecution = true)
+	public void reindex(ShopChangedEvent event) {
+		reindex(event.getShopId());
+	}
+
+	@TransactionalEventListener(classes = MenuChangedEvent.class, fallbackExecution = true)
+	public void reindex(MenuChangedEvent event) {
+		reindex(event.getShopId());
+	}
+
+	public void reindex(Long shopId) {
+		if (rebuilding) {
+			changedWhileRebuilding.add(shopId);
+		}
+
+		AutocompleteIndex current = index;
+		shopRepository.findShopDocument(shopId)
+			.ifPresentOrElse(
+				document -> putAll(current, List.of(document)),
+				() -> current.remove(shopId)
+			);
+	}
+
+	public List<AutocompleteIndex.Suggestion> search(
+		String keyword,
+		int size
+	) {
+		return index.search(keyword, Math.min(size, properties.maxSuggestions()));
+	}
+
+	private void putAll(
+		AutocompleteIndex target,
+		List<ShopDocument> documents
+	) {
+		if (documents.isEmpty()) {
+			return;
+		}
+
+		List<Long> shopIds = documents.stream()
+			.map(ShopDocument::shopId)
+			.toList();
+		LocalDateTime since = LocalDateTime.now().minusDays(properties.recentOrderDays());
+		Map<Long, Long> shopOrders = orderRepository.countOrdersByShopIds(shopIds, since);
+		Map<Long, Long> menuOrders = orderRepository.countOrderedMenusByShopIds(shopIds, since);
+
+		for (ShopDocument document : documents) {
+			target.put(document.shopId(), toEntries(document, shopOrders, menuOrders));
+		}
+	}
+
+	private List<AutocompleteIndex.Entry> toEntries(
+		ShopDocument document,
+		Map<Long, Long> shopOrders,
+		Map<Long, Long> menuOrders
+	) {
+		List<AutocompleteIndex.Entry> entries = new ArrayList<>();
+		entries.add(new AutocompleteIndex.Entry(
+			new AutocompleteIndex.Suggestion(
+				AutocompleteIndex.SuggestionType.SHOP,
+				document.shopId(),
+				null,
+				document.name()
+			),
+			document.dibsCount() + shopOrders.getOrDefault(document.shopId(), 0L)
+		));
+		for (ShopDocument.MenuDocument menu : document.menus()) {
+			entries.add(new AutocompleteIndex.Entry(
+				new AutocompleteIndex.Suggestion(
+					AutocompleteIndex.SuggestionType.MENU,
+					document.shopId(),
+					menu.menuId(),
+					menu.name()
+				),
+				document.dibsCount() + menuOrders.getOrDefault(menu.menuId(), 0L)
+			));
+		}
+
+		return entries;
+	}
+}
@@ -0,0 +1,11 @@
+package com.prgrms.himin.shop.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "shop.autocomplete")
+public record ShopAutocompleteProperties(
+	@DefaultValue("10") int maxSuggestions,
+	@DefaultValue("7") int recentOrderDays
+) {
+}
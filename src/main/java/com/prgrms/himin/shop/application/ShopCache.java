@@ -0,0 +1,93 @@
+package com.prgrms.himin.shop.application;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prgrms.himin.menu.event.MenuChangedEvent;
+import com.prgrms.himin.shop.domain.ShopSort;
+import com.prgrms.himin.shop.dto.request.ShopSearchCondition;
+import com.prgrms.himin.shop.dto.response.ShopResponse;
+import com.prgrms.himin.shop.dto.response.ShopsResponse;
+import com.prgrms.himin.shop.event.ShopChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 가게 상세는 가게 id 로, 검색 결과는 정규화한 검색 조건으로 캐시한다.
+// 가게가 바뀌면 그 가게의 상세만 지우지만, 바뀐 가게가 어느 검색에 새로 들어갈지 모르므로 검색 결과는 모두 지운다.
+@Component
+public class ShopCache {
+
+	private final Cache<Long, ShopResponse> shops;
+
+	private final Cache<SearchKey, ShopsResponse> searches;
+
+	public ShopCache(
+		MeterRegistry meterRegistry,
+		@Value("${shop.cache.maximum-shops:10000}") long maximumShops,
+		@Value("${shop.cache.maximum-searches:10000}") long maximumSearches,
+		@Value("${shop.cache.search-ttl-millis:5000}") long searchTtlMillis
+	) {
+		this.shops = Caffeine.newBuilder()
+			.maximumSize(maximumShops)
+			.recordStats()
+			.build();
+		this.searches = Caffeine.newBuilder()
+			.maximumSize(maximumSearches)
+			.expireAfterWrite(Duration.ofMillis(searchTtlMillis))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, shops, "shop.detail");
+		CaffeineCacheMetrics.monitor(meterRegistry, searches, "shop.search");
+	}
+
+	// 적재 도중 무효화되면 적재가 끝난 뒤에 지워지므로 바뀌기 전 값이 남지 않는다.
+	public ShopResponse getShop(
+		Long shopId,
+		Supplier<ShopResponse> loader
+	) {
+		return shops.get(shopId, key -> loader.get());
+	}
+
+	public ShopsResponse getShops(
+		SearchKey key,
+		Supplier<ShopsResponse> loader
+	) {
+		return searches.get(key, searchKey -> loader.get());
+	}
+
+	@TransactionalEventListener(classes = ShopChangedEvent.class, fallbackExecution = true)
+	public void invalidate(ShopChangedEvent event) {
+		shops.invalidate(event.getShopId());
+		searches.invalidateAll();
+	}
+
+	// 메뉴는 가게 상세에 들어가지 않고, 메뉴 이름 검색 결과만 바뀐다.
+	@TransactionalEventListener(classes = MenuChangedEvent.class, fallbackExecution = true)
+	public void invalidate(MenuChangedEvent event) {
+		searches.invalidateAll();
+	}
+
+	public record SearchKey(
+		ShopSearchCondition condition,
+		int size,
+		String cursor,
+		ShopSort sort
+	) {
+
+		public static SearchKey of(
+			ShopSearchCondition condition,
+			int size,
+			String cursor,
+			ShopSort sort
+		) {
+			return new SearchKey(condition.normalized(), size, cursor, sort);
+		}
+	}
+}
@@ -0,0 +1,211 @@
+package com.prgrms.himin.shop.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.prgrms.himin.shop.domain.Category;
+import com.prgrms.himin.shop.domain.CategoryBitmapIndex;
+import com.prgrms.himin.shop.domain.Shop;
+import com.prgrms.himin.shop.domain.ShopLocation;
+import com.prgrms.himin.shop.domain.ShopRepository;
+import com.prgrms.himin.shop.domain.ShopSort;
+import com.prgrms.himin.shop.dto.request.ShopCursor;
+import com.prgrms.himin.shop.dto.request.ShopSearchCondition;
+import com.prgrms.himin.shop.dto.response.ShopResponse;
+import com.prgrms.himin.shop.event.ShopChangedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 카테고리별 가게 비트맵과, 카테고리 x 정렬마다 미리 만들어 둔 첫 페이지를 들고 있는다.
+// 가게가 바뀌면 바뀌기 전후 카테고리의 첫 페이지만 버리고, 다음 조회 때 다시 만든다.
+@Slf4j
+@Component
+public class ShopCategoryIndex {
+
+	public static final int FIRST_PAGE_SIZE = 10;
+
+	private static final int LOAD_CHUNK_SIZE = 1000;
+
+	private final ShopRepository shopRepository;
+
+	private final CategoryBitmapIndex index = new CategoryBitmapIndex();
+
+	private final Map<PageKey, FirstPage> firstPages = new ConcurrentHashMap<>();
+
+	// 첫 페이지를 버릴 때마다 올려서, 버리기 전에 읽기 시작한 페이지가 다시 들어가지 않게 한다.
+	private final AtomicLong generation = new AtomicLong();
+
+	public ShopCategoryIndex(
+		ShopRepository shopRepository,
+		MeterRegistry meterRegistry
+	) {
+		this.shopRepository = shopRepository;
+		for (Category category : Category.values()) {
+			Gauge.builder("shop.category.size", index, bitmap -> bitmap.count(category))
+				.tag("category", category.name())
+				.register(meterRegistry);
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		index.clear();
+		evictAll();
+
+		long afterShopId = 0L;
+		List<ShopLocation> locations;
+		do {
+			locations = shopRepository.findShopLocations(afterShopId, LOAD_CHUNK_SIZE);
+			locations.forEach(location -> index.put(location.shopId(), location.category()));
+			if (!locations.isEmpty()) {
+				afterShopId = locations.get(locations.size() - 1).shopId();
+			}
+		} while (locations.size() == LOAD_CHUNK_SIZE);
+
+		for (Category category : Category.values()) {
+			for (ShopSort sort : ShopSort.values()) {
+				findFirstPage(category, sort);
+			}
+		}
+
+		log.info("Shop category index built. pages={}", firstPages.size());
+	}
+
+	@TransactionalEventListener(classes = ShopChangedEvent.class, fallbackExecution = true)
+	public void reindex(ShopChangedEvent event) {
+		reindex(event.getShopId());
+	}
+
+	public void reindex(Long shopId) {
+		Optional<ShopLocation> location = shopRepository.findShopLocation(shopId);
+		if (location.isEmpty()) {
+			evict(index.remove(shopId));
+			return;
+		}
+
+		Category category = location.get().category();
+		evict(index.put(shopId, category));
+		evict(category);
+	}
+
+	// 인기도처럼 이벤트 없이 바뀌는 정렬 키가 갱신된 뒤에 부른다.
+	public void evictAll() {
+		generation.incrementAndGet();
+		firstPages.clear();
+	}
+
+	// 찜 수처럼 모아서 반영하는 정렬 키는 그 정렬의 페이지만 버린다.
+	public void evictSort(ShopSort sort) {
+		generation.incrementAndGet();
+		for (Category category : Category.values()) {
+			firstPages.remove(new PageKey(category, sort));
+		}
+	}
+
+	public int count(Category category) {
+		return index.count(category);
+	}
+
+	public long[] findShopIds(Category category) {
+		return index.findShopIds(category);
+	}
+
+	// 카테고리 조건이 있으면 후보 중 그 카테고리의 가게만 남긴다. 후보가 없으면 DB 의 카테고리 조건에 맡긴다.
+	public Optional<long[]> retainCategory(
+		ShopSearchCondition condition,
+		Optional<long[]> candidateShopIds
+	) {
+		if (condition.category() == null) {
+			return candidateShopIds;
+		}
+
+		return candidateShopIds.map(candidates -> index.retain(candidates, condition.category()));
+	}
+
+	public FirstPage findFirstPage(
+		Category category,
+		ShopSort sort
+	) {
+		PageKey key = new PageKey(category, sort);
+		FirstPage firstPage = firstPages.get(key);
+		if (firstPage != null) {
+			return firstPage;
+		}
+
+		// DB 조회는 맵의 잠금 밖에서 하고, 그동안 버려지지 않았을 때만 넣는다.
+		long loadGeneration = generation.get();
+		FirstPage loaded = loadFirstPage(key);
+		FirstPage cached = firstPages.compute(key, (k, current) -> {
+			if (current != null) {
+				return current;
+			}
+			return generation.get() == loadGeneration ? loaded : null;
+		});
+
+		return cached != null ? cached : loaded;
+	}
+
+	private FirstPage loadFirstPage(PageKey key) {
+		List<Long> shopIds = shopRepository.searchShopIds(
+			ShopSearchCondition.ofCategory(key.category()),
+			null,
+			FIRST_PAGE_SIZE,
+			null,
+			key.sort()
+		);
+		boolean isLast = shopIds.size() <= FIRST_PAGE_SIZE;
+		List<Shop> shops = shopRepository.findShopsInOrder(isLast ? shopIds : shopIds.subList(0, FIRST_PAGE_SIZE));
+		List<String> cursors = shops.stream()
+			.map(shop -> ShopCursor.from(key.sort(), shop).encode())
+			.toList();
+
+		return new FirstPage(ShopResponse.from(shops), cursors, isLast);
+	}
+
+	private void evict(Category category) {
+		if (category == null) {
+			return;
+		}
+
+		generation.incrementAndGet();
+		for (ShopSort sort : ShopSort.values()) {
+			firstPages.remove(new PageKey(category, sort));
+		}
+	}
+
+	private record PageKey(
+		Category category,
+		ShopSort sort
+	) {
+	}
+
+	// cursors 는 가게마다 그 가게 다음부터 읽는 커서라서, 더 작은 페이지도 앞에서 잘라 쓸 수 있다.
+	public record FirstPage(
+		List<ShopResponse> shopResponses,
+		List<String> cursors,
+		boolean isLast
+	) {
+
+		public FirstPage limit(int size) {
+			if (size >= shopResponses.size()) {
+				return this;
+			}
+
+			return new FirstPage(shopResponses.subList(0, size), cursors.subList(0, size), false);
+		}
+
+		public String nextCursor() {
+			return isLast || cursors.isEmpty() ? null : cursors.get(cursors.size() - 1);
+		}
+	}
+}
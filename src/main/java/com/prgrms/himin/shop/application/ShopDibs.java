@@ -0,0 +1,167 @@
+package com.prgrms.himin.shop.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prgrms.himin.shop.domain.DibCounter;
+import com.prgrms.himin.shop.domain.DibRepository;
+import com.prgrms.himin.shop.domain.ShopSort;
+import com.prgrms.himin.shop.event.DibChangedEvent;
+import com.prgrms.himin.shop.event.ShopDeletedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 회원별 찜한 가게와 가게별 찜 수를 메모리에서 읽는다.
+// 찜 행은 바로 저장하고, shops.dibs_count 는 모아 둔 증감분을 주기적으로 한 번에 반영한다.
+@Slf4j
+@Component
+public class ShopDibs {
+
+	private static final String STORED_COUNT_SQL = """
+		SELECT dibs_count
+		FROM shops
+		WHERE id = ?
+		""";
+
+	private static final String FLUSH_SQL = """
+		UPDATE shops
+		SET dibs_count = dibs_count + ?
+		WHERE id = ?
+		""";
+
+	private final DibRepository dibRepository;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ShopCategoryIndex shopCategoryIndex;
+
+	private final int flushBatchSize;
+
+	private final int maximumShops;
+
+	private final DibCounter counter = new DibCounter();
+
+	private final Cache<Long, NavigableSet<Long>> memberDibs;
+
+	public ShopDibs(
+		DibRepository dibRepository,
+		JdbcTemplate jdbcTemplate,
+		ShopCategoryIndex shopCategoryIndex,
+		MeterRegistry meterRegistry,
+		@Value("${shop.dibs.flush-batch-size:500}") int flushBatchSize,
+		@Value("${shop.dibs.maximum-members:100000}") long maximumMembers,
+		@Value("${shop.dibs.maximum-shops:100000}") int maximumShops
+	) {
+		this.dibRepository = dibRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.shopCategoryIndex = shopCategoryIndex;
+		this.flushBatchSize = flushBatchSize;
+		this.maximumShops = maximumShops;
+		this.memberDibs = Caffeine.newBuilder()
+			.maximumSize(maximumMembers)
+			.build();
+		Gauge.builder("shop.dibs.counters", counter, DibCounter::size)
+			.register(meterRegistry);
+	}
+
+	public boolean contains(
+		Long memberId,
+		Long shopId
+	) {
+		return dibsOf(memberId).contains(shopId);
+	}
+
+	public List<Long> findShopIds(Long memberId) {
+		return List.copyOf(dibsOf(memberId));
+	}
+
+	public long count(Long shopId) {
+		return counter.count(shopId, () -> storedCount(shopId));
+	}
+
+	// 아직 불러오지 않은 회원은 다음 조회 때 커밋된 찜 행에서 불러오므로 건드리지 않는다.
+	@TransactionalEventListener(classes = DibChangedEvent.class)
+	public void apply(DibChangedEvent event) {
+		memberDibs.asMap().computeIfPresent(event.getMemberId(), (memberId, shopIds) -> {
+			if (event.isDibbed()) {
+				shopIds.add(event.getShopId());
+			} else {
+				shopIds.remove(event.getShopId());
+			}
+			return shopIds;
+		});
+
+		counter.add(event.getShopId(), event.isDibbed() ? 1 : -1, () -> storedCount(event.getShopId()));
+	}
+
+	// 지워진 가게의 찜 행은 ShopService 가 지우고, 여기서는 불러 둔 회원 찜 목록과 찜 수에서 뺀다.
+	@TransactionalEventListener(classes = ShopDeletedEvent.class, fallbackExecution = true)
+	public void remove(ShopDeletedEvent event) {
+		memberDibs.asMap().values().forEach(shopIds -> shopIds.remove(event.getShopId()));
+		counter.remove(event.getShopId());
+	}
+
+	@PreDestroy
+	@Scheduled(
+		initialDelayString = "${shop.dibs.flush-interval-millis:1000}",
+		fixedDelayString = "${shop.dibs.flush-interval-millis:1000}"
+	)
+	public synchronized void flush() {
+		Map<Long, Long> deltas = counter.drain();
+		if (deltas.isEmpty()) {
+			counter.trim(maximumShops);
+			return;
+		}
+
+		List<Map.Entry<Long, Long>> updates = new ArrayList<>(deltas.entrySet());
+		int flushed = 0;
+		try {
+			for (; flushed < updates.size(); flushed += flushBatchSize) {
+				jdbcTemplate.batchUpdate(
+					FLUSH_SQL,
+					updates.subList(flushed, Math.min(flushed + flushBatchSize, updates.size())).stream()
+						.map(update -> new Object[] {update.getValue(), update.getKey()})
+						.toList()
+				);
+			}
+		} catch (DataAccessException e) {
+			Map<Long, Long> pending = new HashMap<>();
+			updates.subList(flushed, updates.size())
+				.forEach(update -> pending.put(update.getKey(), update.getValue()));
+			counter.restore(pending);
+			log.warn("Shop dibs flush failed. pending={}", pending.size(), e);
+		}
+
+		counter.trim(maximumShops);
+		if (flushed > 0) {
+			shopCategoryIndex.evictSort(ShopSort.DIBS_COUNT_DESC);
+		}
+	}
+
+	private NavigableSet<Long> dibsOf(Long memberId) {
+		return memberDibs.get(memberId, id -> new ConcurrentSkipListSet<>(dibRepository.findShopIdsByMemberId(id)));
+	}
+
+	private long storedCount(Long shopId) {
+		List<Long> storedCounts = jdbcTemplate.queryForList(STORED_COUNT_SQL, Long.class, shopId);
+
+		return storedCounts.isEmpty() || storedCounts.get(0) == null ? 0L : storedCounts.get(0);
+	}
+}
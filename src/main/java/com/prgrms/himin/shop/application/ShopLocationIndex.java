@@ -0,0 +1,96 @@
+package com.prgrms.himin.shop.application;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.prgrms.himin.shop.domain.GeoGridIndex;
+import com.prgrms.himin.shop.domain.ShopLocation;
+import com.prgrms.himin.shop.domain.ShopRepository;
+import com.prgrms.himin.shop.dto.request.ShopSearchCondition;
+import com.prgrms.himin.shop.event.ShopChangedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 영업 중이고 좌표가 있는 가게만 격자 색인에 담아 거리순 검색을 DB 없이 처리한다.
+@Slf4j
+@Component
+public class ShopLocationIndex {
+
+	private static final int LOAD_CHUNK_SIZE = 1000;
+
+	private final ShopRepository shopRepository;
+
+	private final GeoGridIndex index = new GeoGridIndex();
+
+	public ShopLocationIndex(
+		ShopRepository shopRepository,
+		MeterRegistry meterRegistry
+	) {
+		this.shopRepository = shopRepository;
+		Gauge.builder("shop.location-index.size", index, GeoGridIndex::size)
+			.register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		index.clear();
+
+		long afterShopId = 0L;
+		List<ShopLocation> locations;
+		do {
+			locations = shopRepository.findShopLocations(afterShopId, LOAD_CHUNK_SIZE);
+			locations.forEach(index::put);
+			if (!locations.isEmpty()) {
+				afterShopId = locations.get(locations.size() - 1).shopId();
+			}
+		} while (locations.size() == LOAD_CHUNK_SIZE);
+
+		log.info("Shop location index built. shops={}", index.size());
+	}
+
+	@TransactionalEventListener(classes = ShopChangedEvent.class, fallbackExecution = true)
+	public void reindex(ShopChangedEvent event) {
+		reindex(event.getShopId());
+	}
+
+	public void reindex(Long shopId) {
+		shopRepository.findShopLocation(shopId)
+			.ifPresentOrElse(index::put, () -> index.remove(shopId));
+	}
+
+	// 카테고리, 배달팁, 텍스트 색인 후보 조건은 거리 계산과 같은 순회에서 거른다.
+	public List<GeoGridIndex.Hit> findNearbyShops(
+		ShopSearchCondition condition,
+		long[] candidateShopIds,
+		int limit,
+		GeoGridIndex.Hit after
+	) {
+		double radiusMeters = condition.radius() != null ? condition.radius() : Double.POSITIVE_INFINITY;
+
+		return index.search(
+			condition.latitude(),
+			condition.longitude(),
+			radiusMeters,
+			limit,
+			after,
+			filterOf(condition, candidateShopIds)
+		);
+	}
+
+	private Predicate<ShopLocation> filterOf(
+		ShopSearchCondition condition,
+		long[] candidateShopIds
+	) {
+		return location -> (condition.category() == null || location.category() == condition.category())
+			&& (condition.deliveryTip() == null || location.deliveryTip() <= condition.deliveryTip())
+			&& (candidateShopIds == null || Arrays.binarySearch(candidateShopIds, location.shopId()) >= 0);
+	}
+}
@@ -0,0 +1,87 @@
+package com.prgrms.himin.shop.application;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.prgrms.himin.shop.domain.OpenHoursIndex;
+import com.prgrms.himin.shop.domain.ShopHours;
+import com.prgrms.himin.shop.domain.ShopRepository;
+import com.prgrms.himin.shop.dto.request.ShopSearchCondition;
+import com.prgrms.himin.shop.event.ShopChangedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 영업 시간과 상태는 가게 수정, 상태 변경 뒤의 ShopChangedEvent 로 반영한다.
+@Slf4j
+@Component
+public class ShopOpenHours {
+
+	private static final int LOAD_CHUNK_SIZE = 1000;
+
+	private final ShopRepository shopRepository;
+
+	private final OpenHoursIndex index = new OpenHoursIndex();
+
+	public ShopOpenHours(
+		ShopRepository shopRepository,
+		MeterRegistry meterRegistry
+	) {
+		this.shopRepository = shopRepository;
+		Gauge.builder("shop.open-hours.size", index, OpenHoursIndex::size)
+			.register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		index.clear();
+
+		long afterShopId = 0L;
+		List<ShopHours> hours;
+		do {
+			hours = shopRepository.findShopHours(afterShopId, LOAD_CHUNK_SIZE);
+			hours.forEach(index::put);
+			if (!hours.isEmpty()) {
+				afterShopId = hours.get(hours.size() - 1).shopId();
+			}
+		} while (hours.size() == LOAD_CHUNK_SIZE);
+
+		log.info("Shop open hours index built. shops={}", index.size());
+	}
+
+	@TransactionalEventListener(classes = ShopChangedEvent.class, fallbackExecution = true)
+	public void reindex(ShopChangedEvent event) {
+		reindex(event.getShopId());
+	}
+
+	public void reindex(Long shopId) {
+		shopRepository.findShopHours(shopId)
+			.ifPresentOrElse(index::put, () -> index.remove(shopId));
+	}
+
+	public int count(LocalTime openTime) {
+		return index.count(openTime);
+	}
+
+	// 영업 시각 조건이 없으면 후보를 그대로 돌려주고, 있으면 그 시각의 비트맵과 교집합을 돌려준다.
+	public Optional<long[]> retainOpen(
+		ShopSearchCondition condition,
+		Optional<long[]> candidateShopIds
+	) {
+		LocalTime openTime = condition.openTime();
+		if (openTime == null) {
+			return candidateShopIds;
+		}
+
+		return Optional.of(candidateShopIds
+			.map(candidates -> index.retainOpen(candidates, openTime))
+			.orElseGet(() -> index.findOpenShopIds(openTime)));
+	}
+}
@@ -0,0 +1,107 @@
+package com.prgrms.himin.shop.application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.prgrms.himin.menu.event.MenuChangedEvent;
+import com.prgrms.himin.shop.domain.Shop;
+import com.prgrms.himin.shop.domain.ShopSort;
+
+import lombok.extern.slf4j.Slf4j;
+
+// ShopRanking 의 감쇠된 주문 점수를 인기순 정렬 키 컬럼과 메뉴 많이 팔린 표시에 옮겨 적는다.
+// 사장님이 정하는 메뉴 인기 표시(popularity)는 건드리지 않는다.
+@Slf4j
+@Component
+public class ShopPopularityJob {
+
+	private static final String SHOP_POPULARITY_SQL = """
+		UPDATE shops
+		SET popularity = ?
+		WHERE id = ?
+		""";
+
+	private static final String MENU_BEST_SELLER_SQL = """
+		UPDATE menus
+		SET best_seller = CASE WHEN id IN (%s) THEN TRUE ELSE FALSE END
+		WHERE shop_id = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ShopRanking shopRanking;
+
+	private final ShopCategoryIndex shopCategoryIndex;
+
+	private final ApplicationEventPublisher publisher;
+
+	private final int chunkSize;
+
+	private final int menuTopK;
+
+	private final Map<Long, List<Long>> flaggedMenus = new ConcurrentHashMap<>();
+
+	public ShopPopularityJob(
+		JdbcTemplate jdbcTemplate,
+		ShopRanking shopRanking,
+		ShopCategoryIndex shopCategoryIndex,
+		ApplicationEventPublisher publisher,
+		@Value("${shop.popularity.chunk-size:1000}") int chunkSize,
+		@Value("${shop.ranking.menu-top-k:3}") int menuTopK
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.shopRanking = shopRanking;
+		this.shopCategoryIndex = shopCategoryIndex;
+		this.publisher = publisher;
+		this.chunkSize = chunkSize;
+		this.menuTopK = menuTopK;
+	}
+
+	@Scheduled(
+		initialDelayString = "${shop.popularity.refresh-interval-millis:600000}",
+		fixedDelayString = "${shop.popularity.refresh-interval-millis:600000}"
+	)
+	public void refresh() {
+		List<Object[]> updates = new ArrayList<>();
+		shopRanking.shopScores().forEach((shopId, score) -> updates.add(new Object[] {Math.round(score * Shop.POPULARITY_SCALE), shopId}));
+
+		// 청크마다 따로 커밋해서 락 범위를 작게 유지한다.
+		for (int from = 0; from < updates.size(); from += chunkSize) {
+			jdbcTemplate.batchUpdate(SHOP_POPULARITY_SQL, updates.subList(from, Math.min(from + chunkSize, updates.size())));
+		}
+		shopCategoryIndex.evictSort(ShopSort.POPULARITY);
+
+		int flaggedShops = 0;
+		for (Map.Entry<Long, List<Long>> topMenus : shopRanking.drainTopMenus(menuTopK).entrySet()) {
+			Long shopId = topMenus.getKey();
+			List<Long> menuIds = topMenus.getValue();
+			if (menuIds.isEmpty() || menuIds.equals(flaggedMenus.put(shopId, menuIds))) {
+				continue;
+			}
+			flagMenus(shopId, menuIds);
+			publisher.publishEvent(new MenuChangedEvent(shopId));
+			flaggedShops++;
+		}
+
+		log.info("Shop popularity refreshed. shops={}, menuFlaggedShops={}", updates.size(), flaggedShops);
+	}
+
+	private void flagMenus(
+		Long shopId,
+		List<Long> menuIds
+	) {
+		String placeholders = String.join(", ", Collections.nCopies(menuIds.size(), "?"));
+		List<Object> args = new ArrayList<>(menuIds);
+		args.add(shopId);
+		jdbcTemplate.update(MENU_BEST_SELLER_SQL.formatted(placeholders), args.toArray());
+	}
+}
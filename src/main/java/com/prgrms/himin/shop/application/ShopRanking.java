@@ -0,0 +1,113 @@
+package com.prgrms.himin.shop.application;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.prgrms.himin.order.event.OrderCreatedEvent;
+import com.prgrms.himin.shop.domain.Category;
+import com.prgrms.himin.shop.domain.PopularityRanking;
+import com.prgrms.himin.shop.domain.Shop;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 주문 생성 이벤트만으로 가게, 메뉴 인기 점수를 쌓는다. orders 테이블을 집계하지 않는다.
+// 재시작하면 ShopPopularityJob 이 저장해 둔 가게 점수에서 다시 시작한다.
+@Slf4j
+@Component
+public class ShopRanking {
+
+	private static final int LOAD_CHUNK_SIZE = 1000;
+
+	private static final String RESTORE_SQL = """
+		SELECT id, category, popularity
+		FROM shops
+		WHERE id > ? AND popularity > 0
+		ORDER BY id
+		LIMIT ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final PopularityRanking ranking;
+
+	private final int topK;
+
+	public ShopRanking(
+		JdbcTemplate jdbcTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${shop.ranking.half-life-hours:72}") long halfLifeHours,
+		@Value("${shop.ranking.top-k:100}") int topK
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.topK = topK;
+		this.ranking = new PopularityRanking(Duration.ofHours(halfLifeHours).toMillis(), topK, System.currentTimeMillis());
+		Gauge.builder("shop.ranking.size", ranking, PopularityRanking::size)
+			.register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		ranking.clear();
+
+		long now = System.currentTimeMillis();
+		long afterShopId = 0L;
+		List<Map<String, Object>> rows;
+		do {
+			rows = jdbcTemplate.queryForList(RESTORE_SQL, afterShopId, LOAD_CHUNK_SIZE);
+			for (Map<String, Object> row : rows) {
+				afterShopId = ((Number)row.get("id")).longValue();
+				ranking.restore(
+					afterShopId,
+					Category.valueOf((String)row.get("category")),
+					((Number)row.get("popularity")).doubleValue() / Shop.POPULARITY_SCALE,
+					now
+				);
+			}
+		} while (rows.size() == LOAD_CHUNK_SIZE);
+
+		log.info("Shop ranking restored. shops={}", ranking.size());
+	}
+
+	@TransactionalEventListener(classes = OrderCreatedEvent.class)
+	public void record(OrderCreatedEvent event) {
+		ranking.record(
+			event.getShopId(),
+			event.getCategory(),
+			event.getMenuQuantities(),
+			event.getOrderTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+		);
+	}
+
+	public List<Long> findTopShopIds(
+		Category category,
+		int size
+	) {
+		return ranking.top(category, size, System.currentTimeMillis()).stream()
+			.map(PopularityRanking.RankedShop::shopId)
+			.toList();
+	}
+
+	// 카테고리마다 topK 개의 가게만 순위에 남는다.
+	public int maxSize() {
+		return topK;
+	}
+
+	public Map<Long, Double> shopScores() {
+		return ranking.shopScores(System.currentTimeMillis());
+	}
+
+	public Map<Long, List<Long>> drainTopMenus(int size) {
+		return ranking.drainTopMenus(size);
+	}
+}
@@ -1,6 +1,9 @@
 package com.prgrms.himin.shop.application;
 
+import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -8,18 +11,26 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.global.error.exception.InvalidValueException;
+import com.prgrms.himin.menu.event.MenuChangedEvent;
+import com.prgrms.himin.order.domain.OrderValidator;
 import com.prgrms.himin.order.event.CookingFinishedEvent;
 import com.prgrms.himin.order.event.StartedCookingEvent;
 import com.prgrms.himin.shop.domain.Category;
+import com.prgrms.himin.shop.domain.DibRepository;
+import com.prgrms.himin.shop.domain.GeoGridIndex;
 import com.prgrms.himin.shop.domain.Shop;
 import com.prgrms.himin.shop.domain.ShopRepository;
 import com.prgrms.himin.shop.domain.ShopSort;
 import com.prgrms.himin.shop.domain.ShopStatus;
 import com.prgrms.himin.shop.dto.request.ShopCreateRequest;
+import com.prgrms.himin.shop.dto.request.ShopCursor;
 import com.prgrms.himin.shop.dto.request.ShopSearchCondition;
 import com.prgrms.himin.shop.dto.request.ShopUpdateRequest;
+import com.prgrms.himin.shop.dto.response.AutocompleteResponse;
 import com.prgrms.himin.shop.dto.response.ShopResponse;
 import com.prgrms.himin.shop.dto.response.ShopsResponse;
+import com.prgrms.himin.shop.event.ShopDeletedEvent;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,10 +39,35 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class ShopService {
 
+	private static final int MAX_CANDIDATE_SHOP_IDS = 1000;
+
+	// 영업, 카테고리 비트맵을 펼쳐 교집합을 구할 때 펼치는 쪽의 최대 크기
+	private static final int MAX_EXPANDED_SHOP_IDS = 20000;
+
 	private final ShopRepository shopRepository;
 
+	private final DibRepository dibRepository;
+
 	private final ApplicationEventPublisher publisher;
 
+	private final OrderValidator orderValidator;
+
+	private final ShopTextIndex shopTextIndex;
+
+	private final ShopAutocomplete shopAutocomplete;
+
+	private final ShopLocationIndex shopLocationIndex;
+
+	private final ShopOpenHours shopOpenHours;
+
+	private final ShopCategoryIndex shopCategoryIndex;
+
+	private final ShopDibs shopDibs;
+
+	private final ShopCache shopCache;
+
+	private final ShopRanking shopRanking;
+
 	@Transactional
 	public ShopResponse createShop(ShopCreateRequest request) {
 		Shop shop = request.toEntity();
@@ -40,53 +76,228 @@ public class ShopService {
 		return ShopResponse.from(savedShop);
 	}
 
+	// 찜 수는 캐시하지 않고 읽을 때마다 메모리에서 센 값으로 채운다.
 	public ShopResponse getShop(Long shopId) {
-		Shop shop = shopRepository.findById(shopId)
-			.orElseThrow(
-				() -> new EntityNotFoundException(ErrorCode.SHOP_NOT_FOUND)
-			);
+		ShopResponse response = shopCache.getShop(shopId, () -> {
+			Shop shop = shopRepository.findById(shopId)
+				.orElseThrow(
+					() -> new EntityNotFoundException(ErrorCode.SHOP_NOT_FOUND)
+				);
+
+			return ShopResponse.from(shop);
+		});
 
-		return ShopResponse.from(shop);
+		return response.withDibsCount(shopDibs.count(shopId));
 	}
 
 	public ShopsResponse getShops(
 		ShopSearchCondition shopSearchCondition,
 		int size,
-		Long cursor,
+		String cursor,
 		ShopSort sort
 	) {
-		List<Shop> shops = shopRepository.searchShops(
-			shopSearchCondition,
+		// 카테고리 첫 페이지는 FIRST_PAGE_SIZE 이하의 크기면 미리 만들어 둔 페이지를 잘라서 준다.
+		if (cursor == null && size > 0 && size <= ShopCategoryIndex.FIRST_PAGE_SIZE
+			&& shopSearchCondition.isCategoryOnly()) {
+			return getCategoryFirstPage(shopSearchCondition.category(), size, ShopSort.orDefault(sort), sort);
+		}
+
+		ShopCache.SearchKey key = ShopCache.SearchKey.of(shopSearchCondition, size, cursor, sort);
+
+		return shopCache.getShops(key, () -> searchShops(key.condition(), size, cursor, sort));
+	}
+
+	private ShopsResponse searchShops(
+		ShopSearchCondition condition,
+		int size,
+		String cursor,
+		ShopSort sort
+	) {
+		ShopSearchCondition shopSearchCondition = condition.fixOpenTime();
+		if (shopSearchCondition.hasLocation()) {
+			return getNearbyShops(shopSearchCondition, size, cursor, sort);
+		}
+
+		ShopSort keysetSort = ShopSort.orDefault(sort);
+		ShopCursor shopCursor = ShopCursor.decode(cursor, keysetSort.getName());
+		// 후보가 너무 많으면 IN 목록 대신 DB 의 텍스트 조건으로 거른다. 흔한 검색어는 정렬 순서대로 읽다가 금방 한 페이지를 채운다.
+		Optional<long[]> textCandidateShopIds = shopTextIndex.findCandidateShopIds(shopSearchCondition)
+			.filter(candidates -> candidates.length <= MAX_CANDIDATE_SHOP_IDS);
+		Optional<long[]> candidateShopIds = textCandidateShopIds.isPresent()
+			? retainIndexed(shopSearchCondition, textCandidateShopIds)
+			: findOpenCandidateShopIds(shopSearchCondition);
+		if (candidateShopIds.isPresent() && candidateShopIds.get().length == 0) {
+			return new ShopsResponse(List.of(), size, null, sort, true);
+		}
+
+		List<Long> shopIds = shopRepository.searchShopIds(
+			textCandidateShopIds.isPresent() ? shopSearchCondition.withoutText() : shopSearchCondition,
+			candidateShopIds.map(candidates -> Arrays.stream(candidates).boxed().toList()).orElse(null),
 			size,
-			cursor,
-			sort
+			shopCursor,
+			keysetSort
 		);
+		boolean isLast = isLast(shopIds, size);
+		List<Shop> shops = shopRepository.findShopsInOrder(isLast ? shopIds : shopIds.subList(0, size));
 
 		return new ShopsResponse(
 			ShopResponse.from(shops),
 			size,
-			getNextCursor(shops),
+			getNextCursor(shops, keysetSort, isLast),
 			sort,
-			isLast(shops, size)
+			isLast
 		);
 	}
 
-	private Long getNextCursor(List<Shop> shops) {
-		if (shops.isEmpty()) {
+	// 텍스트 후보가 없으면 영업 비트맵과 카테고리 비트맵 중 작은 쪽을 펼쳐 다른 쪽으로 거른다.
+	// 작은 쪽도 너무 크거나 거른 결과가 IN 목록에 넣기에 너무 많으면, 영업 시각과 카테고리는 SQL 조건으로 거른다.
+	private Optional<long[]> findOpenCandidateShopIds(ShopSearchCondition shopSearchCondition) {
+		LocalTime openTime = shopSearchCondition.openTime();
+		if (openTime == null) {
+			return Optional.empty();
+		}
+
+		Category category = shopSearchCondition.category();
+		int openCount = shopOpenHours.count(openTime);
+		int categoryCount = category != null ? shopCategoryIndex.count(category) : Integer.MAX_VALUE;
+		if (Math.min(openCount, categoryCount) > MAX_EXPANDED_SHOP_IDS) {
+			return Optional.empty();
+		}
+
+		Optional<long[]> candidateShopIds = categoryCount < openCount
+			? retainIndexed(shopSearchCondition, Optional.of(shopCategoryIndex.findShopIds(category)))
+			: retainIndexed(shopSearchCondition, Optional.empty());
+
+		return candidateShopIds.filter(candidates -> candidates.length <= MAX_CANDIDATE_SHOP_IDS);
+	}
+
+	private Optional<long[]> retainIndexed(
+		ShopSearchCondition shopSearchCondition,
+		Optional<long[]> candidateShopIds
+	) {
+		return shopCategoryIndex.retainCategory(
+			shopSearchCondition,
+			shopOpenHours.retainOpen(shopSearchCondition, candidateShopIds)
+		);
+	}
+
+	// 카테고리 탭의 첫 페이지는 미리 만들어 둔 페이지를 DB 조회 없이 돌려준다.
+	private ShopsResponse getCategoryFirstPage(
+		Category category,
+		int size,
+		ShopSort keysetSort,
+		ShopSort sort
+	) {
+		ShopCategoryIndex.FirstPage firstPage = shopCategoryIndex.findFirstPage(category, keysetSort).limit(size);
+
+		return new ShopsResponse(
+			firstPage.shopResponses(),
+			size,
+			firstPage.nextCursor(),
+			sort,
+			firstPage.isLast()
+		);
+	}
+
+	// 위치 조건이 있으면 거리순으로만 정렬한다.
+	private ShopsResponse getNearbyShops(
+		ShopSearchCondition shopSearchCondition,
+		int size,
+		String cursor,
+		ShopSort sort
+	) {
+		if (sort != null) {
+			throw new InvalidValueException(ErrorCode.SHOP_SORT_BAD_REQUEST);
+		}
+
+		ShopCursor shopCursor = ShopCursor.decode(cursor, ShopCursor.DISTANCE);
+		Optional<long[]> candidateShopIds = retainIndexed(
+			shopSearchCondition,
+			shopTextIndex.findCandidateShopIds(shopSearchCondition)
+		);
+		if (candidateShopIds.isPresent() && candidateShopIds.get().length == 0) {
+			return new ShopsResponse(List.of(), size, null, null, true);
+		}
+
+		List<GeoGridIndex.Hit> hits = shopLocationIndex.findNearbyShops(
+			shopSearchCondition,
+			candidateShopIds.orElse(null),
+			size + 1,
+			shopCursor != null ? new GeoGridIndex.Hit(shopCursor.shopId(), shopCursor.sortKey()) : null
+		);
+		boolean isLast = hits.size() <= size;
+		List<GeoGridIndex.Hit> page = isLast ? hits : hits.subList(0, size);
+		List<Shop> shops = shopRepository.findShopsInOrder(page.stream()
+			.map(GeoGridIndex.Hit::shopId)
+			.toList());
+
+		return new ShopsResponse(
+			ShopResponse.from(shops),
+			size,
+			isLast ? null : getNearbyNextCursor(page),
+			null,
+			isLast
+		);
+	}
+
+	public AutocompleteResponse autocomplete(
+		String keyword,
+		int size
+	) {
+		return AutocompleteResponse.from(shopAutocomplete.search(keyword, size));
+	}
+
+	// 최근 주문량 순위는 메모리의 top-K 에서 바로 꺼낸다. 카테고리가 없으면 전체 순위다.
+	public ShopsResponse getPopularShops(
+		Category category,
+		int size
+	) {
+		// 순위는 카테고리마다 최대 maxSize 개라서 그보다 큰 크기는 받지 않는다. 닫은 가게는 순위에 남아 있어도 뺀다.
+		if (size <= 0 || size > shopRanking.maxSize()) {
+			throw new InvalidValueException(ErrorCode.SHOP_POPULAR_SIZE_BAD_REQUEST);
+		}
+
+		List<Shop> shops = shopRepository.findShopsInOrder(shopRanking.findTopShopIds(category, shopRanking.maxSize()))
+			.stream()
+			.filter(shop -> shop.getStatus() == ShopStatus.OPEN)
+			.limit(size)
+			.toList();
+
+		return new ShopsResponse(
+			ShopResponse.from(shops),
+			size,
+			null,
+			ShopSort.POPULARITY,
+			true
+		);
+	}
+
+	private String getNextCursor(
+		List<Shop> shops,
+		ShopSort sort,
+		boolean isLast
+	) {
+		if (isLast || shops.isEmpty()) {
 			return null;
 		}
 
 		int lastIndex = getLastIndex(shops);
 
-		return shops.get(lastIndex).getShopId();
+		return ShopCursor.from(sort, shops.get(lastIndex)).encode();
+	}
+
+	private String getNearbyNextCursor(List<GeoGridIndex.Hit> hits) {
+		GeoGridIndex.Hit last = hits.get(hits.size() - 1);
+
+		return new ShopCursor(ShopCursor.DISTANCE, last.distanceMeters(), last.shopId()).encode();
 	}
 
 	private int getLastIndex(List<Shop> shops) {
 		return shops.size() - 1;
 	}
 
-	private boolean isLast(List<Shop> shops, int size) {
-		if (shops.size() <= size) {
+	private boolean isLast(List<Long> shopIds, int size) {
+		if (shopIds.size() <= size) {
 			return true;
 		}
 
@@ -134,7 +345,10 @@ public class ShopService {
 			throw new EntityNotFoundException(ErrorCode.SHOP_NOT_FOUND);
 		}
 
+		dibRepository.deleteByShopId(shopId);
 		shopRepository.deleteById(shopId);
+		publisher.publishEvent(new MenuChangedEvent(shopId));
+		publisher.publishEvent(new ShopDeletedEvent(shopId));
 	}
 
 	@Transactional
@@ -142,6 +356,8 @@ public class ShopService {
 		Long shopId,
 		Long orderId
 	) {
+		orderValidator.validateShopOrder(shopId, orderId);
+
 		publisher.publishEvent(new StartedCookingEvent(shopId, orderId));
 	}
 
@@ -150,6 +366,8 @@ public class ShopService {
 		Long shopId,
 		Long orderId
 	) {
+		orderValidator.validateShopOrder(shopId, orderId);
+
 		publisher.publishEvent(new CookingFinishedEvent(shopId, orderId));
 	}
 }
@@ -0,0 +1,144 @@
+package com.prgrms.himin.shop.application;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.prgrms.himin.menu.event.MenuChangedEvent;
+import com.prgrms.himin.shop.domain.NGramIndex;
+import com.prgrms.himin.shop.domain.ShopDocument;
+import com.prgrms.himin.shop.domain.ShopRepository;
+import com.prgrms.himin.shop.dto.request.ShopSearchCondition;
+import com.prgrms.himin.shop.event.ShopChangedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 가게 이름, 주소, 메뉴 이름 검색을 LIKE '%x%' 대신 메모리 역색인으로 처리한다.
+@Slf4j
+@Component
+public class ShopTextIndex {
+
+	private static final int LOAD_CHUNK_SIZE = 1000;
+
+	private final ShopRepository shopRepository;
+
+	private final NGramIndex nameIndex = new NGramIndex();
+
+	private final NGramIndex addressIndex = new NGramIndex();
+
+	private final NGramIndex menuNameIndex = new NGramIndex();
+
+	private volatile boolean ready;
+
+	public ShopTextIndex(
+		ShopRepository shopRepository,
+		MeterRegistry meterRegistry
+	) {
+		this.shopRepository = shopRepository;
+		Gauge.builder("shop.text-index.size", nameIndex, NGramIndex::size)
+			.register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		nameIndex.clear();
+		addressIndex.clear();
+		menuNameIndex.clear();
+
+		long afterShopId = 0L;
+		List<ShopDocument> documents;
+		do {
+			documents = shopRepository.findShopDocuments(afterShopId, LOAD_CHUNK_SIZE);
+			documents.forEach(this::put);
+			if (!documents.isEmpty()) {
+				afterShopId = documents.get(documents.size() - 1).shopId();
+			}
+		} while (documents.size() == LOAD_CHUNK_SIZE);
+
+		ready = true;
+		log.info("Shop text index built. shops={}", nameIndex.size());
+	}
+
+	@TransactionalEventListener(classes = ShopChangedEvent.class, fallbackExecution = true)
+	public void reindex(ShopChangedEvent event) {
+		reindex(event.getShopId());
+	}
+
+	@TransactionalEventListener(classes = MenuChangedEvent.class, fallbackExecution = true)
+	public void reindex(MenuChangedEvent event) {
+		reindex(event.getShopId());
+	}
+
+	public void reindex(Long shopId) {
+		shopRepository.findShopDocument(shopId)
+			.ifPresentOrElse(this::put, () -> remove(shopId));
+	}
+
+	// 텍스트 조건이 없으면 비어 있는 Optional 을, 있으면 모든 조건을 만족하는 가게 id 를 오름차순으로 돌려준다.
+	// 색인을 처음 만드는 중에는 비어 있는 Optional 을 돌려줘서 DB 조건으로 검색하게 한다.
+	public Optional<long[]> findCandidateShopIds(ShopSearchCondition condition) {
+		if (!ready) {
+			return Optional.empty();
+		}
+
+		long[] candidates = null;
+		candidates = intersect(candidates, search(nameIndex, condition.name()));
+		candidates = intersect(candidates, search(addressIndex, condition.address()));
+		candidates = intersect(candidates, search(menuNameIndex, condition.menuName()));
+
+		return Optional.ofNullable(candidates);
+	}
+
+	private void put(ShopDocument document) {
+		nameIndex.put(document.shopId(), List.of(document.name()));
+		addressIndex.put(document.shopId(), List.of(document.address()));
+		menuNameIndex.put(document.shopId(), document.menuNames());
+	}
+
+	private void remove(Long shopId) {
+		nameIndex.remove(shopId);
+		addressIndex.remove(shopId);
+		menuNameIndex.remove(shopId);
+	}
+
+	private long[] search(
+		NGramIndex index,
+		String query
+	) {
+		return query != null ? index.search(query) : null;
+	}
+
+	private long[] intersect(
+		long[] left,
+		long[] right
+	) {
+		if (left == null || right == null) {
+			return left == null ? right : left;
+		}
+
+		long[] result = new long[Math.min(left.length, right.length)];
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while (i < left.length && j < right.length) {
+			if (left[i] < right[j]) {
+				i++;
+			} else if (left[i] > right[j]) {
+				j++;
+			} else {
+				result[size++] = left[i];
+				i++;
+				j++;
+			}
+		}
+
+		return Arrays.copyOf(result, size);
+	}
+}
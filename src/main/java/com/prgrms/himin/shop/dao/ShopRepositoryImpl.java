@@ -3,20 +3,33 @@ package com.prgrms.himin.shop.dao;
 import static com.prgrms.himin.menu.domain.QMenu.*;
 import static com.prgrms.himin.shop.domain.QShop.*;
 
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
 
 import com.prgrms.himin.shop.domain.Category;
 import com.prgrms.himin.shop.domain.Shop;
+import com.prgrms.himin.shop.domain.ShopDocument;
+import com.prgrms.himin.shop.domain.ShopHours;
+import com.prgrms.himin.shop.domain.ShopLocation;
 import com.prgrms.himin.shop.domain.ShopRepositoryCustom;
 import com.prgrms.himin.shop.domain.ShopSort;
+import com.prgrms.himin.shop.domain.ShopStatus;
+import com.prgrms.himin.shop.dto.request.ShopCursor;
 import com.prgrms.himin.shop.dto.request.ShopSearchCondition;
-import com.querydsl.core.types.NullExpression;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -27,63 +40,238 @@ public class ShopRepositoryImpl implements ShopRepositoryCustom {
 
 	private final JPAQueryFactory jpaQueryFactory;
 
+	// 가게 id 한 페이지만 먼저 고르고, 가게는 그 id 로 따로 불러온다.
+	// 텍스트 조건은 보통 ShopTextIndex 가 shopIds 로 좁혀서 넘겨주고, 색인이 준비되기 전이나 후보가 너무 많을 때만 DB 조건으로 건다.
+	// 후보 id 는 영업 비트맵으로 이미 걸러져 있으므로, 영업 시각은 후보가 너무 많아 넘겨받지 못했을 때만 SQL 로 건다.
 	@Override
-	public List<Shop> searchShops(
+	public List<Long> searchShopIds(
 		ShopSearchCondition shopSearchCondition,
+		List<Long> shopIds,
 		int size,
-		Long cursor,
+		ShopCursor cursor,
 		ShopSort sort
 	) {
 		return jpaQueryFactory
-			.selectFrom(shop)
+			.select(shop.shopId)
+			.from(shop)
 			.where(
+				inShopIds(shopIds),
 				containsName(shopSearchCondition.name()),
 				equalCategory(shopSearchCondition.category()),
 				containsAddress(shopSearchCondition.address()),
 				lowOrEqualDeliveryTip(shopSearchCondition.deliveryTip()),
-				greaterThanCursor(cursor),
-				containsMenuName(shopSearchCondition.menuName())
+				existsMenuName(shopSearchCondition.menuName()),
+				shopIds == null ? openAt(shopSearchCondition.openTime()) : null,
+				afterCursor(cursor, sort)
 			)
-			.leftJoin(shop.menus, menu).fetchJoin()
-			.orderBy(orderBySort(sort))
+			.orderBy(sort.getOrderSpecifiers())
 			.limit(size + 1)
 			.fetch();
 	}
 
-	private BooleanExpression containsName(String name) {
-		return name != null ? shop.name.contains(name) : null;
+	@Override
+	public List<Shop> findShopsInOrder(List<Long> shopIds) {
+		if (shopIds.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Shop> shops = jpaQueryFactory
+			.selectFrom(shop)
+			.where(shop.shopId.in(shopIds))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(Shop::getShopId, Function.identity()));
+
+		return shopIds.stream()
+			.map(shops::get)
+			.filter(Objects::nonNull)
+			.toList();
 	}
 
-	private BooleanExpression equalCategory(Category category) {
-		return category != null ? shop.category.eq(category) : null;
+	@Override
+	public List<ShopDocument> findShopDocuments(
+		Long afterShopId,
+		int size
+	) {
+		List<Tuple> shopRows = jpaQueryFactory
+			.select(shop.shopId, shop.name, shop.address, shop.dibsCount)
+			.from(shop)
+			.where(shop.shopId.gt(afterShopId))
+			.orderBy(shop.shopId.asc())
+			.limit(size)
+			.fetch();
+
+		return toShopDocuments(shopRows);
+	}
+
+	@Override
+	public Optional<ShopDocument> findShopDocument(Long shopId) {
+		List<Tuple> shopRows = jpaQueryFactory
+			.select(shop.shopId, shop.name, shop.address, shop.dibsCount)
+			.from(shop)
+			.where(shop.shopId.eq(shopId))
+			.fetch();
+
+		return toShopDocuments(shopRows).stream()
+			.findFirst();
+	}
+
+	@Override
+	public List<ShopLocation> findShopLocations(
+		Long afterShopId,
+		int size
+	) {
+		return jpaQueryFactory
+			.select(shopLocation())
+			.from(shop)
+			.where(shop.shopId.gt(afterShopId))
+			.orderBy(shop.shopId.asc())
+			.limit(size)
+			.fetch();
+	}
+
+	@Override
+	public Optional<ShopLocation> findShopLocation(Long shopId) {
+		return Optional.ofNullable(jpaQueryFactory
+			.select(shopLocation())
+			.from(shop)
+			.where(shop.shopId.eq(shopId))
+			.fetchOne());
+	}
+
+	@Override
+	public List<ShopHours> findShopHours(
+		Long afterShopId,
+		int size
+	) {
+		return jpaQueryFactory
+			.select(shopHours())
+			.from(shop)
+			.where(shop.shopId.gt(afterShopId))
+			.orderBy(shop.shopId.asc())
+			.limit(size)
+			.fetch();
+	}
+
+	@Override
+	public Optional<ShopHours> findShopHours(Long shopId) {
+		return Optional.ofNullable(jpaQueryFactory
+			.select(shopHours())
+			.from(shop)
+			.where(shop.shopId.eq(shopId))
+			.fetchOne());
+	}
+
+	private ConstructorExpression<ShopHours> shopHours() {
+		return Projections.constructor(
+			ShopHours.class,
+			shop.shopId,
+			shop.status,
+			shop.openingTime,
+			shop.closingTime
+		);
+	}
+
+	private ConstructorExpression<ShopLocation> shopLocation() {
+		return Projections.constructor(
+			ShopLocation.class,
+			shop.shopId,
+			shop.category,
+			shop.deliveryTip,
+			shop.status,
+			shop.latitude,
+			shop.longitude
+		);
+	}
+
+	private List<ShopDocument> toShopDocuments(List<Tuple> shopRows) {
+		if (shopRows.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> shopIds = shopRows.stream()
+			.map(row -> row.get(shop.shopId))
+			.toList();
+		Map<Long, List<ShopDocument.MenuDocument>> menus = jpaQueryFactory
+			.select(menu.shop.shopId, menu.id, menu.name)
+			.from(menu)
+			.where(menu.shop.shopId.in(shopIds))
+			.orderBy(menu.id.asc())
+			.fetch()
+			.stream()
+			.collect(Collectors.groupingBy(
+				row -> row.get(menu.shop.shopId),
+				Collectors.mapping(
+					row -> new ShopDocument.MenuDocument(row.get(menu.id), row.get(menu.name)),
+					Collectors.toList()
+				)
+			));
+
+		return shopRows.stream()
+			.map(row -> new ShopDocument(
+				row.get(shop.shopId),
+				row.get(shop.name),
+				row.get(shop.address),
+				row.get(shop.dibsCount),
+				menus.getOrDefault(row.get(shop.shopId), List.of())
+			))
+			.toList();
+	}
+
+	private BooleanExpression inShopIds(List<Long> shopIds) {
+		return shopIds != null ? shop.shopId.in(shopIds) : null;
+	}
+
+	private BooleanExpression containsName(String name) {
+		return name != null ? shop.name.contains(name) : null;
 	}
 
 	private BooleanExpression containsAddress(String address) {
 		return address != null ? shop.address.contains(address) : null;
 	}
 
-	private BooleanExpression lowOrEqualDeliveryTip(Integer deliveryTip) {
-		return deliveryTip != null ? shop.deliveryTip.loe(deliveryTip) : null;
-	}
+	private BooleanExpression existsMenuName(String menuName) {
+		if (menuName == null) {
+			return null;
+		}
 
-	private OrderSpecifier<?> orderBySort(ShopSort sort) {
-		return sort != null ? sort.getOrderSpecifier() : OrderByNull.DEFAULT;
+		return JPAExpressions.selectOne()
+			.from(menu)
+			.where(
+				menu.shop.eq(shop),
+				menu.name.contains(menuName)
+			)
+			.exists();
 	}
 
-	private Predicate greaterThanCursor(Long cursor) {
-		return cursor != null ? shop.shopId.gt(cursor) : null;
+	private BooleanExpression equalCategory(Category category) {
+		return category != null ? shop.category.eq(category) : null;
 	}
 
-	private BooleanExpression containsMenuName(String menuName) {
-		return menuName != null ? menu.name.contains(menuName) : null;
+	private BooleanExpression lowOrEqualDeliveryTip(Integer deliveryTip) {
+		return deliveryTip != null ? shop.deliveryTip.loe(deliveryTip) : null;
 	}
-}
 
-class OrderByNull extends OrderSpecifier {
+	// OpenHoursIndex 와 같이 분 단위로 보고, 마감 시각이 오픈 시각보다 이르거나 같으면 자정을 넘겨 영업한다.
+	private BooleanExpression openAt(LocalTime time) {
+		if (time == null) {
+			return null;
+		}
 
-	static final OrderByNull DEFAULT = new OrderByNull();
+		LocalTime minute = time.truncatedTo(ChronoUnit.MINUTES);
+		BooleanExpression sameDay = shop.openingTime.lt(shop.closingTime)
+			.and(shop.openingTime.loe(minute))
+			.and(shop.closingTime.gt(minute));
+		BooleanExpression overnight = shop.openingTime.goe(shop.closingTime)
+			.and(shop.openingTime.loe(minute).or(shop.closingTime.gt(minute)));
 
-	private OrderByNull() {
-		super(Order.ASC, NullExpression.DEFAULT, NullHandling.Default);
+		return shop.status.eq(ShopStatus.OPEN).and(sameDay.or(overnight));
+	}
+
+	private Predicate afterCursor(
+		ShopCursor cursor,
+		ShopSort sort
+	) {
+		return cursor != null ? sort.after(cursor.sortKey(), cursor.shopId()) : null;
 	}
 }
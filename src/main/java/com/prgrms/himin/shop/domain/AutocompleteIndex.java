@@ -0,0 +1,300 @@
+package com.prgrms.himin.shop.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.prgrms.himin.global.util.Hangul;
+
+// 음절 키와 초성 키를 각각의 트라이에 넣고, 노드마다 점수 상위 항목을 캐시해서 접두어 조회를 트라이 깊이만큼만 걷게 한다.
+public class AutocompleteIndex {
+
+	private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::score)
+		.reversed()
+		.thenComparing(entry -> entry.suggestion().name())
+		.thenComparing(entry -> entry.suggestion().shopId());
+
+	private final int maxSuggestions;
+
+	private final Node syllableRoot = new Node();
+
+	private final Node chosungRoot = new Node();
+
+	private final Map<Long, List<Entry>> entriesByShop = new HashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public AutocompleteIndex(int maxSuggestions) {
+		this.maxSuggestions = maxSuggestions;
+	}
+
+	public void put(
+		Long shopId,
+		List<Entry> entries
+	) {
+		lock.writeLock().lock();
+		try {
+			removeEntries(shopId);
+			entriesByShop.put(shopId, entries);
+			for (Entry entry : entries) {
+				for (String key : syllableKeys(entry.suggestion().name())) {
+					syllableRoot.insert(key, entry);
+					chosungRoot.insert(Hangul.toChosung(key), entry);
+				}
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long shopId) {
+		lock.writeLock().lock();
+		try {
+			removeEntries(shopId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 자모가 섞인 검색어는 전체를 초성으로 바꿔서 초성 트라이에서 찾는다.
+	public List<Suggestion> search(
+		String keyword,
+		int size
+	) {
+		String normalized = normalize(keyword);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+
+		boolean chosungSearch = Hangul.containsJamo(normalized);
+		Node root = chosungSearch ? chosungRoot : syllableRoot;
+		String key = chosungSearch ? Hangul.toChosung(normalized) : normalized;
+
+		lock.readLock().lock();
+		try {
+			Node node = root.find(key);
+			if (node == null) {
+				return List.of();
+			}
+
+			return Arrays.stream(node.top(maxSuggestions))
+				.limit(size)
+				.map(Entry::suggestion)
+				.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return entriesByShop.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void removeEntries(Long shopId) {
+		List<Entry> entries = entriesByShop.remove(shopId);
+		if (entries == null) {
+			return;
+		}
+
+		for (Entry entry : entries) {
+			for (String key : syllableKeys(entry.suggestion().name())) {
+				syllableRoot.delete(key, entry);
+				chosungRoot.delete(Hangul.toChosung(key), entry);
+			}
+		}
+	}
+
+	// 이름 전체와 띄어쓰기 뒤의 각 단어에서 시작하는 키를 만든다. "교촌치킨 강남점" -> "교촌치킨강남점", "강남점"
+	private static Set<String> syllableKeys(String name) {
+		Set<String> keys = new LinkedHashSet<>();
+		String[] words = name.trim().split("\\s+");
+		for (int i = 0; i < words.length; i++) {
+			String key = normalize(String.join("", Arrays.copyOfRange(words, i, words.length)));
+			if (!key.isEmpty()) {
+				keys.add(key);
+			}
+		}
+
+		return keys;
+	}
+
+	private static String normalize(String text) {
+		return text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+	}
+
+	public enum SuggestionType {
+		SHOP,
+		MENU
+	}
+
+	public record Suggestion(
+		SuggestionType type,
+		Long shopId,
+		Long menuId,
+		String name
+	) {
+	}
+
+	public record Entry(
+		Suggestion suggestion,
+		long score
+	) {
+	}
+
+	private static final class Node {
+
+		private static final char[] NO_LABELS = new char[0];
+
+		private static final Node[] NO_CHILDREN = new Node[0];
+
+		private static final Entry[] NO_ENTRIES = new Entry[0];
+
+		// 자식은 글자 오름차순 배열로 두고 이진 탐색한다.
+		private char[] labels = NO_LABELS;
+
+		private Node[] children = NO_CHILDREN;
+
+		private Entry[] entries = NO_ENTRIES;
+
+		// null 이면 다시 계산해야 한다. 읽기 락 아래에서 여러 스레드가 같은 값을 채울 수 있다.
+		private volatile Entry[] top;
+
+		private Node find(String key) {
+			Node node = this;
+			for (int i = 0; i < key.length() && node != null; i++) {
+				node = node.child(key.charAt(i));
+			}
+
+			return node;
+		}
+
+		private void insert(
+			String key,
+			Entry entry
+		) {
+			Node node = this;
+			node.top = null;
+			for (int i = 0; i < key.length(); i++) {
+				node = node.childOrCreate(key.charAt(i));
+				node.top = null;
+			}
+			node.entries = Arrays.copyOf(node.entries, node.entries.length + 1);
+			node.entries[node.entries.length - 1] = entry;
+		}
+
+		private void delete(
+			String key,
+			Entry entry
+		) {
+			List<Node> path = new ArrayList<>(key.length() + 1);
+			Node node = this;
+			path.add(node);
+			for (int i = 0; i < key.length() && node != null; i++) {
+				node = node.child(key.charAt(i));
+				path.add(node);
+			}
+			if (node == null) {
+				return;
+			}
+
+			node.entries = Arrays.stream(node.entries)
+				.filter(stored -> !stored.equals(entry))
+				.toArray(Entry[]::new);
+			for (int i = path.size() - 1; i >= 0; i--) {
+				Node current = path.get(i);
+				current.top = null;
+				if (i > 0 && current.isEmpty()) {
+					path.get(i - 1).removeChild(key.charAt(i - 1));
+				}
+			}
+		}
+
+		private Entry[] top(int limit) {
+			Entry[] cached = top;
+			if (cached != null) {
+				return cached;
+			}
+
+			Set<Entry> candidates = new LinkedHashSet<>(Arrays.asList(entries));
+			for (Node child : children) {
+				candidates.addAll(Arrays.asList(child.top(limit)));
+			}
+			Entry[] computed = candidates.stream()
+				.sorted(RANKING)
+				.limit(limit)
+				.toArray(Entry[]::new);
+			top = computed;
+
+			return computed;
+		}
+
+		private Node child(char label) {
+			int index = Arrays.binarySearch(labels, label);
+			return index >= 0 ? children[index] : null;
+		}
+
+		private Node childOrCreate(char label) {
+			int index = Arrays.binarySearch(labels, label);
+			if (index >= 0) {
+				return children[index];
+			}
+
+			int insertion = -index - 1;
+			Node child = new Node();
+			labels = insert(labels, insertion, label);
+			Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(children, 0, newChildren, 0, insertion);
+			newChildren[insertion] = child;
+			System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+			children = newChildren;
+
+			return child;
+		}
+
+		private void removeChild(char label) {
+			int index = Arrays.binarySearch(labels, label);
+			if (index < 0) {
+				return;
+			}
+
+			char[] newLabels = new char[labels.length - 1];
+			System.arraycopy(labels, 0, newLabels, 0, index);
+			System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+			Node[] newChildren = new Node[children.length - 1];
+			System.arraycopy(children, 0, newChildren, 0, index);
+			System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+			labels = newLabels;
+			children = newChildren;
+		}
+
+		private boolean isEmpty() {
+			return entries.length == 0 && children.length == 0;
+		}
+
+		private static char[] insert(
+			char[] labels,
+			int index,
+			char label
+		) {
+			char[] newLabels = new char[labels.length + 1];
+			System.arraycopy(labels, 0, newLabels, 0, index);
+			newLabels[index] = label;
+			System.arraycopy(labels, index, newLabels, index + 1, labels.length - index);
+
+			return newLabels;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.prgrms.himin.shop.domain;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 카테고리마다 가게 id 를 비트 위치로 쓰는 비트맵을 둔다. 가게 id 는 순서대로 발급되어 빽빽하므로 압축 없이도 작다.
+public class CategoryBitmapIndex {
+
+	private final Map<Category, BitSet> bitmaps = new EnumMap<>(Category.class);
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public CategoryBitmapIndex() {
+		for (Category category : Category.values()) {
+			bitmaps.put(category, new BitSet());
+		}
+	}
+
+	// 이전 카테고리를 돌려준다.
+	public Category put(
+		Long shopId,
+		Category category
+	) {
+		lock.writeLock().lock();
+		try {
+			Category previous = removeShop(shopId);
+			bitmaps.get(category).set(bitOf(shopId));
+
+			return previous;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public Category remove(Long shopId) {
+		lock.writeLock().lock();
+		try {
+			return removeShop(shopId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			bitmaps.values().forEach(BitSet::clear);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int count(Category category) {
+		lock.readLock().lock();
+		try {
+			return bitmaps.get(category).cardinality();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 비트 위치가 가게 id 이므로 오름차순으로 나온다.
+	public long[] findShopIds(Category category) {
+		lock.readLock().lock();
+		try {
+			return bitmaps.get(category).stream()
+				.asLongStream()
+				.toArray();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 오름차순 후보 id 중 해당 카테고리의 가게만 순서를 지켜 남긴다.
+	public long[] retain(
+		long[] shopIds,
+		Category category
+	) {
+		lock.readLock().lock();
+		try {
+			BitSet bitmap = bitmaps.get(category);
+			return Arrays.stream(shopIds)
+				.filter(shopId -> bitmap.get(bitOf(shopId)))
+				.toArray();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private Category removeShop(Long shopId) {
+		int bit = bitOf(shopId);
+		for (Map.Entry<Category, BitSet> bitmap : bitmaps.entrySet()) {
+			if (bitmap.getValue().get(bit)) {
+				bitmap.getValue().clear(bit);
+				return bitmap.getKey();
+			}
+		}
+
+		return null;
+	}
+
+	private static int bitOf(long shopId) {
+		return Math.toIntExact(shopId);
+	}
+}
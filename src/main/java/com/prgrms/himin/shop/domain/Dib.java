@@ -0,0 +1,41 @@
+package com.prgrms.himin.shop.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "dibs", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_dibs_member_id_shop_id", columnNames = {"member_id", "shop_id"})
+})
+public class Dib {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id")
+	private Long dibId;
+
+	@Column(name = "member_id", nullable = false)
+	private Long memberId;
+
+	@Column(name = "shop_id", nullable = false)
+	private Long shopId;
+
+	public Dib(
+		Long memberId,
+		Long shopId
+	) {
+		this.memberId = memberId;
+		this.shopId = shopId;
+	}
+}
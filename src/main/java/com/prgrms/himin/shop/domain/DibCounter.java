@@ -0,0 +1,132 @@
+package com.prgrms.himin.shop.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// 가게마다 찜 수 합계와 아직 DB 에 쓰지 않은 증감분을 함께 센다.
+// 인기 가게에 찜이 몰려도 shops 행 락을 잡지 않고, 증감분은 drain 해서 모아 쓴다.
+// 증감은 가게마다 LongAdder 에 더하기만 하고 맵의 잠금을 잡지 않는다. DB 에 쓰인 찜 수는 맵에 넣기 전에 읽는다.
+public class DibCounter {
+
+	private final Map<Long, Count> counts = new ConcurrentHashMap<>();
+
+	// trim 으로 맵에서 뺀 카운터. 빼기 직전에 꺼내 간 카운터에 늦게 더해진 증감분을 한 번 더 drain 해서 쓴다.
+	private final Set<Count> retired = ConcurrentHashMap.newKeySet();
+
+	public void add(
+		Long shopId,
+		long delta,
+		LongSupplier storedCount
+	) {
+		Count count = countOf(shopId, storedCount);
+		count.total.add(delta);
+		count.pending.add(delta);
+	}
+
+	public long count(
+		Long shopId,
+		LongSupplier storedCount
+	) {
+		return countOf(shopId, storedCount).total.sum();
+	}
+
+	// 증감분을 0 으로 되돌리며 꺼낸다. 도중에 들어온 증감분은 다음 drain 에 남는다.
+	// 뺀 카운터는 남은 증감분이 없으면 버리고, 있으면 함께 꺼내서 지금 맵에 있는 카운터의 합계에도 더한다.
+	public Map<Long, Long> drain() {
+		Map<Long, Long> deltas = new HashMap<>();
+		counts.forEach((shopId, count) -> {
+			long delta = count.pending.sumThenReset();
+			if (delta != 0) {
+				deltas.put(shopId, delta);
+			}
+		});
+		retired.removeIf(count -> {
+			long delta = count.pending.sumThenReset();
+			if (delta == 0) {
+				return true;
+			}
+			deltas.merge(count.shopId, delta, Long::sum);
+			Count current = counts.get(count.shopId);
+			if (current != null) {
+				current.total.add(delta);
+			}
+			return false;
+		});
+
+		return deltas;
+	}
+
+	// DB 에 쓰지 못한 증감분을 다음 drain 으로 돌려놓는다. 그 사이 지워진 가게의 증감분은 버린다.
+	public void restore(Map<Long, Long> deltas) {
+		deltas.forEach((shopId, delta) -> {
+			Count count = counts.get(shopId);
+			if (count == null) {
+				count = retired.stream()
+					.filter(retiredCount -> retiredCount.shopId.equals(shopId))
+					.findFirst()
+					.orElse(null);
+			}
+			if (count != null) {
+				count.pending.add(delta);
+			}
+		});
+	}
+
+	public void remove(Long shopId) {
+		counts.remove(shopId);
+		retired.removeIf(count -> count.shopId.equals(shopId));
+	}
+
+	// 쓰지 않은 증감분이 없는 가게부터 maximumShops 개가 될 때까지 뺀다. 뺀 가게는 다음에 DB 에서 다시 읽는다.
+	// drain 한 증감분을 DB 에 쓴 뒤에 불러야 DB 값과 어긋나지 않는다.
+	public void trim(int maximumShops) {
+		for (Count count : counts.values()) {
+			if (counts.size() <= maximumShops) {
+				return;
+			}
+			if (count.pending.sum() == 0 && counts.remove(count.shopId, count)) {
+				retired.add(count);
+			}
+		}
+	}
+
+	public int size() {
+		return counts.size();
+	}
+
+	private Count countOf(
+		Long shopId,
+		LongSupplier storedCount
+	) {
+		Count count = counts.get(shopId);
+		if (count != null) {
+			return count;
+		}
+
+		Count loaded = new Count(shopId, storedCount.getAsLong());
+		Count current = counts.putIfAbsent(shopId, loaded);
+
+		return current != null ? current : loaded;
+	}
+
+	private static final class Count {
+
+		private final Long shopId;
+
+		private final LongAdder total = new LongAdder();
+
+		private final LongAdder pending = new LongAdder();
+
+		private Count(
+			Long shopId,
+			long storedCount
+		) {
+			this.shopId = shopId;
+			total.add(storedCount);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.prgrms.himin.shop.domain;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DibRepository extends JpaRepository<Dib, Long> {
+
+	@Query("SELECT d.shopId FROM Dib d WHERE d.memberId = :memberId ORDER BY d.dibId")
+	List<Long> findShopIdsByMemberId(@Param("memberId") Long memberId);
+
+	@Modifying
+	@Query("DELETE FROM Dib d WHERE d.memberId = :memberId AND d.shopId = :shopId")
+	int deleteByMemberIdAndShopId(
+		@Param("memberId") Long memberId,
+		@Param("shopId") Long shopId
+	);
+
+	@Modifying
+	@Query("DELETE FROM Dib d WHERE d.shopId = :shopId")
+	int deleteByShopId(@Param("shopId") Long shopId);
+}
@@ -0,0 +1,277 @@
+package com.prgrms.himin.shop.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import com.prgrms.himin.global.geo.GeoGrid;
+import com.prgrms.himin.global.geo.GeoPoint;
+
+// 위경도를 0.01도 격자로 나눠 담고, 기준점이 있는 칸부터 바깥 고리 순서로 넓혀 가며 가까운 가게를 찾는다.
+// 남은 고리의 최소 거리가 반경이나 지금까지 찾은 k 번째 거리보다 멀어지면 멈춘다.
+public class GeoGridIndex {
+
+	private static final Comparator<Hit> NEAREST = Comparator.comparingLong(Hit::distanceMeters)
+		.thenComparing(Hit::shopId);
+
+	private final Map<Long, List<ShopLocation>> cells = new HashMap<>();
+
+	private final Map<Long, ShopLocation> locations = new HashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private int minLatitudeCell = Integer.MAX_VALUE;
+
+	private int maxLatitudeCell = Integer.MIN_VALUE;
+
+	private int minLongitudeCell = Integer.MAX_VALUE;
+
+	private int maxLongitudeCell = Integer.MIN_VALUE;
+
+	// 영업 중이 아니거나 좌표가 없는 가게는 빼기만 한다.
+	public void put(ShopLocation location) {
+		lock.writeLock().lock();
+		try {
+			removeLocation(location.shopId());
+			if (!location.isSearchable()) {
+				return;
+			}
+
+			int latitudeCell = GeoGrid.cellOf(location.latitude());
+			int longitudeCell = GeoGrid.cellOf(location.longitude());
+			locations.put(location.shopId(), location);
+			cells.computeIfAbsent(GeoGrid.key(latitudeCell, longitudeCell), key -> new ArrayList<>())
+				.add(location);
+			minLatitudeCell = Math.min(minLatitudeCell, latitudeCell);
+			maxLatitudeCell = Math.max(maxLatitudeCell, latitudeCell);
+			minLongitudeCell = Math.min(minLongitudeCell, longitudeCell);
+			maxLongitudeCell = Math.max(maxLongitudeCell, longitudeCell);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long shopId) {
+		lock.writeLock().lock();
+		try {
+			removeLocation(shopId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			cells.clear();
+			locations.clear();
+			minLatitudeCell = Integer.MAX_VALUE;
+			maxLatitudeCell = Integer.MIN_VALUE;
+			minLongitudeCell = Integer.MAX_VALUE;
+			maxLongitudeCell = Integer.MIN_VALUE;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return locations.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// (거리, 가게 ID) 가 after 보다 뒤인 가게 중 반경 안에서 가까운 순으로 limit 개를 돌려준다.
+	public List<Hit> search(
+		double latitude,
+		double longitude,
+		double radiusMeters,
+		int limit,
+		Hit after,
+		Predicate<ShopLocation> filter
+	) {
+		lock.readLock().lock();
+		try {
+			if (locations.isEmpty() || limit <= 0) {
+				return List.of();
+			}
+
+			Search search = new Search(latitude, longitude, radiusMeters, limit, after, filter);
+			int originLatitudeCell = GeoGrid.cellOf(latitude);
+			int originLongitudeCell = GeoGrid.cellOf(longitude);
+			int maxRing = Math.max(
+				Math.max(Math.abs(originLatitudeCell - minLatitudeCell), Math.abs(originLatitudeCell - maxLatitudeCell)),
+				Math.max(Math.abs(originLongitudeCell - minLongitudeCell),
+					Math.abs(originLongitudeCell - maxLongitudeCell))
+			);
+
+			for (int ring = 0; ring <= maxRing; ring++) {
+				double ringDistance = minDistanceOfRing(latitude, ring);
+				if (ringDistance > radiusMeters || search.isFullBefore(ringDistance)) {
+					break;
+				}
+
+				// 고리의 칸 수가 채워진 칸 수보다 많아지면 남은 칸을 직접 훑는 편이 싸다.
+				if (8L * ring > cells.size()) {
+					scanFrom(ring, originLatitudeCell, originLongitudeCell, search);
+					break;
+				}
+				scanRing(ring, originLatitudeCell, originLongitudeCell, search);
+			}
+
+			return search.result();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void scanRing(
+		int ring,
+		int originLatitudeCell,
+		int originLongitudeCell,
+		Search search
+	) {
+		for (int latitudeOffset = -ring; latitudeOffset <= ring; latitudeOffset++) {
+			boolean edgeRow = Math.abs(latitudeOffset) == ring;
+			int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+			for (int longitudeOffset = -ring; longitudeOffset <= ring; longitudeOffset += step) {
+				List<ShopLocation> cell = cells.get(GeoGrid.key(originLatitudeCell + latitudeOffset,
+					originLongitudeCell + longitudeOffset));
+				if (cell != null) {
+					cell.forEach(search::offer);
+				}
+			}
+		}
+	}
+
+	private void scanFrom(
+		int ring,
+		int originLatitudeCell,
+		int originLongitudeCell,
+		Search search
+	) {
+		for (Map.Entry<Long, List<ShopLocation>> cell : cells.entrySet()) {
+			int latitudeCell = GeoGrid.latitudeCellOf(cell.getKey());
+			int longitudeCell = GeoGrid.longitudeCellOf(cell.getKey());
+			int cellRing = Math.max(
+				Math.abs(latitudeCell - originLatitudeCell),
+				Math.abs(longitudeCell - originLongitudeCell)
+			);
+			if (cellRing >= ring) {
+				cell.getValue().forEach(search::offer);
+			}
+		}
+	}
+
+	private void removeLocation(Long shopId) {
+		ShopLocation removed = locations.remove(shopId);
+		if (removed == null) {
+			return;
+		}
+
+		long key = GeoGrid.keyOf(removed.latitude(), removed.longitude());
+		List<ShopLocation> cell = cells.get(key);
+		cell.removeIf(location -> location.shopId().equals(shopId));
+		if (cell.isEmpty()) {
+			cells.remove(key);
+		}
+	}
+
+	// 고리 r 의 칸은 기준점에서 적어도 (r - 1) 칸 떨어져 있다. 경도 칸 폭은 고위도로 갈수록 좁아지므로 가장 좁은 폭을 쓴다.
+	private static double minDistanceOfRing(
+		double latitude,
+		int ring
+	) {
+		if (ring <= 1) {
+			return 0;
+		}
+
+		double farthestLatitude = Math.min(89, Math.abs(latitude) + ring * GeoGrid.CELL_DEGREES);
+		double cellMeters = GeoGrid.CELL_DEGREES * GeoPoint.METERS_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude));
+
+		return (ring - 1) * cellMeters;
+	}
+
+	public record Hit(
+		Long shopId,
+		long distanceMeters
+	) {
+	}
+
+	private static final class Search {
+
+		private final double latitude;
+
+		private final double longitude;
+
+		private final double radiusMeters;
+
+		private final int limit;
+
+		private final Hit after;
+
+		private final Predicate<ShopLocation> filter;
+
+		// 가장 먼 후보가 맨 앞에 오도록 뒤집어서 담는다.
+		private final PriorityQueue<Hit> nearest = new PriorityQueue<>(NEAREST.reversed());
+
+		private Search(
+			double latitude,
+			double longitude,
+			double radiusMeters,
+			int limit,
+			Hit after,
+			Predicate<ShopLocation> filter
+		) {
+			this.latitude = latitude;
+			this.longitude = longitude;
+			this.radiusMeters = radiusMeters;
+			this.limit = limit;
+			this.after = after;
+			this.filter = filter;
+		}
+
+		private void offer(ShopLocation location) {
+			double distance = GeoPoint.distanceMeters(latitude, longitude, location.latitude(), location.longitude());
+			if (distance > radiusMeters) {
+				return;
+			}
+
+			Hit hit = new Hit(location.shopId(), Math.round(distance));
+			if (after != null && NEAREST.compare(hit, after) <= 0) {
+				return;
+			}
+			if (nearest.size() == limit && NEAREST.compare(hit, nearest.peek()) >= 0) {
+				return;
+			}
+			if (!filter.test(location)) {
+				return;
+			}
+
+			nearest.offer(hit);
+			if (nearest.size() > limit) {
+				nearest.poll();
+			}
+		}
+
+		// 거리는 미터 단위로 반올림해서 비교하므로 1미터 여유를 둔다.
+		private boolean isFullBefore(double distance) {
+			return nearest.size() == limit && nearest.peek().distanceMeters() + 1 < distance;
+		}
+
+		private List<Hit> result() {
+			List<Hit> result = new ArrayList<>(nearest);
+			result.sort(NEAREST);
+
+			return result;
+		}
+	}
+}
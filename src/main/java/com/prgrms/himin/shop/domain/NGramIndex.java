@@ -0,0 +1,169 @@
+package com.prgrms.himin.shop.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 2글자 단위 역색인. 포스팅 교집합으로 후보를 좁히고, 원문 포함 여부로 한 번 더 확인해서 LIKE '%x%' 와 같은 결과를 낸다.
+public class NGramIndex {
+
+	private static final int GRAM_SIZE = 2;
+
+	private final Map<String, NavigableSet<Long>> postings = new HashMap<>();
+
+	private final Map<Long, List<String>> documents = new HashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public void put(
+		Long id,
+		Collection<String> texts
+	) {
+		List<String> normalizedTexts = texts.stream()
+			.map(NGramIndex::normalize)
+			.toList();
+
+		lock.writeLock().lock();
+		try {
+			removeDocument(id);
+			documents.put(id, normalizedTexts);
+			for (String gram : grams(normalizedTexts)) {
+				postings.computeIfAbsent(gram, key -> new TreeSet<>()).add(id);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long id) {
+		lock.writeLock().lock();
+		try {
+			removeDocument(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			postings.clear();
+			documents.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 오름차순으로 정렬된 id 를 돌려준다.
+	public long[] search(String query) {
+		String normalizedQuery = normalize(query);
+
+		lock.readLock().lock();
+		try {
+			return candidates(normalizedQuery).stream()
+				.filter(id -> containsText(id, normalizedQuery))
+				.mapToLong(Long::longValue)
+				.sorted()
+				.toArray();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private Collection<Long> candidates(String normalizedQuery) {
+		Set<String> queryGrams = grams(List.of(normalizedQuery));
+		if (queryGrams.isEmpty()) {
+			return documents.keySet();
+		}
+
+		List<NavigableSet<Long>> queryPostings = new ArrayList<>();
+		for (String gram : queryGrams) {
+			NavigableSet<Long> posting = postings.get(gram);
+			if (posting == null) {
+				return List.of();
+			}
+			queryPostings.add(posting);
+		}
+		queryPostings.sort(Comparator.comparingInt(Set::size));
+
+		List<Long> candidates = new ArrayList<>();
+		for (Long id : queryPostings.get(0)) {
+			if (containsInAll(queryPostings, id)) {
+				candidates.add(id);
+			}
+		}
+
+		return candidates;
+	}
+
+	private boolean containsInAll(
+		List<NavigableSet<Long>> queryPostings,
+		Long id
+	) {
+		for (int i = 1; i < queryPostings.size(); i++) {
+			if (!queryPostings.get(i).contains(id)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private boolean containsText(
+		Long id,
+		String normalizedQuery
+	) {
+		return documents.get(id)
+			.stream()
+			.anyMatch(text -> text.contains(normalizedQuery));
+	}
+
+	private void removeDocument(Long id) {
+		List<String> texts = documents.remove(id);
+		if (texts == null) {
+			return;
+		}
+
+		for (String gram : grams(texts)) {
+			NavigableSet<Long> posting = postings.get(gram);
+			posting.remove(id);
+			if (posting.isEmpty()) {
+				postings.remove(gram);
+			}
+		}
+	}
+
+	private static Set<String> grams(List<String> texts) {
+		Set<String> grams = new HashSet<>();
+		for (String text : texts) {
+			for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+				grams.add(text.substring(i, i + GRAM_SIZE));
+			}
+		}
+
+		return grams;
+	}
+
+	private static String normalize(String text) {
+		return text.toLowerCase(Locale.ROOT);
+	}
+}
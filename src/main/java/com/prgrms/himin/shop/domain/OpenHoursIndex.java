@@ -0,0 +1,176 @@
+package com.prgrms.himin.shop.domain;
+
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 하루를 1분 단위 1440칸으로 나누고, 칸마다 그 시각에 영업 중인 가게의 비트맵을 둔다.
+// 가게마다 비트 위치(slot)를 하나씩 주고, 지워진 가게의 slot 은 다시 쓴다.
+public class OpenHoursIndex {
+
+	public static final int MINUTES_PER_DAY = 24 * 60;
+
+	private final BitSet[] minutes = new BitSet[MINUTES_PER_DAY];
+
+	private final Map<Long, Integer> slots = new HashMap<>();
+
+	private final List<Long> slotShopIds = new ArrayList<>();
+
+	private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public OpenHoursIndex() {
+		for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+			minutes[minute] = new BitSet();
+		}
+	}
+
+	// 마감 시각이 오픈 시각보다 이르면 자정을 넘겨 영업한다. 두 시각이 같으면 24시간 영업이다.
+	public void put(ShopHours hours) {
+		lock.writeLock().lock();
+		try {
+			removeShop(hours.shopId());
+			if (hours.status() != ShopStatus.OPEN) {
+				return;
+			}
+
+			int slot = allocate(hours.shopId());
+			int opening = minuteOf(hours.openingTime());
+			int closing = minuteOf(hours.closingTime());
+			if (opening < closing) {
+				mark(slot, opening, closing);
+			} else {
+				mark(slot, opening, MINUTES_PER_DAY);
+				mark(slot, 0, closing);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long shopId) {
+		lock.writeLock().lock();
+		try {
+			removeShop(shopId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			for (BitSet minute : minutes) {
+				minute.clear();
+			}
+			slots.clear();
+			slotShopIds.clear();
+			freeSlots.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return slots.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int count(LocalTime time) {
+		lock.readLock().lock();
+		try {
+			return minutes[minuteOf(time)].cardinality();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 주어진 시각에 영업 중인 가게 id 를 오름차순으로 돌려준다.
+	public long[] findOpenShopIds(LocalTime time) {
+		lock.readLock().lock();
+		try {
+			BitSet open = minutes[minuteOf(time)];
+			long[] shopIds = new long[open.cardinality()];
+			int size = 0;
+			for (int slot = open.nextSetBit(0); slot >= 0; slot = open.nextSetBit(slot + 1)) {
+				shopIds[size++] = slotShopIds.get(slot);
+			}
+			Arrays.sort(shopIds);
+
+			return shopIds;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 오름차순 후보 id 중 주어진 시각에 영업 중인 것만 순서를 지켜 남긴다.
+	public long[] retainOpen(
+		long[] shopIds,
+		LocalTime time
+	) {
+		lock.readLock().lock();
+		try {
+			BitSet open = minutes[minuteOf(time)];
+			return Arrays.stream(shopIds)
+				.filter(shopId -> {
+					Integer slot = slots.get(shopId);
+					return slot != null && open.get(slot);
+				})
+				.toArray();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private int allocate(Long shopId) {
+		Integer slot = freeSlots.pollFirst();
+		if (slot == null) {
+			slot = slotShopIds.size();
+			slotShopIds.add(shopId);
+		} else {
+			slotShopIds.set(slot, shopId);
+		}
+		slots.put(shopId, slot);
+
+		return slot;
+	}
+
+	private void removeShop(Long shopId) {
+		Integer slot = slots.remove(shopId);
+		if (slot == null) {
+			return;
+		}
+
+		for (BitSet minute : minutes) {
+			minute.clear(slot);
+		}
+		freeSlots.addLast(slot);
+	}
+
+	private void mark(
+		int slot,
+		int fromMinute,
+		int toMinute
+	) {
+		for (int minute = fromMinute; minute < toMinute; minute++) {
+			minutes[minute].set(slot);
+		}
+	}
+
+	private static int minuteOf(LocalTime time) {
+		return time.getHour() * 60 + time.getMinute();
+	}
+}
@@ -0,0 +1,280 @@
+package com.prgrms.himin.shop.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.prgrms.himin.global.util.LongDoubleHashMap;
+
+// 주문 수를 반감기로 지수 감쇠시킨 점수로 가게와 메뉴 순위를 매긴다.
+// 점수는 기준 시각(landmark)에서 본 값으로 쌓는다. 새 주문일수록 큰 가중치를 더하므로 이미 쌓인 점수를 매번 깎지 않아도 되고,
+// 쌓인 점수는 줄지 않으니 카테고리별 상위 K 힙은 주문이 들어온 가게만 다시 넣으면 된다.
+public class PopularityRanking {
+
+	// 가중치 지수가 이만큼 커지면 기준 시각을 옮겨서 double 이 넘치지 않게 한다.
+	private static final double MAX_EXPONENT = 20;
+
+	private static final double MIN_SCORE = 1e-3;
+
+	private static final Comparator<RankedShop> ORDER = Comparator.comparingDouble(RankedShop::score)
+		.thenComparing(RankedShop::shopId, Comparator.reverseOrder());
+
+	private final double decayPerMillis;
+
+	private final int topK;
+
+	private long landmarkMillis;
+
+	private final LongDoubleHashMap shopScores = new LongDoubleHashMap();
+
+	private final Map<Long, LongDoubleHashMap> menuScores = new HashMap<>();
+
+	private final Map<Long, Category> categories = new HashMap<>();
+
+	private final Map<Category, TopK> tops = new EnumMap<>(Category.class);
+
+	private final Set<Long> menuChangedShopIds = new HashSet<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public PopularityRanking(
+		long halfLifeMillis,
+		int topK,
+		long nowMillis
+	) {
+		this.decayPerMillis = Math.log(2) / halfLifeMillis;
+		this.topK = topK;
+		this.landmarkMillis = nowMillis;
+		for (Category category : Category.values()) {
+			tops.put(category, new TopK());
+		}
+	}
+
+	public void record(
+		Long shopId,
+		Category category,
+		Map<Long, Integer> menuQuantities,
+		long nowMillis
+	) {
+		lock.writeLock().lock();
+		try {
+			double weight = weightAt(nowMillis);
+			double score = shopScores.addTo(shopId, weight);
+			LongDoubleHashMap menus = menuScores.computeIfAbsent(shopId, id -> new LongDoubleHashMap());
+			menuQuantities.forEach((menuId, quantity) -> menus.addTo(menuId, quantity * weight));
+			menuChangedShopIds.add(shopId);
+			offer(shopId, category, score);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 저장해 둔 점수에서 다시 시작한다. 메뉴 점수는 다음 주문부터 쌓는다.
+	public void restore(
+		Long shopId,
+		Category category,
+		double score,
+		long nowMillis
+	) {
+		lock.writeLock().lock();
+		try {
+			double stored = shopScores.addTo(shopId, score * weightAt(nowMillis));
+			offer(shopId, category, stored);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 카테고리가 없으면 모든 카테고리의 상위 K 를 합쳐서 고른다.
+	public List<RankedShop> top(
+		Category category,
+		int size,
+		long nowMillis
+	) {
+		lock.readLock().lock();
+		try {
+			List<RankedShop> candidates = new ArrayList<>();
+			if (category != null) {
+				candidates.addAll(tops.get(category).heap);
+			} else {
+				tops.values().forEach(top -> candidates.addAll(top.heap));
+			}
+
+			double decay = decayAt(nowMillis);
+			return candidates.stream()
+				.sorted(ORDER.reversed())
+				.limit(size)
+				.map(ranked -> new RankedShop(ranked.shopId(), ranked.score() * decay))
+				.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public Map<Long, Double> shopScores(long nowMillis) {
+		lock.readLock().lock();
+		try {
+			double decay = decayAt(nowMillis);
+			Map<Long, Double> scores = new HashMap<>(shopScores.size());
+			shopScores.forEach((shopId, score) -> scores.put(shopId, score * decay));
+
+			return scores;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 지난 호출 뒤로 주문이 들어온 가게마다 점수가 높은 메뉴 id 를 돌려준다.
+	public Map<Long, List<Long>> drainTopMenus(int size) {
+		lock.writeLock().lock();
+		try {
+			Map<Long, List<Long>> topMenus = new HashMap<>();
+			for (Long shopId : menuChangedShopIds) {
+				List<RankedMenu> menus = new ArrayList<>();
+				menuScores.get(shopId).forEach((menuId, score) -> menus.add(new RankedMenu(menuId, score)));
+				topMenus.put(shopId, menus.stream()
+					.sorted(Comparator.comparingDouble(RankedMenu::score).reversed()
+						.thenComparingLong(RankedMenu::menuId))
+					.limit(size)
+					.map(RankedMenu::menuId)
+					.toList());
+			}
+			menuChangedShopIds.clear();
+
+			return topMenus;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			shopScores.clear();
+			menuScores.clear();
+			categories.clear();
+			tops.values().forEach(top -> top.clear());
+			menuChangedShopIds.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return shopScores.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void offer(
+		Long shopId,
+		Category category,
+		double score
+	) {
+		Category previous = categories.put(shopId, category);
+		if (previous != null && previous != category) {
+			tops.get(previous).remove(shopId);
+		}
+		tops.get(category).offer(new RankedShop(shopId, score));
+	}
+
+	private double weightAt(long nowMillis) {
+		double exponent = decayPerMillis * (nowMillis - landmarkMillis);
+		if (exponent > MAX_EXPONENT) {
+			moveLandmark(nowMillis);
+			exponent = 0;
+		}
+
+		return Math.exp(exponent);
+	}
+
+	private double decayAt(long nowMillis) {
+		return Math.exp(-decayPerMillis * (nowMillis - landmarkMillis));
+	}
+
+	// 모든 점수에 같은 값을 곱하므로 순서는 그대로다. 거의 0 이 된 점수는 버린다.
+	private void moveLandmark(long nowMillis) {
+		double decay = decayAt(nowMillis);
+		landmarkMillis = nowMillis;
+
+		shopScores.scale(decay);
+		shopScores.removeBelow(MIN_SCORE);
+		menuScores.values().forEach(menus -> {
+			menus.scale(decay);
+			menus.removeBelow(MIN_SCORE);
+		});
+		menuScores.keySet().removeIf(shopId -> !shopScores.containsKey(shopId));
+		categories.keySet().removeIf(shopId -> !shopScores.containsKey(shopId));
+		menuChangedShopIds.removeIf(shopId -> !shopScores.containsKey(shopId));
+		tops.values().forEach(top -> top.rescale(decay, shopScores));
+	}
+
+	public record RankedShop(
+		Long shopId,
+		double score
+	) {
+	}
+
+	private record RankedMenu(
+		long menuId,
+		double score
+	) {
+	}
+
+	// 점수가 가장 낮은 가게가 맨 위에 오는 크기 K 의 힙이다.
+	private class TopK {
+
+		private final PriorityQueue<RankedShop> heap = new PriorityQueue<>(ORDER);
+
+		private final Map<Long, RankedShop> entries = new HashMap<>();
+
+		private void offer(RankedShop ranked) {
+			RankedShop current = entries.get(ranked.shopId());
+			if (current != null) {
+				heap.remove(current);
+			} else if (heap.size() >= topK) {
+				if (ORDER.compare(ranked, heap.peek()) <= 0) {
+					return;
+				}
+				entries.remove(heap.poll().shopId());
+			}
+			heap.add(ranked);
+			entries.put(ranked.shopId(), ranked);
+		}
+
+		private void remove(Long shopId) {
+			RankedShop current = entries.remove(shopId);
+			if (current != null) {
+				heap.remove(current);
+			}
+		}
+
+		private void rescale(
+			double decay,
+			LongDoubleHashMap scores
+		) {
+			List<RankedShop> rescaled = heap.stream()
+				.filter(ranked -> scores.containsKey(ranked.shopId()))
+				.map(ranked -> new RankedShop(ranked.shopId(), ranked.score() * decay))
+				.toList();
+			clear();
+			rescaled.forEach(this::offer);
+		}
+
+		private void clear() {
+			heap.clear();
+			entries.clear();
+		}
+	}
+}
@@ -7,12 +7,14 @@ import java.util.List;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
@@ -29,7 +31,16 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "shops")
+@EntityListeners(ShopEntityListener.class)
+@Table(name = "shops", indexes = {
+	@Index(name = "idx_shops_delivery_tip_id", columnList = "delivery_tip, id"),
+	@Index(name = "idx_shops_dibs_count_id", columnList = "dibs_count, id"),
+	@Index(name = "idx_shops_popularity_id", columnList = "popularity, id"),
+	@Index(name = "idx_shops_category_id", columnList = "category, id"),
+	@Index(name = "idx_shops_category_delivery_tip_id", columnList = "category, delivery_tip, id"),
+	@Index(name = "idx_shops_category_dibs_count_id", columnList = "category, dibs_count, id"),
+	@Index(name = "idx_shops_category_popularity_id", columnList = "category, popularity, id")
+})
 public class Shop {
 
 	public static final int MAX_NAME_LENGTH = 20;
@@ -40,6 +51,9 @@ public class Shop {
 
 	public static final String TIME_FORMAT = "HH:mm";
 
+	// 감쇠된 주문 점수는 1 보다 작을 때가 많아서, 이만큼 곱해 정수 컬럼에 저장한다.
+	public static final long POPULARITY_SCALE = 1000L;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "id")
@@ -55,6 +69,13 @@ public class Shop {
 	@Column(name = "address", nullable = false, length = MAX_ADDRESS_LENGTH)
 	private String address;
 
+	// GeocodingJob 이 주소로 채운다. 주소가 바뀌면 다시 채우도록 비운다.
+	@Column(name = "latitude")
+	private Double latitude;
+
+	@Column(name = "longitude")
+	private Double longitude;
+
 	@Column(name = "phone", nullable = false, length = MAX_PHONE_LENGTH)
 	private String phone;
 
@@ -64,9 +85,14 @@ public class Shop {
 	@Column(name = "delivery_tip", nullable = false)
 	private int deliveryTip;
 
-	@Column(name = "dibs_count")
+	// ShopDibs 가 모아 둔 증감분을 SQL 로 더한다. 가게 수정이 읽어 둔 옛 값으로 덮어쓰지 않게 UPDATE 에서 뺀다.
+	@Column(name = "dibs_count", updatable = false)
 	private int dibsCount;
 
+	// ShopPopularityJob 이 주기적으로 다시 계산한다. 찜 수와 같은 이유로 UPDATE 에서 뺀다.
+	@Column(name = "popularity", nullable = false, updatable = false)
+	private long popularity;
+
 	@Enumerated(EnumType.STRING)
 	@Column(name = "status", nullable = false)
 	private ShopStatus status;
@@ -170,6 +196,10 @@ public class Shop {
 		validateDeliveryTip(deliveryTip);
 		validateOpeningTime(openingTime);
 		validateClosingTime(closingTime);
+		if (!address.equals(this.address)) {
+			this.latitude = null;
+			this.longitude = null;
+		}
 		this.name = name;
 		this.category = category;
 		this.address = address;
@@ -0,0 +1,24 @@
+package com.prgrms.himin.shop.domain;
+
+import java.util.List;
+
+public record ShopDocument(
+	Long shopId,
+	String name,
+	String address,
+	int dibsCount,
+	List<MenuDocument> menus
+) {
+
+	public List<String> menuNames() {
+		return menus.stream()
+			.map(MenuDocument::name)
+			.toList();
+	}
+
+	public record MenuDocument(
+		Long menuId,
+		String name
+	) {
+	}
+}
@@ -0,0 +1,24 @@
+package com.prgrms.himin.shop.domain;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.prgrms.himin.shop.event.ShopChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ShopEntityListener {
+
+	private final ApplicationEventPublisher publisher;
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void publishChange(Shop shop) {
+		publisher.publishEvent(new ShopChangedEvent(shop.getShopId()));
+	}
+}
@@ -0,0 +1,11 @@
+package com.prgrms.himin.shop.domain;
+
+import java.time.LocalTime;
+
+public record ShopHours(
+	Long shopId,
+	ShopStatus status,
+	LocalTime openingTime,
+	LocalTime closingTime
+) {
+}
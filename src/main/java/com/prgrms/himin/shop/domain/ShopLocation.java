@@ -0,0 +1,15 @@
+package com.prgrms.himin.shop.domain;
+
+public record ShopLocation(
+	Long shopId,
+	Category category,
+	int deliveryTip,
+	ShopStatus status,
+	Double latitude,
+	Double longitude
+) {
+
+	public boolean isSearchable() {
+		return status == ShopStatus.OPEN && latitude != null && longitude != null;
+	}
+}
@@ -1,15 +1,41 @@
 package com.prgrms.himin.shop.domain;
 
 import java.util.List;
+import java.util.Optional;
 
+import com.prgrms.himin.shop.dto.request.ShopCursor;
 import com.prgrms.himin.shop.dto.request.ShopSearchCondition;
 
 public interface ShopRepositoryCustom {
 
-	List<Shop> searchShops(
+	List<Long> searchShopIds(
 		ShopSearchCondition shopSearchCondition,
+		List<Long> shopIds,
 		int size,
-		Long cursor,
+		ShopCursor cursor,
 		ShopSort sort
 	);
+
+	List<Shop> findShopsInOrder(List<Long> shopIds);
+
+	List<ShopDocument> findShopDocuments(
+		Long afterShopId,
+		int size
+	);
+
+	Optional<ShopDocument> findShopDocument(Long shopId);
+
+	List<ShopLocation> findShopLocations(
+		Long afterShopId,
+		int size
+	);
+
+	Optional<ShopLocation> findShopLocation(Long shopId);
+
+	List<ShopHours> findShopHours(
+		Long afterShopId,
+		int size
+	);
+
+	Optional<ShopHours> findShopHours(Long shopId);
 }
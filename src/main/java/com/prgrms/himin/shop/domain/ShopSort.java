@@ -8,18 +8,120 @@ import java.util.Map;
 import com.prgrms.himin.global.error.exception.ErrorCode;
 import com.prgrms.himin.global.error.exception.InvalidValueException;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+// 모든 정렬은 (정렬 키, 가게 ID) 순서로 정렬하고, 커서도 같은 두 값으로 다음 페이지 시작 위치를 찾는다.
+// 앞의 정렬 키 조건을 범위 조건으로 두어서 (정렬 키, id) 복합 인덱스를 범위 스캔할 수 있게 한다.
 @Getter
 @RequiredArgsConstructor
 public enum ShopSort {
 
-	DELIVERY_TIP_ASC("deliveryTipAsc", shop.deliveryTip.asc());
+	ID_ASC("idAsc") {
+		@Override
+		public OrderSpecifier<?>[] getOrderSpecifiers() {
+			return new OrderSpecifier<?>[] {shop.shopId.asc()};
+		}
+
+		@Override
+		public Predicate after(
+			long sortKey,
+			Long shopId
+		) {
+			return shop.shopId.gt(shopId);
+		}
+
+		@Override
+		public long sortKeyOf(Shop target) {
+			return target.getShopId();
+		}
+	},
+	DELIVERY_TIP_ASC("deliveryTipAsc") {
+		@Override
+		public OrderSpecifier<?>[] getOrderSpecifiers() {
+			return new OrderSpecifier<?>[] {shop.deliveryTip.asc(), shop.shopId.asc()};
+		}
+
+		@Override
+		public Predicate after(
+			long sortKey,
+			Long shopId
+		) {
+			int deliveryTip = Math.toIntExact(sortKey);
+			return shop.deliveryTip.goe(deliveryTip)
+				.and(shop.deliveryTip.gt(deliveryTip).or(shop.shopId.gt(shopId)));
+		}
+
+		@Override
+		public long sortKeyOf(Shop target) {
+			return target.getDeliveryTip();
+		}
+	},
+	DIBS_COUNT_DESC("dibsCountDesc") {
+		@Override
+		public OrderSpecifier<?>[] getOrderSpecifiers() {
+			return new OrderSpecifier<?>[] {shop.dibsCount.desc(), shop.shopId.desc()};
+		}
+
+		@Override
+		public Predicate after(
+			long sortKey,
+			Long shopId
+		) {
+			int dibsCount = Math.toIntExact(sortKey);
+			return shop.dibsCount.loe(dibsCount)
+				.and(shop.dibsCount.lt(dibsCount).or(shop.shopId.lt(shopId)));
+		}
+
+		@Override
+		public long sortKeyOf(Shop target) {
+			return target.getDibsCount();
+		}
+	},
+	POPULARITY("popularity") {
+		@Override
+		public OrderSpecifier<?>[] getOrderSpecifiers() {
+			return new OrderSpecifier<?>[] {shop.popularity.desc(), shop.shopId.desc()};
+		}
+
+		@Override
+		public Predicate after(
+			long sortKey,
+			Long shopId
+		) {
+			return shop.popularity.loe(sortKey)
+				.and(shop.popularity.lt(sortKey).or(shop.shopId.lt(shopId)));
+		}
+
+		@Override
+		public long sortKeyOf(Shop target) {
+			return target.getPopularity();
+		}
+	},
+	// 가게 ID 는 등록 순서대로 증가하므로 최신순은 ID 역순이다.
+	NEWEST("newest") {
+		@Override
+		public OrderSpecifier<?>[] getOrderSpecifiers() {
+			return new OrderSpecifier<?>[] {shop.shopId.desc()};
+		}
+
+		@Override
+		public Predicate after(
+			long sortKey,
+			Long shopId
+		) {
+			return shop.shopId.lt(shopId);
+		}
+
+		@Override
+		public long sortKeyOf(Shop target) {
+			return target.getShopId();
+		}
+	};
 
 	private final String name;
-	private final OrderSpecifier<Integer> orderSpecifier;
 	private static final Map<String, ShopSort> SHOP_SORT_MAP = new HashMap<>();
 
 	static {
@@ -39,4 +141,17 @@ public enum ShopSort {
 
 		throw new InvalidValueException(ErrorCode.SHOP_SORT_BAD_REQUEST);
 	}
+
+	public static ShopSort orDefault(ShopSort sort) {
+		return sort != null ? sort : ID_ASC;
+	}
+
+	public abstract OrderSpecifier<?>[] getOrderSpecifiers();
+
+	public abstract Predicate after(
+		long sortKey,
+		Long shopId
+	);
+
+	public abstract long sortKeyOf(Shop target);
 }
@@ -0,0 +1,58 @@
+package com.prgrms.himin.shop.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.global.error.exception.InvalidValueException;
+import com.prgrms.himin.shop.domain.Shop;
+import com.prgrms.himin.shop.domain.ShopSort;
+
+// 정렬 이름도 함께 넣어서 다른 정렬로 받은 커서를 그대로 넘기면 거절한다.
+public record ShopCursor(
+	String sortName,
+	long sortKey,
+	Long shopId
+) {
+
+	// 위치 검색은 항상 거리순이고, 정렬 키는 미터 단위 거리다.
+	public static final String DISTANCE = "distance";
+
+	private static final String DELIMITER = "_";
+
+	public static ShopCursor from(
+		ShopSort sort,
+		Shop shop
+	) {
+		return new ShopCursor(sort.getName(), sort.sortKeyOf(shop), shop.getShopId());
+	}
+
+	public static ShopCursor decode(
+		String cursor,
+		String sortName
+	) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = decoded.split(DELIMITER);
+			if (parts.length != 3 || !parts[0].equals(sortName)) {
+				throw new InvalidValueException(ErrorCode.SHOP_CURSOR_BAD_REQUEST);
+			}
+
+			return new ShopCursor(sortName, Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+		} catch (IllegalArgumentException e) {
+			throw new InvalidValueException(ErrorCode.SHOP_CURSOR_BAD_REQUEST);
+		}
+	}
+
+	public String encode() {
+		String raw = sortName + DELIMITER + sortKey + DELIMITER + shopId;
+
+		return Base64.getUrlEncoder()
+			.withoutPadding()
+			.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
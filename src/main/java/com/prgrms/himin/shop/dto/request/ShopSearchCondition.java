@@ -1,6 +1,13 @@
 package com.prgrms.himin.shop.dto.request;
 
+import java.time.LocalTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.global.error.exception.InvalidValueException;
 import com.prgrms.himin.shop.domain.Category;
+import com.prgrms.himin.shop.domain.Shop;
 
 public record ShopSearchCondition(
 
@@ -12,7 +19,120 @@ public record ShopSearchCondition(
 
 	Integer deliveryTip,
 
-	String menuName
+	String menuName,
+
+	Double latitude,
+
+	Double longitude,
+
+	Integer radius,
+
+	Boolean openNow,
+
+	@DateTimeFormat(pattern = Shop.TIME_FORMAT)
+	LocalTime openAt
 ) {
-}
 
+	public static ShopSearchCondition ofCategory(Category category) {
+		return new ShopSearchCondition(null, category, null, null, null, null, null, null, null, null);
+	}
+
+	// 카테고리 탭처럼 카테고리 말고는 조건이 없는 검색인지 본다.
+	public boolean isCategoryOnly() {
+		return category != null
+			&& name == null
+			&& address == null
+			&& deliveryTip == null
+			&& menuName == null
+			&& latitude == null
+			&& longitude == null
+			&& radius == null
+			&& openTime() == null;
+	}
+
+	// 캐시 키로 쓸 수 있게 빈 문자열과 앞뒤 공백, openNow=false 를 조건 없음으로 맞춘다.
+	public ShopSearchCondition normalized() {
+		return new ShopSearchCondition(
+			normalize(name),
+			category,
+			normalize(address),
+			deliveryTip,
+			normalize(menuName),
+			latitude,
+			longitude,
+			radius,
+			Boolean.TRUE.equals(openNow) ? Boolean.TRUE : null,
+			openAt
+		);
+	}
+
+	public ShopSearchCondition withoutText() {
+		return new ShopSearchCondition(
+			null,
+			category,
+			null,
+			deliveryTip,
+			null,
+			latitude,
+			longitude,
+			radius,
+			openNow,
+			openAt
+		);
+	}
+
+	// openNow 를 지금 시각의 openAt 으로 바꿔서, 한 번의 검색에서 비트맵과 SQL 이 같은 시각을 보게 한다.
+	public ShopSearchCondition fixOpenTime() {
+		if (openAt != null || !Boolean.TRUE.equals(openNow)) {
+			return this;
+		}
+
+		return new ShopSearchCondition(
+			name,
+			category,
+			address,
+			deliveryTip,
+			menuName,
+			latitude,
+			longitude,
+			radius,
+			null,
+			LocalTime.now()
+		);
+	}
+
+	// openAt 이 있으면 openNow 보다 우선한다.
+	public LocalTime openTime() {
+		if (openAt != null) {
+			return openAt;
+		}
+
+		return Boolean.TRUE.equals(openNow) ? LocalTime.now() : null;
+	}
+
+	// 위도와 경도는 함께 있어야 하고, 반경(미터)은 위치가 있을 때만 쓸 수 있다.
+	public boolean hasLocation() {
+		if (latitude == null && longitude == null) {
+			if (radius != null) {
+				throw new InvalidValueException(ErrorCode.SHOP_LOCATION_BAD_REQUEST);
+			}
+			return false;
+		}
+
+		if (latitude == null || longitude == null
+			|| Math.abs(latitude) > 90 || Math.abs(longitude) > 180
+			|| (radius != null && radius <= 0)) {
+			throw new InvalidValueException(ErrorCode.SHOP_LOCATION_BAD_REQUEST);
+		}
+
+		return true;
+	}
+
+	private static String normalize(String text) {
+		if (text == null || text.isBlank()) {
+			return null;
+		}
+
+		return text.strip();
+	}
+}
@@ -0,0 +1,35 @@
+package com.prgrms.himin.shop.dto.response;
+
+import java.util.List;
+
+import com.prgrms.himin.shop.domain.AutocompleteIndex;
+
+public record AutocompleteResponse(
+	List<Suggestion> suggestions
+) {
+
+	public static AutocompleteResponse from(List<AutocompleteIndex.Suggestion> suggestions) {
+		return new AutocompleteResponse(
+			suggestions.stream()
+				.map(Suggestion::from)
+				.toList()
+		);
+	}
+
+	public record Suggestion(
+		AutocompleteIndex.SuggestionType type,
+		Long shopId,
+		Long menuId,
+		String name
+	) {
+
+		public static Suggestion from(AutocompleteIndex.Suggestion suggestion) {
+			return new Suggestion(
+				suggestion.type(),
+				suggestion.shopId(),
+				suggestion.menuId(),
+				suggestion.name()
+			);
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.prgrms.himin.shop.dto.response;
+
+import java.util.List;
+
+public record DibsResponse(
+	Long memberId,
+	List<Long> shopIds
+) {
+}
@@ -45,6 +45,23 @@ public record ShopResponse(
 			.build();
 	}
 
+	// 찜 수는 DB 에 늦게 반영되므로 메모리에서 센 값으로 바꿔 끼운다.
+	public ShopResponse withDibsCount(long dibsCount) {
+		return new ShopResponse(
+			shopId,
+			name,
+			category,
+			address,
+			phone,
+			content,
+			deliveryTip,
+			Math.toIntExact(dibsCount),
+			status,
+			openingTime,
+			closingTime
+		);
+	}
+
 	public static List<ShopResponse> from(List<Shop> shops) {
 		return shops.stream()
 			.map(ShopResponse::from)
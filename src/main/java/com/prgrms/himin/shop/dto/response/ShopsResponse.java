@@ -7,7 +7,7 @@ import com.prgrms.himin.shop.domain.ShopSort;
 public record ShopsResponse(
 	List<ShopResponse> shopResponses,
 	int size,
-	Long nextCursor,
+	String nextCursor,
 	ShopSort sort,
 	boolean isLast
 ) {
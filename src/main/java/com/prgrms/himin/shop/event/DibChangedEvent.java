@@ -0,0 +1,15 @@
+package com.prgrms.himin.shop.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class DibChangedEvent {
+
+	private final Long memberId;
+
+	private final Long shopId;
+
+	private final boolean dibbed;
+}
@@ -0,0 +1,11 @@
+package com.prgrms.himin.shop.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ShopDeletedEvent {
+
+	private final Long shopId;
+}
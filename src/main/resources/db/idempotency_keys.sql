@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS idempotency_keys
+(
+    idempotency_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    fingerprint     CHAR(64)     NOT NULL,
+    status          INT          NOT NULL,
+    body            TEXT         NOT NULL,
+    created_at      TIMESTAMP    NOT NULL
+);
@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.jdbc.Sql;
 
 import com.prgrms.himin.delivery.domain.Delivery;
@@ -24,8 +25,10 @@ import com.prgrms.himin.delivery.domain.Rider;
 import com.prgrms.himin.delivery.domain.RiderRepository;
 import com.prgrms.himin.delivery.dto.response.DeliveryHistoryResponse;
 import com.prgrms.himin.delivery.dto.response.DeliveryResponse;
+import com.prgrms.himin.delivery.dto.response.DeliveryStatusResponse;
 import com.prgrms.himin.global.error.exception.BusinessException;
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
+import com.prgrms.himin.global.error.exception.ErrorCode;
 import com.prgrms.himin.order.application.OrderService;
 import com.prgrms.himin.order.domain.OrderValidator;
 import com.prgrms.himin.setup.domain.DeliverySetUp;
@@ -80,7 +83,7 @@ class DeliveryServiceTest {
 		@DisplayName("성공한다.")
 		void success_test() {
 			// given
-			doNothing().when(orderValidator).validateOrderId(anyLong());
+			doReturn(1L).when(orderValidator).getShopId(anyLong());
 
 			// when
 			DeliveryResponse deliveryResponse = deliveryService.createDelivery(0L);
@@ -153,7 +156,52 @@ class DeliveryServiceTest {
 			assertThatThrownBy(
 				() -> deliveryService.allocateRider(delivery.getDeliveryId(), wrongId)
 			)
-				.isInstanceOf(EntityNotFoundException.class);
+				.isInstanceOf(EntityNotFoundException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.DELIVERY_RIDER_NOT_FOUND);
+		}
+
+		@Test
+		@DisplayName("배달기사가 이미 다른 배달을 맡고 있어서 실패한다.")
+		void busy_rider_fail_test() {
+			// given
+			deliveryService.allocateRider(delivery.getDeliveryId(), rider.getRiderId());
+			Delivery anotherDelivery = deliverySetUp.saveOne(2L);
+
+			// when & then
+			assertThatThrownBy(
+				() -> deliveryService.allocateRider(anotherDelivery.getDeliveryId(), rider.getRiderId())
+			)
+				.isInstanceOf(BusinessException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.DELIVERY_RIDER_BUSY);
+		}
+
+		@Test
+		@DisplayName("이미 배정된 배달이라서 실패한다.")
+		void already_allocated_fail_test() {
+			// given
+			deliveryService.allocateRider(delivery.getDeliveryId(), rider.getRiderId());
+			Rider anotherRider = riderSetUp.saveOne();
+
+			// when & then
+			assertThatThrownBy(
+				() -> deliveryService.allocateRider(delivery.getDeliveryId(), anotherRider.getRiderId())
+			)
+				.isInstanceOf(BusinessException.class);
+		}
+
+		@Test
+		@DisplayName("먼저 읽은 배달을 다른 요청이 바꿨다면 저장에 실패한다.")
+		void stale_delivery_fail_test() {
+			// given
+			Delivery staleDelivery = deliveryRepository.findById(delivery.getDeliveryId()).get();
+			deliveryService.allocateRider(delivery.getDeliveryId(), rider.getRiderId());
+			staleDelivery.changeStatus(DeliveryStatus.ALLOCATED);
+
+			// when & then
+			assertThatThrownBy(
+				() -> deliveryRepository.save(staleDelivery)
+			)
+				.isInstanceOf(ObjectOptimisticLockingFailureException.class);
 		}
 	}
 
@@ -218,6 +266,19 @@ class DeliveryServiceTest {
 			)
 				.isInstanceOf(BusinessException.class);
 		}
+
+		@Test
+		@DisplayName("이미 시작한 배달이라서 실패한다.")
+		void already_started_fail_test() {
+			// given
+			deliveryService.startDelivery(delivery.getDeliveryId(), rider.getRiderId());
+
+			// when & then
+			assertThatThrownBy(
+				() -> deliveryService.startDelivery(delivery.getDeliveryId(), rider.getRiderId())
+			)
+				.isInstanceOf(BusinessException.class);
+		}
 	}
 
 	@Nested
@@ -285,6 +346,81 @@ class DeliveryServiceTest {
 			)
 				.isInstanceOf(BusinessException.class);
 		}
+
+		@Test
+		@DisplayName("이미 완료한 배달이라서 실패한다.")
+		void already_arrived_fail_test() {
+			// given
+			doNothing().when(orderService).finishOrder(anyLong());
+			deliveryService.finishDelivery(delivery.getDeliveryId(), rider.getRiderId());
+
+			// when & then
+			assertThatThrownBy(
+				() -> deliveryService.finishDelivery(delivery.getDeliveryId(), rider.getRiderId())
+			)
+				.isInstanceOf(BusinessException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("배달의 현재 상태를 조회할 수 있다.")
+	class getDeliveryStatus {
+
+		@Test
+		@DisplayName("성공한다.")
+		void success_test() {
+			// given
+			deliveryService.allocateRider(delivery.getDeliveryId(), rider.getRiderId());
+
+			// when
+			DeliveryStatusResponse response = deliveryService.getDeliveryStatus(delivery.getDeliveryId());
+
+			// then
+			assertThat(response.deliveryStatus()).isEqualTo(DeliveryStatus.ALLOCATED);
+			assertThat(response.riderId()).isEqualTo(rider.getRiderId());
+			assertThat(response.statusChangedAt()).isNotNull();
+		}
+
+		@Test
+		@DisplayName("배달이 존재하지 않아서 실패한다.")
+		void not_exist_delivery_fail_test() {
+			// given
+			Long wrongId = 0L;
+
+			// when & then
+			assertThatThrownBy(
+				() -> deliveryService.getDeliveryStatus(wrongId)
+			)
+				.isInstanceOf(EntityNotFoundException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("배달기사가 맡은 진행 중인 배달을 조회할 수 있다.")
+	class getRiderDeliveries {
+
+		@Test
+		@DisplayName("성공한다.")
+		void success_test() {
+			// given
+			doNothing().when(orderService).finishOrder(anyLong());
+			Delivery delivering = deliverySetUp.saveOne(2L);
+			deliveryService.allocateRider(delivery.getDeliveryId(), rider.getRiderId());
+			deliveryService.startDelivery(delivery.getDeliveryId(), rider.getRiderId());
+			deliveryService.finishDelivery(delivery.getDeliveryId(), rider.getRiderId());
+			deliveryService.allocateRider(delivering.getDeliveryId(), rider.getRiderId());
+			deliveryService.startDelivery(delivering.getDeliveryId(), rider.getRiderId());
+
+			// when
+			DeliveryStatusResponse.Multiple responses = deliveryService.getRiderDeliveries(rider.getRiderId());
+
+			// then
+			assertThat(responses.deliveries())
+				.extracting(DeliveryStatusResponse::deliveryId, DeliveryStatusResponse::deliveryStatus)
+				.containsExactly(
+					tuple(delivering.getDeliveryId(), DeliveryStatus.DELIVERING)
+				);
+		}
 	}
 
 	@Nested
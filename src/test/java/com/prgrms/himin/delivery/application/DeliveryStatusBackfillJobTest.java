@@ -0,0 +1,64 @@
+package com.prgrms.himin.delivery.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.prgrms.himin.delivery.domain.Delivery;
+import com.prgrms.himin.delivery.domain.DeliveryRepository;
+import com.prgrms.himin.delivery.domain.DeliveryStatus;
+import com.prgrms.himin.delivery.domain.Rider;
+import com.prgrms.himin.setup.domain.DeliverySetUp;
+import com.prgrms.himin.setup.domain.RiderSetUp;
+
+@SpringBootTest(properties = "delivery.status-backfill.enabled=true")
+@Sql("/truncate.sql")
+class DeliveryStatusBackfillJobTest {
+
+	@Autowired
+	DeliverySetUp deliverySetUp;
+
+	@Autowired
+	RiderSetUp riderSetUp;
+
+	@Autowired
+	DeliveryService deliveryService;
+
+	@Autowired
+	DeliveryRepository deliveryRepository;
+
+	@Autowired
+	DeliveryStatusBackfillJob deliveryStatusBackfillJob;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@DisplayName("배달 이력의 마지막 상태로 배달 상태를 채우고 버전을 0 으로 둔다.")
+	@Test
+	void success_test() {
+		// given
+		Delivery delivery = deliverySetUp.saveOne(1L);
+		Rider rider = riderSetUp.saveOne();
+		deliveryService.allocateRider(delivery.getDeliveryId(), rider.getRiderId());
+
+		jdbcTemplate.update("UPDATE deliveries SET status = NULL, status_changed_at = NULL, version = NULL");
+
+		// when
+		deliveryStatusBackfillJob.run();
+
+		// then
+		Delivery backfilledDelivery = deliveryRepository.findById(delivery.getDeliveryId()).get();
+		assertThat(backfilledDelivery.getStatus()).isEqualTo(DeliveryStatus.ALLOCATED);
+		assertThat(backfilledDelivery.getStatusChangedAt()).isNotNull();
+		assertThat(backfilledDelivery.getVersion()).isZero();
+
+		deliveryService.startDelivery(delivery.getDeliveryId(), rider.getRiderId());
+		assertThat(deliveryRepository.findById(delivery.getDeliveryId()).get().getStatus())
+			.isEqualTo(DeliveryStatus.DELIVERING);
+	}
+}
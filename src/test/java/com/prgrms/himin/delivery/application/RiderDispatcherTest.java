@@ -0,0 +1,244 @@
+package com.prgrms.himin.delivery.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.prgrms.himin.delivery.domain.Delivery;
+import com.prgrms.himin.delivery.domain.DeliveryHistory;
+import com.prgrms.himin.delivery.domain.DeliveryHistoryRepository;
+import com.prgrms.himin.delivery.domain.DeliveryRepository;
+import com.prgrms.himin.delivery.domain.DeliveryStatus;
+import com.prgrms.himin.delivery.domain.Rider;
+import com.prgrms.himin.delivery.dto.request.RiderLocationRequest;
+import com.prgrms.himin.global.geo.GeoPoint;
+import com.prgrms.himin.global.geo.GeocodingJob;
+import com.prgrms.himin.member.domain.Member;
+import com.prgrms.himin.menu.domain.Menu;
+import com.prgrms.himin.order.application.OrderService;
+import com.prgrms.himin.setup.domain.DeliverySetUp;
+import com.prgrms.himin.setup.domain.MemberSetUp;
+import com.prgrms.himin.setup.domain.MenuSetUp;
+import com.prgrms.himin.setup.domain.RiderSetUp;
+import com.prgrms.himin.setup.domain.ShopSetUp;
+import com.prgrms.himin.setup.request.OrderCreateRequestBuilder;
+import com.prgrms.himin.setup.request.SelectedMenuRequestBuilder;
+import com.prgrms.himin.shop.domain.Category;
+import com.prgrms.himin.shop.domain.Shop;
+import com.prgrms.himin.shop.domain.ShopRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@Sql("/truncate.sql")
+class RiderDispatcherTest {
+
+	@Autowired
+	RiderDispatcher riderDispatcher;
+
+	@Autowired
+	RiderPool riderPool;
+
+	@Autowired
+	RiderLocations riderLocations;
+
+	@Autowired
+	RiderService riderService;
+
+	@Autowired
+	DeliveryService deliveryService;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	GeocodingJob geocodingJob;
+
+	@Autowired
+	OrderService orderService;
+
+	@Autowired
+	DeliveryRepository deliveryRepository;
+
+	@Autowired
+	DeliveryHistoryRepository deliveryHistoryRepository;
+
+	@Autowired
+	ShopRepository shopRepository;
+
+	@Autowired
+	MemberSetUp memberSetUp;
+
+	@Autowired
+	ShopSetUp shopSetUp;
+
+	@Autowired
+	MenuSetUp menuSetUp;
+
+	@Autowired
+	DeliverySetUp deliverySetUp;
+
+	@Autowired
+	RiderSetUp riderSetUp;
+
+	Member member;
+
+	@BeforeEach
+	void setUp() {
+		riderPool.clear();
+		riderLocations.clear();
+		member = memberSetUp.saveOne();
+	}
+
+	@DisplayName("대기 중인 기사를 가게까지 거리 합이 가장 작도록 배정한다.")
+	@Test
+	void success_test() {
+		// given
+		Shop gwangmyeong = shopSetUp.saveOpened("광명동 김밥", Category.ASIAN, "경기도 광명시 광명동");
+		Shop cheolsan = shopSetUp.saveOpened("철산동 버거", Category.FAST_FOOD, "경기도 광명시 철산동");
+		geocodingJob.run();
+		Delivery gwangmyeongDelivery = saveDelivery(gwangmyeong);
+		Delivery cheolsanDelivery = saveDelivery(cheolsan);
+		Rider nearCheolsan = riderSetUp.saveOne();
+		Rider nearGwangmyeong = riderSetUp.saveOne();
+		startWaiting(nearCheolsan.getRiderId(), positionOf(cheolsan));
+		startWaiting(nearGwangmyeong.getRiderId(), positionOf(gwangmyeong));
+
+		// when
+		riderDispatcher.dispatch();
+
+		// then
+		assertThat(riderIdOf(gwangmyeongDelivery)).isEqualTo(nearGwangmyeong.getRiderId());
+		assertThat(riderIdOf(cheolsanDelivery)).isEqualTo(nearCheolsan.getRiderId());
+		assertThat(deliveryHistoryRepository.findDeliveryHistoriesByDeliveryId(gwangmyeongDelivery.getDeliveryId()))
+			.extracting(DeliveryHistory::getDeliveryStatus)
+			.containsExactly(DeliveryStatus.BEFORE_DELIVERY, DeliveryStatus.ALLOCATED);
+		assertThat(riderPool.findAll()).isEmpty();
+	}
+
+	@DisplayName("기사가 모자라면 먼저 들어온 배달을 배정하고 남은 배달은 다음 배차로 넘긴다.")
+	@Test
+	void fewer_riders_success_test() {
+		// given
+		Shop shop = shopSetUp.saveOpened("광명동 김밥", Category.ASIAN, "경기도 광명시 광명동");
+		geocodingJob.run();
+		Delivery first = saveDelivery(shop);
+		Delivery second = saveDelivery(shop);
+		Rider rider = riderSetUp.saveOne();
+		startWaiting(rider.getRiderId(), positionOf(shop));
+
+		// when
+		riderDispatcher.dispatch();
+
+		// then
+		assertThat(riderIdOf(first)).isEqualTo(rider.getRiderId());
+		assertThat(deliveryRepository.findById(second.getDeliveryId()).get().getRider()).isNull();
+	}
+
+	@DisplayName("가게에서 너무 먼 기사는 배정하지 않고 대기 상태로 둔다.")
+	@Test
+	void too_far_rider_test() {
+		// given
+		Shop shop = shopSetUp.saveOpened("광명동 김밥", Category.ASIAN, "경기도 광명시 광명동");
+		geocodingJob.run();
+		Delivery delivery = saveDelivery(shop);
+		Rider rider = riderSetUp.saveOne();
+		startWaiting(rider.getRiderId(), new GeoPoint(35.1796, 129.0756));
+
+		// when
+		riderDispatcher.dispatch();
+
+		// then
+		assertThat(deliveryRepository.findById(delivery.getDeliveryId()).get().getRider()).isNull();
+		assertThat(riderPool.contains(rider.getRiderId())).isTrue();
+	}
+
+	@DisplayName("이미 배달 중인 기사가 대기 목록에 남아 있어도 다른 배달을 배정하지 않고 목록에서 뺀다.")
+	@Test
+	void busy_rider_test() {
+		// given
+		Shop shop = shopSetUp.saveOpened("광명동 김밥", Category.ASIAN, "경기도 광명시 광명동");
+		geocodingJob.run();
+		Delivery allocated = saveDelivery(shop);
+		Delivery pending = saveDelivery(shop);
+		Rider rider = riderSetUp.saveOne();
+		deliveryService.allocateRider(allocated.getDeliveryId(), rider.getRiderId());
+		startWaiting(rider.getRiderId(), positionOf(shop));
+
+		// when
+		riderDispatcher.dispatch();
+
+		// then
+		assertThat(deliveryRepository.findById(pending.getDeliveryId()).get().getRider()).isNull();
+		assertThat(riderPool.contains(rider.getRiderId())).isFalse();
+	}
+
+	@DisplayName("어떤 기사도 닿지 않는 배달이 묶음을 채워도 다음 배차에서 뒤의 배달을 읽는다.")
+	@Test
+	void unreachable_deliveries_do_not_starve_test() {
+		// given
+		RiderDispatcher dispatcher = new RiderDispatcher(
+			jdbcTemplate,
+			riderPool,
+			riderLocations,
+			deliveryService,
+			new SimpleMeterRegistry(),
+			1,
+			10,
+			500,
+			1
+		);
+		Shop gwangmyeong = shopSetUp.saveOpened("광명동 김밥", Category.ASIAN, "경기도 광명시 광명동");
+		Shop cheolsan = shopSetUp.saveOpened("철산동 버거", Category.FAST_FOOD, "경기도 광명시 철산동");
+		geocodingJob.run();
+		Delivery unreachable = saveDelivery(gwangmyeong);
+		Delivery reachable = saveDelivery(cheolsan);
+		Rider rider = riderSetUp.saveOne();
+		startWaiting(rider.getRiderId(), positionOf(cheolsan));
+
+		// when
+		dispatcher.dispatch();
+		dispatcher.dispatch();
+
+		// then
+		assertThat(deliveryRepository.findById(unreachable.getDeliveryId()).get().getRider()).isNull();
+		assertThat(riderIdOf(reachable)).isEqualTo(rider.getRiderId());
+	}
+
+	private Delivery saveDelivery(Shop shop) {
+		Menu menu = menuSetUp.saveOne(shop);
+		Long orderId = orderService.createOrder(OrderCreateRequestBuilder.successBuild(
+			member.getId(),
+			shop.getShopId(),
+			List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+		)).orderId();
+
+		return deliverySetUp.saveOne(orderId, shop.getShopId());
+	}
+
+	private void startWaiting(
+		Long riderId,
+		GeoPoint position
+	) {
+		riderService.startWaiting(riderId, new RiderLocationRequest(position.latitude(), position.longitude()));
+		riderLocations.index();
+	}
+
+	private GeoPoint positionOf(Shop shop) {
+		Shop geocoded = shopRepository.findById(shop.getShopId()).get();
+
+		return new GeoPoint(geocoded.getLatitude(), geocoded.getLongitude());
+	}
+
+	private Long riderIdOf(Delivery delivery) {
+		return deliveryRepository.findById(delivery.getDeliveryId()).get().getRider().getRiderId();
+	}
+}
@@ -0,0 +1,145 @@
+package com.prgrms.himin.delivery.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.prgrms.himin.delivery.domain.Rider;
+import com.prgrms.himin.delivery.domain.RiderLocationIndex;
+import com.prgrms.himin.delivery.domain.RiderRepository;
+import com.prgrms.himin.delivery.dto.request.RiderLocationRequest;
+import com.prgrms.himin.global.error.exception.EntityNotFoundException;
+import com.prgrms.himin.global.geo.GeoPoint;
+import com.prgrms.himin.setup.domain.RiderSetUp;
+import com.prgrms.himin.setup.query.QueryCounter;
+
+@SpringBootTest
+@Sql("/truncate.sql")
+class RiderLocationsTest {
+
+	@Autowired
+	RiderService riderService;
+
+	@Autowired
+	RiderLocations riderLocations;
+
+	@Autowired
+	RiderPool riderPool;
+
+	@Autowired
+	RiderRepository riderRepository;
+
+	@Autowired
+	RiderSetUp riderSetUp;
+
+	@Autowired
+	QueryCounter queryCounter;
+
+	Rider rider;
+
+	@BeforeEach
+	void setUp() {
+		riderLocations.clear();
+		riderPool.clear();
+		rider = riderSetUp.saveOne();
+	}
+
+	@AfterEach
+	void tearDown() {
+		riderLocations.clear();
+		riderPool.clear();
+	}
+
+	@DisplayName("핑은 DB 에 쓰지 않고, 색인에는 기사의 마지막 위치만 반영한다.")
+	@Test
+	void index_test() {
+		// given
+		riderService.recordLocation(rider.getRiderId(), new RiderLocationRequest(37.4772, 126.8549));
+
+		// when
+		queryCounter.reset();
+		for (int i = 1; i <= 100; i++) {
+			riderService.recordLocation(rider.getRiderId(), new RiderLocationRequest(37.4772 + i * 0.0001, 126.8549));
+		}
+		int queries = queryCounter.getCount();
+		riderLocations.index();
+
+		// then
+		assertThat(queries).isZero();
+		assertThat(riderLocations.findNearby(new GeoPoint(37.4872, 126.8549), 100, 10, riderId -> true))
+			.extracting(RiderLocationIndex.Hit::distanceMeters)
+			.containsExactly(0L);
+		assertThat(riderRepository.findById(rider.getRiderId()).get().getLatitude()).isNull();
+	}
+
+	@DisplayName("모아 둔 마지막 위치를 주기적으로 한 번에 저장한다.")
+	@Test
+	void persist_test() {
+		// given
+		riderService.recordLocation(rider.getRiderId(), new RiderLocationRequest(37.4772, 126.8549));
+		riderService.recordLocation(rider.getRiderId(), new RiderLocationRequest(37.4800, 126.8600));
+		riderLocations.index();
+
+		// when
+		riderLocations.persist();
+
+		// then
+		Rider saved = riderRepository.findById(rider.getRiderId()).get();
+		assertThat(saved.getLatitude()).isEqualTo(37.4800);
+		assertThat(saved.getLongitude()).isEqualTo(126.8600);
+		assertThat(saved.getLocationUpdatedAt()).isNotNull();
+	}
+
+	@DisplayName("배차 대기 중인 기사는 대기열의 위치도 옮긴다.")
+	@Test
+	void waiting_rider_test() {
+		// given
+		riderService.startWaiting(rider.getRiderId(), new RiderLocationRequest(37.4772, 126.8549));
+		riderService.recordLocation(rider.getRiderId(), new RiderLocationRequest(37.4800, 126.8600));
+
+		// when
+		riderLocations.index();
+
+		// then
+		assertThat(riderPool.findAll())
+			.extracting(RiderPool.AvailableRider::position)
+			.containsExactly(new GeoPoint(37.4800, 126.8600));
+	}
+
+	@DisplayName("저장해 둔 위치로 색인을 다시 만든다.")
+	@Test
+	void rebuild_test() {
+		// given
+		riderService.recordLocation(rider.getRiderId(), new RiderLocationRequest(37.4800, 126.8600));
+		riderLocations.index();
+		riderLocations.persist();
+		riderLocations.clear();
+
+		// when
+		riderLocations.rebuild();
+
+		// then
+		assertThat(riderLocations.findNearby(new GeoPoint(37.4800, 126.8600), 100, 10, riderId -> true))
+			.extracting(RiderLocationIndex.Hit::riderId)
+			.containsExactly(rider.getRiderId());
+	}
+
+	@DisplayName("없는 기사의 위치는 받지 않는다.")
+	@Test
+	void not_exist_rider_fail_test() {
+		// given
+		Long wrongId = 0L;
+
+		// when & then
+		assertThatThrownBy(
+			() -> riderService.recordLocation(wrongId, new RiderLocationRequest(37.4772, 126.8549))
+		)
+			.isInstanceOf(EntityNotFoundException.class);
+	}
+}
@@ -24,8 +24,10 @@ import com.prgrms.himin.delivery.api.DeliveryController;
 import com.prgrms.himin.delivery.application.DeliveryService;
 import com.prgrms.himin.delivery.dto.response.DeliveryHistoryResponse;
 import com.prgrms.himin.delivery.dto.response.DeliveryResponse;
+import com.prgrms.himin.delivery.dto.response.DeliveryStatusResponse;
 import com.prgrms.himin.setup.response.DeliveryHistoryResponseBuilder;
 import com.prgrms.himin.setup.response.DeliveryResponseBuilder;
+import com.prgrms.himin.setup.response.DeliveryStatusResponseBuilder;
 
 @AutoConfigureRestDocs
 @AutoConfigureMockMvc(addFilters = false)
@@ -185,4 +187,68 @@ class DeliveryDocumentationTest {
 					fieldWithPath("historyInfos[].createdAt").type(JsonFieldType.STRING).description("생성 일시")
 				)));
 	}
+
+	@DisplayName("배달의 현재 상태를 조회할 수 있다.")
+	@Test
+	void getDeliveryStatus() throws Exception {
+		// given
+		DeliveryStatusResponse response = DeliveryStatusResponseBuilder.allocatedBuild();
+
+		given(deliveryService.getDeliveryStatus(anyLong())).willReturn(response);
+
+		// when
+		ResultActions resultAction = mvc.perform(
+			get("/api/deliveries/{deliveryId}/status", 1L)
+				.accept(MediaType.APPLICATION_JSON)
+		);
+
+		// then
+		resultAction.andExpect(status().isOk())
+			.andDo(document("delivery-get-status",
+				preprocessRequest(prettyPrint()),
+				preprocessResponse(prettyPrint()),
+				pathParameters(
+					parameterWithName("deliveryId").description("배달 ID")
+				),
+				responseFields(
+					fieldWithPath("deliveryId").type(JsonFieldType.NUMBER).description("배달 ID"),
+					fieldWithPath("orderId").type(JsonFieldType.NUMBER).description("주문 ID"),
+					fieldWithPath("riderId").type(JsonFieldType.NUMBER).description("배달기사 ID").optional(),
+					fieldWithPath("deliveryStatus").type(JsonFieldType.STRING).description("배달 상태"),
+					fieldWithPath("statusChangedAt").type(JsonFieldType.STRING).description("상태 변경 일시")
+				)));
+	}
+
+	@DisplayName("배달기사가 맡은 진행 중인 배달을 조회할 수 있다.")
+	@Test
+	void getRiderDeliveries() throws Exception {
+		// given
+		DeliveryStatusResponse.Multiple response = DeliveryStatusResponseBuilder.riderDeliveriesBuild();
+
+		given(deliveryService.getRiderDeliveries(anyLong())).willReturn(response);
+
+		// when
+		ResultActions resultAction = mvc.perform(
+			get("/api/deliveries")
+				.param("riderId", "1")
+				.accept(MediaType.APPLICATION_JSON)
+		);
+
+		// then
+		resultAction.andExpect(status().isOk())
+			.andDo(document("delivery-get-rider-deliveries",
+				preprocessRequest(prettyPrint()),
+				preprocessResponse(prettyPrint()),
+				requestParameters(
+					parameterWithName("riderId").description("배달기사 ID")
+				),
+				responseFields(
+					fieldWithPath("deliveries[].deliveryId").type(JsonFieldType.NUMBER).description("배달 ID"),
+					fieldWithPath("deliveries[].orderId").type(JsonFieldType.NUMBER).description("주문 ID"),
+					fieldWithPath("deliveries[].riderId").type(JsonFieldType.NUMBER).description("배달기사 ID"),
+					fieldWithPath("deliveries[].deliveryStatus").type(JsonFieldType.STRING).description("배달 상태"),
+					fieldWithPath("deliveries[].statusChangedAt").type(JsonFieldType.STRING)
+						.description("상태 변경 일시")
+				)));
+	}
 }
@@ -0,0 +1,88 @@
+package com.prgrms.himin.delivery.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocationRingBufferTest {
+
+	@DisplayName("넣은 순서대로 꺼내고, 가득 차면 더 넣지 않는다.")
+	@Test
+	void offer_and_drain_test() {
+		// given
+		LocationRingBuffer buffer = new LocationRingBuffer(4);
+		for (int i = 0; i < 4; i++) {
+			assertThat(buffer.offer(i, 37.0 + i, 127.0, i)).isTrue();
+		}
+
+		// when
+		boolean overflowed = buffer.offer(9, 0, 0, 9);
+		List<Long> drained = new ArrayList<>();
+		buffer.drain((riderId, latitude, longitude, recordedAtMillis) -> drained.add(riderId), 10);
+
+		// then
+		assertThat(overflowed).isFalse();
+		assertThat(drained).containsExactly(0L, 1L, 2L, 3L);
+		assertThat(buffer.size()).isZero();
+		assertThat(buffer.offer(5, 0, 0, 5)).isTrue();
+	}
+
+	@DisplayName("여러 스레드가 동시에 넣어도 잃지 않고, 기사마다 넣은 순서대로 꺼낸다.")
+	@Test
+	void concurrent_offer_test() throws InterruptedException {
+		// given
+		int producers = 4;
+		int pingsPerProducer = 10_000;
+		LocationRingBuffer buffer = new LocationRingBuffer(1024);
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		CountDownLatch done = new CountDownLatch(producers);
+		for (int producer = 0; producer < producers; producer++) {
+			long riderId = producer;
+			executor.submit(() -> {
+				for (int ping = 0; ping < pingsPerProducer; ping++) {
+					while (!buffer.offer(riderId, 0, 0, ping)) {
+						Thread.onSpinWait();
+					}
+				}
+				done.countDown();
+			});
+		}
+
+		// when
+		Map<Long, Long> lastRecordedAt = new HashMap<>();
+		List<Long> outOfOrder = new ArrayList<>();
+		int drained = 0;
+		while (drained < producers * pingsPerProducer) {
+			drained += buffer.drain((riderId, latitude, longitude, recordedAtMillis) -> {
+				Long previous = lastRecordedAt.put(riderId, recordedAtMillis);
+				if (previous != null && previous + 1 != recordedAtMillis) {
+					outOfOrder.add(riderId);
+				}
+			}, 256);
+		}
+		done.await(10, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		// then
+		assertThat(outOfOrder).isEmpty();
+		assertThat(lastRecordedAt).hasSize(producers)
+			.allSatisfy((riderId, recordedAt) -> assertThat(recordedAt).isEqualTo(pingsPerProducer - 1L));
+	}
+
+	@DisplayName("크기가 2의 거듭제곱이 아니면 만들 수 없다.")
+	@Test
+	void capacity_fail_test() {
+		assertThatThrownBy(() -> new LocationRingBuffer(1000))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,108 @@
+package com.prgrms.himin.delivery.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MinCostAssignmentTest {
+
+	@DisplayName("각 행에서 가장 싼 열이 겹치면 전체 비용이 가장 작은 배정을 고른다.")
+	@Test
+	void square_test() {
+		// given
+		double[][] costs = {
+			{4, 1, 3},
+			{2, 0, 5},
+			{3, 2, 2}
+		};
+
+		// when
+		int[] assignment = MinCostAssignment.solve(costs);
+
+		// then
+		assertThat(assignment).containsExactly(1, 0, 2);
+	}
+
+	@DisplayName("행이 열보다 많으면 비용이 작은 행만 배정하고 나머지는 -1 이다.")
+	@Test
+	void more_rows_test() {
+		// given
+		double[][] costs = {
+			{5},
+			{1},
+			{3}
+		};
+
+		// when
+		int[] assignment = MinCostAssignment.solve(costs);
+
+		// then
+		assertThat(assignment).containsExactly(-1, 0, -1);
+	}
+
+	@DisplayName("열이 행보다 많으면 모든 행을 서로 다른 열에 배정한다.")
+	@Test
+	void more_columns_test() {
+		// given
+		double[][] costs = {
+			{7, 3, 1, 9},
+			{2, 8, 1, 6}
+		};
+
+		// when
+		int[] assignment = MinCostAssignment.solve(costs);
+
+		// then
+		assertThat(assignment).containsExactly(2, 0);
+	}
+
+	@DisplayName("음수 비용이 섞여도 모든 순열을 비교한 최소 비용과 같다.")
+	@Test
+	void brute_force_test() {
+		// given
+		Random random = new Random(42);
+		for (int trial = 0; trial < 200; trial++) {
+			double[][] costs = new double[5][5];
+			for (double[] row : costs) {
+				for (int column = 0; column < row.length; column++) {
+					row[column] = random.nextInt(200) - 100;
+				}
+			}
+
+			// when
+			int[] assignment = MinCostAssignment.solve(costs);
+
+			// then
+			double total = 0;
+			for (int row = 0; row < costs.length; row++) {
+				total += costs[row][assignment[row]];
+			}
+			assertThat(total).isEqualTo(minimumCost(costs, 0, new boolean[5]));
+		}
+	}
+
+	private double minimumCost(
+		double[][] costs,
+		int row,
+		boolean[] used
+	) {
+		if (row == costs.length) {
+			return 0;
+		}
+
+		double minimum = Double.POSITIVE_INFINITY;
+		for (int column = 0; column < used.length; column++) {
+			if (used[column]) {
+				continue;
+			}
+			used[column] = true;
+			minimum = Math.min(minimum, costs[row][column] + minimumCost(costs, row + 1, used));
+			used[column] = false;
+		}
+
+		return minimum;
+	}
+}
@@ -0,0 +1,83 @@
+package com.prgrms.himin.delivery.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgrms.himin.global.geo.GeoPoint;
+
+class RiderLocationIndexTest {
+
+	static final GeoPoint ORIGIN = new GeoPoint(37.4772, 126.8549);
+
+	RiderLocationIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new RiderLocationIndex();
+	}
+
+	@DisplayName("반경 안의 기사를 가까운 순으로 찾는다.")
+	@Test
+	void find_nearby_test() {
+		// given
+		index.put(new RiderLocation(1L, 37.4800, 126.8549, 0L));
+		index.put(new RiderLocation(2L, 37.4772, 126.8560, 0L));
+		index.put(new RiderLocation(3L, 37.6000, 126.8549, 0L));
+
+		// when & then
+		assertThat(index.findNearby(ORIGIN, 1000, 10, riderId -> true))
+			.extracting(RiderLocationIndex.Hit::riderId)
+			.containsExactly(2L, 1L);
+		assertThat(index.findNearby(ORIGIN, 1000, 1, riderId -> true))
+			.extracting(RiderLocationIndex.Hit::riderId)
+			.containsExactly(2L);
+	}
+
+	@DisplayName("다른 칸으로 옮긴 기사는 새 위치에서만 찾는다.")
+	@Test
+	void move_test() {
+		// given
+		index.put(new RiderLocation(1L, 37.4772, 126.8549, 0L));
+
+		// when
+		index.put(new RiderLocation(1L, 37.6000, 126.9000, 1L));
+
+		// then
+		assertThat(index.findNearby(ORIGIN, 1000, 10, riderId -> true)).isEmpty();
+		assertThat(index.findNearby(new GeoPoint(37.6000, 126.9000), 100, 10, riderId -> true))
+			.extracting(RiderLocationIndex.Hit::riderId)
+			.containsExactly(1L);
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@DisplayName("더 오래된 위치는 무시한다.")
+	@Test
+	void older_location_test() {
+		// given
+		index.put(new RiderLocation(1L, 37.4772, 126.8549, 10L));
+
+		// when
+		index.put(new RiderLocation(1L, 37.6000, 126.9000, 5L));
+
+		// then
+		assertThat(index.findNearby(ORIGIN, 100, 10, riderId -> true))
+			.extracting(RiderLocationIndex.Hit::riderId)
+			.containsExactly(1L);
+	}
+
+	@DisplayName("filter 를 통과한 기사만 찾는다.")
+	@Test
+	void filter_test() {
+		// given
+		index.put(new RiderLocation(1L, 37.4772, 126.8549, 0L));
+		index.put(new RiderLocation(2L, 37.4772, 126.8560, 0L));
+
+		// when & then
+		assertThat(index.findNearby(ORIGIN, 1000, 1, riderId -> riderId != 1L))
+			.extracting(RiderLocationIndex.Hit::riderId)
+			.containsExactly(2L);
+	}
+}
@@ -0,0 +1,27 @@
+package com.prgrms.himin.global.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+	private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+	@DisplayName("발급한 id 는 계속 증가하고 JavaScript 안전 정수 범위 안에 있다.")
+	@Test
+	void increasing_id_test() {
+		// given
+		long previousId = TimeOrderedIdGenerator.nextId();
+
+		// when && then
+		for (int i = 0; i < 10_000; i++) {
+			long id = TimeOrderedIdGenerator.nextId();
+
+			assertThat(id).isGreaterThan(previousId);
+			assertThat(id).isLessThanOrEqualTo(MAX_SAFE_INTEGER);
+			previousId = id;
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.prgrms.himin.global.geo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AddressGeocoderTest {
+
+	AddressGeocoder addressGeocoder = new AddressGeocoder();
+
+	@DisplayName("주소와 가장 길게 겹치는 지역의 좌표를 찾는다.")
+	@Test
+	void longest_prefix_test() {
+		// when & then
+		assertThat(addressGeocoder.geocode("경기도 광명시 광명동 123-4"))
+			.contains(new GeoPoint(37.4772, 126.8549));
+		assertThat(addressGeocoder.geocode("경기도 광명시 소하동"))
+			.contains(new GeoPoint(37.4786, 126.8646));
+	}
+
+	@DisplayName("시도 이름을 줄여 써도 찾는다.")
+	@Test
+	void province_alias_test() {
+		// when & then
+		assertThat(addressGeocoder.geocode("서울시 강남구 테헤란로 1"))
+			.contains(new GeoPoint(37.5172, 127.0473));
+	}
+
+	@DisplayName("좌표표에 없는 주소는 찾지 않는다.")
+	@Test
+	void unknown_address_test() {
+		// when & then
+		assertThat(addressGeocoder.geocode("제주특별자치도 제주시")).isEmpty();
+	}
+}
@@ -0,0 +1,240 @@
+package com.prgrms.himin.global.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class IdempotencyInterceptorTest {
+
+	IdempotencyInterceptor idempotencyInterceptor;
+
+	IdempotencyProperties properties;
+
+	FailingIdempotencyStore idempotencyStore;
+
+	HandlerMethod handler;
+
+	@BeforeEach
+	void setUp() throws NoSuchMethodException {
+		properties = new IdempotencyProperties(
+			"memory",
+			Duration.ofMinutes(1),
+			100,
+			Duration.ofSeconds(5)
+		);
+		idempotencyStore = new FailingIdempotencyStore(new InMemoryIdempotencyStore(properties));
+		idempotencyInterceptor = new IdempotencyInterceptor(idempotencyStore, properties, new ObjectMapper());
+
+		Method method = IdempotentHandler.class.getDeclaredMethod("handle");
+		handler = new HandlerMethod(new IdempotentHandler(), method);
+	}
+
+	@DisplayName("처리 중인 같은 키의 요청은 기다렸다가 앞선 응답을 돌려받는다.")
+	@Test
+	void concurrent_duplicate_wait_test() throws Exception {
+		// given
+		CachedBodyRequest firstRequest = request("{\"memberId\":1}");
+		MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+		assertThat(idempotencyInterceptor.preHandle(firstRequest, firstResponse, handler)).isTrue();
+
+		MockHttpServletResponse duplicateResponse = new MockHttpServletResponse();
+		CompletableFuture<Boolean> duplicate = CompletableFuture.supplyAsync(() -> {
+			try {
+				return idempotencyInterceptor.preHandle(request("{\"memberId\":1}"), duplicateResponse, handler);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		// when
+		firstRequest.setAttribute(IdempotencyInterceptor.BODY_ATTRIBUTE, "{\"orderId\":1}");
+		idempotencyInterceptor.afterCompletion(firstRequest, firstResponse, handler, null);
+
+		// then
+		assertThat(duplicate.get(5, TimeUnit.SECONDS)).isFalse();
+		assertThat(duplicateResponse.getContentAsString()).isEqualTo("{\"orderId\":1}");
+		assertThat(duplicateResponse.getHeader(IdempotencyInterceptor.REPLAYED_HEADER)).isEqualTo("true");
+	}
+
+	@DisplayName("앞선 요청이 실패하면 같은 키의 요청을 다시 처리한다.")
+	@Test
+	void failed_request_retry_test() throws Exception {
+		// given
+		CachedBodyRequest firstRequest = request("{\"memberId\":1}");
+		MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+		idempotencyInterceptor.preHandle(firstRequest, firstResponse, handler);
+		firstResponse.setStatus(400);
+		idempotencyInterceptor.afterCompletion(firstRequest, firstResponse, handler, null);
+
+		// when
+		boolean proceed = idempotencyInterceptor.preHandle(
+			request("{\"memberId\":1}"),
+			new MockHttpServletResponse(),
+			handler
+		);
+
+		// then
+		assertThat(proceed).isTrue();
+	}
+
+	@DisplayName("같은 키로 본문이 다른 요청을 보내면 앞선 응답을 돌려주지 않고 거절한다.")
+	@Test
+	void different_body_reject_test() throws Exception {
+		// given
+		CachedBodyRequest firstRequest = request("{\"memberId\":1,\"address\":\"서울\"}");
+		MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+		idempotencyInterceptor.preHandle(firstRequest, firstResponse, handler);
+		firstRequest.setAttribute(IdempotencyInterceptor.BODY_ATTRIBUTE, "{\"orderId\":1}");
+		idempotencyInterceptor.afterCompletion(firstRequest, firstResponse, handler, null);
+
+		// when && then
+		MockHttpServletResponse otherResponse = new MockHttpServletResponse();
+		assertThatThrownBy(
+			() -> idempotencyInterceptor.preHandle(
+				request("{\"memberId\":1,\"address\":\"부산\"}"),
+				otherResponse,
+				handler
+			)
+		).isInstanceOf(IdempotencyKeyReusedException.class);
+		assertThat(otherResponse.getContentAsString()).isEmpty();
+	}
+
+	@DisplayName("다른 회원이 같은 키를 보내면 앞선 응답을 돌려주지 않고 따로 처리한다.")
+	@Test
+	void different_member_test() throws Exception {
+		// given
+		CachedBodyRequest firstRequest = request("{\"memberId\":1}");
+		MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+		idempotencyInterceptor.preHandle(firstRequest, firstResponse, handler);
+		firstRequest.setAttribute(IdempotencyInterceptor.BODY_ATTRIBUTE, "{\"orderId\":1}");
+		idempotencyInterceptor.afterCompletion(firstRequest, firstResponse, handler, null);
+
+		// when
+		MockHttpServletResponse otherResponse = new MockHttpServletResponse();
+		boolean proceed = idempotencyInterceptor.preHandle(request("{\"memberId\":2}"), otherResponse, handler);
+
+		// then
+		assertThat(proceed).isTrue();
+		assertThat(otherResponse.getContentAsString()).isEmpty();
+	}
+
+	@DisplayName("저장소 조회가 실패해도 같은 키의 다음 요청을 처리한다.")
+	@Test
+	void find_failure_release_test() throws Exception {
+		// given
+		idempotencyStore.failFindAt(2);
+		assertThatThrownBy(
+			() -> idempotencyInterceptor.preHandle(request("{\"memberId\":1}"), new MockHttpServletResponse(), handler)
+		).isInstanceOf(IllegalStateException.class);
+
+		// when
+		boolean proceed = idempotencyInterceptor.preHandle(
+			request("{\"memberId\":1}"),
+			new MockHttpServletResponse(),
+			handler
+		);
+
+		// then
+		assertThat(proceed).isTrue();
+	}
+
+	@DisplayName("응답 저장이 실패해도 같은 키의 다음 요청을 처리한다.")
+	@Test
+	void save_failure_release_test() throws Exception {
+		// given
+		CachedBodyRequest firstRequest = request("{\"memberId\":1}");
+		MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+		idempotencyInterceptor.preHandle(firstRequest, firstResponse, handler);
+		firstRequest.setAttribute(IdempotencyInterceptor.BODY_ATTRIBUTE, "{\"orderId\":1}");
+		idempotencyStore.failSave();
+		assertThatThrownBy(
+			() -> idempotencyInterceptor.afterCompletion(firstRequest, firstResponse, handler, null)
+		).isInstanceOf(IllegalStateException.class);
+
+		// when
+		boolean proceed = idempotencyInterceptor.preHandle(
+			request("{\"memberId\":1}"),
+			new MockHttpServletResponse(),
+			handler
+		);
+
+		// then
+		assertThat(proceed).isTrue();
+	}
+
+	private CachedBodyRequest request(String body) throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+		request.addHeader(IdempotencyInterceptor.HEADER, "same-key");
+		request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return new CachedBodyRequest(request);
+	}
+
+	static class IdempotentHandler {
+
+		@Idempotent
+		public void handle() {
+		}
+	}
+
+	static class FailingIdempotencyStore implements IdempotencyStore {
+
+		private final IdempotencyStore delegate;
+
+		private final AtomicInteger finds = new AtomicInteger();
+
+		private int failingFind;
+
+		private boolean failingSave;
+
+		FailingIdempotencyStore(IdempotencyStore delegate) {
+			this.delegate = delegate;
+		}
+
+		void failFindAt(int find) {
+			this.failingFind = find;
+		}
+
+		void failSave() {
+			this.failingSave = true;
+		}
+
+		@Override
+		public Optional<IdempotentResponse> find(String key) {
+			if (finds.incrementAndGet() == failingFind) {
+				throw new IllegalStateException();
+			}
+
+			return delegate.find(key);
+		}
+
+		@Override
+		public void save(
+			String key,
+			IdempotentResponse response
+		) {
+			if (failingSave) {
+				throw new IllegalStateException();
+			}
+
+			delegate.save(key, response);
+		}
+	}
+}
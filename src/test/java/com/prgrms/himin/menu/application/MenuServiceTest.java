@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
 import com.prgrms.himin.menu.domain.Menu;
@@ -44,6 +45,9 @@ class MenuServiceTest {
 	@Mock
 	MenuValidator menuValidator;
 
+	@Mock
+	ApplicationEventPublisher publisher;
+
 	MenuCreateRequest request;
 
 	Shop shop;
@@ -104,6 +104,7 @@ public class MenuDocumentationTest {
 					fieldWithPath("name").type(JsonFieldType.STRING).description("메뉴 이름"),
 					fieldWithPath("price").type(JsonFieldType.NUMBER).description("메뉴 가격"),
 					fieldWithPath("popularity").type(JsonFieldType.BOOLEAN).description("메뉴 인기 여부"),
+					fieldWithPath("bestSeller").type(JsonFieldType.BOOLEAN).description("최근 주문이 많은 메뉴 여부"),
 					fieldWithPath("status").type(JsonFieldType.STRING).description("메뉴 상태"),
 					fieldWithPath("menuOptionGroupResponses[].menuOptionGroupId")
 						.type(JsonFieldType.NUMBER)
@@ -5,6 +5,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
@@ -16,22 +17,30 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.global.idempotency.IdempotencyInterceptor;
 import com.prgrms.himin.member.domain.Member;
+import com.prgrms.himin.menu.application.MenuCatalogCache;
 import com.prgrms.himin.menu.domain.Menu;
+import com.prgrms.himin.menu.domain.MenuCatalog;
 import com.prgrms.himin.menu.domain.MenuOption;
 import com.prgrms.himin.menu.domain.MenuOptionGroup;
+import com.prgrms.himin.order.application.OrderService;
+import com.prgrms.himin.order.application.OrderStatusStream;
 import com.prgrms.himin.order.domain.Order;
 import com.prgrms.himin.order.domain.OrderItem;
+import com.prgrms.himin.order.domain.OrderRepository;
 import com.prgrms.himin.order.domain.SelectedOption;
 import com.prgrms.himin.order.dto.request.OrderCreateRequest;
 import com.prgrms.himin.order.dto.request.SelectedMenuOptionRequest;
 import com.prgrms.himin.order.dto.request.SelectedMenuRequest;
+import com.prgrms.himin.setup.domain.DeliverySetUp;
 import com.prgrms.himin.setup.domain.MemberSetUp;
 import com.prgrms.himin.setup.domain.MenuOptionGroupSetUp;
 import com.prgrms.himin.setup.domain.MenuOptionSetUp;
@@ -82,6 +91,21 @@ class OrderControllerTest {
 	@Autowired
 	SelectedOptionSetUp selectedOptionSetUp;
 
+	@Autowired
+	OrderRepository orderRepository;
+
+	@Autowired
+	OrderService orderService;
+
+	@Autowired
+	OrderStatusStream orderStatusStream;
+
+	@Autowired
+	MenuCatalogCache menuCatalogCache;
+
+	@Autowired
+	DeliverySetUp deliverySetUp;
+
 	@Nested
 	@DisplayName("주문 생성을 할 수 있다.")
 	class CreateOrder {
@@ -176,8 +200,9 @@ class OrderControllerTest {
 			selectedOptions5.forEach(selectedOption -> selectedOption.attachTo(orderItem2));
 			selectedOptions6.forEach(selectedOption -> selectedOption.attachTo(orderItem2));
 
-			int expectedPrice = orderItem1.calculateOrderItemPrice()
-				+ orderItem2.calculateOrderItemPrice()
+			MenuCatalog menuCatalog = menuCatalogCache.get(shop.getShopId());
+			int expectedPrice = orderItem1.calculateOrderItemPrice(menuCatalog)
+				+ orderItem2.calculateOrderItemPrice(menuCatalog)
 				+ shop.getDeliveryTip();
 
 			OrderCreateRequest request = OrderCreateRequestBuilder.successBuild(
@@ -242,6 +267,82 @@ class OrderControllerTest {
 				.andDo(print());
 		}
 
+		@DisplayName("같은 멱등성 키로 다시 요청하면 저장된 응답을 돌려준다.")
+		@Test
+		void idempotent_retry_success_test() throws Exception {
+			// given
+			Member member = memberSetUp.saveOne();
+			Shop shop = shopSetUp.saveOne();
+			Menu menu = menuSetUp.saveOne(shop);
+
+			OrderCreateRequest request = OrderCreateRequestBuilder.successBuild(
+				member.getId(),
+				shop.getShopId(),
+				List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+			);
+			String body = objectMapper.writeValueAsString(request);
+			String idempotencyKey = "order-create-retry";
+
+			String firstResponse = mvc.perform(post(BASE_URL)
+					.header(IdempotencyInterceptor.HEADER, idempotencyKey)
+					.content(body)
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsString(StandardCharsets.UTF_8);
+
+			// when
+			ResultActions resultActions = mvc.perform(post(BASE_URL)
+				.header(IdempotencyInterceptor.HEADER, idempotencyKey)
+				.content(body)
+				.contentType(MediaType.APPLICATION_JSON));
+
+			// then
+			resultActions.andExpect(status().isOk())
+				.andExpect(header().string(IdempotencyInterceptor.REPLAYED_HEADER, "true"))
+				.andExpect(content().json(firstResponse, true));
+			assertEquals(1, orderRepository.count());
+		}
+
+		@DisplayName("같은 멱등성 키로 다른 주문을 요청하면 실패한다.")
+		@Test
+		void idempotent_key_reused_fail_test() throws Exception {
+			// given
+			Member member = memberSetUp.saveOne();
+			Shop shop = shopSetUp.saveOne();
+			List<Menu> menus = menuSetUp.saveMany(shop);
+			String idempotencyKey = "order-create-reused";
+
+			OrderCreateRequest request = OrderCreateRequestBuilder.successBuild(
+				member.getId(),
+				shop.getShopId(),
+				List.of(SelectedMenuRequestBuilder.successBuild(menus.get(0).getId(), List.of()))
+			);
+			mvc.perform(post(BASE_URL)
+					.header(IdempotencyInterceptor.HEADER, idempotencyKey)
+					.content(objectMapper.writeValueAsString(request))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk());
+
+			OrderCreateRequest otherRequest = OrderCreateRequestBuilder.successBuild(
+				member.getId(),
+				shop.getShopId(),
+				List.of(SelectedMenuRequestBuilder.successBuild(menus.get(1).getId(), List.of()))
+			);
+
+			// when
+			ResultActions resultActions = mvc.perform(post(BASE_URL)
+				.header(IdempotencyInterceptor.HEADER, idempotencyKey)
+				.content(objectMapper.writeValueAsString(otherRequest))
+				.contentType(MediaType.APPLICATION_JSON));
+
+			// then
+			resultActions.andExpect(status().isUnprocessableEntity())
+				.andExpect(jsonPath("code").value(ErrorCode.IDEMPOTENCY_KEY_REUSED.getCode()));
+			assertEquals(1, orderRepository.count());
+		}
+
 		@DisplayName("잘못된 주문생성id 요청으로 인해 실패한다.")
 		@Test
 		void wrong_request_ids_fail_test() throws Exception {
@@ -360,6 +461,104 @@ class OrderControllerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("주문 상태를 실시간으로 받을 수 있다.")
+	class StreamOrderStatus {
+
+		final String STREAM_URL = BASE_URL + "/{orderId}/stream";
+
+		@DisplayName("연결하면 현재 상태를 받고, 이후 바뀐 상태를 받는다.")
+		@Test
+		void success_test() throws Exception {
+			// given
+			Member member = memberSetUp.saveOne();
+			Shop shop = shopSetUp.saveOne();
+			Menu menu = menuSetUp.saveOne(shop);
+			OrderItem orderItem = orderItemSetUp.makeOne(menu);
+			Order order = orderSetUp.saveOne(
+				member,
+				shop,
+				orderItem,
+				List.of()
+			);
+
+			// when
+			MvcResult mvcResult = mvc.perform(get(STREAM_URL, order.getOrderId())
+					.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+			orderService.startCooking(shop.getShopId(), order.getOrderId());
+
+			// then
+			String content = awaitContent(mvcResult, "\"orderStatus\":\"COOKING\"");
+			assertTrue(content.contains("event:" + OrderStatusStream.ORDER_STATUS_EVENT));
+			int orderedAt = content.indexOf("\"orderStatus\":\"ORDERED\"");
+			int cookingAt = content.indexOf("\"orderStatus\":\"COOKING\"");
+			assertTrue(orderedAt >= 0 && orderedAt < cookingAt);
+			assertEquals(1, orderStatusStream.subscriberCount(order.getOrderId()));
+		}
+
+		@DisplayName("연결하면 현재 배달 상태도 함께 받는다.")
+		@Test
+		void delivery_status_snapshot_test() throws Exception {
+			// given
+			Member member = memberSetUp.saveOne();
+			Shop shop = shopSetUp.saveOne();
+			Menu menu = menuSetUp.saveOne(shop);
+			OrderItem orderItem = orderItemSetUp.makeOne(menu);
+			Order order = orderSetUp.saveOne(
+				member,
+				shop,
+				orderItem,
+				List.of()
+			);
+			deliverySetUp.saveOne(order.getOrderId(), shop.getShopId());
+
+			// when
+			MvcResult mvcResult = mvc.perform(get(STREAM_URL, order.getOrderId())
+					.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+			// then
+			String content = awaitContent(mvcResult, "\"deliveryStatus\":\"BEFORE_DELIVERY\"");
+			assertTrue(content.contains("\"orderStatus\":\"ORDERED\""));
+			assertTrue(content.contains("\"deliveryStatus\":\"BEFORE_DELIVERY\""));
+		}
+
+		@DisplayName("잘못된 orderId 로 실패한다.")
+		@Test
+		void wrong_order_id_fail_test() throws Exception {
+			// given
+			Long wrongOrderId = -1L;
+
+			// when
+			ResultActions resultActions = mvc.perform(get(
+				STREAM_URL,
+				wrongOrderId
+			));
+
+			// then
+			resultActions.andExpect(status().isNotFound())
+				.andExpect(jsonPath("code").value(ErrorCode.ORDER_NOT_FOUND.getCode()));
+			assertEquals(0, orderStatusStream.subscriberCount(wrongOrderId));
+		}
+
+		private String awaitContent(
+			MvcResult mvcResult,
+			String expected
+		) throws Exception {
+			long deadline = System.currentTimeMillis() + 3000;
+			String content = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8);
+			while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+				Thread.sleep(20);
+				content = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8);
+			}
+
+			return content;
+		}
+	}
+
 	@Nested
 	@DisplayName("주문 목록 조회를 할 수 있다.")
 	class FindOrders {
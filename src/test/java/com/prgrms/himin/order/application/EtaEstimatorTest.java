@@ -0,0 +1,181 @@
+package com.prgrms.himin.order.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.prgrms.himin.delivery.application.DeliveryService;
+import com.prgrms.himin.delivery.domain.DeliveryStatus;
+import com.prgrms.himin.delivery.domain.Rider;
+import com.prgrms.himin.delivery.dto.response.DeliveryResponse;
+import com.prgrms.himin.delivery.event.DeliveryStatusChangedEvent;
+import com.prgrms.himin.member.domain.Member;
+import com.prgrms.himin.menu.domain.Menu;
+import com.prgrms.himin.order.domain.Order;
+import com.prgrms.himin.order.domain.OrderRepository;
+import com.prgrms.himin.order.dto.request.OrderCreateRequest;
+import com.prgrms.himin.setup.domain.MemberSetUp;
+import com.prgrms.himin.setup.domain.MenuSetUp;
+import com.prgrms.himin.setup.domain.RiderSetUp;
+import com.prgrms.himin.setup.domain.ShopSetUp;
+import com.prgrms.himin.setup.request.OrderCreateRequestBuilder;
+import com.prgrms.himin.setup.request.SelectedMenuRequestBuilder;
+import com.prgrms.himin.shop.domain.Shop;
+
+@SpringBootTest
+@Sql("/truncate.sql")
+class EtaEstimatorTest {
+
+	private static final Duration DEFAULT_COOK = Duration.ofMinutes(15);
+
+	private static final Duration DEFAULT_RIDE = Duration.ofMinutes(20);
+
+	@Autowired
+	EtaEstimator etaEstimator;
+
+	@Autowired
+	OrderService orderService;
+
+	@Autowired
+	OrderRepository orderRepository;
+
+	@Autowired
+	DeliveryService deliveryService;
+
+	@Autowired
+	MemberSetUp memberSetUp;
+
+	@Autowired
+	ShopSetUp shopSetUp;
+
+	@Autowired
+	MenuSetUp menuSetUp;
+
+	@Autowired
+	RiderSetUp riderSetUp;
+
+	Member member;
+
+	Shop shop;
+
+	Menu menu;
+
+	@BeforeEach
+	void setUp() {
+		etaEstimator.rebuild();
+		member = memberSetUp.saveOne();
+		shop = shopSetUp.saveOne();
+		menu = menuSetUp.saveOne(shop);
+	}
+
+	@DisplayName("쌓인 시간이 없으면 기본 조리, 주행 시간으로 도착 예정 시각을 채운다.")
+	@Test
+	void default_arrival_time_test() {
+		// when
+		Order order = createOrder();
+
+		// then
+		assertThat(remaining(order)).isCloseTo(DEFAULT_COOK.plus(DEFAULT_RIDE), Duration.ofSeconds(1));
+	}
+
+	@DisplayName("조리가 끝난 주문의 조리 시간을 가게별로 쌓아서 다음 주문의 도착 예정 시각에 쓴다.")
+	@Test
+	void record_cooking_test() {
+		// given
+		for (int i = 0; i < 5; i++) {
+			Order order = createOrder();
+			orderService.startCooking(shop.getShopId(), order.getOrderId());
+			orderService.finishCooking(shop.getShopId(), order.getOrderId());
+		}
+
+		// when
+		Order order = createOrder();
+
+		// then
+		assertThat(remaining(order)).isCloseTo(DEFAULT_RIDE, Duration.ofSeconds(1));
+	}
+
+	@DisplayName("시작할 때 최근 주문 이력에서 조리 시간을 다시 쌓는다.")
+	@Test
+	void rebuild_test() {
+		// given
+		for (int i = 0; i < 5; i++) {
+			Order order = createOrder();
+			orderService.startCooking(shop.getShopId(), order.getOrderId());
+			orderService.finishCooking(shop.getShopId(), order.getOrderId());
+		}
+
+		// when
+		etaEstimator.rebuild();
+
+		// then
+		Order order = createOrder();
+		assertThat(remaining(order)).isCloseTo(DEFAULT_RIDE, Duration.ofSeconds(1));
+	}
+
+	@DisplayName("배달이 끝나면 주행 시간을 가게별로 쌓는다.")
+	@Test
+	void record_ride_test() {
+		// given
+		Order deliveredOrder = createOrder();
+		LocalDateTime startedAt = LocalDateTime.now();
+		for (int i = 0; i < 5; i++) {
+			etaEstimator.recordRide(new DeliveryStatusChangedEvent(
+				1L,
+				deliveredOrder.getOrderId(),
+				shop.getShopId(),
+				1L,
+				startedAt,
+				DeliveryStatus.ARRIVED,
+				startedAt.plusMinutes(5)
+			));
+		}
+
+		// when
+		Order order = createOrder();
+
+		// then
+		assertThat(remaining(order)).isCloseTo(DEFAULT_COOK.plusMinutes(5), Duration.ofSeconds(1));
+	}
+
+	@DisplayName("배달을 시작하면 주행 시간만 남기고 도착 예정 시각을 다시 채운다.")
+	@Test
+	void refresh_on_delivery_start_test() {
+		// given
+		Order order = createOrder();
+		Rider rider = riderSetUp.saveOne();
+		DeliveryResponse delivery = deliveryService.createDelivery(order.getOrderId());
+		deliveryService.allocateRider(delivery.deliveryId(), rider.getRiderId());
+
+		// when
+		deliveryService.startDelivery(delivery.deliveryId(), rider.getRiderId());
+
+		// then
+		LocalDateTime arrivalTime = orderRepository.findById(order.getOrderId()).get().getArrivalTime();
+		assertThat(Duration.between(LocalDateTime.now(), arrivalTime)).isCloseTo(DEFAULT_RIDE, Duration.ofSeconds(2));
+	}
+
+	private Order createOrder() {
+		OrderCreateRequest request = OrderCreateRequestBuilder.successBuild(
+			member.getId(),
+			shop.getShopId(),
+			List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+		);
+		Long orderId = orderService.createOrder(request).orderId();
+
+		return orderRepository.findById(orderId).get();
+	}
+
+	private Duration remaining(Order order) {
+		return Duration.between(order.getStatusChangedAt(), order.getArrivalTime());
+	}
+}
@@ -13,18 +13,32 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
+import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.global.error.exception.InvalidValueException;
 import com.prgrms.himin.member.domain.Member;
+import com.prgrms.himin.menu.application.MenuService;
+import com.prgrms.himin.menu.domain.Menu;
+import com.prgrms.himin.menu.domain.MenuOptionGroup;
+import com.prgrms.himin.menu.dto.request.MenuUpdateRequest;
+import com.prgrms.himin.order.domain.OrderRepository;
+import com.prgrms.himin.order.domain.OrderStatus;
 import com.prgrms.himin.order.dto.request.OrderCreateRequest;
 import com.prgrms.himin.order.dto.request.OrderSearchCondition;
 import com.prgrms.himin.order.dto.request.SelectedMenuOptionRequest;
 import com.prgrms.himin.order.dto.request.SelectedMenuRequest;
+import com.prgrms.himin.order.dto.response.OrderBulkCreateResponse;
+import com.prgrms.himin.order.dto.response.OrderBulkCreateResult;
 import com.prgrms.himin.order.dto.response.OrderResponse;
 import com.prgrms.himin.order.dto.response.OrderResponses;
 import com.prgrms.himin.order.dto.response.SelectedMenuResponse;
 import com.prgrms.himin.setup.domain.MemberSetUp;
+import com.prgrms.himin.setup.domain.MenuOptionGroupSetUp;
+import com.prgrms.himin.setup.domain.MenuSetUp;
 import com.prgrms.himin.setup.domain.ShopSetUp;
 import com.prgrms.himin.setup.factory.SelectedMenuRequestFactory;
+import com.prgrms.himin.setup.query.QueryCounter;
 import com.prgrms.himin.setup.request.OrderCreateRequestBuilder;
+import com.prgrms.himin.setup.request.SelectedMenuRequestBuilder;
 import com.prgrms.himin.shop.domain.Category;
 import com.prgrms.himin.shop.domain.Shop;
 
@@ -38,9 +52,24 @@ class OrderServiceTest {
 	@Autowired
 	ShopSetUp shopSetUp;
 
+	@Autowired
+	MenuSetUp menuSetUp;
+
+	@Autowired
+	MenuOptionGroupSetUp menuOptionGroupSetUp;
+
 	@Autowired
 	OrderService orderService;
 
+	@Autowired
+	OrderRepository orderRepository;
+
+	@Autowired
+	QueryCounter queryCounter;
+
+	@Autowired
+	MenuService menuService;
+
 	@Autowired
 	SelectedMenuRequestFactory selectedMenuRequestFactory;
 
@@ -120,6 +149,159 @@ class OrderServiceTest {
 				() -> orderService.createOrder(orderCreateRequest)
 			).isInstanceOf(EntityNotFoundException.class);
 		}
+
+		@DisplayName("다른 가게의 메뉴로 주문 생성에 실패한다.")
+		@Test
+		void other_shop_menu_fail_test() {
+			// given
+			Member member = memberSetUp.saveOne();
+			List<Shop> shops = shopSetUp.saveMany();
+			Shop shop = shops.get(0);
+			Shop otherShop = shops.get(1);
+
+			Menu otherShopMenu = menuSetUp.saveOne(otherShop);
+			List<SelectedMenuRequest> otherShopSelectedMenuRequests = List.of(
+				SelectedMenuRequestBuilder.successBuild(otherShopMenu.getId(), List.of())
+			);
+
+			OrderCreateRequest orderCreateRequest = OrderCreateRequestBuilder.successBuild(
+				member.getId(),
+				shop.getShopId(),
+				otherShopSelectedMenuRequests
+			);
+
+			// when && then
+			assertThatThrownBy(
+				() -> orderService.createOrder(orderCreateRequest)
+			).isInstanceOf(InvalidValueException.class);
+		}
+
+		@DisplayName("존재하지 않는 메뉴옵션 id로 주문 생성에 실패한다.")
+		@Test
+		void not_found_menu_option_id_fail_test() {
+			// given
+			Member member = memberSetUp.saveOne();
+			Shop shop = shopSetUp.saveOne();
+
+			Menu menu = menuSetUp.saveOne(shop);
+			MenuOptionGroup menuOptionGroup = menuOptionGroupSetUp.saveOne(menu);
+
+			Long wrongMenuOptionId = 0L;
+			SelectedMenuOptionRequest wrongSelectedMenuOptionRequest = new SelectedMenuOptionRequest(
+				menuOptionGroup.getId(),
+				List.of(wrongMenuOptionId)
+			);
+			SelectedMenuRequest wrongSelectedMenuRequest = SelectedMenuRequestBuilder.successBuild(
+				menu.getId(),
+				List.of(wrongSelectedMenuOptionRequest)
+			);
+
+			OrderCreateRequest orderCreateRequest = OrderCreateRequestBuilder.successBuild(
+				member.getId(),
+				shop.getShopId(),
+				List.of(wrongSelectedMenuRequest)
+			);
+
+			// when && then
+			assertThatThrownBy(
+				() -> orderService.createOrder(orderCreateRequest)
+			).isInstanceOf(EntityNotFoundException.class);
+		}
+
+		@DisplayName("메뉴 가격이 변경되면 이후 주문 가격에 반영된다.")
+		@Test
+		void updated_menu_price_success_test() {
+			// given
+			Member member = memberSetUp.saveOne();
+			Shop shop = shopSetUp.saveOne();
+			Menu menu = menuSetUp.saveOne(shop);
+
+			OrderCreateRequest orderCreateRequest = OrderCreateRequestBuilder.successBuild(
+				member.getId(),
+				shop.getShopId(),
+				List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+			);
+			orderService.createOrder(orderCreateRequest);
+
+			MenuUpdateRequest.Info menuUpdateRequest = new MenuUpdateRequest.Info("짜장면", 7000);
+			menuService.updateMenu(
+				shop.getShopId(),
+				menu.getId(),
+				menuUpdateRequest
+			);
+
+			// when
+			OrderResponse orderResponse = orderService.createOrder(orderCreateRequest);
+
+			// then
+			int quantity = orderCreateRequest.selectedMenus().get(0).quantity();
+			int expectedPrice = menuUpdateRequest.price() * quantity + shop.getDeliveryTip();
+			assertThat(orderResponse.price()).isEqualTo(expectedPrice);
+		}
+	}
+
+	@Nested
+	@DisplayName("주문을 한 번에 여러 개 생성할 수 있다.")
+	class CreateOrders {
+
+		@DisplayName("실패한 주문은 건너뛰고 주문마다 결과를 돌려준다.")
+		@Test
+		void partial_failure_success_test() {
+			// given
+			Member member = memberSetUp.saveOne();
+			List<Shop> shops = shopSetUp.saveMany();
+			Shop shop = shops.get(0);
+			Shop otherShop = shops.get(1);
+			Menu menu = menuSetUp.saveOne(shop);
+			Menu otherShopMenu = menuSetUp.saveOne(otherShop);
+
+			List<OrderCreateRequest> requests = List.of(
+				OrderCreateRequestBuilder.successBuild(
+					member.getId(),
+					shop.getShopId(),
+					List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+				),
+				OrderCreateRequestBuilder.successBuild(
+					member.getId(),
+					0L,
+					List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+				),
+				OrderCreateRequestBuilder.successBuild(
+					member.getId(),
+					shop.getShopId(),
+					List.of(SelectedMenuRequestBuilder.successBuild(otherShopMenu.getId(), List.of()))
+				),
+				OrderCreateRequestBuilder.successBuild(
+					member.getId(),
+					otherShop.getShopId(),
+					List.of(SelectedMenuRequestBuilder.successBuild(otherShopMenu.getId(), List.of()))
+				)
+			);
+
+			// when
+			OrderBulkCreateResponse response = orderService.createOrders(requests);
+
+			// then
+			assertThat(response.successCount()).isEqualTo(2);
+			assertThat(response.failureCount()).isEqualTo(2);
+			assertThat(response.results())
+				.extracting(OrderBulkCreateResult::index, OrderBulkCreateResult::success, OrderBulkCreateResult::errorCode)
+				.containsExactly(
+					tuple(0, true, null),
+					tuple(1, false, ErrorCode.SHOP_NOT_FOUND.getCode()),
+					tuple(2, false, ErrorCode.SHOP_BAD_REQUEST.getCode()),
+					tuple(3, true, null)
+				);
+
+			List<Long> createdOrderIds = response.results()
+				.stream()
+				.filter(OrderBulkCreateResult::success)
+				.map(OrderBulkCreateResult::orderId)
+				.toList();
+			assertThat(orderRepository.findAllById(createdOrderIds)).hasSize(2);
+			assertThat(orderRepository.count()).isEqualTo(2);
+			assertThat(orderService.getOrder(createdOrderIds.get(0)).price()).isEqualTo(response.results().get(0).price());
+		}
 	}
 
 	@Nested
@@ -172,8 +354,8 @@ class OrderServiceTest {
 			assertThat(orderResponses.size()).isEqualTo(pageSize);
 			assertThat(orderResponses.isLast()).isFalse();
 
-			OrderResponse expectedCursorResponse = expectedOrderResponses.get(pageSize);
-			assertThat(orderResponses.nextCursor()).isEqualTo(expectedCursorResponse.orderId());
+			assertThat(orderResponses.orderResponses()).hasSize(pageSize);
+			assertThat(orderResponses.nextCursor()).isNotNull();
 
 			int expectedOrderResponsesIdx = 0;
 			for (OrderResponse actualOrderResponse : orderResponses.orderResponses()) {
@@ -186,5 +368,161 @@ class OrderServiceTest {
 				expectedOrderResponsesIdx += 1;
 			}
 		}
+
+		@DisplayName("주문 수와 관계없이 일정한 수의 쿼리로 조회한다.")
+		@Test
+		void constant_query_count_test() {
+			// given
+			Member member = memberSetUp.saveOne();
+			Shop shop = shopSetUp.saveOne();
+
+			selectedMenuRequestFactory.initSelectedMenuFactory(shop);
+			OrderCreateRequest orderCreateRequest = OrderCreateRequestBuilder.successBuild(
+				member.getId(),
+				shop.getShopId(),
+				selectedMenuRequestFactory.getSelectedMenuRequests()
+			);
+
+			for (int i = 0; i < 10; i++) {
+				orderService.createOrder(orderCreateRequest);
+			}
+
+			OrderSearchCondition orderSearchCondition = new OrderSearchCondition(null, null, null, null);
+			int pageSize = 5;
+
+			// when
+			queryCounter.reset();
+			OrderResponses firstPage = orderService.getOrders(member.getId(), orderSearchCondition, pageSize, null);
+			int firstPageQueryCount = queryCounter.getCount();
+
+			queryCounter.reset();
+			OrderResponses lastPage = orderService.getOrders(
+				member.getId(),
+				orderSearchCondition,
+				pageSize * 2,
+				null
+			);
+			int lastPageQueryCount = queryCounter.getCount();
+
+			queryCounter.reset();
+			orderService.getOrder(firstPage.orderResponses().get(0).orderId());
+			int singleQueryCount = queryCounter.getCount();
+
+			// then
+			assertThat(firstPage.orderResponses()).hasSize(pageSize);
+			assertThat(lastPage.orderResponses()).hasSize(pageSize * 2);
+			assertThat(firstPageQueryCount).isEqualTo(4);
+			assertThat(lastPageQueryCount).isEqualTo(4);
+			assertThat(singleQueryCount).isEqualTo(3);
+		}
+
+		@DisplayName("다음 커서로 중복 없이 이어서 조회한다.")
+		@Test
+		void next_cursor_success_test() {
+			// given
+			Member member = memberSetUp.saveOne();
+			Shop shop = shopSetUp.saveOne();
+			Menu menu = menuSetUp.saveOne(shop);
+
+			OrderCreateRequest orderCreateRequest = OrderCreateRequestBuilder.successBuild(
+				member.getId(),
+				shop.getShopId(),
+				List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+			);
+
+			List<Long> expectedOrderIds = new ArrayList<>();
+			for (int i = 0; i < 7; i++) {
+				OrderResponse orderResponse = orderService.createOrder(orderCreateRequest);
+				expectedOrderIds.add(orderResponse.orderId());
+			}
+
+			OrderSearchCondition orderSearchCondition = new OrderSearchCondition(
+				null,
+				null,
+				null,
+				null
+			);
+
+			int pageSize = 5;
+			OrderResponses firstPage = orderService.getOrders(
+				member.getId(),
+				orderSearchCondition,
+				pageSize,
+				null
+			);
+
+			// when
+			OrderResponses secondPage = orderService.getOrders(
+				member.getId(),
+				orderSearchCondition,
+				pageSize,
+				firstPage.nextCursor()
+			);
+
+			// then
+			List<Long> actualOrderIds = new ArrayList<>();
+			firstPage.orderResponses().forEach(orderResponse -> actualOrderIds.add(orderResponse.orderId()));
+			secondPage.orderResponses().forEach(orderResponse -> actualOrderIds.add(orderResponse.orderId()));
+
+			assertThat(actualOrderIds).isEqualTo(expectedOrderIds);
+			assertThat(secondPage.isLast()).isTrue();
+			assertThat(secondPage.nextCursor()).isNull();
+		}
+
+		@DisplayName("현재 주문 상태로만 필터링한다.")
+		@Test
+		void current_status_success_test() {
+			// given
+			Member member = memberSetUp.saveOne();
+			Shop shop = shopSetUp.saveOne();
+			Menu menu = menuSetUp.saveOne(shop);
+
+			OrderCreateRequest orderCreateRequest = OrderCreateRequestBuilder.successBuild(
+				member.getId(),
+				shop.getShopId(),
+				List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+			);
+			OrderResponse orderedResponse = orderService.createOrder(orderCreateRequest);
+			OrderResponse cookingResponse = orderService.createOrder(orderCreateRequest);
+			orderService.startCooking(shop.getShopId(), cookingResponse.orderId());
+
+			OrderSearchCondition orderSearchCondition = new OrderSearchCondition(
+				null,
+				List.of(OrderStatus.ORDERED),
+				null,
+				null
+			);
+
+			// when
+			OrderResponses orderResponses = orderService.getOrders(
+				member.getId(),
+				orderSearchCondition,
+				5,
+				null
+			);
+
+			// then
+			assertThat(orderResponses.orderResponses())
+				.extracting(OrderResponse::orderId)
+				.containsExactly(orderedResponse.orderId());
+		}
+
+		@DisplayName("잘못된 커서로 조회에 실패한다.")
+		@Test
+		void wrong_cursor_fail_test() {
+			// given
+			Member member = memberSetUp.saveOne();
+			OrderSearchCondition orderSearchCondition = new OrderSearchCondition(
+				null,
+				null,
+				null,
+				null
+			);
+
+			// when && then
+			assertThatThrownBy(
+				() -> orderService.getOrders(member.getId(), orderSearchCondition, 5, "wrong-cursor")
+			).isInstanceOf(InvalidValueException.class);
+		}
 	}
 }
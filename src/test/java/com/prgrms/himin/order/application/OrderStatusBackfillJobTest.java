@@ -0,0 +1,77 @@
+package com.prgrms.himin.order.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.prgrms.himin.member.domain.Member;
+import com.prgrms.himin.menu.domain.Menu;
+import com.prgrms.himin.order.domain.OrderStatus;
+import com.prgrms.himin.order.dto.request.OrderCreateRequest;
+import com.prgrms.himin.order.dto.response.OrderResponse;
+import com.prgrms.himin.setup.domain.MemberSetUp;
+import com.prgrms.himin.setup.domain.MenuSetUp;
+import com.prgrms.himin.setup.domain.ShopSetUp;
+import com.prgrms.himin.setup.request.OrderCreateRequestBuilder;
+import com.prgrms.himin.setup.request.SelectedMenuRequestBuilder;
+import com.prgrms.himin.shop.domain.Shop;
+
+@SpringBootTest(properties = "order.status-backfill.enabled=true")
+@Sql("/truncate.sql")
+class OrderStatusBackfillJobTest {
+
+	@Autowired
+	MemberSetUp memberSetUp;
+
+	@Autowired
+	ShopSetUp shopSetUp;
+
+	@Autowired
+	MenuSetUp menuSetUp;
+
+	@Autowired
+	OrderService orderService;
+
+	@Autowired
+	OrderStatusBackfillJob orderStatusBackfillJob;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@DisplayName("주문 이력의 마지막 상태로 주문 상태를 채운다.")
+	@Test
+	void success_test() {
+		// given
+		Member member = memberSetUp.saveOne();
+		Shop shop = shopSetUp.saveOne();
+		Menu menu = menuSetUp.saveOne(shop);
+
+		OrderCreateRequest orderCreateRequest = OrderCreateRequestBuilder.successBuild(
+			member.getId(),
+			shop.getShopId(),
+			List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+		);
+		OrderResponse orderResponse = orderService.createOrder(orderCreateRequest);
+		orderService.startCooking(shop.getShopId(), orderResponse.orderId());
+
+		jdbcTemplate.update("UPDATE orders SET status = NULL, status_changed_at = NULL");
+
+		// when
+		orderStatusBackfillJob.run();
+
+		// then
+		String status = jdbcTemplate.queryForObject(
+			"SELECT status FROM orders WHERE id = ?",
+			String.class,
+			orderResponse.orderId()
+		);
+		assertThat(status).isEqualTo(OrderStatus.COOKING.name());
+	}
+}
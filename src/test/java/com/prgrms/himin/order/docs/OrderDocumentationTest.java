@@ -8,8 +8,10 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
@@ -23,18 +25,27 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.himin.delivery.domain.DeliveryStatus;
+import com.prgrms.himin.global.error.exception.ErrorCode;
 import com.prgrms.himin.order.api.OrderController;
 import com.prgrms.himin.order.application.OrderService;
+import com.prgrms.himin.order.application.OrderStatusStream;
 import com.prgrms.himin.order.domain.OrderStatus;
+import com.prgrms.himin.order.dto.request.OrderBulkCreateRequest;
 import com.prgrms.himin.order.dto.request.OrderCreateRequest;
 import com.prgrms.himin.order.dto.request.OrderSearchCondition;
 import com.prgrms.himin.order.dto.request.SelectedMenuOptionRequest;
 import com.prgrms.himin.order.dto.request.SelectedMenuRequest;
+import com.prgrms.himin.order.dto.response.OrderBulkCreateResponse;
+import com.prgrms.himin.order.dto.response.OrderBulkCreateResult;
 import com.prgrms.himin.order.dto.response.OrderResponse;
 import com.prgrms.himin.order.dto.response.OrderResponses;
+import com.prgrms.himin.order.dto.response.OrderStatusStreamResponse;
 import com.prgrms.himin.setup.request.OrderCreateRequestBuilder;
 import com.prgrms.himin.setup.request.SelectedMenuRequestBuilder;
 import com.prgrms.himin.setup.response.OrderResponseBuilder;
@@ -55,6 +66,9 @@ class OrderDocumentationTest {
 	@MockBean
 	OrderService orderService;
 
+	@MockBean
+	OrderStatusStream orderStatusStream;
+
 	@Test
 	@DisplayName("주문을 생성할 수 있다.")
 	void createOrder() throws Exception {
@@ -103,7 +117,59 @@ class OrderDocumentationTest {
 					fieldWithPath("selectedMenus[].menuId").type(JsonFieldType.NUMBER).description("메뉴 ID"),
 					fieldWithPath("selectedMenus[].quantity").type(JsonFieldType.NUMBER).description("수량"),
 					fieldWithPath("selectedMenus[].selectedOptionIds[]").type(JsonFieldType.ARRAY).description("메뉴옵션"),
-					fieldWithPath("price").type(JsonFieldType.NUMBER).description("가격")
+					fieldWithPath("price").type(JsonFieldType.NUMBER).description("가격"),
+					fieldWithPath("arrivalTime").type(JsonFieldType.STRING).description("도착 예정 시각")
+				)));
+	}
+
+	@Test
+	@DisplayName("주문을 한 번에 여러 개 생성할 수 있다.")
+	void createOrders() throws Exception {
+		// given
+		SelectedMenuRequest selectedMenuRequest = SelectedMenuRequestBuilder.successBuild(1L, List.of());
+		OrderBulkCreateRequest request = new OrderBulkCreateRequest(List.of(
+			OrderCreateRequestBuilder.successBuild(1L, 1L, List.of(selectedMenuRequest)),
+			OrderCreateRequestBuilder.successBuild(1L, 2L, List.of(selectedMenuRequest))
+		));
+
+		OrderBulkCreateResponse response = OrderBulkCreateResponse.from(List.of(
+			new OrderBulkCreateResult(0, true, 1L, 18000, null, null),
+			OrderBulkCreateResult.failure(1, ErrorCode.SHOP_BAD_REQUEST)
+		));
+
+		given(orderService.createOrders(anyList())).willReturn(response);
+
+		// when
+		ResultActions resultAction = mvc.perform(post("/api/orders/bulk")
+			.accept(MediaType.APPLICATION_JSON)
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(request))
+		);
+
+		// then
+		resultAction.andExpect(status().isOk())
+			.andDo(document("order-bulk-create",
+				preprocessRequest(prettyPrint()),
+				preprocessResponse(prettyPrint()),
+				requestFields(
+					fieldWithPath("orders[].memberId").type(JsonFieldType.NUMBER).description("회원 ID"),
+					fieldWithPath("orders[].shopId").type(JsonFieldType.NUMBER).description("가게 ID"),
+					fieldWithPath("orders[].address").type(JsonFieldType.STRING).description("주소"),
+					fieldWithPath("orders[].requirement").type(JsonFieldType.STRING).description("요청사항"),
+					fieldWithPath("orders[].selectedMenus[].menuId").type(JsonFieldType.NUMBER).description("메뉴 ID"),
+					fieldWithPath("orders[].selectedMenus[].quantity").type(JsonFieldType.NUMBER).description("수량"),
+					fieldWithPath("orders[].selectedMenus[].selectedMenuOptions[]")
+						.type(JsonFieldType.ARRAY).description("메뉴옵션")
+				),
+				responseFields(
+					fieldWithPath("results[].index").type(JsonFieldType.NUMBER).description("요청 목록에서의 순서"),
+					fieldWithPath("results[].success").type(JsonFieldType.BOOLEAN).description("생성 성공 여부"),
+					fieldWithPath("results[].orderId").type(JsonFieldType.NUMBER).description("주문 ID").optional(),
+					fieldWithPath("results[].price").type(JsonFieldType.NUMBER).description("가격").optional(),
+					fieldWithPath("results[].errorCode").type(JsonFieldType.STRING).description("에러 코드").optional(),
+					fieldWithPath("results[].message").type(JsonFieldType.STRING).description("에러 메시지").optional(),
+					fieldWithPath("successCount").type(JsonFieldType.NUMBER).description("성공한 주문 수"),
+					fieldWithPath("failureCount").type(JsonFieldType.NUMBER).description("실패한 주문 수")
 				)));
 	}
 
@@ -134,7 +200,8 @@ class OrderDocumentationTest {
 					fieldWithPath("selectedMenus[].quantity").type(JsonFieldType.NUMBER).description("선택 메뉴 수량"),
 					fieldWithPath("selectedMenus[].selectedOptionIds[]").type(JsonFieldType.ARRAY)
 						.description("선택 메뉴 옵션 ID 목록"),
-					fieldWithPath("price").type(JsonFieldType.NUMBER).description("선택 메뉴 총 가격")
+					fieldWithPath("price").type(JsonFieldType.NUMBER).description("선택 메뉴 총 가격"),
+					fieldWithPath("arrivalTime").type(JsonFieldType.STRING).description("도착 예정 시각")
 				)));
 	}
 
@@ -156,7 +223,7 @@ class OrderDocumentationTest {
 			.param("endTime",
 				"2023-08-21T00:00")
 			.param("size", "10")
-			.param("cursor", "0")
+			.param("cursor", "MjAyMy0wOC0yMVQwMDowMF8x")
 			.header("memberId", 1L)
 		);
 
@@ -173,7 +240,7 @@ class OrderDocumentationTest {
 					parameterWithName("startTime").description("검색 조건 - 시작 날짜"),
 					parameterWithName("endTime").description("검색 조건 - 끝나는 날짜"),
 					parameterWithName("size").description("Pagination - 사이즈"),
-					parameterWithName("cursor").description("Pagination - 커서 ID")
+					parameterWithName("cursor").description("Pagination - 이전 응답의 다음 커서")
 				),
 				responseFields(
 					fieldWithPath("orderResponses[].orderId").type(JsonFieldType.NUMBER).description("주문 ID"),
@@ -189,9 +256,43 @@ class OrderDocumentationTest {
 						.description("선택옵션 ID"),
 					fieldWithPath("orderResponses[].price").type(JsonFieldType.NUMBER)
 						.description("가격"),
+					fieldWithPath("orderResponses[].arrivalTime").type(JsonFieldType.STRING)
+						.description("도착 예정 시각"),
 					fieldWithPath("size").type(JsonFieldType.NUMBER).description("조회 페이지 사이즈"),
-					fieldWithPath("nextCursor").type(JsonFieldType.NULL).description("다음 커서ID"),
+					fieldWithPath("nextCursor").type(JsonFieldType.NULL).description("다음 커서"),
 					fieldWithPath("isLast").type(JsonFieldType.BOOLEAN).description("마지막 페이지 유무")
 				)));
 	}
+
+	@DisplayName("주문 상태를 실시간으로 받을 수 있다.")
+	@Test
+	void streamOrderStatus() throws Exception {
+		// given
+		OrderStatusStreamResponse snapshot = new OrderStatusStreamResponse(
+			1L,
+			OrderStatus.COOK_COMPLETE,
+			DeliveryStatus.ALLOCATED,
+			1L,
+			LocalDateTime.now(),
+			LocalDateTime.now().plusMinutes(30)
+		);
+		SseEmitter emitter = new SseEmitter();
+		given(orderStatusStream.subscribe(anyLong(), any())).willReturn(emitter);
+
+		// when
+		MvcResult mvcResult = mvc.perform(RestDocumentationRequestBuilders.get("/api/orders/{orderId}/stream", 1L)
+				.accept(MediaType.TEXT_EVENT_STREAM))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		emitter.send(SseEmitter.event().name(OrderStatusStream.ORDER_STATUS_EVENT).data(snapshot));
+		emitter.complete();
+
+		// then
+		mvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andDo(document("order-stream",
+				pathParameters(
+					parameterWithName("orderId").description("주문 ID")
+				)));
+	}
 }
@@ -0,0 +1,83 @@
+package com.prgrms.himin.order.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DurationStatisticsTest {
+
+	private static final LocalDateTime LUNCH = LocalDateTime.of(2023, 9, 1, 12, 0);
+
+	private static final LocalDateTime DINNER = LocalDateTime.of(2023, 9, 1, 19, 0);
+
+	@DisplayName("값을 저장하지 않고 P50, P90 을 추정한다.")
+	@Test
+	void quantile_test() {
+		// given
+		DurationStatistics statistics = new DurationStatistics(0.2, 1);
+		List<Integer> seconds = new ArrayList<>();
+		for (int i = 1; i <= 1000; i++) {
+			seconds.add(i);
+		}
+		Collections.shuffle(seconds, new Random(1));
+
+		// when
+		seconds.forEach(value -> statistics.record(1L, LUNCH, value));
+
+		// then
+		assertThat(statistics.total().count()).isEqualTo(1000);
+		assertThat(statistics.total().p50()).isCloseTo(500, within(30.0));
+		assertThat(statistics.total().p90()).isCloseTo(900, within(30.0));
+	}
+
+	@DisplayName("튀는 값이 들어와도 추정값은 P90 을 넘지 않는다.")
+	@Test
+	void outlier_test() {
+		// given
+		DurationStatistics statistics = new DurationStatistics(0.5, 1);
+		for (int i = 0; i < 20; i++) {
+			statistics.record(1L, LUNCH, 600);
+		}
+
+		// when
+		statistics.record(1L, LUNCH, 36000);
+
+		// then
+		assertThat(statistics.total().ewma()).isGreaterThan(600);
+		assertThat(statistics.estimate(1L, LUNCH, 0)).isEqualTo(600);
+	}
+
+	@DisplayName("표본이 모자라면 가게 전체, 전체 가게의 같은 시간대, 전체, 기본값 순으로 넘어간다.")
+	@Test
+	void fallback_test() {
+		// given
+		DurationStatistics statistics = new DurationStatistics(1, 2);
+		statistics.record(1L, LUNCH, 100);
+		statistics.record(1L, LUNCH, 100);
+		statistics.record(1L, DINNER, 300);
+		statistics.record(2L, DINNER, 500);
+
+		// when & then
+		assertThat(statistics.estimate(1L, LUNCH, 0)).isEqualTo(100);
+		assertThat(statistics.estimate(1L, DINNER, 0)).isEqualTo(300);
+		assertThat(statistics.estimate(2L, DINNER, 0)).isEqualTo(500);
+		assertThat(statistics.estimate(3L, LUNCH, 0)).isEqualTo(100);
+		assertThat(new DurationStatistics(1, 2).estimate(3L, LUNCH, 900)).isEqualTo(900);
+	}
+
+	@DisplayName("시간대는 세 시간 단위로 나눈다.")
+	@Test
+	void bucket_test() {
+		assertThat(DurationStatistics.bucketOf(LocalDateTime.of(2023, 9, 1, 0, 0))).isZero();
+		assertThat(DurationStatistics.bucketOf(LUNCH)).isEqualTo(4);
+		assertThat(DurationStatistics.bucketOf(LocalDateTime.of(2023, 9, 1, 23, 59)))
+			.isEqualTo(DurationStatistics.BUCKETS - 1);
+	}
+}
@@ -0,0 +1,110 @@
+package com.prgrms.himin.order.event;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgrms.himin.global.error.exception.BusinessException;
+import com.prgrms.himin.global.error.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OrderEventDispatcherTest {
+
+	SimpleMeterRegistry meterRegistry;
+
+	OrderEventDispatcher orderEventDispatcher;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		OrderEventProperties properties = new OrderEventProperties(
+			4,
+			10,
+			OrderEventProperties.OverflowPolicy.BLOCK
+		);
+		orderEventDispatcher = new OrderEventDispatcher(properties, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		orderEventDispatcher.destroy();
+	}
+
+	@DisplayName("같은 주문의 이벤트는 발행 순서대로 처리된다.")
+	@Test
+	void same_order_sequence_test() throws InterruptedException {
+		// given
+		int orderCount = 8;
+		int eventCount = 50;
+		Map<Long, List<Integer>> handled = new ConcurrentHashMap<>();
+		CountDownLatch latch = new CountDownLatch(orderCount * eventCount);
+
+		// when
+		for (int sequence = 0; sequence < eventCount; sequence++) {
+			for (long orderId = 1; orderId <= orderCount; orderId++) {
+				Long id = orderId;
+				int current = sequence;
+				orderEventDispatcher.dispatch(id, () -> {
+					handled.computeIfAbsent(id, key -> new ArrayList<>()).add(current);
+					latch.countDown();
+				});
+			}
+		}
+
+		// then
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(handled).hasSize(orderCount);
+		handled.values().forEach(sequences -> assertThat(sequences).isSorted().hasSize(eventCount));
+	}
+
+	@DisplayName("비즈니스 예외는 재시도하지 않는다.")
+	@Test
+	void business_exception_not_retry_test() throws InterruptedException {
+		// given
+		AtomicInteger attempts = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(1);
+
+		// when
+		orderEventDispatcher.dispatch(1L, () -> {
+			attempts.incrementAndGet();
+			throw new BusinessException(ErrorCode.ORDER_SHOP_NOT_MATCH);
+		});
+		orderEventDispatcher.dispatch(1L, latch::countDown);
+
+		// then
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(attempts.get()).isEqualTo(1);
+		assertThat(meterRegistry.counter("order.event.failures").count()).isEqualTo(1);
+	}
+
+	@DisplayName("실패하면 재시도하지 않고 예외로 완료된다.")
+	@Test
+	void failure_not_retry_test() {
+		// given
+		AtomicInteger attempts = new AtomicInteger();
+
+		// when
+		CompletableFuture<Void> handled = orderEventDispatcher.dispatch(1L, () -> {
+			attempts.incrementAndGet();
+			throw new IllegalStateException();
+		});
+
+		// then
+		assertThat(handled).failsWithin(5, TimeUnit.SECONDS);
+		assertThat(attempts.get()).isEqualTo(1);
+		assertThat(meterRegistry.counter("order.event.failures").count()).isEqualTo(1);
+	}
+}
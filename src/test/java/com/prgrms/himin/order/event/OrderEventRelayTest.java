@@ -0,0 +1,204 @@
+package com.prgrms.himin.order.event;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.prgrms.himin.member.domain.Member;
+import com.prgrms.himin.menu.domain.Menu;
+import com.prgrms.himin.order.application.OrderService;
+import com.prgrms.himin.order.domain.Order;
+import com.prgrms.himin.order.domain.OrderEventDeadLetterRepository;
+import com.prgrms.himin.order.domain.OrderEventOutbox;
+import com.prgrms.himin.order.domain.OrderEventOutboxRepository;
+import com.prgrms.himin.order.domain.OrderEventType;
+import com.prgrms.himin.order.domain.OrderHistoryRepository;
+import com.prgrms.himin.order.domain.OrderRepository;
+import com.prgrms.himin.order.domain.OrderStatus;
+import com.prgrms.himin.order.dto.request.OrderCreateRequest;
+import com.prgrms.himin.order.dto.response.OrderResponse;
+import com.prgrms.himin.setup.domain.MemberSetUp;
+import com.prgrms.himin.setup.domain.MenuSetUp;
+import com.prgrms.himin.setup.domain.ShopSetUp;
+import com.prgrms.himin.setup.request.OrderCreateRequestBuilder;
+import com.prgrms.himin.setup.request.SelectedMenuRequestBuilder;
+import com.prgrms.himin.shop.application.ShopService;
+import com.prgrms.himin.shop.domain.Shop;
+
+@SpringBootTest
+@Sql("/truncate.sql")
+class OrderEventRelayTest {
+
+	@Autowired
+	MemberSetUp memberSetUp;
+
+	@Autowired
+	ShopSetUp shopSetUp;
+
+	@Autowired
+	MenuSetUp menuSetUp;
+
+	@Autowired
+	OrderService orderService;
+
+	@Autowired
+	ShopService shopService;
+
+	@Autowired
+	OrderRepository orderRepository;
+
+	@Autowired
+	OrderEventOutboxRepository orderEventOutboxRepository;
+
+	@Autowired
+	OrderEventDeadLetterRepository orderEventDeadLetterRepository;
+
+	@Autowired
+	OrderHistoryRepository orderHistoryRepository;
+
+	@Autowired
+	OrderEventRelay orderEventRelay;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@DisplayName("outbox 에 쌓인 이벤트를 처리하고 삭제한다.")
+	@Test
+	void relay_success_test() {
+		// given
+		Member member = memberSetUp.saveOne();
+		Shop shop = shopSetUp.saveOne();
+		Menu menu = menuSetUp.saveOne(shop);
+
+		OrderCreateRequest orderCreateRequest = OrderCreateRequestBuilder.successBuild(
+			member.getId(),
+			shop.getShopId(),
+			List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+		);
+		OrderResponse orderResponse = orderService.createOrder(orderCreateRequest);
+
+		shopService.startCooking(shop.getShopId(), orderResponse.orderId());
+		shopService.finishCooking(shop.getShopId(), orderResponse.orderId());
+		assertThat(orderEventOutboxRepository.count()).isEqualTo(2);
+
+		// when
+		orderEventRelay.relay();
+		orderEventRelay.relay();
+
+		// then
+		Order order = orderRepository.findById(orderResponse.orderId()).get();
+		assertThat(order.getStatus()).isEqualTo(OrderStatus.COOK_COMPLETE);
+		assertThat(orderEventOutboxRepository.count()).isZero();
+	}
+
+	@DisplayName("재시도를 기다리는 이벤트가 있으면 같은 주문의 뒤 이벤트를 가져가지 않는다.")
+	@Test
+	void retried_event_blocks_later_events_test() {
+		// given
+		Member member = memberSetUp.saveOne();
+		Shop shop = shopSetUp.saveOne();
+		Menu menu = menuSetUp.saveOne(shop);
+
+		OrderCreateRequest orderCreateRequest = OrderCreateRequestBuilder.successBuild(
+			member.getId(),
+			shop.getShopId(),
+			List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+		);
+		OrderResponse orderResponse = orderService.createOrder(orderCreateRequest);
+
+		shopService.startCooking(shop.getShopId(), orderResponse.orderId());
+		shopService.finishCooking(shop.getShopId(), orderResponse.orderId());
+		List<OrderEventOutbox> outboxes = orderEventOutboxRepository.findAll(Sort.by("id"));
+		Long startedCookingId = outboxes.get(0).getId();
+		retryAt(startedCookingId, LocalDateTime.now().plusMinutes(1));
+
+		// when
+		orderEventRelay.relay();
+
+		// then
+		Order order = orderRepository.findById(orderResponse.orderId()).get();
+		assertThat(order.getStatus()).isEqualTo(OrderStatus.ORDERED);
+		assertThat(orderEventOutboxRepository.count()).isEqualTo(2);
+
+		retryAt(startedCookingId, LocalDateTime.now().minusSeconds(1));
+		orderEventRelay.relay();
+		orderEventRelay.relay();
+
+		Order finishedOrder = orderRepository.findById(orderResponse.orderId()).get();
+		assertThat(finishedOrder.getStatus()).isEqualTo(OrderStatus.COOK_COMPLETE);
+		assertThat(orderHistoryRepository.count()).isEqualTo(3);
+		assertThat(orderEventOutboxRepository.count()).isZero();
+	}
+
+	@DisplayName("같은 이벤트가 다시 전달되어도 주문 이력은 한 번만 남는다.")
+	@Test
+	void redelivery_idempotent_test() {
+		// given
+		Member member = memberSetUp.saveOne();
+		Shop shop = shopSetUp.saveOne();
+		Menu menu = menuSetUp.saveOne(shop);
+
+		OrderCreateRequest orderCreateRequest = OrderCreateRequestBuilder.successBuild(
+			member.getId(),
+			shop.getShopId(),
+			List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+		);
+		OrderResponse orderResponse = orderService.createOrder(orderCreateRequest);
+
+		shopService.startCooking(shop.getShopId(), orderResponse.orderId());
+		orderEventOutboxRepository.save(
+			new OrderEventOutbox(OrderEventType.STARTED_COOKING, orderResponse.orderId(), shop.getShopId())
+		);
+
+		// when
+		orderEventRelay.relay();
+		orderEventRelay.relay();
+
+		// then
+		Order order = orderRepository.findById(orderResponse.orderId()).get();
+		assertThat(order.getStatus()).isEqualTo(OrderStatus.COOKING);
+		assertThat(orderHistoryRepository.count()).isEqualTo(2);
+		assertThat(orderEventOutboxRepository.count()).isZero();
+	}
+
+	@DisplayName("처리할 수 없는 이벤트는 dead letter 로 옮긴다.")
+	@Test
+	void dead_letter_test() {
+		// given
+		Long wrongOrderId = 0L;
+		orderEventOutboxRepository.save(new OrderEventOutbox(OrderEventType.DELIVERY_FINISHED, wrongOrderId, null));
+
+		// when
+		orderEventRelay.relay();
+
+		// then
+		assertThat(orderEventOutboxRepository.count()).isZero();
+		assertThat(orderEventDeadLetterRepository.findAll())
+			.singleElement()
+			.satisfies(deadLetter -> {
+				assertThat(deadLetter.getOrderId()).isEqualTo(wrongOrderId);
+				assertThat(deadLetter.getAttempts()).isEqualTo(1);
+			});
+	}
+
+	private void retryAt(
+		Long outboxId,
+		LocalDateTime retryAt
+	) {
+		jdbcTemplate.update(
+			"UPDATE order_event_outbox SET claimed_until = ? WHERE id = ?",
+			Timestamp.valueOf(retryAt),
+			outboxId
+		);
+	}
+}
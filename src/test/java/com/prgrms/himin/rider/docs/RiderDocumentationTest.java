@@ -2,9 +2,10 @@ package com.prgrms.himin.rider.docs;
 
 import static org.mockito.BDDMockito.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import org.junit.jupiter.api.DisplayName;
@@ -23,8 +24,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.prgrms.himin.delivery.api.RiderController;
 import com.prgrms.himin.delivery.application.RiderService;
 import com.prgrms.himin.delivery.dto.request.RiderCreateRequest;
+import com.prgrms.himin.delivery.dto.request.RiderLocationRequest;
 import com.prgrms.himin.delivery.dto.response.RiderResponse;
 import com.prgrms.himin.setup.request.RiderCreateRequestBuilder;
+import com.prgrms.himin.setup.request.RiderLocationRequestBuilder;
 import com.prgrms.himin.setup.response.RiderResponseBuilder;
 
 @AutoConfigureRestDocs
@@ -72,4 +75,72 @@ public class RiderDocumentationTest {
 				)));
 	}
 
+	@DisplayName("배달기사가 배차 대기를 시작할 수 있다.")
+	@Test
+	void startWaiting() throws Exception {
+		// given
+		RiderLocationRequest request = RiderLocationRequestBuilder.successBuild();
+
+		willDoNothing().given(riderService).startWaiting(anyLong(), any(RiderLocationRequest.class));
+
+		// when
+		ResultActions resultAction = mvc.perform(put("/api/riders/{riderId}/waiting", 1L)
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(request)));
+
+		// then
+		resultAction.andExpect(status().isNoContent())
+			.andDo(document("rider-start-waiting",
+				preprocessRequest(prettyPrint()),
+				pathParameters(
+					parameterWithName("riderId").description("배달기사 ID")
+				),
+				requestFields(
+					fieldWithPath("latitude").type(JsonFieldType.NUMBER).description("현재 위도"),
+					fieldWithPath("longitude").type(JsonFieldType.NUMBER).description("현재 경도")
+				)));
+	}
+
+	@DisplayName("배달기사가 배차 대기를 멈출 수 있다.")
+	@Test
+	void stopWaiting() throws Exception {
+		// given
+		willDoNothing().given(riderService).stopWaiting(anyLong());
+
+		// when
+		ResultActions resultAction = mvc.perform(delete("/api/riders/{riderId}/waiting", 1L));
+
+		// then
+		resultAction.andExpect(status().isNoContent())
+			.andDo(document("rider-stop-waiting",
+				pathParameters(
+					parameterWithName("riderId").description("배달기사 ID")
+				)));
+	}
+
+	@DisplayName("배달기사의 현재 위치를 보낼 수 있다.")
+	@Test
+	void recordLocation() throws Exception {
+		// given
+		RiderLocationRequest request = RiderLocationRequestBuilder.successBuild();
+
+		willDoNothing().given(riderService).recordLocation(anyLong(), any(RiderLocationRequest.class));
+
+		// when
+		ResultActions resultAction = mvc.perform(post("/api/riders/{riderId}/locations", 1L)
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(request)));
+
+		// then
+		resultAction.andExpect(status().isAccepted())
+			.andDo(document("rider-record-location",
+				preprocessRequest(prettyPrint()),
+				pathParameters(
+					parameterWithName("riderId").description("배달기사 ID")
+				),
+				requestFields(
+					fieldWithPath("latitude").type(JsonFieldType.NUMBER).description("현재 위도"),
+					fieldWithPath("longitude").type(JsonFieldType.NUMBER).description("현재 경도")
+				)));
+	}
 }
@@ -17,8 +17,17 @@ public class DeliverySetUp {
 
 	private final DeliveryHistoryRepository deliveryHistoryRepository;
 
+	private static final Long SHOP_ID = 1L;
+
 	public Delivery saveOne(Long orderId) {
-		Delivery delivery = new Delivery(orderId);
+		return saveOne(orderId, SHOP_ID);
+	}
+
+	public Delivery saveOne(
+		Long orderId,
+		Long shopId
+	) {
+		Delivery delivery = new Delivery(orderId, shopId);
 		Delivery savedDelivery = deliveryRepository.save(delivery);
 
 		DeliveryHistory deliveryHistory = DeliveryHistory.createBeforeDeliveryHistory(savedDelivery);
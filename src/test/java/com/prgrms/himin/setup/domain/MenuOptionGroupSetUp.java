@@ -2,11 +2,13 @@ package com.prgrms.himin.setup.domain;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import com.prgrms.himin.menu.domain.Menu;
 import com.prgrms.himin.menu.domain.MenuOptionGroup;
 import com.prgrms.himin.menu.domain.MenuOptionGroupRepository;
+import com.prgrms.himin.menu.event.MenuChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,17 +18,23 @@ public class MenuOptionGroupSetUp {
 
 	private final MenuOptionGroupRepository menuOptionGroupRepository;
 
+	private final ApplicationEventPublisher publisher;
+
 	public MenuOptionGroup saveOne(Menu menu) {
 		MenuOptionGroup menuOptionGroup = buildMenuOptionGroup("추가 메뉴");
 		menuOptionGroup.attachMenu(menu);
+		MenuOptionGroup savedMenuOptionGroup = menuOptionGroupRepository.save(menuOptionGroup);
+		publisher.publishEvent(new MenuChangedEvent(menu.getShop().getShopId()));
 
-		return menuOptionGroupRepository.save(menuOptionGroup);
+		return savedMenuOptionGroup;
 	}
 
 	public List<MenuOptionGroup> saveMany(Menu menu) {
 		List<MenuOptionGroup> menuOptionGroups = getMenuOptionGroups(menu);
+		List<MenuOptionGroup> savedMenuOptionGroups = menuOptionGroupRepository.saveAll(menuOptionGroups);
+		publisher.publishEvent(new MenuChangedEvent(menu.getShop().getShopId()));
 
-		return menuOptionGroupRepository.saveAll(menuOptionGroups);
+		return savedMenuOptionGroups;
 	}
 
 	private List<MenuOptionGroup> getMenuOptionGroups(Menu menu) {
@@ -2,11 +2,13 @@ package com.prgrms.himin.setup.domain;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import com.prgrms.himin.menu.domain.MenuOption;
 import com.prgrms.himin.menu.domain.MenuOptionGroup;
 import com.prgrms.himin.menu.domain.MenuOptionRepository;
+import com.prgrms.himin.menu.event.MenuChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,17 +18,23 @@ public class MenuOptionSetUp {
 
 	private final MenuOptionRepository menuOptionRepository;
 
+	private final ApplicationEventPublisher publisher;
+
 	public MenuOption saveOne(MenuOptionGroup menuOptionGroup) {
 		MenuOption menuOption = buildMenuOption("소고기", 3000);
 		menuOption.attachMenuOptionGroup(menuOptionGroup);
+		MenuOption savedMenuOption = menuOptionRepository.save(menuOption);
+		publisher.publishEvent(new MenuChangedEvent(menuOptionGroup.getMenu().getShop().getShopId()));
 
-		return menuOptionRepository.save(menuOption);
+		return savedMenuOption;
 	}
 
 	public List<MenuOption> saveMany(MenuOptionGroup menuOptionGroup) {
 		List<MenuOption> menuOptions = getMenuOptions(menuOptionGroup);
+		List<MenuOption> savedMenuOptions = menuOptionRepository.saveAll(menuOptions);
+		publisher.publishEvent(new MenuChangedEvent(menuOptionGroup.getMenu().getShop().getShopId()));
 
-		return menuOptionRepository.saveAll(menuOptions);
+		return savedMenuOptions;
 	}
 
 	private List<MenuOption> getMenuOptions(MenuOptionGroup menuOptionGroup) {
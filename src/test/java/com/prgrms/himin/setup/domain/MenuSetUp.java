@@ -2,10 +2,12 @@ package com.prgrms.himin.setup.domain;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import com.prgrms.himin.menu.domain.Menu;
 import com.prgrms.himin.menu.domain.MenuRepository;
+import com.prgrms.himin.menu.event.MenuChangedEvent;
 import com.prgrms.himin.shop.domain.Shop;
 
 import lombok.RequiredArgsConstructor;
@@ -16,17 +18,23 @@ public class MenuSetUp {
 
 	private final MenuRepository menuRepository;
 
+	private final ApplicationEventPublisher publisher;
+
 	public Menu saveOne(Shop shop) {
 		final Menu menu = buildMenu("짜장면", 5000);
 		menu.attachShop(shop);
+		Menu savedMenu = menuRepository.save(menu);
+		publisher.publishEvent(new MenuChangedEvent(shop.getShopId()));
 
-		return menuRepository.save(menu);
+		return savedMenu;
 	}
 
 	public List<Menu> saveMany(Shop shop) {
 		List<Menu> menus = getMenus(shop);
+		List<Menu> savedMenus = menuRepository.saveAll(menus);
+		publisher.publishEvent(new MenuChangedEvent(shop.getShopId()));
 
-		return menuRepository.saveAll(menus);
+		return savedMenus;
 	}
 
 	public List<Menu> getMenus(Shop shop) {
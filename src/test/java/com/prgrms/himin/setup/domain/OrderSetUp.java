@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.stereotype.Component;
 
 import com.prgrms.himin.member.domain.Member;
+import com.prgrms.himin.menu.application.MenuCatalogCache;
 import com.prgrms.himin.order.domain.Order;
 import com.prgrms.himin.order.domain.OrderItem;
 import com.prgrms.himin.order.domain.OrderRepository;
@@ -19,6 +20,8 @@ public class OrderSetUp {
 
 	private final OrderRepository orderRepository;
 
+	private final MenuCatalogCache menuCatalogCache;
+
 	public Order saveOne(
 		Member member,
 		Shop shop,
@@ -35,7 +38,7 @@ public class OrderSetUp {
 		selectedOptions.forEach(selectedOption -> selectedOption.attachTo(orderItem));
 		orderItem.attachTo(order);
 
-		order.calculateOrderPrice();
+		order.calculateOrderPrice(menuCatalogCache.get(shop.getShopId()));
 		orderRepository.save(order);
 
 		return order;
@@ -2,12 +2,16 @@ package com.prgrms.himin.setup.domain;
 
 import java.time.LocalTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import com.prgrms.himin.menu.event.MenuChangedEvent;
 import com.prgrms.himin.shop.domain.Category;
 import com.prgrms.himin.shop.domain.Shop;
 import com.prgrms.himin.shop.domain.ShopRepository;
+import com.prgrms.himin.shop.domain.ShopStatus;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,16 +21,51 @@ public class ShopSetUp {
 
 	private final ShopRepository shopRepository;
 
+	private final ApplicationEventPublisher publisher;
+
 	public Shop saveOne() {
 		final Shop shop = buildShop("맥도날드", Category.FAST_FOOD);
 
-		return shopRepository.save(shop);
+		return save(shop);
 	}
 
 	public List<Shop> saveMany() {
 		List<Shop> shops = getShops();
 
-		return shopRepository.saveAll(shops);
+		return shops.stream()
+			.map(this::save)
+			.toList();
+	}
+
+	public Shop saveOpened(
+		String name,
+		Category category,
+		String address
+	) {
+		final Shop shop = Shop.builder()
+			.name(name)
+			.category(category)
+			.address(address)
+			.phone("02-2611-2222")
+			.content("안녕하세요. %s입니다.".formatted(name))
+			.deliveryTip(1000)
+			.openingTime(LocalTime.of(9, 0))
+			.closingTime(LocalTime.of(21, 0))
+			.build();
+		shop.changeStatus(ShopStatus.OPEN);
+
+		return save(shop);
+	}
+
+	// 배달팁이 0원과 1000원으로 번갈아 겹치는 가게들을 만든다.
+	public List<Shop> saveMany(int count) {
+		List<Shop> shops = IntStream.range(0, count)
+			.mapToObj(i -> buildShop("가게%d".formatted(i), Category.FAST_FOOD, 1000 * (i % 2)))
+			.toList();
+
+		return shops.stream()
+			.map(this::save)
+			.toList();
 	}
 
 	public List<Shop> getShops() {
@@ -44,6 +83,14 @@ public class ShopSetUp {
 		return List.of(shop1, shop2);
 	}
 
+	// 테스트마다 id 가 다시 1부터 시작하므로 이전 테스트에서 캐시된 같은 id 의 메뉴 카탈로그를 비운다.
+	private Shop save(Shop shop) {
+		Shop savedShop = shopRepository.save(shop);
+		publisher.publishEvent(new MenuChangedEvent(savedShop.getShopId()));
+
+		return savedShop;
+	}
+
 	private Shop buildShop(
 		String name,
 		Category category
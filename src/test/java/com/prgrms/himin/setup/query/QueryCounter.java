@@ -0,0 +1,46 @@
+package com.prgrms.himin.setup.query;
+
+import org.springframework.stereotype.Component;
+
+import com.p6spy.engine.common.PreparedStatementInformation;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+
+// 현재 스레드에서 실행된 SQL 문 수를 센다.
+@Component
+public class QueryCounter extends JdbcEventListener {
+
+	private final ThreadLocal<Integer> count = ThreadLocal.withInitial(() -> 0);
+
+	@Override
+	public void onBeforeExecute(PreparedStatementInformation statementInformation) {
+		increase();
+	}
+
+	@Override
+	public void onBeforeExecuteQuery(PreparedStatementInformation statementInformation) {
+		increase();
+	}
+
+	@Override
+	public void onBeforeExecuteUpdate(PreparedStatementInformation statementInformation) {
+		increase();
+	}
+
+	@Override
+	public void onBeforeExecuteBatch(StatementInformation statementInformation) {
+		increase();
+	}
+
+	public void reset() {
+		count.set(0);
+	}
+
+	public int getCount() {
+		return count.get();
+	}
+
+	private void increase() {
+		count.set(count.get() + 1);
+	}
+}
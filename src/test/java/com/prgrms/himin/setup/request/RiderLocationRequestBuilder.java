@@ -0,0 +1,10 @@
+package com.prgrms.himin.setup.request;
+
+import com.prgrms.himin.delivery.dto.request.RiderLocationRequest;
+
+public class RiderLocationRequestBuilder {
+
+	public static RiderLocationRequest successBuild() {
+		return new RiderLocationRequest(37.4772, 126.8549);
+	}
+}
@@ -0,0 +1,35 @@
+package com.prgrms.himin.setup.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.prgrms.himin.delivery.domain.DeliveryStatus;
+import com.prgrms.himin.delivery.dto.response.DeliveryStatusResponse;
+
+public class DeliveryStatusResponseBuilder {
+
+	public static DeliveryStatusResponse allocatedBuild() {
+		return new DeliveryStatusResponse(
+			1L,
+			1L,
+			1L,
+			DeliveryStatus.ALLOCATED,
+			LocalDateTime.now()
+		);
+	}
+
+	public static DeliveryStatusResponse.Multiple riderDeliveriesBuild() {
+		return new DeliveryStatusResponse.Multiple(
+			List.of(
+				allocatedBuild(),
+				new DeliveryStatusResponse(
+					2L,
+					2L,
+					1L,
+					DeliveryStatus.DELIVERING,
+					LocalDateTime.now()
+				)
+			)
+		);
+	}
+}
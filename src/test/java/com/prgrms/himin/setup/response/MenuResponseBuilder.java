@@ -15,6 +15,7 @@ public class MenuResponseBuilder {
 			.name("고기 국수")
 			.price(5000)
 			.popularity(false)
+			.bestSeller(false)
 			.status(MenuStatus.UNSELLABLE)
 			.menuOptionGroupResponses(
 				List.of(
@@ -1,5 +1,6 @@
 package com.prgrms.himin.setup.response;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.prgrms.himin.order.dto.response.OrderResponse;
@@ -17,7 +18,8 @@ public class OrderResponseBuilder {
 			"성동구 사근동",
 			"문앞에 두고 문자부탁드려요",
 			selectedMenuResponses,
-			20000
+			20000,
+			LocalDateTime.now()
 		);
 	}
 
@@ -42,7 +44,8 @@ public class OrderResponseBuilder {
 			"성동구 사근동",
 			"문앞에 두고 문자부탁드려요",
 			selectedMenuResponses,
-			20000
+			20000,
+			LocalDateTime.now()
 		);
 	}
 
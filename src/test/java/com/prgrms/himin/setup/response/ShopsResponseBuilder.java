@@ -7,6 +7,7 @@ import java.util.List;
 import com.prgrms.himin.shop.domain.Category;
 import com.prgrms.himin.shop.domain.ShopSort;
 import com.prgrms.himin.shop.domain.ShopStatus;
+import com.prgrms.himin.shop.dto.request.ShopCursor;
 import com.prgrms.himin.shop.dto.response.ShopResponse;
 import com.prgrms.himin.shop.dto.response.ShopsResponse;
 
@@ -18,8 +19,32 @@ public class ShopsResponseBuilder {
 		return new ShopsResponse(
 			shopResponses,
 			3,
-			4L,
+			new ShopCursor(ShopSort.DELIVERY_TIP_ASC.getName(), 4000, 4L).encode(),
 			ShopSort.DELIVERY_TIP_ASC,
+			false
+		);
+	}
+
+	public static ShopsResponse nearbySuccessBuild() {
+		List<ShopResponse> shopResponses = getShopResponses();
+
+		return new ShopsResponse(
+			shopResponses,
+			3,
+			new ShopCursor(ShopCursor.DISTANCE, 2400, 4L).encode(),
+			null,
+			false
+		);
+	}
+
+	public static ShopsResponse popularSuccessBuild() {
+		List<ShopResponse> shopResponses = getShopResponses();
+
+		return new ShopsResponse(
+			shopResponses,
+			3,
+			null,
+			ShopSort.POPULARITY,
 			true
 		);
 	}
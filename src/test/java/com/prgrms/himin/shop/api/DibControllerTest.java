@@ -0,0 +1,197 @@
+package com.prgrms.himin.shop.api;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.member.domain.Member;
+import com.prgrms.himin.setup.domain.MemberSetUp;
+import com.prgrms.himin.setup.domain.ShopSetUp;
+import com.prgrms.himin.shop.application.ShopDibs;
+import com.prgrms.himin.shop.domain.DibRepository;
+import com.prgrms.himin.shop.domain.Shop;
+import com.prgrms.himin.shop.domain.ShopRepository;
+
+@Sql("/truncate.sql")
+@SpringBootTest
+@AutoConfigureMockMvc
+class DibControllerTest {
+
+	final String BASE_URL = "/api/members/{memberId}/dibs";
+
+	final String DIB_URL = BASE_URL + "/{shopId}";
+
+	final String SHOP_URL = "/api/shops/{shopId}";
+
+	@Autowired
+	MockMvc mvc;
+
+	@Autowired
+	MemberSetUp memberSetUp;
+
+	@Autowired
+	ShopSetUp shopSetUp;
+
+	@Autowired
+	ShopRepository shopRepository;
+
+	@Autowired
+	DibRepository dibRepository;
+
+	@Autowired
+	ShopDibs shopDibs;
+
+	Member member;
+
+	Shop shop;
+
+	@BeforeEach
+	void setUp() {
+		member = memberSetUp.saveOne();
+		shop = shopSetUp.saveOne();
+	}
+
+	// 찜 수는 메모리에 남고 가게 id 는 다음 테스트에서 다시 쓰이므로, 가게를 지워서 함께 비운다.
+	@AfterEach
+	void tearDown() throws Exception {
+		if (shopRepository.existsById(shop.getShopId())) {
+			mvc.perform(delete(SHOP_URL, shop.getShopId()))
+				.andExpect(status().isOk());
+		}
+	}
+
+	@Nested
+	@DisplayName("가게를 찜할 수 있다.")
+	class Dib {
+
+		@DisplayName("찜 수는 바로 늘고, DB 에는 모아서 반영한다.")
+		@Test
+		void success_test() throws Exception {
+			// when
+			ResultActions resultAction = mvc.perform(post(DIB_URL, member.getId(), shop.getShopId()))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isCreated());
+			mvc.perform(get(BASE_URL, member.getId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("memberId").value(member.getId()))
+				.andExpect(jsonPath("shopIds.length()").value(1))
+				.andExpect(jsonPath("shopIds[0]").value(shop.getShopId()));
+			mvc.perform(get("/api/shops/{shopId}", shop.getShopId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("dibsCount").value(1));
+			assertThat(shopRepository.findById(shop.getShopId()).get().getDibsCount()).isZero();
+
+			shopDibs.flush();
+
+			assertThat(shopRepository.findById(shop.getShopId()).get().getDibsCount()).isEqualTo(1);
+		}
+
+		@DisplayName("이미 찜한 가게라서 실패한다.")
+		@Test
+		void duplicated_fail_test() throws Exception {
+			// given
+			mvc.perform(post(DIB_URL, member.getId(), shop.getShopId()))
+				.andExpect(status().isCreated());
+
+			// when
+			ResultActions resultAction = mvc.perform(post(DIB_URL, member.getId(), shop.getShopId()))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("error").value(ErrorCode.SHOP_DIB_DUPLICATED.toString()))
+				.andExpect(jsonPath("code").value(ErrorCode.SHOP_DIB_DUPLICATED.getCode()))
+				.andExpect(jsonPath("message").value(ErrorCode.SHOP_DIB_DUPLICATED.getMessage()));
+		}
+
+		@DisplayName("가게가 존재하지 않아서 실패한다.")
+		@Test
+		void not_exist_shop_fail_test() throws Exception {
+			// when
+			ResultActions resultAction = mvc.perform(post(DIB_URL, member.getId(), 0L))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isNotFound())
+				.andExpect(jsonPath("code").value(ErrorCode.SHOP_NOT_FOUND.getCode()));
+		}
+	}
+
+	@Nested
+	@DisplayName("가게 찜을 취소할 수 있다.")
+	class Undib {
+
+		@DisplayName("성공한다.")
+		@Test
+		void success_test() throws Exception {
+			// given
+			mvc.perform(post(DIB_URL, member.getId(), shop.getShopId()))
+				.andExpect(status().isCreated());
+			shopDibs.flush();
+
+			// when
+			ResultActions resultAction = mvc.perform(delete(DIB_URL, member.getId(), shop.getShopId()))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isNoContent());
+			mvc.perform(get(BASE_URL, member.getId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopIds.length()").value(0));
+
+			shopDibs.flush();
+
+			assertThat(shopRepository.findById(shop.getShopId()).get().getDibsCount()).isZero();
+		}
+
+		@DisplayName("찜하지 않은 가게라서 실패한다.")
+		@Test
+		void not_dibbed_fail_test() throws Exception {
+			// when
+			ResultActions resultAction = mvc.perform(delete(DIB_URL, member.getId(), shop.getShopId()))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isNotFound())
+				.andExpect(jsonPath("error").value(ErrorCode.SHOP_DIB_NOT_FOUND.toString()))
+				.andExpect(jsonPath("code").value(ErrorCode.SHOP_DIB_NOT_FOUND.getCode()))
+				.andExpect(jsonPath("message").value(ErrorCode.SHOP_DIB_NOT_FOUND.getMessage()));
+		}
+
+		@DisplayName("가게를 지우면 그 가게의 찜도 지운다.")
+		@Test
+		void deleted_shop_test() throws Exception {
+			// given
+			mvc.perform(post(DIB_URL, member.getId(), shop.getShopId()))
+				.andExpect(status().isCreated());
+			mvc.perform(get(BASE_URL, member.getId()))
+				.andExpect(jsonPath("shopIds.length()").value(1));
+
+			// when
+			mvc.perform(delete(SHOP_URL, shop.getShopId()))
+				.andExpect(status().isOk());
+
+			// then
+			mvc.perform(get(BASE_URL, member.getId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopIds.length()").value(0));
+			assertThat(dibRepository.count()).isZero();
+		}
+	}
+}
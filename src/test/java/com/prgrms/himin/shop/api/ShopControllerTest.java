@@ -1,14 +1,18 @@
 package com.prgrms.himin.shop.api;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -21,23 +25,36 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
 import com.prgrms.himin.global.error.exception.ErrorCode;
+import com.prgrms.himin.global.geo.GeocodingJob;
+import com.prgrms.himin.member.domain.Member;
 import com.prgrms.himin.menu.domain.Menu;
+import com.prgrms.himin.order.application.OrderService;
+import com.prgrms.himin.setup.domain.MemberSetUp;
 import com.prgrms.himin.setup.domain.MenuSetUp;
 import com.prgrms.himin.setup.domain.ShopSetUp;
+import com.prgrms.himin.setup.query.QueryCounter;
+import com.prgrms.himin.setup.request.OrderCreateRequestBuilder;
+import com.prgrms.himin.setup.request.SelectedMenuRequestBuilder;
 import com.prgrms.himin.setup.request.ShopCreateRequestBuilder;
 import com.prgrms.himin.setup.request.ShopUpdateRequestBuilder;
+import com.prgrms.himin.shop.application.ShopAutocomplete;
+import com.prgrms.himin.shop.application.ShopLocationIndex;
+import com.prgrms.himin.shop.application.ShopRanking;
 import com.prgrms.himin.shop.domain.Category;
 import com.prgrms.himin.shop.domain.Shop;
 import com.prgrms.himin.shop.domain.ShopRepository;
 import com.prgrms.himin.shop.domain.ShopSort;
 import com.prgrms.himin.shop.domain.ShopStatus;
 import com.prgrms.himin.shop.dto.request.ShopCreateRequest;
+import com.prgrms.himin.shop.dto.request.ShopCursor;
 import com.prgrms.himin.shop.dto.request.ShopUpdateRequest;
 
 @Sql("/truncate.sql")
@@ -62,6 +79,27 @@ class ShopControllerTest {
 	@Autowired
 	MenuSetUp menuSetUp;
 
+	@Autowired
+	QueryCounter queryCounter;
+
+	@Autowired
+	GeocodingJob geocodingJob;
+
+	@Autowired
+	ShopLocationIndex shopLocationIndex;
+
+	@Autowired
+	ShopAutocomplete shopAutocomplete;
+
+	@Autowired
+	ShopRanking shopRanking;
+
+	@Autowired
+	MemberSetUp memberSetUp;
+
+	@Autowired
+	OrderService orderService;
+
 	@Nested
 	@DisplayName("가게 생성을 할 수 있다.")
 	class CreateShop {
@@ -165,6 +203,34 @@ class ShopControllerTest {
 				.andExpect(jsonPath("closingTime").value(shop.getClosingTime().toString()));
 		}
 
+		@DisplayName("다시 조회하면 캐시에서 돌려주고, 가게를 수정하면 바뀐 정보를 돌려준다.")
+		@Test
+		void cached_success_test() throws Exception {
+			// given
+			Shop shop = shopSetUp.saveOne();
+			mvc.perform(get(GET_URL, shop.getShopId()))
+				.andExpect(status().isOk());
+
+			queryCounter.reset();
+
+			// when & then
+			mvc.perform(get(GET_URL, shop.getShopId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("name").value(shop.getName()));
+			assertThat(queryCounter.getCount()).isZero();
+
+			ShopUpdateRequest.Info request = ShopUpdateRequestBuilder.infoSuccessBuild();
+			mvc.perform(put(GET_URL, shop.getShopId())
+					.content(objectMapper.writeValueAsString(request))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNoContent());
+
+			mvc.perform(get(GET_URL, shop.getShopId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("name").value(request.name()))
+				.andExpect(jsonPath("deliveryTip").value(request.deliveryTip()));
+		}
+
 		@DisplayName("가게가 존재하지 않아서 실패한다.")
 		@Test
 		void not_exist_shop_fail_test() throws Exception {
@@ -225,7 +291,7 @@ class ShopControllerTest {
 				.andExpect(jsonPath("shopResponses[1].openingTime").value(shops.get(1).getOpeningTime().toString()))
 				.andExpect(jsonPath("shopResponses[1].closingTime").value(shops.get(1).getClosingTime().toString()))
 				.andExpect(jsonPath("size").value(10))
-				.andExpect(jsonPath("nextCursor").value(shops.get(1).getShopId()))
+				.andExpect(jsonPath("nextCursor").doesNotExist())
 				.andExpect(jsonPath("sort").doesNotExist())
 				.andExpect(jsonPath("isLast").value(true));
 		}
@@ -259,7 +325,7 @@ class ShopControllerTest {
 				.andExpect(jsonPath("shopResponses[0].openingTime").value(shops.get(1).getOpeningTime().toString()))
 				.andExpect(jsonPath("shopResponses[0].closingTime").value(shops.get(1).getClosingTime().toString()))
 				.andExpect(jsonPath("size").value(10))
-				.andExpect(jsonPath("nextCursor").value(shops.get(1).getShopId()))
+				.andExpect(jsonPath("nextCursor").doesNotExist())
 				.andExpect(jsonPath("sort").doesNotExist())
 				.andExpect(jsonPath("isLast").value(true));
 		}
@@ -295,11 +361,33 @@ class ShopControllerTest {
 				.andExpect(jsonPath("shopResponses[0].openingTime").value(shops.get(1).getOpeningTime().toString()))
 				.andExpect(jsonPath("shopResponses[0].closingTime").value(shops.get(1).getClosingTime().toString()))
 				.andExpect(jsonPath("size").value(10))
-				.andExpect(jsonPath("nextCursor").value(shops.get(1).getShopId()))
+				.andExpect(jsonPath("nextCursor").doesNotExist())
 				.andExpect(jsonPath("sort").doesNotExist())
 				.andExpect(jsonPath("isLast").value(true));
 		}
 
+		@DisplayName("가게 이름을 수정하면 바뀐 이름으로 검색된다.")
+		@Test
+		void search_after_update_success_test() throws Exception {
+			// given
+			Shop shop = shopSetUp.saveOne();
+			ShopUpdateRequest.Info request = ShopUpdateRequestBuilder.infoSuccessBuild();
+			mvc.perform(put(BASE_URL + "/{shopId}", shop.getShopId())
+					.content(objectMapper.writeValueAsString(request))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNoContent());
+
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL)
+				.queryParam("name", request.name()));
+
+			// then
+			resultAction.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(1))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(shop.getShopId()))
+				.andExpect(jsonPath("shopResponses[0].name").value(request.name()));
+		}
+
 		@DisplayName("정렬 조건을 통해 가게를 조회한다.")
 		@Test
 		void order_by_sort_success_test() throws Exception {
@@ -339,7 +427,7 @@ class ShopControllerTest {
 				.andExpect(jsonPath("shopResponses[1].openingTime").value(shops.get(0).getOpeningTime().toString()))
 				.andExpect(jsonPath("shopResponses[1].closingTime").value(shops.get(0).getClosingTime().toString()))
 				.andExpect(jsonPath("size").value(10))
-				.andExpect(jsonPath("nextCursor").value(shops.get(0).getShopId()))
+				.andExpect(jsonPath("nextCursor").doesNotExist())
 				.andExpect(jsonPath("sort").value(ShopSort.from(sort).toString()))
 				.andExpect(jsonPath("isLast").value(true));
 		}
@@ -350,11 +438,11 @@ class ShopControllerTest {
 			// given
 			List<Shop> shops = shopSetUp.saveMany();
 
-			Long cursor = shops.get(1).getShopId() - 1;
+			String cursor = ShopCursor.from(ShopSort.ID_ASC, shops.get(0)).encode();
 
 			// when
 			ResultActions resultAction = mvc.perform(get(BASE_URL)
-					.queryParam("cursor", String.valueOf(cursor)))
+					.queryParam("cursor", cursor))
 				.andDo(print());
 
 			// then
@@ -372,10 +460,525 @@ class ShopControllerTest {
 				.andExpect(jsonPath("shopResponses[0].openingTime").value(shops.get(1).getOpeningTime().toString()))
 				.andExpect(jsonPath("shopResponses[0].closingTime").value(shops.get(1).getClosingTime().toString()))
 				.andExpect(jsonPath("size").value(10))
-				.andExpect(jsonPath("nextCursor").value(shops.get(1).getShopId()))
+				.andExpect(jsonPath("nextCursor").doesNotExist())
 				.andExpect(jsonPath("sort").doesNotExist())
 				.andExpect(jsonPath("isLast").value(true));
 		}
+
+		@DisplayName("정렬 조건마다 커서를 따라가면 모든 가게를 정렬 순서대로 한 번씩 조회한다.")
+		@ParameterizedTest
+		@MethodSource("provideSortAndOrder")
+		void sorted_cursor_success_test(String sort, Comparator<Shop> order) throws Exception {
+			// given
+			List<Long> expected = shopSetUp.saveMany(7).stream()
+				.sorted(order)
+				.map(Shop::getShopId)
+				.toList();
+
+			// when
+			List<Long> actual = new ArrayList<>();
+			String cursor = null;
+			boolean isLast = false;
+			while (!isLast) {
+				MvcResult result = mvc.perform(get(BASE_URL)
+						.queryParam("size", "3")
+						.queryParam("sort", sort)
+						.queryParam("cursor", cursor))
+					.andExpect(status().isOk())
+					.andReturn();
+				JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+				page.get("shopResponses").forEach(shop -> actual.add(shop.get("shopId").asLong()));
+				cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+				isLast = page.get("isLast").asBoolean();
+			}
+
+			// then
+			assertThat(actual).containsExactlyElementsOf(expected);
+		}
+
+		private static Stream<Arguments> provideSortAndOrder() {
+			Comparator<Shop> newest = Comparator.comparing(Shop::getShopId).reversed();
+			return Stream.of(
+				Arguments.of(
+					"deliveryTipAsc",
+					Comparator.comparing(Shop::getDeliveryTip).thenComparing(Shop::getShopId)
+				),
+				Arguments.of("dibsCountDesc", newest),
+				Arguments.of("popularity", newest),
+				Arguments.of("newest", newest)
+			);
+		}
+
+		@DisplayName("메뉴가 여러 개인 가게도 페이지 크기만큼만 불러오고 메뉴는 불러오지 않는다.")
+		@Test
+		void page_without_menus_success_test() throws Exception {
+			// given
+			List<Shop> shops = shopSetUp.saveMany();
+			shops.forEach(shop -> menuSetUp.saveMany(shop));
+
+			queryCounter.reset();
+
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL)
+					.queryParam("size", "1"))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(1))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(shops.get(0).getShopId()))
+				.andExpect(jsonPath("isLast").value(false));
+			assertThat(queryCounter.getCount()).isEqualTo(2);
+		}
+
+		@DisplayName("영업 상태와 영업 시간을 바꾸면 그 시각에 영업 중인 가게만 조회한다.")
+		@Test
+		void open_at_success_test() throws Exception {
+			// given
+			Shop closedShop = shopSetUp.saveOne();
+			Shop openedShop = shopSetUp.saveOpened("광명동 김밥", Category.ASIAN, "경기도 광명시 광명동");
+
+			mvc.perform(patch(BASE_URL + "/{shopId}", closedShop.getShopId())
+					.content(objectMapper.writeValueAsString(ShopUpdateRequestBuilder.statusSuccessBuild()))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNoContent());
+			mvc.perform(put(BASE_URL + "/{shopId}", openedShop.getShopId())
+					.content(objectMapper.writeValueAsString(ShopUpdateRequestBuilder.infoSuccessBuild()))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNoContent());
+
+			// when & then
+			mvc.perform(get(BASE_URL)
+					.queryParam("openAt", "10:00"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses[*].shopId")
+					.value(containsInAnyOrder(closedShop.getShopId().intValue(), openedShop.getShopId().intValue())));
+			mvc.perform(get(BASE_URL)
+					.queryParam("openAt", "08:30"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(1))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(openedShop.getShopId()));
+			mvc.perform(get(BASE_URL)
+					.queryParam("openAt", "23:00"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(0))
+				.andExpect(jsonPath("isLast").value(true));
+		}
+
+		@DisplayName("카테고리 첫 페이지는 DB 조회 없이 돌려주고, 가게 카테고리를 바꾸면 갱신된다.")
+		@Test
+		void category_first_page_success_test() throws Exception {
+			// given
+			Shop shop = shopSetUp.saveOpened("광명동 카페", Category.CAFE, "경기도 광명시 광명동");
+			mvc.perform(get(BASE_URL)
+					.queryParam("category", Category.CAFE.toString()))
+				.andExpect(status().isOk());
+
+			queryCounter.reset();
+
+			// when & then
+			mvc.perform(get(BASE_URL)
+					.queryParam("category", Category.CAFE.toString()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(1))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(shop.getShopId()))
+				.andExpect(jsonPath("isLast").value(true));
+			assertThat(queryCounter.getCount()).isZero();
+
+			mvc.perform(put(BASE_URL + "/{shopId}", shop.getShopId())
+					.content(objectMapper.writeValueAsString(ShopUpdateRequestBuilder.infoSuccessBuild()))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNoContent());
+
+			mvc.perform(get(BASE_URL)
+					.queryParam("category", Category.CAFE.toString()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(0));
+			mvc.perform(get(BASE_URL)
+					.queryParam("category", Category.FAST_FOOD.toString()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(1))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(shop.getShopId()))
+				.andExpect(jsonPath("shopResponses[0].category").value(Category.FAST_FOOD.toString()));
+		}
+
+		@DisplayName("첫 페이지보다 작은 크기도 미리 만든 카테고리 첫 페이지를 잘라서 돌려준다.")
+		@Test
+		void category_first_page_smaller_size_success_test() throws Exception {
+			// given
+			Shop first = shopSetUp.saveOpened("광명동 카페", Category.CAFE, "경기도 광명시 광명동");
+			Shop second = shopSetUp.saveOpened("철산동 카페", Category.CAFE, "경기도 광명시 철산동");
+			mvc.perform(get(BASE_URL)
+					.queryParam("category", Category.CAFE.toString()))
+				.andExpect(status().isOk());
+
+			queryCounter.reset();
+
+			// when
+			String response = mvc.perform(get(BASE_URL)
+					.queryParam("category", Category.CAFE.toString())
+					.queryParam("sort", ShopSort.ID_ASC.getName())
+					.queryParam("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(1))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(first.getShopId()))
+				.andExpect(jsonPath("size").value(1))
+				.andExpect(jsonPath("isLast").value(false))
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+			assertThat(queryCounter.getCount()).isZero();
+
+			// then
+			String nextCursor = objectMapper.readTree(response).get("nextCursor").asText();
+			mvc.perform(get(BASE_URL)
+					.queryParam("category", Category.CAFE.toString())
+					.queryParam("sort", ShopSort.ID_ASC.getName())
+					.queryParam("size", "1")
+					.queryParam("cursor", nextCursor))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(1))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(second.getShopId()))
+				.andExpect(jsonPath("isLast").value(true));
+		}
+
+		@DisplayName("같은 조건으로 다시 검색하면 캐시에서 돌려주고, 가게를 수정하면 다시 검색한다.")
+		@Test
+		void cached_search_success_test() throws Exception {
+			// given
+			Shop shop = shopSetUp.saveOne();
+			mvc.perform(get(BASE_URL)
+					.queryParam("name", shop.getName()))
+				.andExpect(status().isOk());
+
+			queryCounter.reset();
+
+			// when & then
+			mvc.perform(get(BASE_URL)
+					.queryParam("name", " " + shop.getName() + " "))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(1));
+			assertThat(queryCounter.getCount()).isZero();
+
+			ShopUpdateRequest.Info request = ShopUpdateRequestBuilder.infoSuccessBuild();
+			mvc.perform(put(BASE_URL + "/{shopId}", shop.getShopId())
+					.content(objectMapper.writeValueAsString(request))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNoContent());
+
+			mvc.perform(get(BASE_URL)
+					.queryParam("name", shop.getName()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(0));
+		}
+
+		@DisplayName("다른 정렬 조건의 커서를 넘겨서 실패한다.")
+		@Test
+		void mismatched_cursor_fail_test() throws Exception {
+			// given
+			List<Shop> shops = shopSetUp.saveMany();
+			String cursor = ShopCursor.from(ShopSort.NEWEST, shops.get(0)).encode();
+
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL)
+					.queryParam("sort", "deliveryTipAsc")
+					.queryParam("cursor", cursor))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("error").value(ErrorCode.SHOP_CURSOR_BAD_REQUEST.toString()))
+				.andExpect(jsonPath("code").value(ErrorCode.SHOP_CURSOR_BAD_REQUEST.getCode()))
+				.andExpect(jsonPath("message").value(ErrorCode.SHOP_CURSOR_BAD_REQUEST.getMessage()));
+		}
+	}
+
+	@Nested
+	@DisplayName("위치로 가까운 가게를 조회할 수 있다.")
+	class GetNearbyShops {
+
+		static final String LATITUDE = "37.4772";
+
+		static final String LONGITUDE = "126.8549";
+
+		Shop gwangmyeong;
+
+		Shop cheolsan;
+
+		Shop haan;
+
+		@BeforeEach
+		void setUp() {
+			gwangmyeong = shopSetUp.saveOpened("광명동 김밥", Category.ASIAN, "경기도 광명시 광명동");
+			cheolsan = shopSetUp.saveOpened("철산동 버거", Category.FAST_FOOD, "경기도 광명시 철산동");
+			haan = shopSetUp.saveOpened("하안동 버거", Category.FAST_FOOD, "경기도 광명시 하안동");
+			shopSetUp.saveOne();
+
+			geocodingJob.run();
+			shopLocationIndex.rebuild();
+		}
+
+		@DisplayName("반경 안의 영업 중인 가게를 가까운 순으로 조회한다.")
+		@Test
+		void radius_success_test() throws Exception {
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL)
+					.queryParam("latitude", LATITUDE)
+					.queryParam("longitude", LONGITUDE)
+					.queryParam("radius", "2000"))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(2))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(gwangmyeong.getShopId()))
+				.andExpect(jsonPath("shopResponses[1].shopId").value(cheolsan.getShopId()))
+				.andExpect(jsonPath("nextCursor").doesNotExist())
+				.andExpect(jsonPath("isLast").value(true));
+		}
+
+		@DisplayName("가까운 순으로 k 개씩 이어서 조회하고 조건을 함께 거른다.")
+		@Test
+		void nearest_success_test() throws Exception {
+			// given
+			MvcResult firstPage = mvc.perform(get(BASE_URL)
+					.queryParam("latitude", LATITUDE)
+					.queryParam("longitude", LONGITUDE)
+					.queryParam("category", Category.FAST_FOOD.name())
+					.queryParam("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses[0].shopId").value(cheolsan.getShopId()))
+				.andExpect(jsonPath("isLast").value(false))
+				.andReturn();
+			String cursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+				.get("nextCursor")
+				.asText();
+
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL)
+					.queryParam("latitude", LATITUDE)
+					.queryParam("longitude", LONGITUDE)
+					.queryParam("category", Category.FAST_FOOD.name())
+					.queryParam("size", "1")
+					.queryParam("cursor", cursor))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(1))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(haan.getShopId()))
+				.andExpect(jsonPath("isLast").value(true));
+		}
+
+		@DisplayName("가게 주소를 바꾸면 새 위치로 조회된다.")
+		@Test
+		void moved_shop_success_test() throws Exception {
+			// given
+			ShopUpdateRequest.Info request = ShopUpdateRequestBuilder.infoSuccessBuild();
+			mvc.perform(put(BASE_URL + "/{shopId}", haan.getShopId())
+					.content(objectMapper.writeValueAsString(request))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNoContent());
+			geocodingJob.run();
+
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL)
+					.queryParam("latitude", LATITUDE)
+					.queryParam("longitude", LONGITUDE)
+					.queryParam("radius", "500"))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses[*].shopId")
+					.value(containsInAnyOrder(gwangmyeong.getShopId().intValue(), haan.getShopId().intValue())));
+		}
+
+		@DisplayName("위도만 넘겨서 실패한다.")
+		@Test
+		void missing_longitude_fail_test() throws Exception {
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL)
+					.queryParam("latitude", LATITUDE))
+				.andDo(print());
+
+			// then
+			resultAction.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("error").value(ErrorCode.SHOP_LOCATION_BAD_REQUEST.toString()))
+				.andExpect(jsonPath("code").value(ErrorCode.SHOP_LOCATION_BAD_REQUEST.getCode()))
+				.andExpect(jsonPath("message").value(ErrorCode.SHOP_LOCATION_BAD_REQUEST.getMessage()));
+		}
+	}
+
+	@Nested
+	@DisplayName("가게와 메뉴 이름을 자동 완성할 수 있다.")
+	class Autocomplete {
+
+		// 다른 테스트에서 만든 가게가 색인에 남지 않도록 비운 DB 로 다시 만든다.
+		@BeforeEach
+		void setUp() {
+			shopAutocomplete.rebuild();
+		}
+
+		@DisplayName("초성으로 가게와 메뉴를 찾는다.")
+		@Test
+		void chosung_success_test() throws Exception {
+			// given
+			Shop shop = shopSetUp.saveOne();
+			List<Menu> menus = menuSetUp.saveMany(shop);
+
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL + "/autocomplete")
+				.queryParam("keyword", "ㅉ"));
+
+			// then
+			resultAction.andExpect(status().isOk())
+				.andExpect(jsonPath("suggestions.length()").value(2))
+				.andExpect(jsonPath("suggestions[*].menuId")
+					.value(containsInAnyOrder(
+						menus.get(0).getId().intValue(),
+						menus.get(1).getId().intValue()
+					)));
+		}
+
+		@DisplayName("가게를 삭제하면 더 이상 찾지 않는다.")
+		@Test
+		void deleted_shop_test() throws Exception {
+			// given
+			Shop shop = shopSetUp.saveOne();
+			mvc.perform(delete(BASE_URL + "/{shopId}", shop.getShopId()))
+				.andExpect(status().isOk());
+
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL + "/autocomplete")
+				.queryParam("keyword", shop.getName()));
+
+			// then
+			resultAction.andExpect(status().isOk())
+				.andExpect(jsonPath("suggestions").isEmpty());
+		}
+	}
+
+	@Nested
+	@DisplayName("최근 주문이 많은 가게를 조회할 수 있다.")
+	class GetPopularShops {
+
+		@BeforeEach
+		void setUp() {
+			shopRanking.rebuild();
+		}
+
+		@DisplayName("카테고리 안에서 주문 점수가 높은 순으로 조회한다.")
+		@Test
+		void success_test() throws Exception {
+			// given
+			Member member = memberSetUp.saveOne();
+			List<Shop> shops = shopSetUp.saveMany();
+			for (Shop shop : shops) {
+				changeStatus(shop, ShopStatus.OPEN);
+			}
+			Shop otherShop = shopSetUp.saveOpened("홍콩반점", Category.CHINESE, "경기도 광명시 광명동");
+			order(member, otherShop, 3);
+			order(member, shops.get(1), 2);
+			order(member, shops.get(0), 1);
+
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL + "/popular")
+				.queryParam("category", Category.FAST_FOOD.name()));
+
+			// then
+			resultAction.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(2))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(shops.get(1).getShopId()))
+				.andExpect(jsonPath("shopResponses[1].shopId").value(shops.get(0).getShopId()))
+				.andExpect(jsonPath("sort").value(ShopSort.POPULARITY.name()))
+				.andExpect(jsonPath("isLast").value(true));
+		}
+
+		@DisplayName("카테고리가 없으면 전체에서 크기만큼 조회한다.")
+		@Test
+		void all_categories_success_test() throws Exception {
+			// given
+			Member member = memberSetUp.saveOne();
+			List<Shop> shops = shopSetUp.saveMany();
+			for (Shop shop : shops) {
+				changeStatus(shop, ShopStatus.OPEN);
+			}
+			Shop otherShop = shopSetUp.saveOpened("홍콩반점", Category.CHINESE, "경기도 광명시 광명동");
+			order(member, otherShop, 3);
+			order(member, shops.get(1), 2);
+			order(member, shops.get(0), 1);
+
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL + "/popular")
+				.queryParam("size", "2"));
+
+			// then
+			resultAction.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(2))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(otherShop.getShopId()))
+				.andExpect(jsonPath("shopResponses[1].shopId").value(shops.get(1).getShopId()));
+		}
+
+		@DisplayName("순위에 남아 있어도 닫은 가게는 빼고 조회한다.")
+		@Test
+		void closed_shop_test() throws Exception {
+			// given
+			Member member = memberSetUp.saveOne();
+			List<Shop> shops = shopSetUp.saveMany();
+			for (Shop shop : shops) {
+				changeStatus(shop, ShopStatus.OPEN);
+			}
+			order(member, shops.get(1), 2);
+			order(member, shops.get(0), 1);
+			changeStatus(shops.get(1), ShopStatus.CLOSE);
+
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL + "/popular")
+				.queryParam("size", "1"));
+
+			// then
+			resultAction.andExpect(status().isOk())
+				.andExpect(jsonPath("shopResponses.length()").value(1))
+				.andExpect(jsonPath("shopResponses[0].shopId").value(shops.get(0).getShopId()));
+		}
+
+		@DisplayName("순위에 남는 가게 수보다 크게 조회해서 실패한다.")
+		@Test
+		void too_large_size_fail_test() throws Exception {
+			// when
+			ResultActions resultAction = mvc.perform(get(BASE_URL + "/popular")
+				.queryParam("size", String.valueOf(shopRanking.maxSize() + 1)));
+
+			// then
+			resultAction.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("code").value(ErrorCode.SHOP_POPULAR_SIZE_BAD_REQUEST.getCode()));
+		}
+
+		private void changeStatus(
+			Shop shop,
+			ShopStatus status
+		) throws Exception {
+			mvc.perform(patch(BASE_URL + "/{shopId}", shop.getShopId())
+					.content(objectMapper.writeValueAsString(new ShopUpdateRequest.Status(status.name())))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNoContent());
+		}
+
+		private void order(
+			Member member,
+			Shop shop,
+			int count
+		) {
+			Menu menu = menuSetUp.saveOne(shop);
+			for (int i = 0; i < count; i++) {
+				orderService.createOrder(OrderCreateRequestBuilder.successBuild(
+					member.getId(),
+					shop.getShopId(),
+					List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+				));
+			}
+		}
 	}
 
 	@Nested
@@ -0,0 +1,111 @@
+package com.prgrms.himin.shop.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.prgrms.himin.member.domain.Member;
+import com.prgrms.himin.menu.domain.Menu;
+import com.prgrms.himin.menu.domain.MenuRepository;
+import com.prgrms.himin.order.application.OrderService;
+import com.prgrms.himin.setup.domain.MemberSetUp;
+import com.prgrms.himin.setup.domain.MenuSetUp;
+import com.prgrms.himin.setup.domain.ShopSetUp;
+import com.prgrms.himin.setup.request.OrderCreateRequestBuilder;
+import com.prgrms.himin.setup.request.SelectedMenuRequestBuilder;
+import com.prgrms.himin.shop.domain.Shop;
+import com.prgrms.himin.shop.domain.ShopRepository;
+
+@SpringBootTest
+@Sql("/truncate.sql")
+class ShopPopularityJobTest {
+
+	@Autowired
+	MemberSetUp memberSetUp;
+
+	@Autowired
+	ShopSetUp shopSetUp;
+
+	@Autowired
+	MenuSetUp menuSetUp;
+
+	@Autowired
+	OrderService orderService;
+
+	@Autowired
+	ShopRepository shopRepository;
+
+	@Autowired
+	MenuRepository menuRepository;
+
+	@Autowired
+	ShopRanking shopRanking;
+
+	@Autowired
+	ShopPopularityJob shopPopularityJob;
+
+	@BeforeEach
+	void setUp() {
+		shopRanking.rebuild();
+	}
+
+	@DisplayName("최근 주문 점수로 가게 인기도와 많이 팔린 메뉴 표시를 다시 계산하고, 사장님의 인기 표시는 두고 간다.")
+	@Test
+	void success_test() {
+		// given
+		Member member = memberSetUp.saveOne();
+		List<Shop> shops = shopSetUp.saveMany();
+		Shop orderedShop = shops.get(1);
+		List<Menu> menus = menuSetUp.saveMany(orderedShop);
+		Menu orderedMenu = menus.get(0);
+		for (int i = 0; i < 2; i++) {
+			orderService.createOrder(OrderCreateRequestBuilder.successBuild(
+				member.getId(),
+				orderedShop.getShopId(),
+				List.of(SelectedMenuRequestBuilder.successBuild(orderedMenu.getId(), List.of()))
+			));
+		}
+
+		// when
+		shopPopularityJob.refresh();
+
+		// then
+		assertThat(shopRepository.findById(shops.get(0).getShopId()).get().getPopularity()).isZero();
+		assertThat(shopRepository.findById(orderedShop.getShopId()).get().getPopularity())
+			.isCloseTo(2 * Shop.POPULARITY_SCALE, within(1L));
+		assertThat(menuRepository.findById(orderedMenu.getId()).get().isBestSeller()).isTrue();
+		assertThat(menuRepository.findById(menus.get(1).getId()).get().isBestSeller()).isFalse();
+		assertThat(menuRepository.findById(menus.get(2).getId()).get().isBestSeller()).isFalse();
+		assertThat(menuRepository.findById(orderedMenu.getId()).get().isPopularity())
+			.isEqualTo(orderedMenu.isPopularity());
+	}
+
+	@DisplayName("저장해 둔 인기도에서 순위를 다시 세운다.")
+	@Test
+	void rebuild_success_test() {
+		// given
+		Member member = memberSetUp.saveOne();
+		List<Shop> shops = shopSetUp.saveMany();
+		Shop orderedShop = shops.get(1);
+		Menu menu = menuSetUp.saveOne(orderedShop);
+		orderService.createOrder(OrderCreateRequestBuilder.successBuild(
+			member.getId(),
+			orderedShop.getShopId(),
+			List.of(SelectedMenuRequestBuilder.successBuild(menu.getId(), List.of()))
+		));
+		shopPopularityJob.refresh();
+
+		// when
+		shopRanking.rebuild();
+
+		// then
+		assertThat(shopRanking.findTopShopIds(null, 10)).containsExactly(orderedShop.getShopId());
+	}
+}
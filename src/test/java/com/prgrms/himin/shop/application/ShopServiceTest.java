@@ -6,6 +6,8 @@ import static org.mockito.BDDMockito.*;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,11 +17,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.prgrms.himin.global.error.exception.EntityNotFoundException;
 import com.prgrms.himin.setup.request.ShopCreateRequestBuilder;
 import com.prgrms.himin.setup.request.ShopUpdateRequestBuilder;
 import com.prgrms.himin.shop.domain.Category;
+import com.prgrms.himin.shop.domain.DibRepository;
 import com.prgrms.himin.shop.domain.Shop;
 import com.prgrms.himin.shop.domain.ShopRepository;
 import com.prgrms.himin.shop.domain.ShopSort;
@@ -35,6 +39,30 @@ class ShopServiceTest {
 	@Mock
 	ShopRepository shopRepository;
 
+	@Mock
+	DibRepository dibRepository;
+
+	@Mock
+	ShopTextIndex shopTextIndex;
+
+	@Mock
+	ShopOpenHours shopOpenHours;
+
+	@Mock
+	ShopCategoryIndex shopCategoryIndex;
+
+	@Mock
+	ShopDibs shopDibs;
+
+	@Mock
+	ShopCache shopCache;
+
+	@Mock
+	ShopRanking shopRanking;
+
+	@Mock
+	ApplicationEventPublisher publisher;
+
 	@InjectMocks
 	ShopService shopService;
 
@@ -71,6 +99,12 @@ class ShopServiceTest {
 	@DisplayName("가게 단건 조회를 할 수 있다.")
 	class GetShop {
 
+		@BeforeEach
+		void setUp() {
+			given(shopCache.getShop(any(), any()))
+				.willAnswer(invocation -> invocation.<Supplier<ShopResponse>>getArgument(1).get());
+		}
+
 		@DisplayName("성공한다.")
 		@Test
 		void success_test() {
@@ -225,8 +259,22 @@ class ShopServiceTest {
 				.map(ShopResponse::from)
 				.toList();
 
-			given(shopRepository.searchShops(any(ShopSearchCondition.class), anyInt(), isNull(), any(ShopSort.class)))
-				.willReturn(shops);
+			given(shopTextIndex.findCandidateShopIds(any(ShopSearchCondition.class)))
+				.willReturn(Optional.of(new long[] {1L, 2L, 3L}));
+			given(shopCache.getShops(any(ShopCache.SearchKey.class), any()))
+				.willAnswer(invocation -> invocation.<Supplier<ShopsResponse>>getArgument(1).get());
+			given(shopOpenHours.retainOpen(any(ShopSearchCondition.class), any()))
+				.willAnswer(invocation -> invocation.getArgument(1));
+			given(shopCategoryIndex.retainCategory(any(ShopSearchCondition.class), any()))
+				.willAnswer(invocation -> invocation.getArgument(1));
+			given(shopRepository.searchShopIds(
+				any(ShopSearchCondition.class),
+				eq(List.of(1L, 2L, 3L)),
+				anyInt(),
+				isNull(),
+				any(ShopSort.class)
+			)).willReturn(List.of(1L, 2L, 3L));
+			given(shopRepository.findShopsInOrder(List.of(1L, 2L, 3L))).willReturn(shops);
 
 			// when
 			ShopsResponse shopsResponse = shopService.getShops(
@@ -235,7 +283,12 @@ class ShopServiceTest {
 					Category.ASIAN,
 					"서울시",
 					1000,
-					"빈 메뉴"
+					"빈 메뉴",
+					null,
+					null,
+					null,
+					null,
+					null
 				),
 				10,
 				null,
@@ -252,5 +305,88 @@ class ShopServiceTest {
 			assertThat(shopsResponse.sort()).isEqualTo(ShopSort.DELIVERY_TIP_ASC);
 			assertThat(shopsResponse.isLast()).isTrue();
 		}
+
+		@DisplayName("텍스트 후보가 너무 많으면 IN 목록 대신 DB 조건으로 검색한다.")
+		@Test
+		void too_many_candidates_test() {
+			// given
+			long[] candidates = LongStream.rangeClosed(1, 1001).toArray();
+			ShopSearchCondition condition = new ShopSearchCondition(
+				"집",
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null
+			);
+
+			given(shopTextIndex.findCandidateShopIds(any(ShopSearchCondition.class)))
+				.willReturn(Optional.of(candidates));
+			given(shopCache.getShops(any(ShopCache.SearchKey.class), any()))
+				.willAnswer(invocation -> invocation.<Supplier<ShopsResponse>>getArgument(1).get());
+			given(shopRepository.searchShopIds(
+				eq(condition),
+				isNull(),
+				anyInt(),
+				isNull(),
+				any(ShopSort.class)
+			)).willReturn(List.of());
+			given(shopRepository.findShopsInOrder(List.of())).willReturn(List.of());
+
+			// when
+			ShopsResponse shopsResponse = shopService.getShops(condition, 10, null, null);
+
+			// then
+			assertThat(shopsResponse.shopResponses()).isEmpty();
+			assertThat(shopsResponse.isLast()).isTrue();
+		}
+
+		@DisplayName("텍스트 조건 없이 영업 시각으로 검색하면 영업 비트맵에서 고른 가게 id 로 검색한다.")
+		@Test
+		void open_bitmap_candidates_test() {
+			// given
+			LocalTime openAt = LocalTime.of(10, 0);
+			ShopSearchCondition condition = new ShopSearchCondition(
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				openAt
+			);
+
+			given(shopTextIndex.findCandidateShopIds(any(ShopSearchCondition.class)))
+				.willReturn(Optional.empty());
+			given(shopCache.getShops(any(ShopCache.SearchKey.class), any()))
+				.willAnswer(invocation -> invocation.<Supplier<ShopsResponse>>getArgument(1).get());
+			given(shopOpenHours.count(openAt)).willReturn(2);
+			given(shopOpenHours.retainOpen(condition, Optional.empty()))
+				.willReturn(Optional.of(new long[] {1L, 3L}));
+			given(shopCategoryIndex.retainCategory(eq(condition), any()))
+				.willAnswer(invocation -> invocation.getArgument(1));
+			given(shopRepository.searchShopIds(
+				eq(condition),
+				eq(List.of(1L, 3L)),
+				anyInt(),
+				isNull(),
+				any(ShopSort.class)
+			)).willReturn(List.of());
+			given(shopRepository.findShopsInOrder(List.of())).willReturn(List.of());
+
+			// when
+			ShopsResponse shopsResponse = shopService.getShops(condition, 10, null, null);
+
+			// then
+			assertThat(shopsResponse.shopResponses()).isEmpty();
+			assertThat(shopsResponse.isLast()).isTrue();
+		}
 	}
 }
@@ -0,0 +1,100 @@
+package com.prgrms.himin.shop.docs;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.prgrms.himin.shop.api.DibController;
+import com.prgrms.himin.shop.application.DibService;
+import com.prgrms.himin.shop.dto.response.DibsResponse;
+
+@AutoConfigureRestDocs
+@AutoConfigureMockMvc(addFilters = false)
+@WebMvcTest(DibController.class)
+class DibDocumentationTest {
+
+	@Autowired
+	MockMvc mvc;
+
+	@MockBean
+	DibService dibService;
+
+	@Test
+	@DisplayName("가게를 찜할 수 있다.")
+	void dib() throws Exception {
+		// given
+		willDoNothing().given(dibService).dib(anyLong(), anyLong());
+
+		// when
+		ResultActions resultAction = mvc.perform(post("/api/members/{memberId}/dibs/{shopId}", 1L, 1L));
+
+		// then
+		resultAction.andExpect(status().isCreated())
+			.andDo(document("dib-create",
+				pathParameters(
+					parameterWithName("memberId").description("회원 ID"),
+					parameterWithName("shopId").description("가게 ID")
+				)));
+	}
+
+	@Test
+	@DisplayName("가게 찜을 취소할 수 있다.")
+	void undib() throws Exception {
+		// given
+		willDoNothing().given(dibService).undib(anyLong(), anyLong());
+
+		// when
+		ResultActions resultAction = mvc.perform(delete("/api/members/{memberId}/dibs/{shopId}", 1L, 1L));
+
+		// then
+		resultAction.andExpect(status().isNoContent())
+			.andDo(document("dib-delete",
+				pathParameters(
+					parameterWithName("memberId").description("회원 ID"),
+					parameterWithName("shopId").description("가게 ID")
+				)));
+	}
+
+	@Test
+	@DisplayName("찜한 가게 목록을 조회할 수 있다.")
+	void getDibs() throws Exception {
+		// given
+		DibsResponse response = new DibsResponse(1L, List.of(1L, 3L));
+
+		given(dibService.getDibs(anyLong())).willReturn(response);
+
+		// when
+		ResultActions resultAction = mvc.perform(get("/api/members/{memberId}/dibs", 1L));
+
+		// then
+		resultAction.andExpect(status().isOk())
+			.andDo(document("dib-get-all",
+				preprocessResponse(prettyPrint()),
+				pathParameters(
+					parameterWithName("memberId").description("회원 ID")
+				),
+				responseFields(
+					fieldWithPath("memberId").type(JsonFieldType.NUMBER).description("회원 ID"),
+					fieldWithPath("shopIds").type(JsonFieldType.ARRAY).description("찜한 가게 ID 목록")
+				)));
+	}
+}
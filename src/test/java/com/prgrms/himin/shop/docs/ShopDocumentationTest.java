@@ -12,6 +12,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,10 +34,13 @@ import com.prgrms.himin.setup.response.ShopResponseBuilder;
 import com.prgrms.himin.setup.response.ShopsResponseBuilder;
 import com.prgrms.himin.shop.api.ShopController;
 import com.prgrms.himin.shop.application.ShopService;
+import com.prgrms.himin.shop.domain.AutocompleteIndex;
+import com.prgrms.himin.shop.domain.Category;
 import com.prgrms.himin.shop.domain.ShopSort;
 import com.prgrms.himin.shop.dto.request.ShopCreateRequest;
 import com.prgrms.himin.shop.dto.request.ShopSearchCondition;
 import com.prgrms.himin.shop.dto.request.ShopUpdateRequest;
+import com.prgrms.himin.shop.dto.response.AutocompleteResponse;
 import com.prgrms.himin.shop.dto.response.ShopResponse;
 import com.prgrms.himin.shop.dto.response.ShopsResponse;
 
@@ -141,7 +146,7 @@ class ShopDocumentationTest {
 		// given
 		ShopsResponse responses = ShopsResponseBuilder.successBuild();
 
-		given(shopService.getShops(any(ShopSearchCondition.class), anyInt(), anyLong(), any(ShopSort.class)))
+		given(shopService.getShops(any(ShopSearchCondition.class), anyInt(), anyString(), any(ShopSort.class)))
 			.willReturn(responses);
 
 		// when
@@ -152,8 +157,9 @@ class ShopDocumentationTest {
 				.param("address", "광명")
 				.param("deliveryTip", "4000")
 				.param("menuName", "햄버거")
+				.param("openAt", "12:00")
 				.param("size", "3")
-				.param("cursor", "1")
+				.param("cursor", "ZGVsaXZlcnlUaXBBc2NfMTAwMF8x")
 				.param("sort", "deliveryTipAsc")
 		);
 
@@ -167,9 +173,10 @@ class ShopDocumentationTest {
 					parameterWithName("address").description("검색 조건 - 주소"),
 					parameterWithName("deliveryTip").description("검색 조건 - 배탈팁"),
 					parameterWithName("menuName").description("검색 조건 - 메뉴 이름"),
+					parameterWithName("openAt").description("검색 조건 - 이 시각(HH:mm)에 영업 중인 가게. openNow=true 면 현재 시각"),
 					parameterWithName("size").description("Pagination - 사이즈"),
-					parameterWithName("cursor").description("Pagination - 커서 ID"),
-					parameterWithName("sort").description("정렬 조건")
+					parameterWithName("cursor").description("Pagination - 이전 응답의 다음 커서"),
+					parameterWithName("sort").description("정렬 조건 (deliveryTipAsc, dibsCountDesc, popularity, newest)")
 				),
 				responseFields(
 					fieldWithPath("shopResponses[].shopId").type(JsonFieldType.NUMBER).description("가게 ID"),
@@ -184,12 +191,141 @@ class ShopDocumentationTest {
 					fieldWithPath("shopResponses[].openingTime").type(JsonFieldType.STRING).description("오픈 시간"),
 					fieldWithPath("shopResponses[].closingTime").type(JsonFieldType.STRING).description("폐점 시간"),
 					fieldWithPath("size").type(JsonFieldType.NUMBER).description("페이지 사이즈"),
-					fieldWithPath("nextCursor").type(JsonFieldType.NUMBER).description("다음 커서 ID"),
+					fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 커서"),
 					fieldWithPath("sort").type(JsonFieldType.STRING).description("정렬 조건"),
 					fieldWithPath("isLast").type(JsonFieldType.BOOLEAN).description("마지막 페이지 여부")
 				)));
 	}
 
+	@Test
+	@DisplayName("위치로 가까운 가게 목록을 조회할 수 있다.")
+	void getNearbyShops() throws Exception {
+		// given
+		ShopsResponse responses = ShopsResponseBuilder.nearbySuccessBuild();
+
+		given(shopService.getShops(any(ShopSearchCondition.class), anyInt(), anyString(), isNull()))
+			.willReturn(responses);
+
+		// when
+		ResultActions resultAction = mvc.perform(
+			get("/api/shops")
+				.param("latitude", "37.4772")
+				.param("longitude", "126.8549")
+				.param("radius", "3000")
+				.param("category", "FAST_FOOD")
+				.param("deliveryTip", "4000")
+				.param("size", "3")
+				.param("cursor", "ZGlzdGFuY2VfMTIwMF8x")
+		);
+
+		// then
+		resultAction.andExpect(status().isOk())
+			.andDo(document("shop-get-nearby",
+				preprocessResponse(prettyPrint()),
+				requestParameters(
+					parameterWithName("latitude").description("검색 조건 - 위도"),
+					parameterWithName("longitude").description("검색 조건 - 경도"),
+					parameterWithName("radius").description("검색 조건 - 반경(미터). 없으면 가까운 순으로 size 개씩 조회"),
+					parameterWithName("category").description("검색 조건 - 카테고리"),
+					parameterWithName("deliveryTip").description("검색 조건 - 배탈팁"),
+					parameterWithName("size").description("Pagination - 사이즈"),
+					parameterWithName("cursor").description("Pagination - 이전 응답의 다음 커서")
+				),
+				responseFields(
+					fieldWithPath("shopResponses[].shopId").type(JsonFieldType.NUMBER).description("가게 ID"),
+					fieldWithPath("shopResponses[].name").type(JsonFieldType.STRING).description("이름"),
+					fieldWithPath("shopResponses[].category").type(JsonFieldType.STRING).description("음식 카테고리"),
+					fieldWithPath("shopResponses[].address").type(JsonFieldType.STRING).description("주소"),
+					fieldWithPath("shopResponses[].phone").type(JsonFieldType.STRING).description("전화번호"),
+					fieldWithPath("shopResponses[].content").type(JsonFieldType.STRING).description("소개글"),
+					fieldWithPath("shopResponses[].deliveryTip").type(JsonFieldType.NUMBER).description("배달팁"),
+					fieldWithPath("shopResponses[].dibsCount").type(JsonFieldType.NUMBER).description("찜 수"),
+					fieldWithPath("shopResponses[].status").type(JsonFieldType.STRING).description("상태"),
+					fieldWithPath("shopResponses[].openingTime").type(JsonFieldType.STRING).description("오픈 시간"),
+					fieldWithPath("shopResponses[].closingTime").type(JsonFieldType.STRING).description("폐점 시간"),
+					fieldWithPath("size").type(JsonFieldType.NUMBER).description("페이지 사이즈"),
+					fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 커서"),
+					fieldWithPath("sort").type(JsonFieldType.NULL).description("정렬 조건 (거리순 고정)"),
+					fieldWithPath("isLast").type(JsonFieldType.BOOLEAN).description("마지막 페이지 여부")
+				)));
+	}
+
+	@Test
+	@DisplayName("최근 주문이 많은 가게 목록을 조회할 수 있다.")
+	void getPopularShops() throws Exception {
+		// given
+		ShopsResponse responses = ShopsResponseBuilder.popularSuccessBuild();
+
+		given(shopService.getPopularShops(any(Category.class), anyInt())).willReturn(responses);
+
+		// when
+		ResultActions resultAction = mvc.perform(
+			get("/api/shops/popular")
+				.param("category", "FAST_FOOD")
+				.param("size", "3")
+		);
+
+		// then
+		resultAction.andExpect(status().isOk())
+			.andDo(document("shop-get-popular",
+				preprocessResponse(prettyPrint()),
+				requestParameters(
+					parameterWithName("category").description("카테고리. 없으면 전체 순위"),
+					parameterWithName("size").description("최대 결과 수. 1 부터 순위에 남는 가게 수(기본 100)까지")
+				),
+				responseFields(
+					fieldWithPath("shopResponses[].shopId").type(JsonFieldType.NUMBER).description("가게 ID"),
+					fieldWithPath("shopResponses[].name").type(JsonFieldType.STRING).description("이름"),
+					fieldWithPath("shopResponses[].category").type(JsonFieldType.STRING).description("음식 카테고리"),
+					fieldWithPath("shopResponses[].address").type(JsonFieldType.STRING).description("주소"),
+					fieldWithPath("shopResponses[].phone").type(JsonFieldType.STRING).description("전화번호"),
+					fieldWithPath("shopResponses[].content").type(JsonFieldType.STRING).description("소개글"),
+					fieldWithPath("shopResponses[].deliveryTip").type(JsonFieldType.NUMBER).description("배달팁"),
+					fieldWithPath("shopResponses[].dibsCount").type(JsonFieldType.NUMBER).description("찜 수"),
+					fieldWithPath("shopResponses[].status").type(JsonFieldType.STRING).description("상태"),
+					fieldWithPath("shopResponses[].openingTime").type(JsonFieldType.STRING).description("오픈 시간"),
+					fieldWithPath("shopResponses[].closingTime").type(JsonFieldType.STRING).description("폐점 시간"),
+					fieldWithPath("size").type(JsonFieldType.NUMBER).description("최대 결과 수"),
+					fieldWithPath("nextCursor").type(JsonFieldType.NULL).description("다음 커서 (항상 없음)"),
+					fieldWithPath("sort").type(JsonFieldType.STRING).description("정렬 조건 (POPULARITY 고정)"),
+					fieldWithPath("isLast").type(JsonFieldType.BOOLEAN).description("마지막 페이지 여부 (항상 true)")
+				)));
+	}
+
+	@Test
+	@DisplayName("가게와 메뉴 이름을 자동 완성할 수 있다.")
+	void autocomplete() throws Exception {
+		// given
+		AutocompleteResponse response = new AutocompleteResponse(List.of(
+			new AutocompleteResponse.Suggestion(AutocompleteIndex.SuggestionType.SHOP, 1L, null, "맥도날드"),
+			new AutocompleteResponse.Suggestion(AutocompleteIndex.SuggestionType.MENU, 1L, 3L, "맥스파이시 상하이 버거")
+		));
+
+		given(shopService.autocomplete(anyString(), anyInt())).willReturn(response);
+
+		// when
+		ResultActions resultAction = mvc.perform(
+			get("/api/shops/autocomplete")
+				.param("keyword", "ㅁㄷ")
+				.param("size", "5")
+		);
+
+		// then
+		resultAction.andExpect(status().isOk())
+			.andDo(document("shop-autocomplete",
+				preprocessResponse(prettyPrint()),
+				requestParameters(
+					parameterWithName("keyword").description("검색어 - 초성 또는 이름의 앞부분"),
+					parameterWithName("size").description("최대 결과 수")
+				),
+				responseFields(
+					fieldWithPath("suggestions[].type").type(JsonFieldType.STRING).description("결과 종류 (SHOP, MENU)"),
+					fieldWithPath("suggestions[].shopId").type(JsonFieldType.NUMBER).description("가게 ID"),
+					fieldWithPath("suggestions[].menuId").type(JsonFieldType.NUMBER).description("메뉴 ID").optional(),
+					fieldWithPath("suggestions[].name").type(JsonFieldType.STRING).description("가게 또는 메뉴 이름")
+				)));
+	}
+
 	@Test
 	@DisplayName("가게 정보를 수정할 수 있다.")
 	void updateShop() throws Exception {
@@ -0,0 +1,108 @@
+package com.prgrms.himin.shop.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgrms.himin.shop.domain.AutocompleteIndex.Entry;
+import com.prgrms.himin.shop.domain.AutocompleteIndex.Suggestion;
+import com.prgrms.himin.shop.domain.AutocompleteIndex.SuggestionType;
+
+class AutocompleteIndexTest {
+
+	AutocompleteIndex autocompleteIndex;
+
+	@BeforeEach
+	void setUp() {
+		autocompleteIndex = new AutocompleteIndex(10);
+		autocompleteIndex.put(1L, List.of(
+			shop(1L, "교촌치킨 강남점", 30),
+			menu(1L, 11L, "허니콤보", 50)
+		));
+		autocompleteIndex.put(2L, List.of(
+			shop(2L, "교동짬뽕", 100),
+			menu(2L, 21L, "짬뽕", 10)
+		));
+	}
+
+	@DisplayName("이름의 앞부분으로 점수가 높은 순서대로 찾는다.")
+	@Test
+	void prefix_search_test() {
+		// when
+		List<Suggestion> suggestions = autocompleteIndex.search("교", 10);
+
+		// then
+		assertThat(suggestions).extracting(Suggestion::name)
+			.containsExactly("교동짬뽕", "교촌치킨 강남점");
+	}
+
+	@DisplayName("초성이나 초성이 섞인 검색어로 찾는다.")
+	@Test
+	void chosung_search_test() {
+		// when & then
+		assertThat(autocompleteIndex.search("ㄱㅊㅊㅋ", 10)).extracting(Suggestion::name)
+			.containsExactly("교촌치킨 강남점");
+		assertThat(autocompleteIndex.search("교ㅊ", 10)).extracting(Suggestion::name)
+			.containsExactly("교촌치킨 강남점");
+		assertThat(autocompleteIndex.search("ㅉㅃ", 10)).extracting(Suggestion::name)
+			.containsExactly("짬뽕");
+	}
+
+	@DisplayName("띄어쓰기 뒤의 단어로도 찾는다.")
+	@Test
+	void word_search_test() {
+		// when
+		List<Suggestion> suggestions = autocompleteIndex.search("강남", 10);
+
+		// then
+		assertThat(suggestions).extracting(Suggestion::shopId)
+			.containsExactly(1L);
+	}
+
+	@DisplayName("가게를 다시 넣거나 지우면 이전 이름으로는 찾지 않는다.")
+	@Test
+	void put_and_remove_test() {
+		// when
+		autocompleteIndex.put(1L, List.of(shop(1L, "BBQ 강남점", 30)));
+		autocompleteIndex.remove(2L);
+
+		// then
+		assertThat(autocompleteIndex.search("교", 10)).isEmpty();
+		assertThat(autocompleteIndex.search("bbq", 10)).extracting(Suggestion::name)
+			.containsExactly("BBQ 강남점");
+		assertThat(autocompleteIndex.search("허니", 10)).isEmpty();
+		assertThat(autocompleteIndex.size()).isEqualTo(1);
+	}
+
+	@DisplayName("요청한 개수만큼만 돌려준다.")
+	@Test
+	void size_limit_test() {
+		// when
+		List<Suggestion> suggestions = autocompleteIndex.search("ㄱ", 1);
+
+		// then
+		assertThat(suggestions).extracting(Suggestion::name)
+			.containsExactly("교동짬뽕");
+	}
+
+	private Entry shop(
+		Long shopId,
+		String name,
+		long score
+	) {
+		return new Entry(new Suggestion(SuggestionType.SHOP, shopId, null, name), score);
+	}
+
+	private Entry menu(
+		Long shopId,
+		Long menuId,
+		String name,
+		long score
+	) {
+		return new Entry(new Suggestion(SuggestionType.MENU, shopId, menuId, name), score);
+	}
+}
@@ -0,0 +1,55 @@
+package com.prgrms.himin.shop.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CategoryBitmapIndexTest {
+
+	CategoryBitmapIndex categoryBitmapIndex;
+
+	@BeforeEach
+	void setUp() {
+		categoryBitmapIndex = new CategoryBitmapIndex();
+		categoryBitmapIndex.put(1L, Category.FAST_FOOD);
+		categoryBitmapIndex.put(2L, Category.CAFE);
+		categoryBitmapIndex.put(3L, Category.FAST_FOOD);
+	}
+
+	@DisplayName("후보 중 해당 카테고리의 가게만 순서를 지켜 남긴다.")
+	@Test
+	void retain_test() {
+		// when
+		long[] shopIds = categoryBitmapIndex.retain(new long[] {1L, 2L, 3L, 4L}, Category.FAST_FOOD);
+
+		// then
+		assertThat(shopIds).containsExactly(1L, 3L);
+		assertThat(categoryBitmapIndex.count(Category.FAST_FOOD)).isEqualTo(2);
+	}
+
+	@DisplayName("카테고리를 바꾸면 이전 카테고리를 돌려주고 이전 비트맵에서 뺀다.")
+	@Test
+	void change_category_test() {
+		// when
+		Category previous = categoryBitmapIndex.put(1L, Category.CAFE);
+
+		// then
+		assertThat(previous).isEqualTo(Category.FAST_FOOD);
+		assertThat(categoryBitmapIndex.retain(new long[] {1L, 2L, 3L}, Category.CAFE)).containsExactly(1L, 2L);
+		assertThat(categoryBitmapIndex.count(Category.FAST_FOOD)).isEqualTo(1);
+	}
+
+	@DisplayName("지운 가게는 어느 카테고리에도 남지 않는다.")
+	@Test
+	void remove_test() {
+		// when
+		Category previous = categoryBitmapIndex.remove(2L);
+
+		// then
+		assertThat(previous).isEqualTo(Category.CAFE);
+		assertThat(categoryBitmapIndex.count(Category.CAFE)).isZero();
+		assertThat(categoryBitmapIndex.remove(2L)).isNull();
+	}
+}
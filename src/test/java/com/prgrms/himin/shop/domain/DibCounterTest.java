@@ -0,0 +1,127 @@
+package com.prgrms.himin.shop.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DibCounterTest {
+
+	DibCounter dibCounter;
+
+	@BeforeEach
+	void setUp() {
+		dibCounter = new DibCounter();
+	}
+
+	@DisplayName("DB 에 쓰인 찜 수에서 시작해 증감분을 더해 센다.")
+	@Test
+	void count_test() {
+		// when
+		dibCounter.add(1L, 1, () -> 10L);
+		dibCounter.add(1L, 1, () -> 0L);
+		dibCounter.add(1L, -1, () -> 0L);
+
+		// then
+		assertThat(dibCounter.count(1L, () -> 0L)).isEqualTo(11L);
+		assertThat(dibCounter.count(2L, () -> 3L)).isEqualTo(3L);
+	}
+
+	@DisplayName("증감분은 꺼내면 비워지고, 합계는 그대로 남는다.")
+	@Test
+	void drain_test() {
+		// given
+		dibCounter.add(1L, 1, () -> 0L);
+		dibCounter.add(1L, 1, () -> 0L);
+		dibCounter.add(2L, 1, () -> 0L);
+		dibCounter.add(2L, -1, () -> 0L);
+
+		// when
+		Map<Long, Long> deltas = dibCounter.drain();
+
+		// then
+		assertThat(deltas).containsExactlyEntriesOf(Map.of(1L, 2L));
+		assertThat(dibCounter.drain()).isEmpty();
+		assertThat(dibCounter.count(1L, () -> 0L)).isEqualTo(2L);
+	}
+
+	@DisplayName("쓰지 못한 증감분을 돌려놓으면 다음에 다시 꺼낸다.")
+	@Test
+	void restore_test() {
+		// given
+		dibCounter.add(1L, 1, () -> 0L);
+		Map<Long, Long> deltas = dibCounter.drain();
+		dibCounter.add(1L, 1, () -> 0L);
+
+		// when
+		dibCounter.restore(deltas);
+
+		// then
+		assertThat(dibCounter.drain()).containsExactlyEntriesOf(Map.of(1L, 2L));
+		assertThat(dibCounter.count(1L, () -> 0L)).isEqualTo(2L);
+	}
+
+	@DisplayName("쓰지 않은 증감분이 있는 가게는 남기고, 나머지는 지웠다가 DB 값으로 다시 센다.")
+	@Test
+	void trim_test() {
+		// given
+		dibCounter.add(1L, 1, () -> 0L);
+		dibCounter.add(2L, 1, () -> 0L);
+		dibCounter.drain();
+		dibCounter.add(3L, 1, () -> 0L);
+
+		// when
+		dibCounter.trim(1);
+
+		// then
+		assertThat(dibCounter.size()).isEqualTo(1);
+		assertThat(dibCounter.drain()).containsExactlyEntriesOf(Map.of(3L, 1L));
+		assertThat(dibCounter.count(1L, () -> 5L)).isEqualTo(5L);
+	}
+
+	@DisplayName("DB 에 쓰인 찜 수를 읽는 동안에도 같은 가게의 찜 수를 더할 수 있다.")
+	@Test
+	void stored_count_outside_lock_test() {
+		// when
+		long count = dibCounter.count(1L, () -> {
+			dibCounter.add(1L, 1, () -> 10L);
+			return 10L;
+		});
+
+		// then
+		assertThat(count).isEqualTo(11L);
+		assertThat(dibCounter.drain()).containsExactlyEntriesOf(Map.of(1L, 1L));
+	}
+
+	@DisplayName("여러 스레드가 동시에 더한 증감분을 빠짐없이 센다.")
+	@Test
+	void concurrent_add_test() throws InterruptedException {
+		// given
+		int threadCount = 8;
+		int addCount = 1000;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.execute(() -> {
+				for (int j = 0; j < addCount; j++) {
+					dibCounter.add(1L, 1, () -> 0L);
+				}
+				latch.countDown();
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		assertThat(dibCounter.count(1L, () -> 0L)).isEqualTo(threadCount * addCount);
+		assertThat(dibCounter.drain()).containsExactlyEntriesOf(Map.of(1L, (long)threadCount * addCount));
+	}
+}
@@ -0,0 +1,147 @@
+package com.prgrms.himin.shop.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoGridIndexTest {
+
+	static final double LATITUDE = 37.4772;
+
+	static final double LONGITUDE = 126.8549;
+
+	GeoGridIndex geoGridIndex;
+
+	@BeforeEach
+	void setUp() {
+		geoGridIndex = new GeoGridIndex();
+		geoGridIndex.put(open(1L, Category.FAST_FOOD, 1000, 37.4772, 126.8549));
+		geoGridIndex.put(open(2L, Category.CAFE, 3000, 37.4760, 126.8677));
+		geoGridIndex.put(open(3L, Category.FAST_FOOD, 2000, 37.4632, 126.8792));
+		geoGridIndex.put(open(4L, Category.FAST_FOOD, 0, 37.5172, 127.0473));
+	}
+
+	@DisplayName("반경 안의 가게를 가까운 순으로 찾는다.")
+	@Test
+	void search_in_radius_test() {
+		// when
+		List<GeoGridIndex.Hit> hits = geoGridIndex.search(LATITUDE, LONGITUDE, 2000, 10, null, location -> true);
+
+		// then
+		assertThat(hits).extracting(GeoGridIndex.Hit::shopId)
+			.containsExactly(1L, 2L);
+		assertThat(hits.get(0).distanceMeters()).isZero();
+	}
+
+	@DisplayName("반경이 없으면 가장 가까운 k 개를 찾는다.")
+	@Test
+	void search_nearest_test() {
+		// when
+		List<GeoGridIndex.Hit> hits = geoGridIndex.search(
+			LATITUDE,
+			LONGITUDE,
+			Double.POSITIVE_INFINITY,
+			3,
+			null,
+			location -> true
+		);
+
+		// then
+		assertThat(hits).extracting(GeoGridIndex.Hit::shopId)
+			.containsExactly(1L, 2L, 3L);
+	}
+
+	@DisplayName("먼 가게만 남아 있어도 끝까지 찾는다.")
+	@Test
+	void search_far_test() {
+		// when
+		List<GeoGridIndex.Hit> hits = geoGridIndex.search(
+			LATITUDE,
+			LONGITUDE,
+			Double.POSITIVE_INFINITY,
+			10,
+			null,
+			location -> location.deliveryTip() == 0
+		);
+
+		// then
+		assertThat(hits).extracting(GeoGridIndex.Hit::shopId)
+			.containsExactly(4L);
+	}
+
+	@DisplayName("조건에 맞지 않는 가게는 거리 계산과 함께 거른다.")
+	@Test
+	void search_with_filter_test() {
+		// when
+		List<GeoGridIndex.Hit> hits = geoGridIndex.search(
+			LATITUDE,
+			LONGITUDE,
+			Double.POSITIVE_INFINITY,
+			2,
+			null,
+			location -> location.category() == Category.FAST_FOOD
+		);
+
+		// then
+		assertThat(hits).extracting(GeoGridIndex.Hit::shopId)
+			.containsExactly(1L, 3L);
+	}
+
+	@DisplayName("커서 뒤의 가게부터 이어서 찾는다.")
+	@Test
+	void search_after_cursor_test() {
+		// given
+		List<GeoGridIndex.Hit> firstPage = geoGridIndex.search(
+			LATITUDE,
+			LONGITUDE,
+			Double.POSITIVE_INFINITY,
+			2,
+			null,
+			location -> true
+		);
+
+		// when
+		List<GeoGridIndex.Hit> secondPage = geoGridIndex.search(
+			LATITUDE,
+			LONGITUDE,
+			Double.POSITIVE_INFINITY,
+			2,
+			firstPage.get(1),
+			location -> true
+		);
+
+		// then
+		assertThat(secondPage).extracting(GeoGridIndex.Hit::shopId)
+			.containsExactly(3L, 4L);
+	}
+
+	@DisplayName("영업을 멈추거나 지운 가게는 찾지 않는다.")
+	@Test
+	void closed_or_removed_test() {
+		// given
+		geoGridIndex.put(new ShopLocation(1L, Category.FAST_FOOD, 1000, ShopStatus.CLOSE, 37.4772, 126.8549));
+		geoGridIndex.remove(2L);
+
+		// when
+		List<GeoGridIndex.Hit> hits = geoGridIndex.search(LATITUDE, LONGITUDE, 5000, 10, null, location -> true);
+
+		// then
+		assertThat(hits).extracting(GeoGridIndex.Hit::shopId)
+			.containsExactly(3L);
+		assertThat(geoGridIndex.size()).isEqualTo(2);
+	}
+
+	private ShopLocation open(
+		Long shopId,
+		Category category,
+		int deliveryTip,
+		double latitude,
+		double longitude
+	) {
+		return new ShopLocation(shopId, category, deliveryTip, ShopStatus.OPEN, latitude, longitude);
+	}
+}
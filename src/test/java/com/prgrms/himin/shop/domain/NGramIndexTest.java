@@ -0,0 +1,66 @@
+package com.prgrms.himin.shop.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NGramIndexTest {
+
+	NGramIndex nGramIndex;
+
+	@BeforeEach
+	void setUp() {
+		nGramIndex = new NGramIndex();
+		nGramIndex.put(1L, List.of("교촌치킨 강남점"));
+		nGramIndex.put(2L, List.of("BBQ 치킨"));
+		nGramIndex.put(3L, List.of("강남 피자", "치즈 오븐 스파게티"));
+	}
+
+	@DisplayName("문자열을 포함하는 문서를 id 오름차순으로 찾는다.")
+	@Test
+	void search_success_test() {
+		// when
+		long[] result = nGramIndex.search("치킨");
+
+		// then
+		assertThat(result).containsExactly(1L, 2L);
+	}
+
+	@DisplayName("2글자 조각이 모두 있어도 이어져 있지 않으면 찾지 않는다.")
+	@Test
+	void search_false_positive_test() {
+		// given
+		nGramIndex.put(4L, List.of("남점 강남"));
+
+		// when
+		long[] result = nGramIndex.search("강남점");
+
+		// then
+		assertThat(result).containsExactly(1L);
+	}
+
+	@DisplayName("한 글자와 대소문자가 다른 검색어도 찾는다.")
+	@Test
+	void search_short_and_case_insensitive_test() {
+		// when & then
+		assertThat(nGramIndex.search("피")).containsExactly(3L);
+		assertThat(nGramIndex.search("bbq")).containsExactly(2L);
+	}
+
+	@DisplayName("문서를 수정하거나 삭제하면 이전 내용으로는 찾지 않는다.")
+	@Test
+	void put_and_remove_test() {
+		// when
+		nGramIndex.put(1L, List.of("교촌 떡볶이"));
+		nGramIndex.remove(2L);
+
+		// then
+		assertThat(nGramIndex.search("치킨")).isEmpty();
+		assertThat(nGramIndex.search("떡볶이")).containsExactly(1L);
+		assertThat(nGramIndex.size()).isEqualTo(2);
+	}
+}
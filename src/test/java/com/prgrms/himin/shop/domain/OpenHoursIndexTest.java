@@ -0,0 +1,71 @@
+package com.prgrms.himin.shop.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OpenHoursIndexTest {
+
+	OpenHoursIndex openHoursIndex;
+
+	@BeforeEach
+	void setUp() {
+		openHoursIndex = new OpenHoursIndex();
+		openHoursIndex.put(open(1L, LocalTime.of(9, 0), LocalTime.of(21, 0)));
+		openHoursIndex.put(open(2L, LocalTime.of(18, 0), LocalTime.of(2, 0)));
+		openHoursIndex.put(open(3L, LocalTime.of(0, 0), LocalTime.of(0, 0)));
+		openHoursIndex.put(new ShopHours(4L, ShopStatus.CLOSE, LocalTime.of(9, 0), LocalTime.of(21, 0)));
+	}
+
+	@DisplayName("주어진 시각에 영업 중인 가게를 찾는다. 마감 시각은 포함하지 않는다.")
+	@Test
+	void find_open_shops_test() {
+		// when & then
+		assertThat(openHoursIndex.findOpenShopIds(LocalTime.of(9, 0))).containsExactly(1L, 3L);
+		assertThat(openHoursIndex.findOpenShopIds(LocalTime.of(20, 59))).containsExactly(1L, 2L, 3L);
+		assertThat(openHoursIndex.findOpenShopIds(LocalTime.of(21, 0))).containsExactly(2L, 3L);
+	}
+
+	@DisplayName("자정을 넘겨 영업하는 가게는 다음 날 마감 전까지 찾는다.")
+	@Test
+	void cross_midnight_test() {
+		// when & then
+		assertThat(openHoursIndex.findOpenShopIds(LocalTime.of(1, 59))).containsExactly(2L, 3L);
+		assertThat(openHoursIndex.findOpenShopIds(LocalTime.of(2, 0))).containsExactly(3L);
+	}
+
+	@DisplayName("영업 시간이나 상태를 바꾸면 새 값으로 찾는다.")
+	@Test
+	void update_test() {
+		// given
+		openHoursIndex.put(new ShopHours(1L, ShopStatus.CLOSE, LocalTime.of(9, 0), LocalTime.of(21, 0)));
+		openHoursIndex.put(open(4L, LocalTime.of(7, 0), LocalTime.of(10, 0)));
+		openHoursIndex.put(open(5L, LocalTime.of(9, 30), LocalTime.of(10, 0)));
+
+		// when & then
+		assertThat(openHoursIndex.findOpenShopIds(LocalTime.of(9, 45))).containsExactly(3L, 4L, 5L);
+		assertThat(openHoursIndex.size()).isEqualTo(4);
+	}
+
+	@DisplayName("후보 id 중 영업 중인 가게만 남긴다.")
+	@Test
+	void retain_open_test() {
+		// when
+		long[] result = openHoursIndex.retainOpen(new long[] {1L, 2L, 4L, 9L}, LocalTime.of(19, 0));
+
+		// then
+		assertThat(result).containsExactly(1L, 2L);
+	}
+
+	private ShopHours open(
+		Long shopId,
+		LocalTime openingTime,
+		LocalTime closingTime
+	) {
+		return new ShopHours(shopId, ShopStatus.OPEN, openingTime, closingTime);
+	}
+}
@@ -0,0 +1,107 @@
+package com.prgrms.himin.shop.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PopularityRankingTest {
+
+	static final long HALF_LIFE = Duration.ofHours(1).toMillis();
+
+	PopularityRanking ranking;
+
+	@BeforeEach
+	void setUp() {
+		ranking = new PopularityRanking(HALF_LIFE, 2, 0L);
+	}
+
+	@DisplayName("주문 점수는 반감기마다 절반이 된다.")
+	@Test
+	void decay_test() {
+		// given
+		ranking.record(1L, Category.JAPANESE, Map.of(10L, 1), 0L);
+		ranking.record(1L, Category.JAPANESE, Map.of(10L, 1), 0L);
+
+		// when
+		Map<Long, Double> scores = ranking.shopScores(HALF_LIFE);
+
+		// then
+		assertThat(scores.get(1L)).isCloseTo(1.0, within(1e-9));
+	}
+
+	@DisplayName("카테고리마다 점수가 높은 가게 K 개만 남긴다.")
+	@Test
+	void top_test() {
+		// given
+		ranking.record(1L, Category.JAPANESE, Map.of(10L, 1), 0L);
+		ranking.record(2L, Category.JAPANESE, Map.of(20L, 1), HALF_LIFE);
+		ranking.record(3L, Category.JAPANESE, Map.of(30L, 1), 2 * HALF_LIFE);
+		ranking.record(4L, Category.CHINESE, Map.of(40L, 1), 0L);
+
+		// when
+		List<Long> japanese = ranking.top(Category.JAPANESE, 10, 2 * HALF_LIFE).stream()
+			.map(PopularityRanking.RankedShop::shopId)
+			.toList();
+		List<Long> all = ranking.top(null, 10, 2 * HALF_LIFE).stream()
+			.map(PopularityRanking.RankedShop::shopId)
+			.toList();
+
+		// then
+		assertThat(japanese).containsExactly(3L, 2L);
+		assertThat(all).containsExactly(3L, 2L, 4L);
+	}
+
+	@DisplayName("카테고리가 바뀐 가게는 이전 카테고리 순위에서 빠진다.")
+	@Test
+	void category_changed_test() {
+		// given
+		ranking.record(1L, Category.JAPANESE, Map.of(10L, 1), 0L);
+
+		// when
+		ranking.record(1L, Category.CHINESE, Map.of(10L, 1), 0L);
+
+		// then
+		assertThat(ranking.top(Category.JAPANESE, 10, 0L)).isEmpty();
+		assertThat(ranking.top(Category.CHINESE, 10, 0L))
+			.extracting(PopularityRanking.RankedShop::shopId)
+			.containsExactly(1L);
+	}
+
+	@DisplayName("기준 시각을 옮겨도 순위는 그대로이고 거의 0 이 된 점수는 버린다.")
+	@Test
+	void landmark_test() {
+		// given
+		ranking.record(1L, Category.JAPANESE, Map.of(10L, 1), 0L);
+		ranking.record(2L, Category.JAPANESE, Map.of(20L, 1), 30 * HALF_LIFE);
+
+		// when
+		ranking.record(3L, Category.JAPANESE, Map.of(30L, 1), 31 * HALF_LIFE);
+
+		// then
+		assertThat(ranking.size()).isEqualTo(2);
+		assertThat(ranking.top(Category.JAPANESE, 10, 31 * HALF_LIFE))
+			.extracting(PopularityRanking.RankedShop::shopId)
+			.containsExactly(3L, 2L);
+	}
+
+	@DisplayName("주문이 들어온 가게의 인기 메뉴를 수량 점수 순으로 한 번만 꺼낸다.")
+	@Test
+	void drain_top_menus_test() {
+		// given
+		ranking.record(1L, Category.JAPANESE, Map.of(10L, 1, 11L, 3), 0L);
+		ranking.record(1L, Category.JAPANESE, Map.of(12L, 2), 0L);
+
+		// when
+		Map<Long, List<Long>> topMenus = ranking.drainTopMenus(2);
+
+		// then
+		assertThat(topMenus).containsExactlyEntriesOf(Map.of(1L, List.of(11L, 12L)));
+		assertThat(ranking.drainTopMenus(2)).isEmpty();
+	}
+}
@@ -2,10 +2,13 @@ SET foreign_key_checks = 0;
 TRUNCATE TABLE addresses;
 TRUNCATE TABLE deliveries;
 TRUNCATE TABLE delivery_histories;
+TRUNCATE TABLE dibs;
 TRUNCATE TABLE members;
 TRUNCATE TABLE menu_option_group;
 TRUNCATE TABLE menu_options;
 TRUNCATE TABLE menus;
+TRUNCATE TABLE order_event_dead_letters;
+TRUNCATE TABLE order_event_outbox;
 TRUNCATE TABLE order_histories;
 TRUNCATE TABLE order_items;
 TRUNCATE TABLE orders;